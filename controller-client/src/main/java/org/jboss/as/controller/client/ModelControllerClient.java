@@ -11,11 +11,13 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.security.GeneralSecurityException;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import javax.security.auth.callback.CallbackHandler;
 
 import org.jboss.as.controller.client.helpers.ContextualModelControllerClient;
+import org.jboss.as.controller.client.impl.PipelinedExecution;
 import org.jboss.as.controller.client.impl.RemotingModelControllerClient;
 import org.jboss.as.controller.client.logging.ControllerClientLogger;
 import org.jboss.dmr.ModelNode;
@@ -159,6 +161,22 @@ public interface ModelControllerClient extends Closeable {
      */
     CompletableFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler);
 
+    /**
+     * Execute several operations without waiting for the result of one before sending the next. Up to
+     * {@code maxInFlight} operations are outstanding at a time, each completion lets the next operation be sent.
+     * The operations are executed independently of each other, and may complete in any order.
+     * <p>
+     * This method does not block; use {@link #execute(ModelNode)} with a {@code composite} operation instead if the
+     * operations must be executed atomically or in order.
+     *
+     * @param operations the operations to execute
+     * @param maxInFlight the maximum number of operations sent but not completed yet, at least {@code 1}
+     * @return the future results of the operations, in the order of the operations
+     */
+    default List<CompletableFuture<ModelNode>> executePipelined(List<ModelNode> operations, int maxInFlight) {
+        return PipelinedExecution.execute(this, operations, maxInFlight);
+    }
+
     /** Factory methods for creating a {@code ModelControllerClient}. */
     class Factory {
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.client.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Executes a list of operations through a {@link ModelControllerClient} without waiting for each result before sending
+ * the next operation, keeping at most a given number of operations outstanding at a time.
+ *
+ * Each completed operation frees a slot in the window, which is used to send the next operation not yet sent. The
+ * sending happens on the thread completing the operation, so the execution never blocks the caller.
+ */
+public final class PipelinedExecution {
+
+    private final ModelControllerClient client;
+    private final List<ModelNode> operations;
+    private final List<CompletableFuture<ModelNode>> results;
+    // The index of the next operation to send
+    private final AtomicInteger next = new AtomicInteger();
+    // The number of free slots not yet used to send an operation, only the thread bringing it above zero sends
+    private final AtomicInteger freeSlots = new AtomicInteger();
+
+    private PipelinedExecution(final ModelControllerClient client, final List<ModelNode> operations) {
+        this.client = client;
+        this.operations = operations;
+        final List<CompletableFuture<ModelNode>> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+        this.results = Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Execute the operations, with at most {@code maxInFlight} of them outstanding at a time.
+     *
+     * @param client the client to execute the operations with
+     * @param operations the operations to execute
+     * @param maxInFlight the maximum number of operations sent but not completed yet
+     * @return the future results of the operations, in the order of the operations
+     */
+    public static List<CompletableFuture<ModelNode>> execute(final ModelControllerClient client, final List<ModelNode> operations, final int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException(String.valueOf(maxInFlight));
+        }
+        final PipelinedExecution execution = new PipelinedExecution(client, new ArrayList<>(operations));
+        for (int i = 0; i < Math.min(maxInFlight, operations.size()); i++) {
+            execution.slotFreed();
+        }
+        return execution.results;
+    }
+
+    private void slotFreed() {
+        if (freeSlots.getAndIncrement() != 0) {
+            // Another thread is sending, it will use this slot as well
+            return;
+        }
+        do {
+            sendNext();
+        } while (freeSlots.decrementAndGet() != 0);
+    }
+
+    private void sendNext() {
+        final int index = next.getAndIncrement();
+        if (index >= operations.size()) {
+            return;
+        }
+        final CompletableFuture<ModelNode> result = results.get(index);
+        try {
+            client.executeAsync(operations.get(index)).whenComplete((response, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(response);
+                }
+                slotFreed();
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            slotFreed();
+        }
+    }
+}
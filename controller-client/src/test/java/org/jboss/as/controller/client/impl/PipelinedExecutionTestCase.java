@@ -0,0 +1,108 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.client.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.jboss.as.controller.client.ModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link PipelinedExecution}.
+ */
+public class PipelinedExecutionTestCase {
+
+    @Test
+    public void testWindow() throws Exception {
+        final PendingClient client = new PendingClient();
+        final List<CompletableFuture<ModelNode>> results = client.executePipelined(operations(5), 2);
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals(2, client.pending.size());
+
+        // Complete the second operation first, the third one is sent in its place
+        client.complete(1);
+        Assert.assertEquals("op1", results.get(1).get().asString());
+        Assert.assertFalse(results.get(0).isDone());
+        Assert.assertEquals(3, client.pending.size());
+
+        client.complete(0);
+        client.complete(2);
+        client.complete(3);
+        Assert.assertEquals(5, client.pending.size());
+        client.complete(4);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals("op" + i, results.get(i).get().asString());
+        }
+    }
+
+    @Test
+    public void testFailures() throws Exception {
+        final ModelControllerClient client = new PendingClient() {
+            @Override
+            public CompletableFuture<ModelNode> executeAsync(final Operation operation, final OperationMessageHandler messageHandler) {
+                throw new IllegalStateException(operation.getOperation().asString());
+            }
+        };
+        // Failures complete synchronously, all the operations must still be attempted
+        final List<CompletableFuture<ModelNode>> results = client.executePipelined(operations(10000), 1);
+        for (CompletableFuture<ModelNode> result : results) {
+            try {
+                result.get();
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }
+    }
+
+    private static List<ModelNode> operations(final int count) {
+        final ModelNode[] operations = new ModelNode[count];
+        for (int i = 0; i < count; i++) {
+            operations[i] = new ModelNode("op" + i);
+        }
+        return Arrays.asList(operations);
+    }
+
+    private static class PendingClient implements ModelControllerClient {
+
+        private final List<CompletableFuture<ModelNode>> pending = new ArrayList<>();
+        private final List<ModelNode> sent = new ArrayList<>();
+
+        void complete(final int index) {
+            pending.get(index).complete(sent.get(index));
+        }
+
+        @Override
+        public CompletableFuture<ModelNode> executeAsync(final Operation operation, final OperationMessageHandler messageHandler) {
+            final CompletableFuture<ModelNode> result = new CompletableFuture<>();
+            pending.add(result);
+            sent.add(operation.getOperation());
+            return result;
+        }
+
+        @Override
+        public OperationResponse executeOperation(final Operation operation, final OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<OperationResponse> executeOperationAsync(final Operation operation, final OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
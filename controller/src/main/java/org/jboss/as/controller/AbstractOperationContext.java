@@ -148,6 +148,8 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
     boolean cancelled;
     /** Currently executing step */
     Step activeStep;
+    /** Time in nanoseconds spent waiting for the controller lock, reported by the {@link OperationStepEvent}s */
+    long lockWaitTime;
     /** The step that acquired the write lock */
     Step lockStep;
     private final Supplier<SecurityIdentity> securityIdentitySupplier;
@@ -1053,6 +1055,10 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
         }
         this.activeStep = step;
 
+        final OperationStepEvent event = beginStepEvent();
+        final long lockWaitBefore = lockWaitTime;
+        final BootProfiler profiler = booting && !ParallelBootOperationStepHandler.isParallelBootStep(step.handler) ? BootProfiler.getActive() : null;
+        final long profilerStart = profiler != null ? System.nanoTime() : 0;
         try {
             try {
                 ClassLoader oldTccl = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(step.handler.getClass());
@@ -1101,6 +1107,35 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
             }
         } finally {
             addBootFailureDescription();
+            commitStepEvent(event, step, lockWaitTime - lockWaitBefore);
+            if (profiler != null) {
+                profiler.recordOperationStep(step.operationId.name, step.operationId.address, currentStage, profilerStart, System.nanoTime());
+            }
+        }
+    }
+
+    private static OperationStepEvent beginStepEvent() {
+        if (!FlightRecorderSupport.isAvailable()) {
+            return null;
+        }
+        final OperationStepEvent event = new OperationStepEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private void commitStepEvent(final OperationStepEvent event, final Step step, final long lockWait) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = step.operationId.name;
+                event.address = step.operationId.address.toCLIStyleString();
+                event.stage = currentStage.toString();
+                event.lockWait = lockWait;
+                event.commit();
+            }
         }
     }
 
@@ -0,0 +1,356 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.LifecycleEvent;
+import org.jboss.msc.service.LifecycleListener;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Opt-in recorder of where the time goes while a process boots. When enabled with the
+ * {@value #ENABLED_PROPERTY} system property, the execution of each boot operation step (including the ones run in
+ * parallel for the subsystems), of each deployment unit processor and the time each service came up are recorded
+ * until {@link #finish()} is called.
+ * <p>
+ * The report then tells the critical path of the boot: starting with the activity which finished last, each entry
+ * is preceded by the activity it most likely waited for. For a service, that is its own deployment unit processors if
+ * it ran any, or else its requirement which came up last, or else the operation or deployment unit processor which
+ * finished last before it came up. For a deployment unit processor, that is the processor which ran before it in the
+ * same phase. For an operation, that is the operation which finished last before it started.
+ */
+public final class BootProfiler implements LifecycleListener {
+
+    /** System property enabling the boot profiler */
+    public static final String ENABLED_PROPERTY = "org.wildfly.boot-profiler";
+
+    public static final String BOOT_TIME = "boot-time";
+    public static final String CRITICAL_PATH = "critical-path";
+    public static final String SUBSYSTEMS = "subsystems";
+    public static final String OPERATIONS = "operations";
+    public static final String DEPLOYMENT_PROCESSORS = "deployment-processors";
+    public static final String SERVICES = "services";
+
+    public static final String TYPE = "type";
+    public static final String NAME = "name";
+    public static final String DETAIL = "detail";
+    public static final String THREAD = "thread";
+    public static final String START = "start";
+    public static final String ELAPSED = "elapsed";
+
+    private static final String OPERATION = "operation";
+    private static final String DEPLOYMENT_PROCESSOR = "deployment-processor";
+    private static final String SERVICE = "service";
+    private static final String SUBSYSTEM = "subsystem";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+
+    private static final Comparator<Activity> BY_END = Comparator.comparingLong(activity -> activity.end);
+
+    private static volatile BootProfiler active;
+    private static volatile ModelNode report;
+
+    private final long start = System.nanoTime();
+    private final Queue<Activity> activities = new ConcurrentLinkedQueue<>();
+    private volatile boolean finished;
+
+    BootProfiler() {
+    }
+
+    /**
+     * Gets whether the boot profiler is enabled.
+     *
+     * @return {@code true} if boots are profiled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts profiling a boot, if the profiler is enabled.
+     *
+     * @return the profiler recording the boot, or {@code null} if the profiler is not enabled
+     */
+    public static BootProfiler start() {
+        if (!ENABLED) {
+            return null;
+        }
+        final BootProfiler profiler = new BootProfiler();
+        active = profiler;
+        return profiler;
+    }
+
+    /**
+     * Gets the profiler recording the current boot.
+     *
+     * @return the profiler, or {@code null} if no boot is being profiled
+     */
+    public static BootProfiler getActive() {
+        return active;
+    }
+
+    /**
+     * Gets the report of the last profiled boot.
+     *
+     * @return the report, or {@code null} if no boot has been profiled
+     */
+    public static ModelNode getReport() {
+        return report;
+    }
+
+    /**
+     * Records the execution of a step of a boot operation.
+     *
+     * @param operationName the name of the operation
+     * @param address the address of the operation
+     * @param stage the stage of the step
+     * @param start the {@link System#nanoTime()} at which the step started
+     * @param end the {@link System#nanoTime()} at which the step ended
+     */
+    public void recordOperationStep(final String operationName, final PathAddress address, final OperationContext.Stage stage, final long start, final long end) {
+        final String subsystem = address.size() > 0 && ModelDescriptionConstants.SUBSYSTEM.equals(address.getElement(0).getKey()) ? address.getElement(0).getValue() : null;
+        if (!finished) {
+            activities.add(new Activity(OPERATION, address.toCLIStyleString() + ":" + operationName, stage.toString(), subsystem, start, end));
+        }
+    }
+
+    /**
+     * Records the execution of a deployment unit processor.
+     *
+     * @param serviceName the name of the service running the deployment phase
+     * @param deployment the name of the deployment unit
+     * @param phase the deployment phase
+     * @param processor the class name of the processor
+     * @param start the {@link System#nanoTime()} at which the processor started
+     * @param end the {@link System#nanoTime()} at which the processor ended
+     */
+    public void recordDeploymentProcessor(final ServiceName serviceName, final String deployment, final String phase, final String processor, final long start, final long end) {
+        if (!finished) {
+            activities.add(new Activity(DEPLOYMENT_PROCESSOR, processor, deployment + " " + phase, serviceName.getCanonicalName(), start, end));
+        }
+    }
+
+    @Override
+    public void handleEvent(final ServiceController<?> controller, final LifecycleEvent event) {
+        if (event == LifecycleEvent.UP && !finished) {
+            final long now = System.nanoTime();
+            final Activity activity = new Activity(SERVICE, controller.getName().getCanonicalName(), null, null, now, now);
+            for (ServiceName requirement : controller.requires()) {
+                activity.requirements.add(requirement.getCanonicalName());
+            }
+            activities.add(activity);
+        }
+    }
+
+    /**
+     * Stops recording the boot and computes its report, which is then available from {@link #getReport()}. The
+     * recorded activities are discarded.
+     *
+     * @return the report
+     */
+    public ModelNode finish() {
+        final long end = System.nanoTime();
+        finished = true;
+        if (active == this) {
+            active = null;
+        }
+        final ModelNode result = new ModelNode();
+        result.get(BOOT_TIME).set(toMillis(end - start));
+
+        final List<Activity> operations = new ArrayList<>();
+        final List<Activity> work = new ArrayList<>();
+        final Map<String, Activity> services = new HashMap<>();
+        final Map<String, List<Activity>> processorsByService = new HashMap<>();
+        final Map<String, Activity> subsystems = new LinkedHashMap<>();
+        for (Activity activity : activities) {
+            switch (activity.type) {
+                case OPERATION:
+                    operations.add(activity);
+                    work.add(activity);
+                    if (activity.owner != null) {
+                        final Activity subsystem = subsystems.computeIfAbsent(activity.owner, name -> new Activity(SUBSYSTEM, name, null, null, activity.start, activity.start));
+                        subsystem.start = Math.min(subsystem.start, activity.start);
+                        subsystem.duration += activity.end - activity.start;
+                    }
+                    break;
+                case DEPLOYMENT_PROCESSOR:
+                    work.add(activity);
+                    processorsByService.computeIfAbsent(activity.owner, name -> new ArrayList<>()).add(activity);
+                    break;
+                default:
+                    // Only the first time a service came up counts
+                    services.putIfAbsent(activity.name, activity);
+            }
+        }
+        operations.sort(BY_END);
+        work.sort(BY_END);
+        for (List<Activity> processors : processorsByService.values()) {
+            processors.sort(BY_END);
+            Activity previous = null;
+            for (Activity processor : processors) {
+                processor.predecessor = previous;
+                previous = processor;
+            }
+        }
+        for (Activity operation : operations) {
+            operation.predecessor = lastEndedBefore(operations, operation.start, operation);
+        }
+        for (Activity service : services.values()) {
+            Activity requirement = null;
+            for (String name : service.requirements) {
+                final Activity candidate = services.get(name);
+                if (candidate != null && candidate.end <= service.end && (requirement == null || candidate.end > requirement.end)) {
+                    requirement = candidate;
+                }
+            }
+            final List<Activity> processors = processorsByService.get(service.name);
+            if (processors != null) {
+                processors.get(0).predecessor = requirement != null ? requirement : lastEndedBefore(work, processors.get(0).start, processors.get(0));
+                service.predecessor = processors.get(processors.size() - 1);
+            } else {
+                service.predecessor = requirement != null ? requirement : lastEndedBefore(work, service.end, null);
+            }
+            // A service is considered started once what it waited for was done
+            if (service.predecessor != null) {
+                service.start = service.predecessor.end;
+            }
+        }
+        for (List<Activity> processors : processorsByService.values()) {
+            // The phase service failed, or is still starting
+            if (processors.get(0).predecessor == null) {
+                processors.get(0).predecessor = lastEndedBefore(work, processors.get(0).start, processors.get(0));
+            }
+        }
+
+        Activity last = null;
+        for (Activity activity : work) {
+            last = last == null || activity.end > last.end ? activity : last;
+        }
+        for (Activity activity : services.values()) {
+            last = last == null || activity.end > last.end ? activity : last;
+        }
+        final Deque<Activity> criticalPath = new ArrayDeque<>();
+        final Set<Activity> visited = new HashSet<>();
+        for (Activity activity = last; activity != null && visited.add(activity); activity = activity.predecessor) {
+            criticalPath.addFirst(activity);
+        }
+
+        final ModelNode path = result.get(CRITICAL_PATH).setEmptyList();
+        for (Activity activity : criticalPath) {
+            path.add(toModelNode(activity));
+        }
+        storeByDuration(result.get(SUBSYSTEMS), subsystems.values());
+        storeByDuration(result.get(OPERATIONS), operations);
+        final List<Activity> processors = new ArrayList<>();
+        processorsByService.values().forEach(processors::addAll);
+        storeByDuration(result.get(DEPLOYMENT_PROCESSORS), processors);
+        storeByDuration(result.get(SERVICES), services.values());
+
+        // Removing the profiler from the service target does not remove it from the controllers already installed,
+        // so don't keep what was recorded reachable from them
+        for (Activity activity : activities) {
+            activity.requirements.clear();
+        }
+        activities.clear();
+        report = result;
+        return result;
+    }
+
+    private static Activity lastEndedBefore(final List<Activity> sortedByEnd, final long time, final Activity excluded) {
+        int low = 0;
+        int high = sortedByEnd.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (sortedByEnd.get(middle).end <= time) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        for (int i = high; i >= 0; i--) {
+            final Activity candidate = sortedByEnd.get(i);
+            if (candidate != excluded) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void storeByDuration(final ModelNode list, final Iterable<Activity> activities) {
+        final List<Activity> sorted = new ArrayList<>();
+        activities.forEach(sorted::add);
+        sorted.sort(Comparator.comparingLong(Activity::getDuration).reversed());
+        list.setEmptyList();
+        for (Activity activity : sorted) {
+            list.add(toModelNode(activity));
+        }
+    }
+
+    private ModelNode toModelNode(final Activity activity) {
+        final ModelNode node = new ModelNode();
+        node.get(TYPE).set(activity.type);
+        node.get(NAME).set(activity.name);
+        if (activity.detail != null) {
+            node.get(DETAIL).set(activity.detail);
+        }
+        if (activity.thread != null) {
+            node.get(THREAD).set(activity.thread);
+        }
+        node.get(START).set(toMillis(activity.start - start));
+        node.get(ELAPSED).set(toMillis(activity.getDuration()));
+        return node;
+    }
+
+    private static long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static final class Activity {
+        private final String type;
+        private final String name;
+        private final String detail;
+        /** The subsystem of an operation, or the service running a deployment unit processor */
+        private final String owner;
+        private final String thread;
+        private final long end;
+        private final Set<String> requirements = new HashSet<>();
+        private long start;
+        /** Time spent by all the operations of a subsystem */
+        private long duration;
+        private Activity predecessor;
+
+        private Activity(final String type, final String name, final String detail, final String owner, final long start, final long end) {
+            this.type = type;
+            this.name = name;
+            this.detail = detail;
+            this.owner = owner;
+            this.thread = SUBSYSTEM.equals(type) ? null : Thread.currentThread().getName();
+            this.start = start;
+            this.end = end;
+        }
+
+        private long getDuration() {
+            return SUBSYSTEM.equals(type) ? duration : end - start;
+        }
+    }
+}
@@ -66,6 +66,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     //holds reference to parent published registry
     private final CapabilityRegistry publishedFullRegistry;
     private boolean modified = false;
+    // immutable, lock-free view of the last fully resolved set of capabilities; null when not valid
+    private volatile CapabilityIndex capabilityIndex;
 
     public CapabilityRegistry(boolean forServer) {
         this(forServer, null);
@@ -145,6 +147,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 // else it was ok, and we just recorded the additional registration point
             } else {
                 capabilities.put(capabilityId, capabilityRegistration);
+                capabilityIndex = null;
             }
 
             // Add any hard requirements
@@ -297,6 +300,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
             if (removed != null) {
                 modified = true;
+                capabilityIndex = null;
             }
             return removed;
         } finally {
@@ -608,6 +612,10 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public boolean hasCapability(String capabilityName, CapabilityScope scope) {
+        CapabilityIndex index = capabilityIndex;
+        if (index != null && index.resolve(capabilityName, scope) != null) {
+            return true;
+        }
         readLock.lock();
         try {
             return findSatisfactoryCapability(capabilityName, scope, !forServer) != null;
@@ -620,17 +628,20 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public <T> T getCapabilityRuntimeAPI(String capabilityName, CapabilityScope scope, Class<T> apiType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
-        try {
-            RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
-            Object api = reg.getCapability().getRuntimeAPI();
-            if (api == null) {
-                throw ControllerLogger.MGMT_OP_LOGGER.capabilityDoesNotExposeRuntimeAPI(capabilityName);
+        RuntimeCapability<?> capability = getIndexedCapability(capabilityName, scope);
+        if (capability == null) {
+            readLock.lock();
+            try {
+                capability = getCapabilityRegistration(capabilityName, scope).getCapability();
+            } finally {
+                readLock.unlock();
             }
-            return apiType.cast(api);
-        } finally {
-            readLock.unlock();
         }
+        Object api = capability.getRuntimeAPI();
+        if (api == null) {
+            throw ControllerLogger.MGMT_OP_LOGGER.capabilityDoesNotExposeRuntimeAPI(capabilityName);
+        }
+        return apiType.cast(api);
     }
 
     @Override
@@ -657,14 +668,27 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public ServiceName getCapabilityServiceName(String capabilityName, CapabilityScope scope, Class<?> serviceType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
-        try {
-            RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
-            RuntimeCapability<?> cap = reg.getCapability();
-            return cap.getCapabilityServiceName(serviceType);
-        } finally {
-            readLock.unlock();
+        RuntimeCapability<?> cap = getIndexedCapability(capabilityName, scope);
+        if (cap == null) {
+            readLock.lock();
+            try {
+                cap = getCapabilityRegistration(capabilityName, scope).getCapability();
+            } finally {
+                readLock.unlock();
+            }
         }
+        return cap.getCapabilityServiceName(serviceType);
+    }
+
+    /**
+     * Looks up a capability in the published {@link CapabilityIndex} without acquiring any lock.
+     *
+     * @return the capability, or {@code null} if there is no valid index or the index cannot resolve the lookup, in
+     *         which case the caller must fall back to full resolution under the read lock
+     */
+    private RuntimeCapability<?> getIndexedCapability(String capabilityName, CapabilityScope scope) {
+        CapabilityIndex index = capabilityIndex;
+        return index == null ? null : index.resolve(capabilityName, scope);
     }
 
     @Override
@@ -788,6 +812,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             target.knownContexts.addAll(source.knownContexts);
         }
         target.resolutionContext.copy(source.resolutionContext);
+        // The index is immutable, so the copy can simply share it
+        target.capabilityIndex = source.capabilityIndex;
     }
 
     /**
@@ -806,6 +832,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             requirements.clear();
             pendingRemoveRequirements.clear();
             runtimeOnlyRequirements.clear();
+            capabilityIndex = null;
             reloadCapabilities.clear();
             if (restartRequired) {
                 restartCapabilities.clear();
@@ -820,9 +847,12 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     CapabilityValidation resolveCapabilities(Resource rootResource, boolean hostXmlOnly) {
         readLock.lock();
         try {
+            // Scope resolution may depend on the resource tree, so any existing index is stale
+            capabilityIndex = null;
             resolutionContext.setRootResource(rootResource);
             assert resolutionContext.rootResource != null;
             Map<CapabilityId, Set<RuntimeRequirementRegistration>> missing = new HashMap<>();
+            Map<CapabilityId, CapabilityId> resolved = new HashMap<>();
 
             // Vars for tracking inconsistent contexts
             boolean isInconsistent = false;
@@ -871,6 +901,9 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                             recordConsistentSets(requiresConsistency, consistentSets, including, consistentSet, req, satisfactory, reqDependent);
                             isInconsistent = isInconsistent || (consistentSet != null && consistentSet.isEmpty());
                         }
+                    } else if (!satisfactory.singleCapability.getScope().equals(dependentContext)) {
+                        // Requirement satisfied by a capability in another scope; remember how
+                        resolved.put(new CapabilityId(req.getRequiredName(), dependentContext), satisfactory.singleCapability);
                     } // else simple capability match
                 }
             }
@@ -885,6 +918,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 return new CapabilityValidation(missing, null, resolutionContext);
             }
 
+            // No writer can run while we hold the read lock, so the index reflects the current state
+            capabilityIndex = new CapabilityIndex(capabilities, resolved);
             return CapabilityValidation.OK;
         } finally {
             readLock.unlock();
@@ -1057,6 +1092,39 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         }
     }
 
+    /**
+     * Immutable snapshot of the registered capabilities and of the cross-scope requirement resolutions computed by
+     * {@link #resolveCapabilities(Resource, boolean)}. Published via a volatile field so runtime lookups of resolved
+     * capabilities can be simple hash probes without taking the registry lock. Any change to the set of registered
+     * capabilities discards the index.
+     */
+    private static final class CapabilityIndex {
+        private final Map<CapabilityId, RuntimeCapability<?>> capabilities;
+        private final Map<CapabilityId, RuntimeCapability<?>> resolved;
+
+        private CapabilityIndex(Map<CapabilityId, RuntimeCapabilityRegistration> capabilities, Map<CapabilityId, CapabilityId> resolved) {
+            Map<CapabilityId, RuntimeCapability<?>> map = new HashMap<>(capabilities.size() * 4 / 3 + 1);
+            for (Map.Entry<CapabilityId, RuntimeCapabilityRegistration> entry : capabilities.entrySet()) {
+                map.put(entry.getKey(), entry.getValue().getCapability());
+            }
+            this.capabilities = Collections.unmodifiableMap(map);
+            map = new HashMap<>(resolved.size() * 4 / 3 + 1);
+            for (Map.Entry<CapabilityId, CapabilityId> entry : resolved.entrySet()) {
+                RuntimeCapability<?> capability = this.capabilities.get(entry.getValue());
+                if (capability != null) {
+                    map.put(entry.getKey(), capability);
+                }
+            }
+            this.resolved = Collections.unmodifiableMap(map);
+        }
+
+        private RuntimeCapability<?> resolve(String capabilityName, CapabilityScope scope) {
+            CapabilityId id = new CapabilityId(capabilityName, scope);
+            RuntimeCapability<?> result = capabilities.get(id);
+            return result != null ? result : resolved.get(id);
+        }
+    }
+
     private static class SatisfactoryCapability {
         final CapabilityId singleCapability;
         final Set<CapabilityScope> multipleCapabilities;
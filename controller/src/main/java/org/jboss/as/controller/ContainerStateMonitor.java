@@ -12,6 +12,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -72,7 +74,7 @@ final class ContainerStateMonitor {
                     toWait = msTimeout - System.currentTimeMillis();
                 }
                 try {
-                    if (toWait <= 0 || !container.awaitStability(toWait, TimeUnit.MILLISECONDS, failed, problems)) {
+                    if (toWait <= 0 || !awaitContainerStability(toWait, TimeUnit.MILLISECONDS)) {
                         throw new TimeoutException();
                     }
                     break;
@@ -97,7 +99,7 @@ final class ContainerStateMonitor {
      * @throws java.util.concurrent.TimeoutException if service container stability is not reached before the specified timeout
      */
     void awaitStability(long timeout, TimeUnit timeUnit) throws InterruptedException, TimeoutException {
-        if (!container.awaitStability(timeout, timeUnit, failed, problems)) {
+        if (!awaitContainerStability(timeout, timeUnit)) {
             throw new TimeoutException();
         }
     }
@@ -116,12 +118,36 @@ final class ContainerStateMonitor {
      * @throws java.util.concurrent.TimeoutException if service container stability is not reached before the specified timeout
      */
     ContainerStateChangeReport awaitContainerStateChangeReport(long timeout, TimeUnit timeUnit) throws InterruptedException, TimeoutException {
-        if (container.awaitStability(timeout, timeUnit, failed, problems)) {
+        if (awaitContainerStability(timeout, timeUnit)) {
             return createContainerStateChangeReport(false);
         }
         throw new TimeoutException();
     }
 
+    private boolean awaitContainerStability(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        if (!VirtualThreadExecutor.isVirtualThread()) {
+            return container.awaitStability(timeout, timeUnit, failed, problems);
+        }
+        // The stability monitor waits on a monitor, which would pin the carrier of the virtual thread for the whole wait
+        final Future<Boolean> stable = VirtualThreadExecutor.submitToPlatformThread(() -> container.awaitStability(timeout, timeUnit, failed, problems));
+        try {
+            return stable.get();
+        } catch (InterruptedException e) {
+            stable.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     /**
      * Creates a data structure reporting recent favorable and unfavorable changes in the state of installed services.
      *
@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the acquisition of the {@link ModelControllerLock}, lasting as long as the wait for it.
+ * Disabled unless a recording enables it; only create it once {@link FlightRecorderSupport#isAvailable()} returned
+ * {@code true}.
+ */
+@Name("org.wildfly.management.ControllerLock")
+@Label("Controller Lock Acquisition")
+@Description("The wait of a management operation for the controller lock")
+@Category({"WildFly", "Management"})
+@Enabled(false)
+@StackTrace(false)
+final class ControllerLockEvent extends Event {
+
+    @Label("Operation Id")
+    int operationId;
+
+    @Label("Exclusive")
+    @Description("Whether the lock was requested in exclusive mode, or in shared mode")
+    boolean exclusive;
+
+    @Label("Acquired")
+    @Description("Whether the lock was acquired, rather than the wait timing out or being interrupted")
+    boolean acquired;
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+/**
+ * Tells whether the JDK Flight Recorder API is visible, so that the flight recorder events of the management layer
+ * can be emitted. The {@code jdk.jfr} module is an optional dependency: code using the event classes must check
+ * {@link #isAvailable()} first, so that they are never loaded without it.
+ */
+public final class FlightRecorderSupport {
+
+    private static final boolean AVAILABLE;
+
+    static {
+        boolean available;
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderSupport.class.getClassLoader());
+            available = true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            available = false;
+        }
+        AVAILABLE = available;
+    }
+
+    private FlightRecorderSupport() {
+    }
+
+    /**
+     * Gets whether the JDK Flight Recorder API is available.
+     *
+     * @return {@code true} if flight recorder events can be emitted
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+}
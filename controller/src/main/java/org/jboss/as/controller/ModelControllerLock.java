@@ -18,6 +18,8 @@ import java.util.concurrent.locks.AbstractQueuedSynchronizer;
  * then the exclusive lock may not be acquired, and if the exclusive lock is held, the shared locks may not be acquired.
  * For an existing "permit holder" (operationId), the lock may be reentrantly re-acquired.
  *
+ * The blocking acquisitions emit a {@link ControllerLockEvent} when a flight recording enables it.
+ *
  * @author Emanuel Muckenhuber
  * @author Ken Wills
  */
@@ -32,7 +34,9 @@ class ModelControllerLock {
      */
     void lock(final Integer permit) {
         checkNotNullParam("permit", permit);
+        final ControllerLockEvent event = beginEvent();
         sync.acquire(permit);
+        commitEvent(event, permit, true, true);
     }
 
     /**
@@ -44,7 +48,9 @@ class ModelControllerLock {
      */
     void lockShared(final Integer permit) {
         checkNotNullParam("permit", permit);
+        final ControllerLockEvent event = beginEvent();
         sync.acquireShared(permit);
+        commitEvent(event, permit, false, true);
     }
 
     /** Attempts exclusive acquisition with a max wait time.
@@ -87,7 +93,14 @@ class ModelControllerLock {
      */
     void lockInterruptibly(final Integer permit) throws InterruptedException {
         checkNotNullParam("permit", permit);
-        sync.acquireInterruptibly(permit);
+        final ControllerLockEvent event = beginEvent();
+        boolean acquired = false;
+        try {
+            sync.acquireInterruptibly(permit);
+            acquired = true;
+        } finally {
+            commitEvent(event, permit, true, acquired);
+        }
     }
 
     /**
@@ -98,7 +111,14 @@ class ModelControllerLock {
      */
     void lockSharedInterruptibly(final Integer permit) throws InterruptedException {
         checkNotNullParam("permit", permit);
-        sync.acquireSharedInterruptibly(permit);
+        final ControllerLockEvent event = beginEvent();
+        boolean acquired = false;
+        try {
+            sync.acquireSharedInterruptibly(permit);
+            acquired = true;
+        } finally {
+            commitEvent(event, permit, false, acquired);
+        }
     }
 
     /**
@@ -113,7 +133,14 @@ class ModelControllerLock {
     boolean lockInterruptibly(final Integer permit, final long timeout, final TimeUnit unit) throws InterruptedException {
         checkNotNullParam("permit", permit);
         checkNotNullParam("unit", unit);
-        return sync.tryAcquireNanos(permit, unit.toNanos(timeout));
+        final ControllerLockEvent event = beginEvent();
+        boolean acquired = false;
+        try {
+            acquired = sync.tryAcquireNanos(permit, unit.toNanos(timeout));
+            return acquired;
+        } finally {
+            commitEvent(event, permit, true, acquired);
+        }
     }
 
     /**
@@ -128,7 +155,14 @@ class ModelControllerLock {
     boolean lockSharedInterruptibly(final Integer permit, final long timeout, final TimeUnit unit) throws InterruptedException {
         checkNotNullParam("permit", permit);
         checkNotNullParam("unit", unit);
-        return sync.tryAcquireSharedNanos(permit, unit.toNanos(timeout));
+        final ControllerLockEvent event = beginEvent();
+        boolean acquired = false;
+        try {
+            acquired = sync.tryAcquireSharedNanos(permit, unit.toNanos(timeout));
+            return acquired;
+        } finally {
+            commitEvent(event, permit, false, acquired);
+        }
     }
 
     /**
@@ -165,6 +199,30 @@ class ModelControllerLock {
         return sync.tryAcquire(permit);
     }
 
+    private static ControllerLockEvent beginEvent() {
+        if (!FlightRecorderSupport.isAvailable()) {
+            return null;
+        }
+        final ControllerLockEvent event = new ControllerLockEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static void commitEvent(final ControllerLockEvent event, final int permit, final boolean exclusive, final boolean acquired) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operationId = permit;
+                event.exclusive = exclusive;
+                event.acquired = acquired;
+                event.commit();
+            }
+        }
+    }
+
     /**
      * Implementation {@link AbstractQueuedSynchronizer} that maintains
      * lock state in a single {@code int}, managed by #getState() and #compareAndSet().
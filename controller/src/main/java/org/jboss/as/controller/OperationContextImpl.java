@@ -49,6 +49,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -132,8 +134,11 @@ final class OperationContextImpl extends AbstractOperationContext {
     private final ModelControllerImpl modelController;
     private final OperationMessageHandler messageHandler;
     private final Set<ServiceController<?>> realRemovingControllers = Collections.newSetFromMap(new IdentityHashMap<>());
-    // protected by "realRemovingControllers"
+    // protected by "removalLock"
     private final Map<ServiceName, Step> removalSteps = new HashMap<>();
+    // Guards the removing controllers; a lock rather than a monitor so virtual threads waiting for removals don't pin their carrier
+    private final ReentrantLock removalLock = new ReentrantLock();
+    private final Condition removalDone = removalLock.newCondition();
     private final OperationAttachments attachments;
     /** Tracks the addresses associated with writes to the model.
      * We use a map with dummy values just to take advantage of ConcurrentHashMap  */
@@ -238,9 +243,12 @@ final class OperationContextImpl extends AbstractOperationContext {
             this.originalModel = this.managementModel = null;
             this.lockStep = this.containerMonitorStep = null;
             this.contextAttachments.close();
-            synchronized (this.realRemovingControllers) {
+            removalLock.lock();
+            try {
                 this.realRemovingControllers.clear();
                 this.removalSteps.clear();
+            } finally {
+                removalLock.unlock();
             }
             this.addedRequirements.clear();
             this.removedCapabilities.clear();
@@ -527,12 +535,13 @@ final class OperationContextImpl extends AbstractOperationContext {
     @Override
     protected void waitForRemovals() throws InterruptedException, TimeoutException {
         if (affectsRuntime && !cancelled) {
-            synchronized (realRemovingControllers) {
+            removalLock.lock();
+            try {
                 long waitTime = getBlockingTimeout().getLocalBlockingTimeout();
                 long end = System.currentTimeMillis() + waitTime;
                 boolean wait = !realRemovingControllers.isEmpty() && !cancelled;
                 while (wait && waitTime > 0) {
-                    realRemovingControllers.wait(waitTime);
+                    removalDone.await(waitTime, TimeUnit.MILLISECONDS);
                     wait = !realRemovingControllers.isEmpty() && !cancelled;
                     waitTime = end - System.currentTimeMillis();
                 }
@@ -541,6 +550,8 @@ final class OperationContextImpl extends AbstractOperationContext {
                     getBlockingTimeout().timeoutDetected();
                     throw new TimeoutException();
                 }
+            } finally {
+                removalLock.unlock();
             }
         }
     }
@@ -717,22 +728,28 @@ final class OperationContextImpl extends AbstractOperationContext {
             public void handleEvent(final ServiceController<?> controller, final LifecycleEvent event) {
                 latch.awaitUninterruptibly();
                 if (event == LifecycleEvent.REMOVED) {
-                    synchronized (realRemovingControllers) {
+                    removalLock.lock();
+                    try {
                         if (realRemovingControllers.remove(controller)) {
                             for (ServiceName sn : controller.provides()) {
                                 removalSteps.put(sn, removalStep);
                             }
-                            realRemovingControllers.notifyAll();
+                            removalDone.signalAll();
                         }
+                    } finally {
+                        removalLock.unlock();
                     }
                 }
             }
         });
         try {
             final ServiceController<?> realController = unwrap(controller);
-            synchronized (realRemovingControllers) {
+            removalLock.lock();
+            try {
                 realRemovingControllers.add(realController);
                 realController.setMode(ServiceController.Mode.REMOVE);
+            } finally {
+                removalLock.unlock();
             }
         } finally {
             latch.countDown();
@@ -806,6 +823,7 @@ final class OperationContextImpl extends AbstractOperationContext {
                 throw ControllerLogger.ROOT_LOGGER.invalidModificationAfterCompletedStep();
             }
             ExecutionStatus originalStatus = executionStatus;
+            final long waitStart = System.nanoTime();
             try {
                 executionStatus = ExecutionStatus.AWAITING_OTHER_OPERATION;
                 // BES 2014/04/22 Ignore blocking timeout here. We risk some bug causing the
@@ -824,6 +842,7 @@ final class OperationContextImpl extends AbstractOperationContext {
 //                    }
 //                }
                 exclusiveStartTime = System.nanoTime();
+                lockWaitTime += exclusiveStartTime - waitStart;
                 recordWriteLock();
             } catch (InterruptedException e) {
                 cancelled = true;
@@ -2032,7 +2051,8 @@ final class OperationContextImpl extends AbstractOperationContext {
 
     private <T> ServiceController<T> installService(ServiceBuilder<T> builder, Step step) throws ServiceRegistryException, IllegalStateException {
 
-        synchronized (realRemovingControllers) {
+        removalLock.lock();
+        try {
             boolean intr = false;
             try {
                 Set<ServiceName> providedValues = providedValues(builder);
@@ -2042,7 +2062,7 @@ final class OperationContextImpl extends AbstractOperationContext {
                 long end = System.currentTimeMillis() + waitTime;
                 while (controller != null && waitTime > 0) {
                     try {
-                        realRemovingControllers.wait(waitTime);
+                        removalDone.await(waitTime, TimeUnit.MILLISECONDS);
                     } catch (InterruptedException e) {
                         intr = true;
                         if (respectInterruption) {
@@ -2073,17 +2093,19 @@ final class OperationContextImpl extends AbstractOperationContext {
                     Thread.currentThread().interrupt();
                 }
             }
+        } finally {
+            removalLock.unlock();
         }
     }
 
     private Set<ServiceName> providedValues(final ServiceBuilder<?> sb) {
-        assert Thread.holdsLock(realRemovingControllers);
+        assert removalLock.isHeldByCurrentThread();
         final ContextServiceTarget.ProvidedValuesTrackingServiceBuilder trackingSB = (ContextServiceTarget.ProvidedValuesTrackingServiceBuilder)sb;
         return trackingSB.getProvidedValues();
     }
 
     private ServiceController<?> contains(final Set<ServiceName> providedValues) {
-        assert Thread.holdsLock(realRemovingControllers);
+        assert removalLock.isHeldByCurrentThread();
         for (ServiceName sn : providedValues) {
             for (ServiceController sc : realRemovingControllers) {
                 if (sc.provides().contains(sn)) return sc;
@@ -2269,8 +2291,9 @@ final class OperationContextImpl extends AbstractOperationContext {
 
 
             final Map<Step, Map<ServiceName, Set<ServiceName>>> missingByStep = new HashMap<Step, Map<ServiceName, Set<ServiceName>>>();
-            // The realRemovingControllers map acts as the guard for the removalSteps map
-            synchronized (realRemovingControllers) {
+            // The removal lock guards the removalSteps map
+            removalLock.lock();
+            try {
                 for (Map.Entry<ServiceName, ContainerStateMonitor.MissingDependencyInfo> entry : containerStateChangeReport.getMissingServices().entrySet()) {
                     ContainerStateMonitor.MissingDependencyInfo missingDependencyInfo = entry.getValue();
                     Step removalStep = removalSteps.get(entry.getKey());
@@ -2283,6 +2306,8 @@ final class OperationContextImpl extends AbstractOperationContext {
                         stepBadRemovals.put(entry.getKey(), missingDependencyInfo.getDependents());
                     }
                 }
+            } finally {
+                removalLock.unlock();
             }
 
             for (Map.Entry<Step, Map<ServiceName, Set<ServiceName>>> entry : missingByStep.entrySet()) {
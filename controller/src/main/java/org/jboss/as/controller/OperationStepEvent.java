@@ -0,0 +1,42 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for the execution of a step of a management operation. Disabled unless a recording enables
+ * it; only create it once {@link FlightRecorderSupport#isAvailable()} returned {@code true}.
+ */
+@Name("org.wildfly.management.OperationStep")
+@Label("Management Operation Step")
+@Description("The execution of a step of a management operation")
+@Category({"WildFly", "Management"})
+@Enabled(false)
+@StackTrace(false)
+final class OperationStepEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Address")
+    String address;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Lock Wait")
+    @Description("The time the step waited for the controller lock")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWait;
+}
@@ -77,6 +77,17 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         return ourOp;
     }
 
+    /**
+     * Gets whether a handler is one of the steps which run the subsystem boot operations in other threads and wait
+     * for them, rather than doing any work of their own.
+     *
+     * @param handler the handler of a step
+     * @return {@code true} if the handler is a parallel boot step
+     */
+    static boolean isParallelBootStep(final OperationStepHandler handler) {
+        return handler instanceof ParallelBootOperationStepHandler || handler instanceof RuntimeStepHandler;
+    }
+
     private String getSubsystemName(final PathAddress address) {
         String key = null;
         if (address.size() > 0 && ModelDescriptionConstants.SUBSYSTEM.equals(address.getElement(0).getKey())) {
@@ -252,7 +263,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
     private OperationStepHandler getRuntimeStep(final Map<String, List<ParsedBootOp>> runtimeOpsBySubsystem, final SecurityDomain bootSecurityDomain) {
 
-        return new OperationStepHandler() {
+        return new RuntimeStepHandler() {
             @Override
             public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
 
@@ -324,6 +335,10 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         };
     }
 
+    /** Marker of the step running the subsystem runtime boot operations */
+    private interface RuntimeStepHandler extends OperationStepHandler {
+    }
+
     private class ParallelBootTask implements Runnable {
 
         private final String subsystemName;
@@ -0,0 +1,509 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static java.security.AccessController.doPrivileged;
+import static org.wildfly.common.Assert.checkNotNullParam;
+
+import java.lang.reflect.Method;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Executor running each task in a new virtual thread, so tasks blocked waiting for the container or for remote
+ * processes do not hold a platform thread. The number of tasks running at the same time can be limited, tasks beyond
+ * the limit waiting in their own thread for a permit, which is cheap for virtual threads. The number of tasks waiting
+ * can be limited as well, like the queues of the pools it replaces.
+ * <p>
+ * Virtual threads are created reflectively so this class can be compiled for and loaded on JVMs without them, in
+ * which case unpooled platform threads are used instead.
+ */
+public final class VirtualThreadExecutor extends AbstractExecutorService {
+
+    /**
+     * The system property enabling virtual threads for the handling of management requests. The executors fall back
+     * to their pools of platform threads if the JVM does not support virtual threads.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "org.wildfly.management.virtual-threads";
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+    private static final Method IS_VIRTUAL = findIsVirtual();
+    private static final boolean MANAGEMENT_ENABLED = isEnabled(WildFlySecurityManager.getPropertyPrivileged(VIRTUAL_THREADS_PROPERTY, "false"));
+
+    private final ThreadFactory threadFactory;
+    private final int maxWaiting;
+    private final LimitSemaphore permits;
+    private volatile int maxConcurrency;
+    private volatile String threadNamePattern;
+
+    // Thread id -> the worker running in the thread
+    private final Map<Long, Worker> workers = new ConcurrentHashMap<>();
+    private volatile boolean retainCompletedThreads;
+    // The ids of the threads which completed since the last expiry, and since the one before
+    private volatile Set<Long> completedThreads = ConcurrentHashMap.newKeySet();
+    private volatile Set<Long> expiringThreads = Collections.emptySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong threadSequence = new AtomicLong();
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final AtomicInteger largestThreadCount = new AtomicInteger();
+    private final ReentrantLock terminationLock = new ReentrantLock();
+    private final Condition terminated = terminationLock.newCondition();
+    private volatile boolean shutdown;
+
+    /**
+     * Create an executor not limiting the number of tasks waiting to run.
+     *
+     * @param maxConcurrency the maximum number of tasks running at the same time, {@code 0} for no limit
+     * @param threadNamePattern the pattern of the names of the threads, see {@link #setThreadNamePattern(String)}
+     */
+    public VirtualThreadExecutor(final int maxConcurrency, final String threadNamePattern) {
+        this(VIRTUAL_THREAD_FACTORY != null ? VIRTUAL_THREAD_FACTORY : PlatformThreadFactory.INSTANCE, maxConcurrency, -1, threadNamePattern);
+    }
+
+    /**
+     * Create an executor.
+     *
+     * @param threadFactory the factory of the threads, whose names are set by the executor
+     * @param maxConcurrency the maximum number of tasks running at the same time, {@code 0} for no limit
+     * @param maxWaiting the maximum number of tasks waiting to run, only used if the number of tasks running is
+     *                   limited, negative for no limit
+     * @param threadNamePattern the pattern of the names of the threads, see {@link #setThreadNamePattern(String)}
+     */
+    VirtualThreadExecutor(final ThreadFactory threadFactory, final int maxConcurrency, final int maxWaiting, final String threadNamePattern) {
+        this.threadFactory = threadFactory;
+        this.maxWaiting = maxWaiting;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new LimitSemaphore(toPermits(maxConcurrency));
+        this.threadNamePattern = checkNotNullParam("threadNamePattern", threadNamePattern);
+    }
+
+    /**
+     * Create an executor for management requests, running tasks in virtual threads if they are enabled with
+     * {@link #VIRTUAL_THREADS_PROPERTY} and supported.
+     *
+     * @param threadNamePrefix the prefix of the names of the threads, followed by their sequence number
+     * @param maxConcurrency the maximum number of tasks running at the same time, {@code 0} for no limit
+     * @param maxWaiting the maximum number of tasks waiting to run, only used if the number of tasks running is limited
+     * @return the executor, or {@code null} if the caller should create its pool of platform threads
+     */
+    public static ExecutorService createIfEnabled(final String threadNamePrefix, final int maxConcurrency, final int maxWaiting) {
+        if (!MANAGEMENT_ENABLED) {
+            return null;
+        }
+        return new VirtualThreadExecutor(VIRTUAL_THREAD_FACTORY, maxConcurrency, Math.max(maxWaiting, 0),
+                threadNamePrefix.replace("%", "%%") + "%t");
+    }
+
+    /**
+     * Whether the running JVM supports virtual threads.
+     *
+     * @return {@code true} if tasks run in virtual threads, {@code false} if they run in platform threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Whether the current thread is a virtual thread.
+     *
+     * @return {@code true} if the current thread is virtual
+     */
+    public static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(Thread.currentThread());
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Run a task in a platform thread, for waits on monitors which would pin the carrier thread of a virtual thread
+     * for their whole duration. The platform threads are pooled and time out when idle.
+     *
+     * @param task the task
+     * @return the future of the task, to cancel if the caller is interrupted
+     */
+    public static <T> Future<T> submitToPlatformThread(final Callable<T> task) {
+        return PlatformWaiters.EXECUTOR.submit(task);
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        checkNotNullParam("command", command);
+        if (shutdown) {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException();
+        }
+        if (inFlight.incrementAndGet() > getCapacity() || shutdown) {
+            finished();
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException();
+        }
+        final Worker worker = new Worker(command);
+        final Thread thread = threadFactory.newThread(worker);
+        thread.setName(formatThreadName(threadNamePattern, threadSequence.incrementAndGet(), thread.getId()));
+        worker.thread = thread;
+        workers.put(thread.getId(), worker);
+        largestThreadCount.accumulateAndGet(workers.size(), Math::max);
+        taskCount.incrementAndGet();
+        try {
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            workers.remove(thread.getId());
+            finished();
+            rejectedCount.incrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (inFlight.get() == 0) {
+            signalTerminated();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        final List<Runnable> notStarted = new ArrayList<>();
+        final List<Worker> running = new ArrayList<>(workers.values());
+        // Claim the waiting tasks before interrupting any thread, so none of them starts once a permit is released
+        for (Worker worker : running) {
+            if (worker.claimed.compareAndSet(false, true)) {
+                notStarted.add(worker.task);
+            }
+        }
+        for (Worker worker : running) {
+            worker.thread.interrupt();
+        }
+        return notStarted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && inFlight.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        terminationLock.lock();
+        try {
+            while (!isTerminated()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = terminated.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            terminationLock.unlock();
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Change the maximum number of tasks running at the same time. Running tasks are not affected by a lower limit.
+     *
+     * @param maxConcurrency the new limit, {@code 0} for no limit
+     */
+    public synchronized void setMaxConcurrency(final int maxConcurrency) {
+        final int oldPermits = toPermits(this.maxConcurrency);
+        final int newPermits = toPermits(maxConcurrency);
+        if (newPermits < oldPermits) {
+            permits.reducePermits(oldPermits - newPermits);
+        } else if (newPermits > oldPermits) {
+            permits.release(newPermits - oldPermits);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public String getThreadNamePattern() {
+        return threadNamePattern;
+    }
+
+    /**
+     * Change the pattern of the names of the threads created from now on. {@code %t} is replaced by the sequence
+     * number of the thread in this executor, {@code %i} by its id and {@code %%} by a percent sign.
+     *
+     * @param threadNamePattern the pattern
+     */
+    public void setThreadNamePattern(final String threadNamePattern) {
+        this.threadNamePattern = checkNotNullParam("threadNamePattern", threadNamePattern);
+    }
+
+    /**
+     * Whether a thread is, or recently was, one of the threads of this executor. Threads which completed are only
+     * remembered while {@link #setRetainCompletedThreads(boolean) enabled}, until {@link #expireCompletedThreads()}
+     * is called twice.
+     *
+     * @param threadId the id of the thread
+     * @return {@code true} if the thread belongs to this executor
+     */
+    public boolean ownsThread(final long threadId) {
+        return workers.containsKey(threadId) || completedThreads.contains(threadId) || expiringThreads.contains(threadId);
+    }
+
+    /**
+     * Whether to remember the ids of the threads which completed, for callers attributing events reported after the
+     * fact, like flight recorder events, to this executor.
+     *
+     * @param retainCompletedThreads {@code true} to remember the threads
+     */
+    public void setRetainCompletedThreads(final boolean retainCompletedThreads) {
+        this.retainCompletedThreads = retainCompletedThreads;
+        if (!retainCompletedThreads) {
+            completedThreads = ConcurrentHashMap.newKeySet();
+            expiringThreads = Collections.emptySet();
+        }
+    }
+
+    /**
+     * Forget the threads which completed before the previous call.
+     */
+    public synchronized void expireCompletedThreads() {
+        expiringThreads = completedThreads;
+        completedThreads = ConcurrentHashMap.newKeySet();
+    }
+
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public int getWaitingCount() {
+        return waitingCount.get();
+    }
+
+    public int getCurrentThreadCount() {
+        return workers.size();
+    }
+
+    public int getLargestThreadCount() {
+        return largestThreadCount.get();
+    }
+
+    static String formatThreadName(final String pattern, final long sequence, final long threadId) {
+        final StringBuilder name = new StringBuilder(pattern.length() + 16);
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (c == '%' && i + 1 < pattern.length()) {
+                final char token = pattern.charAt(i + 1);
+                if (token == 't') {
+                    name.append(sequence);
+                    i++;
+                    continue;
+                } else if (token == 'i') {
+                    name.append(threadId);
+                    i++;
+                    continue;
+                } else if (token == '%') {
+                    name.append('%');
+                    i++;
+                    continue;
+                }
+            }
+            name.append(c);
+        }
+        return name.toString();
+    }
+
+    static boolean isEnabled(final String property) {
+        if (!Boolean.parseBoolean(property)) {
+            return false;
+        }
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            ControllerLogger.ROOT_LOGGER.virtualThreadsNotSupported(VIRTUAL_THREADS_PROPERTY);
+            return false;
+        }
+        return true;
+    }
+
+    private int getCapacity() {
+        final int maxConcurrency = this.maxConcurrency;
+        if (maxConcurrency <= 0 || maxWaiting < 0) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (long) maxConcurrency + maxWaiting);
+    }
+
+    private void finished() {
+        if (inFlight.decrementAndGet() == 0 && shutdown) {
+            signalTerminated();
+        }
+    }
+
+    private void signalTerminated() {
+        terminationLock.lock();
+        try {
+            terminated.signalAll();
+        } finally {
+            terminationLock.unlock();
+        }
+    }
+
+    private static int toPermits(final int maxConcurrency) {
+        return maxConcurrency > 0 ? maxConcurrency : Integer.MAX_VALUE;
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method findIsVirtual() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final Runnable task;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile Thread thread;
+
+        private Worker(final Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                waitingCount.incrementAndGet();
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // Interrupted by shutdownNow, which returns the task to its caller
+                    return;
+                } finally {
+                    waitingCount.decrementAndGet();
+                }
+                try {
+                    if (!claimed.compareAndSet(false, true)) {
+                        return;
+                    }
+                    activeCount.incrementAndGet();
+                    try {
+                        task.run();
+                    } finally {
+                        activeCount.decrementAndGet();
+                        completedTaskCount.incrementAndGet();
+                    }
+                } finally {
+                    permits.release();
+                }
+            } finally {
+                final long threadId = Thread.currentThread().getId();
+                if (retainCompletedThreads) {
+                    completedThreads.add(threadId);
+                }
+                workers.remove(threadId);
+                finished();
+            }
+        }
+    }
+
+    private static final class LimitSemaphore extends Semaphore {
+
+        LimitSemaphore(final int permits) {
+            super(permits);
+        }
+
+        @Override
+        public void reducePermits(final int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+    private static final class PlatformThreadFactory implements ThreadFactory {
+        private static final PlatformThreadFactory INSTANCE = new PlatformThreadFactory();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class PlatformWaiters {
+        private static final ThreadGroup THREAD_GROUP = new ThreadGroup("management-platform-waiter");
+        private static final ExecutorService EXECUTOR = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            final ThreadFactory threadFactory = doPrivileged((PrivilegedAction<JBossThreadFactory>) () ->
+                    new JBossThreadFactory(THREAD_GROUP, Boolean.TRUE, null, "%G - %t", null, null));
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), task -> {
+                // Don't let the pooled threads keep the class loader of the caller creating them
+                final ClassLoader old = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(VirtualThreadExecutor.class);
+                try {
+                    return threadFactory.newThread(task);
+                } finally {
+                    WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(old);
+                }
+            });
+        }
+    }
+}
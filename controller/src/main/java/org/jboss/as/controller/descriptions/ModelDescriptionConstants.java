@@ -69,6 +69,9 @@ public class ModelDescriptionConstants {
     public static final String BACKLOG = "backlog";
     public static final String BASE_DN = "base-dn";
     public static final String BASE_ROLE = "base-role";
+    public static final String BATCH_DELAY = "batch-delay";
+    public static final String BATCH_PERCENTAGE = "batch-percentage";
+    public static final String BATCH_SIZE = "batch-size";
     public static final String BLOCKING = "blocking";
     public static final String BLOCKING_TIMEOUT = "blocking-timeout";
     public static final String BOOT_TIME = "boot-time";
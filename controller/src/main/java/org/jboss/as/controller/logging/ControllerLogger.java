@@ -3869,4 +3869,8 @@ public interface ControllerLogger extends BasicLogger {
     @LogMessage(level = ERROR)
     @Message(id = 532, value = "Error while inspecting network interface %s")
     void errorInspectingNetworkInterface(@Cause Throwable cause, NetworkInterface name);
+
+    @LogMessage(level = WARN)
+    @Message(id = 533, value = "Virtual threads were enabled for management requests with system property %s but are not supported by this JVM; platform threads will be used")
+    void virtualThreadsNotSupported(String propertyName);
 }
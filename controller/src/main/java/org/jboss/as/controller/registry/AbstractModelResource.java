@@ -15,6 +15,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -26,12 +27,16 @@ import org.jboss.dmr.ModelNode;
  *
  * <p>Concurrency note: this class is *not* thread safe</p>
  *
+ * <p>The maps of children are guarded by locks rather than monitors, so management requests running in virtual
+ * threads do not pin their carrier thread while waiting for them.</p>
+ *
  * @author Emanuel Muckenhuber
  */
 public abstract class AbstractModelResource extends ResourceProvider.ResourceProviderRegistry implements Resource {
 
     /** The children. */
     private final Map<String, ResourceProvider> children = new LinkedHashMap<String, ResourceProvider>();
+    private final ReentrantLock lock = new ReentrantLock();
     private final boolean runtimeOnly;
     private final Set<String> orderedChildTypes;
 
@@ -126,8 +131,11 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
 
     @Override
     public Set<String> getChildTypes() {
-        synchronized (children) {
+        lock.lock();
+        try {
             return new LinkedHashSet<String>(children.keySet());
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -176,7 +184,8 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
 
     @Override
     public Resource removeChild(PathElement address) {
-        synchronized (children) {
+        lock.lock();
+        try {
             final ResourceProvider provider = getProvider(address.getKey());
             if(provider == null) {
                 return null;
@@ -187,6 +196,8 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
                 children.remove(address.getKey());
             }
             return removed;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -206,22 +217,29 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
     }
 
     protected void registerResourceProvider(final String type, final ResourceProvider provider) {
-        synchronized (children) {
+        lock.lock();
+        try {
             if (children.containsKey(type)) {
                 throw ControllerLogger.ROOT_LOGGER.duplicateResourceType(type);
             }
             children.put(type, provider);
+        } finally {
+            lock.unlock();
         }
     }
 
     protected final ResourceProvider getProvider(final String type) {
-        synchronized (children) {
+        lock.lock();
+        try {
             return children.get(type);
+        } finally {
+            lock.unlock();
         }
     }
 
     protected ResourceProvider getOrCreateProvider(final String type) {
-        synchronized (children) {
+        lock.lock();
+        try {
             final ResourceProvider provider = children.get(type);
             if(provider != null) {
                 return provider;
@@ -230,6 +248,8 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
                 children.put(type, newProvider);
                 return newProvider;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -237,61 +257,81 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
     public abstract Resource clone();
 
     protected void cloneProviders(AbstractModelResource clone) {
-        synchronized (children) {
+        lock.lock();
+        try {
             for (final Map.Entry<String, ResourceProvider> entry : children.entrySet()) {
                 clone.registerResourceProvider(entry.getKey(), entry.getValue().clone());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     private static class DefaultResourceProvider implements ResourceProvider {
 
         private final Map<String, Resource> children = new LinkedHashMap<String, Resource>();
+        private final ReentrantLock lock = new ReentrantLock();
 
         protected DefaultResourceProvider() {
         }
 
         @Override
         public Set<String> children() {
-            synchronized (children) {
+            lock.lock();
+            try {
                 return new LinkedHashSet<String>(children.keySet());
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public boolean has(String name) {
-            synchronized (children) {
+            lock.lock();
+            try {
                 return children.get(name) != null;
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public Resource get(String name) {
-            synchronized (children) {
+            lock.lock();
+            try {
                 return children.get(name);
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public boolean hasChildren() {
-            synchronized (children) {
+            lock.lock();
+            try {
                 return ! children.isEmpty();
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public void register(String name, Resource resource) {
-            synchronized (children) {
+            lock.lock();
+            try {
                 if (children.containsKey(name)) {
                     throw ControllerLogger.ROOT_LOGGER.duplicateResource(name);
                 }
                 children.put(name, resource);
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public void register(String name, int index, Resource resource) {
-            synchronized (children) {
+            lock.lock();
+            try {
                 if (children.containsKey(name)) {
                     throw ControllerLogger.ROOT_LOGGER.duplicateResource(name);
                 }
@@ -317,23 +357,31 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
                         }
                     }
                 }
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public Resource remove(String name) {
-            synchronized (children) {
+            lock.lock();
+            try {
                 return children.remove(name);
+            } finally {
+                lock.unlock();
             }
         }
 
         @Override
         public ResourceProvider clone() {
             final DefaultResourceProvider provider = new DefaultResourceProvider();
-            synchronized (children) {
+            lock.lock();
+            try {
                 for (final Map.Entry<String, Resource> entry : children.entrySet()) {
                     provider.register(entry.getKey(), entry.getValue().clone());
                 }
+            } finally {
+                lock.unlock();
             }
             return provider;
         }
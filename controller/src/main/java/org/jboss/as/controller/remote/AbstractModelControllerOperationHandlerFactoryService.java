@@ -19,6 +19,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.VirtualThreadExecutor;
 import org.jboss.as.protocol.mgmt.support.ManagementChannelInitialization;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceName;
@@ -74,7 +75,12 @@ public abstract class AbstractModelControllerOperationHandlerFactoryService impl
                 return new JBossThreadFactory(ThreadGroupHolder.THREAD_GROUP, Boolean.FALSE, null, "%G - %t", null, null);
             }
         });
-        if (EnhancedQueueExecutor.DISABLE_HINT) {
+        // Keep the limits of the pool so virtual threads don't let more requests in
+        final ExecutorService virtualThreadExecutor = VirtualThreadExecutor.createIfEnabled(
+                "management-handler-thread - ", POOL_MAX_SIZE, WORK_QUEUE_SIZE);
+        if (virtualThreadExecutor != null) {
+            this.clientRequestExecutor = virtualThreadExecutor;
+        } else if (EnhancedQueueExecutor.DISABLE_HINT) {
             ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_CORE_SIZE, POOL_MAX_SIZE,
                 600L, TimeUnit.SECONDS, new LinkedBlockingDeque<>(WORK_QUEUE_SIZE),
                 threadFactory);
@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.remote;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+
+/**
+ * Executor limiting the number of client requests of a single management channel executed concurrently, so a client
+ * pipelining many operations cannot take over the executor shared by all clients.
+ *
+ * Up to {@code size} requests are handed to the shared executor; further requests are queued and run, in the order
+ * they were received, by the thread completing an earlier request of the channel.
+ */
+final class ClientRequestWindow implements Executor {
+
+    private final Executor delegate;
+    private final int size;
+    private final Deque<Runnable> queued = new ArrayDeque<>();
+    private int running;
+
+    ClientRequestWindow(final Executor delegate, final int size) {
+        this.delegate = delegate;
+        this.size = size;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        synchronized (this) {
+            if (running >= size) {
+                queued.add(task);
+                return;
+            }
+            running++;
+        }
+        try {
+            delegate.execute(() -> run(task));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                running--;
+            }
+            throw e;
+        }
+    }
+
+    synchronized int getQueuedCount() {
+        return queued.size();
+    }
+
+    private void run(final Runnable task) {
+        for (Runnable next = task; next != null; next = poll()) {
+            try {
+                next.run();
+            } catch (RuntimeException e) {
+                ControllerLogger.MGMT_OP_LOGGER.debugf(e, "Failed executing client request");
+            }
+            // Don't let the cancellation of a request interrupt the next one
+            Thread.interrupted();
+        }
+    }
+
+    private synchronized Runnable poll() {
+        final Runnable next = queued.poll();
+        if (next == null) {
+            running--;
+        }
+        return next;
+    }
+}
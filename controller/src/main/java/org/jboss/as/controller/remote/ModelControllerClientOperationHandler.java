@@ -60,6 +60,7 @@ import org.jboss.as.protocol.mgmt.ManagementResponseHeader;
 import org.jboss.as.protocol.mgmt.ProtocolUtils;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Operation handlers for the remote implementation of {@link org.jboss.as.controller.client.ModelControllerClient}
@@ -69,6 +70,14 @@ import org.wildfly.security.auth.server.SecurityIdentity;
  */
 public class ModelControllerClientOperationHandler implements ManagementRequestHandlerFactory {
 
+    /**
+     * The system property with the maximum number of requests of a single client executed concurrently, further
+     * requests of the client are queued until one of its requests completes. {@code 0}, the default, removes the limit.
+     */
+    public static final String CLIENT_REQUEST_WINDOW_PROPERTY = "jboss.as.management.client-request-window";
+
+    private static final int DEFAULT_CLIENT_REQUEST_WINDOW = 0;
+
     private static final Set<String> PREPARED_RESPONSE_OPERATIONS;
     static {
         Set<String> ops = new HashSet<>(RELOAD_OPERATIONS);
@@ -98,7 +107,21 @@ public class ModelControllerClientOperationHandler implements ManagementRequestH
         this.channelAssociation = channelAssociation;
         this.responseAttachmentSupport = responseAttachmentSupport;
         this.connectionIdentity = connectionIdentity;
-        this.clientRequestExecutor = clientRequestExecutor;
+        final int window = getClientRequestWindow();
+        this.clientRequestExecutor = window > 0 ? new ClientRequestWindow(clientRequestExecutor, window) : clientRequestExecutor;
+    }
+
+    private static int getClientRequestWindow() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(CLIENT_REQUEST_WINDOW_PROPERTY, null);
+        if (value == null) {
+            return DEFAULT_CLIENT_REQUEST_WINDOW;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            ROOT_LOGGER.invalidSystemPropertyValue(value, CLIENT_REQUEST_WINDOW_PROPERTY, DEFAULT_CLIENT_REQUEST_WINDOW);
+            return DEFAULT_CLIENT_REQUEST_WINDOW;
+        }
     }
 
     @Override
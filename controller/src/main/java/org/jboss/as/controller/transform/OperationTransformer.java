@@ -53,6 +53,17 @@ public interface OperationTransformer {
             return resultTransformer;
         }
 
+        /**
+         * Gets whether the transformed operation has a rejection policy other than the
+         * {@link OperationTransformer#DEFAULT_REJECTION_POLICY default} one, i.e. whether it may be rejected by the
+         * target. The failure descriptions of such policies generally identify the target host.
+         *
+         * @return {@code true} if the transformed operation has its own rejection policy
+         */
+        public boolean hasRejectionPolicy() {
+            return rejectPolicy != DEFAULT_REJECTION_POLICY;
+        }
+
         @Override
         public boolean rejectOperation(final ModelNode preparedResult) {
             return rejectPolicy.rejectOperation(preparedResult);
@@ -0,0 +1,102 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceName;
+import org.junit.Test;
+
+/**
+ * Tests of the report of the {@link BootProfiler}.
+ */
+public class BootProfilerTestCase {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testOperationsAndDeploymentProcessors() {
+        final BootProfiler profiler = new BootProfiler();
+        final long base = System.nanoTime();
+        final ServiceName phase = ServiceName.JBOSS.append("deployment", "unit", "test.war", "POST_MODULE");
+        profiler.recordOperationStep("add", PathAddress.pathAddress("subsystem", "a"), OperationContext.Stage.MODEL, base + MS, base + 2 * MS);
+        profiler.recordOperationStep("add", PathAddress.pathAddress("subsystem", "b"), OperationContext.Stage.MODEL, base + 2 * MS, base + 5 * MS);
+        // Runs in parallel to the second operation, off the critical path
+        profiler.recordOperationStep("add", PathAddress.pathAddress("subsystem", "a").append("child", "c"), OperationContext.Stage.MODEL, base + 3 * MS, base + 4 * MS);
+        profiler.recordDeploymentProcessor(phase, "test.war", "POST_MODULE", "FirstProcessor", base + 6 * MS, base + 7 * MS);
+        profiler.recordDeploymentProcessor(phase, "test.war", "POST_MODULE", "SecondProcessor", base + 7 * MS, base + 9 * MS);
+
+        final ModelNode report = profiler.finish();
+        assertEquals(report, BootProfiler.getReport());
+
+        final List<ModelNode> path = report.get(BootProfiler.CRITICAL_PATH).asList();
+        assertEquals(4, path.size());
+        assertEquals("/subsystem=a:add", path.get(0).get(BootProfiler.NAME).asString());
+        assertEquals("/subsystem=b:add", path.get(1).get(BootProfiler.NAME).asString());
+        assertEquals(3, path.get(1).get(BootProfiler.ELAPSED).asLong());
+        assertEquals("FirstProcessor", path.get(2).get(BootProfiler.NAME).asString());
+        assertEquals("test.war POST_MODULE", path.get(2).get(BootProfiler.DETAIL).asString());
+        assertEquals("SecondProcessor", path.get(3).get(BootProfiler.NAME).asString());
+
+        final List<ModelNode> subsystems = report.get(BootProfiler.SUBSYSTEMS).asList();
+        assertEquals(2, subsystems.size());
+        assertEquals("b", subsystems.get(0).get(BootProfiler.NAME).asString());
+        assertEquals(3, subsystems.get(0).get(BootProfiler.ELAPSED).asLong());
+        assertEquals("a", subsystems.get(1).get(BootProfiler.NAME).asString());
+        assertEquals(2, subsystems.get(1).get(BootProfiler.ELAPSED).asLong());
+
+        assertEquals(3, report.get(BootProfiler.OPERATIONS).asList().size());
+        assertEquals("SecondProcessor", report.get(BootProfiler.DEPLOYMENT_PROCESSORS).get(0).get(BootProfiler.NAME).asString());
+    }
+
+    @Test
+    public void testNothingKeptOnceFinished() {
+        final BootProfiler profiler = new BootProfiler();
+        final long base = System.nanoTime();
+        profiler.recordOperationStep("add", PathAddress.pathAddress("subsystem", "a"), OperationContext.Stage.MODEL, base, base + MS);
+        assertEquals(1, profiler.finish().get(BootProfiler.OPERATIONS).asList().size());
+
+        // Neither what was recorded nor what is recorded once finished is kept
+        profiler.recordOperationStep("add", PathAddress.pathAddress("subsystem", "b"), OperationContext.Stage.MODEL, base + MS, base + 2 * MS);
+        final ModelNode report = profiler.finish();
+        assertEquals(0, report.get(BootProfiler.OPERATIONS).asList().size());
+        assertEquals(0, report.get(BootProfiler.CRITICAL_PATH).asList().size());
+    }
+
+    @Test
+    public void testServices() throws Exception {
+        final BootProfiler profiler = new BootProfiler();
+        final ServiceContainer container = ServiceContainer.Factory.create("test");
+        try {
+            container.addListener(profiler);
+            final ServiceName first = ServiceName.of("first");
+            final ServiceName second = ServiceName.of("second");
+            final ServiceBuilder<?> secondBuilder = container.addService(second);
+            secondBuilder.requires(first);
+            secondBuilder.setInstance(Service.NULL).install();
+            container.addService(first).setInstance(Service.NULL).install();
+            container.awaitStability();
+
+            final ModelNode report = profiler.finish();
+            final List<ModelNode> path = report.get(BootProfiler.CRITICAL_PATH).asList();
+            assertEquals(2, path.size());
+            assertEquals(first.getCanonicalName(), path.get(0).get(BootProfiler.NAME).asString());
+            assertEquals(second.getCanonicalName(), path.get(1).get(BootProfiler.NAME).asString());
+            assertEquals("service", path.get(1).get(BootProfiler.TYPE).asString());
+            assertEquals(2, report.get(BootProfiler.SERVICES).asList().size());
+        } finally {
+            container.shutdown();
+            container.awaitTermination();
+        }
+    }
+}
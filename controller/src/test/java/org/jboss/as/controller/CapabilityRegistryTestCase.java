@@ -963,6 +963,29 @@ public class CapabilityRegistryTestCase extends AbstractControllerTestBase {
         Assert.assertTrue(result.contains("dyn"));
     }
 
+    @Test
+    public void testResolvedCapabilityIndex() {
+        CapabilityRegistry reg = new CapabilityRegistry(true);
+        CapabilityRegistry shadow = reg.createShadowCopy();
+        RegistrationPoint rp = new RegistrationPoint(TEST_ADDRESS1, null);
+        shadow.registerCapability(new RuntimeCapabilityRegistration(IO_WORKER_RUNTIME_CAPABILITY, CapabilityScope.GLOBAL, rp));
+        Assert.assertTrue(shadow.resolveCapabilities(Resource.Factory.create(), false).isValid());
+        shadow.publish();
+
+        Assert.assertTrue(shadow.hasCapability(IO_WORKER_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL));
+        Assert.assertTrue(reg.hasCapability(IO_WORKER_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL));
+        Assert.assertEquals(IO_WORKER_RUNTIME_CAPABILITY.getCapabilityServiceName(),
+                reg.getCapabilityServiceName(IO_WORKER_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL, null));
+        Assert.assertFalse(reg.hasCapability(IO_POOL_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL));
+
+        // Removal must not leave a stale entry visible through the index
+        Assert.assertNotNull(shadow.removeCapability(IO_WORKER_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL, TEST_ADDRESS1));
+        Assert.assertFalse(shadow.hasCapability(IO_WORKER_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL));
+        Assert.assertTrue(reg.hasCapability(IO_WORKER_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL));
+        shadow.rollback();
+        Assert.assertTrue(shadow.hasCapability(IO_WORKER_RUNTIME_CAPABILITY.getName(), CapabilityScope.GLOBAL));
+    }
+
     /**
      * Tests that a runtime operation can be done when there is a circular requirements between two capabilities
      * and the server is in restart-required state by an independent capability
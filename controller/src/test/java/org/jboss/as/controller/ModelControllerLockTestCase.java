@@ -8,8 +8,15 @@ package org.jboss.as.controller;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -313,4 +320,30 @@ public class ModelControllerLockTestCase {
         assertTrue(thread2bResultlockInterruptiblyOP2check2[0]);
         assertTrue(lock.lockInterruptibly(OP2, DEFAULT_TIMEOUT, DEFAULT_TIMEUNIT));
     }
+
+    @Test
+    public void testFlightRecorderEvents() throws Exception {
+        final ModelControllerLock lock = new ModelControllerLock();
+        final Path file = Files.createTempFile("controller-lock", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("org.wildfly.management.ControllerLock");
+                recording.start();
+                lock.lockShared(OP1);
+                assertFalse(lock.lockInterruptibly(OP2, DEFAULT_TIMEOUT, DEFAULT_TIMEUNIT));
+                recording.stop();
+                recording.dump(file);
+            }
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Assert.assertEquals(2, events.size());
+            Assert.assertEquals(OP1, events.get(0).getInt("operationId"));
+            assertFalse(events.get(0).getBoolean("exclusive"));
+            assertTrue(events.get(0).getBoolean("acquired"));
+            Assert.assertEquals(OP2, events.get(1).getInt("operationId"));
+            assertTrue(events.get(1).getBoolean("exclusive"));
+            assertFalse(events.get(1).getBoolean("acquired"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
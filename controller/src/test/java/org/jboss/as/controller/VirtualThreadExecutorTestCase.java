@@ -0,0 +1,185 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link VirtualThreadExecutor}, run with platform threads so they don't depend on the JVM.
+ */
+public class VirtualThreadExecutorTestCase {
+
+    @Test
+    public void testDisabledByDefault() {
+        Assert.assertFalse(VirtualThreadExecutor.isEnabled("false"));
+        Assert.assertFalse(VirtualThreadExecutor.isEnabled(null));
+    }
+
+    @Test
+    public void testThreadNames() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, 0, 0, "mgmt-%t");
+        final AtomicReference<String> name = new AtomicReference<>();
+        executor.submit(() -> name.set(Thread.currentThread().getName())).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals("mgmt-1", name.get());
+        executor.setThreadNamePattern("worker-%t [%%]");
+        executor.submit(() -> name.set(Thread.currentThread().getName())).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals("worker-2 [%]", name.get());
+        Assert.assertEquals("a-7-9", VirtualThreadExecutor.formatThreadName("a-%t-%i", 7, 9));
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLimits() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, 2, 3, "limited-%t");
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+        // Two tasks running and three waiting fill the executor
+        try {
+            executor.execute(() -> { });
+            Assert.fail("Expected rejection");
+        } catch (RejectedExecutionException e) {
+            Assert.assertEquals(1, executor.getRejectedCount());
+        }
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, maxRunning.get());
+        try {
+            executor.execute(() -> { });
+            Assert.fail("Expected rejection");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOwnsThread() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, 0, -1, "owned-%t");
+        executor.setRetainCompletedThreads(true);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<Long> threadId = new AtomicReference<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            threadId.set(Thread.currentThread().getId());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.ownsThread(threadId.get()));
+        Assert.assertFalse(executor.ownsThread(Thread.currentThread().getId()));
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        // The completed thread is remembered until the second expiry
+        Assert.assertTrue(executor.ownsThread(threadId.get()));
+        executor.expireCompletedThreads();
+        Assert.assertTrue(executor.ownsThread(threadId.get()));
+        executor.expireCompletedThreads();
+        Assert.assertFalse(executor.ownsThread(threadId.get()));
+    }
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, 2, -1, "limited-%t");
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(2);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        awaitCount(() -> executor.getWaitingCount(), 3);
+        Assert.assertEquals(2, executor.getActiveCount());
+        Assert.assertEquals(5, executor.getTaskCount());
+        Assert.assertEquals(5, executor.getCurrentThreadCount());
+
+        // Raising the limit lets another task run
+        executor.setMaxConcurrency(3);
+        awaitCount(() -> executor.getActiveCount(), 3);
+        Assert.assertEquals(2, executor.getWaitingCount());
+
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(5, executor.getCompletedTaskCount());
+        Assert.assertEquals(5, executor.getLargestThreadCount());
+        Assert.assertEquals(0, executor.getCurrentThreadCount());
+    }
+
+    @Test
+    public void testSubmitToPlatformThread() throws Exception {
+        Assert.assertFalse(VirtualThreadExecutor.isVirtualThread());
+        final Thread caller = Thread.currentThread();
+        final Thread waiter = VirtualThreadExecutor.submitToPlatformThread(Thread::currentThread).get(10, TimeUnit.SECONDS);
+        Assert.assertNotSame(caller, waiter);
+        Assert.assertTrue(waiter.isDaemon());
+        Assert.assertEquals(VirtualThreadExecutor.class.getClassLoader(), waiter.getContextClassLoader());
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(Thread::new, 1, 10, "stopped-%t");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        final Runnable waiting = () -> { };
+        executor.execute(waiting);
+
+        final List<Runnable> notStarted = executor.shutdownNow();
+        Assert.assertEquals(List.of(waiting), notStarted);
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.isTerminated());
+    }
+
+    private static void awaitCount(final IntSupplier count, final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count.getAsInt() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(expected, count.getAsInt());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ClientRequestWindow}.
+ */
+public class ClientRequestWindowTestCase {
+
+    @Test
+    public void testQueuedBeyondWindow() {
+        final List<Runnable> submitted = new ArrayList<>();
+        final List<Integer> executed = new ArrayList<>();
+        final ClientRequestWindow window = new ClientRequestWindow(submitted::add, 2);
+        for (int i = 0; i < 5; i++) {
+            final int request = i;
+            window.execute(() -> executed.add(request));
+        }
+        Assert.assertEquals(2, submitted.size());
+        Assert.assertEquals(3, window.getQueuedCount());
+
+        // The first thread runs its request and then all the queued ones, in order
+        submitted.get(0).run();
+        Assert.assertEquals(List.of(0, 2, 3, 4), executed);
+        Assert.assertEquals(0, window.getQueuedCount());
+
+        submitted.get(1).run();
+        Assert.assertEquals(List.of(0, 2, 3, 4, 1), executed);
+
+        // The window is free again
+        window.execute(() -> executed.add(5));
+        Assert.assertEquals(3, submitted.size());
+    }
+
+    @Test
+    public void testFailedRequestReleasesSlot() {
+        final List<Runnable> submitted = new ArrayList<>();
+        final List<Integer> executed = new ArrayList<>();
+        final ClientRequestWindow window = new ClientRequestWindow(submitted::add, 1);
+        window.execute(() -> {
+            throw new IllegalStateException();
+        });
+        window.execute(() -> executed.add(1));
+        Assert.assertEquals(1, submitted.size());
+
+        submitted.get(0).run();
+        Assert.assertEquals(List.of(1), executed);
+
+        window.execute(() -> executed.add(2));
+        Assert.assertEquals(2, submitted.size());
+    }
+}
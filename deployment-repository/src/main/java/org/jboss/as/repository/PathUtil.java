@@ -16,6 +16,8 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -186,6 +188,31 @@ public class PathUtil {
         return false;
     }
 
+    /**
+     * Test if managed content matches the hash it is stored under in the content repository.
+     * @param content the archive, or the root directory of exploded content.
+     * @param hash the expected hash of the content.
+     * @return true if the content has the expected hash - false otherwise.
+     * @throws IOException
+     */
+    public static boolean isContentHash(Path content, byte[] hash) throws IOException {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw DeploymentRepositoryLogger.ROOT_LOGGER.cannotObtainSha1(e, MessageDigest.class.getSimpleName());
+        }
+        final byte[] actual;
+        if (Files.isDirectory(content)) {
+            actual = HashUtil.hashPath(messageDigest, content);
+        } else {
+            try (InputStream in = Files.newInputStream(content)) {
+                actual = HashUtil.hashContent(messageDigest, in);
+            }
+        }
+        return MessageDigest.isEqual(hash, actual);
+    }
+
     /**
      * List files in a path according to the specified filter.
      * @param rootPath the path from which we are listing the files.
@@ -143,6 +143,23 @@ public class ContentRepositoryTest {
         }
     }
 
+    /**
+     * Test of isContentHash method, of class PathUtil, against archive and exploded content.
+     */
+    @Test
+    public void testIsContentHash() throws Exception {
+        byte[] archive = createArchive(Collections.singletonList("testfile.xhtml"));
+        try (ByteArrayInputStream stream = new ByteArrayInputStream(archive)) {
+            byte[] hash = repository.addContent(stream);
+            Path content = repository.getContent(hash).getPhysicalFile().toPath();
+            assertTrue(PathUtil.isContentHash(content, hash));
+            byte[] explodedHash = repository.explodeContent(hash);
+            Path explodedContent = repository.getContent(explodedHash).getPhysicalFile().toPath();
+            assertTrue(PathUtil.isContentHash(explodedContent, explodedHash));
+            assertFalse(PathUtil.isContentHash(content, explodedHash));
+        }
+    }
+
     /**
      * Test of explodeContent method, of class ContentRepository.
      */
@@ -0,0 +1,172 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static java.security.AccessController.doPrivileged;
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.audit.AuditEndpoint;
+import org.wildfly.security.audit.EventPriority;
+
+/**
+ * An {@link AuditEndpoint} which hands events to a bounded queue and writes them to the wrapped endpoint from a
+ * dedicated thread, so the threads raising security events never wait for the file system.
+ *
+ * The writer thread drains all queued events at once and writes them one after another, so under load each wake up
+ * of the writer handles a batch of events, and flushes the wrapped endpoint once per batch if it was given a way to.
+ * When the queue is full events either block the calling thread until there is space or are discarded, depending on
+ * the overflow action. Once the writer thread stopped events are discarded.
+ */
+final class AsyncAuditEndpoint implements AuditEndpoint {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+    private static final long OFFER_INTERVAL = 100;
+    private static final Event CLOSE = new Event(null, null);
+
+    private final String name;
+    private final AuditEndpoint delegate;
+    private final Flushable flusher;
+    private final BlockingQueue<Event> queue;
+    private final boolean blockOnOverflow;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean accepting = true;
+    private volatile boolean writing = true;
+
+    /**
+     * @param name the name of the audit log, used for the writer thread and in messages
+     * @param delegate the endpoint the events are written to
+     * @param flusher flushes the endpoint after each batch of events, or {@code null} if the endpoint writes each
+     *                event through itself
+     * @param queueLength the maximum number of events waiting to be written
+     * @param blockOnOverflow {@code true} to block the calling thread when the queue is full, {@code false} to discard the event
+     */
+    AsyncAuditEndpoint(String name, AuditEndpoint delegate, Flushable flusher, int queueLength, boolean blockOnOverflow) {
+        this.name = name;
+        this.delegate = delegate;
+        this.flusher = flusher;
+        this.queue = new ArrayBlockingQueue<>(queueLength);
+        this.blockOnOverflow = blockOnOverflow;
+        ThreadGroup threadGroup = new ThreadGroup("elytron-audit-" + name);
+        ThreadFactory threadFactory = doPrivileged((PrivilegedAction<ThreadFactory>) () -> new JBossThreadFactory(threadGroup, Boolean.TRUE, null, "%G - %t", null, null));
+        this.writer = threadFactory.newThread(this::write);
+        writer.start();
+    }
+
+    @Override
+    public void accept(EventPriority priority, String message) throws IOException {
+        if (!accepting) {
+            return;
+        }
+        Event event = new Event(priority, message);
+        if (blockOnOverflow) {
+            try {
+                // Stop waiting for space once nothing takes events from the queue any more
+                while (!queue.offer(event, OFFER_INTERVAL, TimeUnit.MILLISECONDS)) {
+                    if (!writing) {
+                        dropped.increment();
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.increment();
+            }
+        } else if (!writing || !queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!accepting) {
+            return;
+        }
+        accepting = false;
+        try {
+            long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT;
+            if (!queue.offer(CLOSE, CLOSE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                // The writer is stuck on the endpoint, the events still queued are lost
+                writer.interrupt();
+            }
+            writer.join(Math.max(1, deadline - System.currentTimeMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * @return the number of events waiting to be written
+     */
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of events discarded because the queue was full
+     */
+    long getDroppedEventCount() {
+        return dropped.sum();
+    }
+
+    private void write() {
+        List<Event> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            boolean closed = false;
+            while (!closed) {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                for (Event event : batch) {
+                    if (event == CLOSE) {
+                        closed = true;
+                        break;
+                    }
+                    try {
+                        delegate.accept(event.priority, event.message);
+                    } catch (IOException | RuntimeException e) {
+                        ROOT_LOGGER.unableToWriteAuditEvent(name, e);
+                    }
+                }
+                batch.clear();
+                if (flusher != null) {
+                    try {
+                        flusher.flush();
+                    } catch (IOException | RuntimeException e) {
+                        ROOT_LOGGER.unableToWriteAuditEvent(name, e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writing = false;
+        }
+    }
+
+    private static final class Event {
+
+        private final EventPriority priority;
+        private final String message;
+
+        private Event(EventPriority priority, String message) {
+            this.priority = priority;
+            this.message = message;
+        }
+    }
+}
@@ -75,6 +75,24 @@ class AuditLoggingParser {
         .addAttributes(AuditResourceDefinitions.PATH, FileAttributeDefinitions.RELATIVE_TO, AuditResourceDefinitions.AUTOFLUSH, AuditResourceDefinitions.SYNCHRONIZED, AuditResourceDefinitions.FORMAT, AuditResourceDefinitions.ENCODING, AuditResourceDefinitions.MAX_BACKUP_INDEX, AuditResourceDefinitions.ROTATE_ON_BOOT, AuditResourceDefinitions.ROTATE_SIZE, AuditResourceDefinitions.SIZE_SUFFIX)
         .build();
 
+    private final PersistentResourceXMLDescription fileAuditLogParser_19_0 = builder(PathElement.pathElement(FILE_AUDIT_LOG))
+        .setUseElementsForGroups(false)
+        .addAttributes(AuditResourceDefinitions.PATH, FileAttributeDefinitions.RELATIVE_TO, AuditResourceDefinitions.AUTOFLUSH, AuditResourceDefinitions.SYNCHRONIZED, AuditResourceDefinitions.FORMAT, AuditResourceDefinitions.ENCODING,
+                AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+        .build();
+
+    private final PersistentResourceXMLDescription periodicRotatingFileAuditLogParser_19_0 = builder(PathElement.pathElement(PERIODIC_ROTATING_FILE_AUDIT_LOG))
+        .setUseElementsForGroups(false)
+        .addAttributes(AuditResourceDefinitions.PATH, FileAttributeDefinitions.RELATIVE_TO, AuditResourceDefinitions.AUTOFLUSH, AuditResourceDefinitions.SYNCHRONIZED, AuditResourceDefinitions.FORMAT, AuditResourceDefinitions.ENCODING, AuditResourceDefinitions.PERIODIC_SUFFIX,
+                AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+        .build();
+
+    private final PersistentResourceXMLDescription sizeRotatingFileAuditLogParser_19_0 = builder(PathElement.pathElement(SIZE_ROTATING_FILE_AUDIT_LOG))
+        .setUseElementsForGroups(false)
+        .addAttributes(AuditResourceDefinitions.PATH, FileAttributeDefinitions.RELATIVE_TO, AuditResourceDefinitions.AUTOFLUSH, AuditResourceDefinitions.SYNCHRONIZED, AuditResourceDefinitions.FORMAT, AuditResourceDefinitions.ENCODING, AuditResourceDefinitions.MAX_BACKUP_INDEX, AuditResourceDefinitions.ROTATE_ON_BOOT, AuditResourceDefinitions.ROTATE_SIZE, AuditResourceDefinitions.SIZE_SUFFIX,
+                AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+        .build();
+
     private final PersistentResourceXMLDescription syslogAuditLogParser_8_0 = builder(PathElement.pathElement(SYSLOG_AUDIT_LOG))
             .setUseElementsForGroups(false)
             .addAttributes(AuditResourceDefinitions.SERVER_ADDRESS, AuditResourceDefinitions.PORT, AuditResourceDefinitions.TRANSPORT, AuditResourceDefinitions.HOST_NAME, AuditResourceDefinitions.FORMAT, AuditResourceDefinitions.SSL_CONTEXT, AuditResourceDefinitions.SYSLOG_FORMAT, AuditResourceDefinitions.RECONNECT_ATTEMPTS)
@@ -133,4 +151,13 @@ class AuditLoggingParser {
         .addChild(sizeRotatingFileAuditLogParser_18_0)
         .addChild(syslogAuditLogParser_8_0)
         .build();
+
+    final PersistentResourceXMLDescription parser19_0 = decorator(ElytronDescriptionConstants.AUDIT_LOGGING)
+        .addChild(aggregateSecurityEventParser)
+        .addChild(customSecurityEventParser)
+        .addChild(fileAuditLogParser_19_0)
+        .addChild(periodicRotatingFileAuditLogParser_19_0)
+        .addChild(sizeRotatingFileAuditLogParser_19_0)
+        .addChild(syslogAuditLogParser_8_0)
+        .build();
 }
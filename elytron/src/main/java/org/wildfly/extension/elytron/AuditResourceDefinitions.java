@@ -17,13 +17,16 @@ import static org.wildfly.extension.elytron.FileAttributeDefinitions.pathResolve
 import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
 
 import java.io.File;
+import java.io.Flushable;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -42,10 +45,12 @@ import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ModelTypeValidator;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.controller.services.path.PathManagerService;
+import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.logmanager.handlers.SyslogHandler;
 import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.value.InjectedValue;
@@ -62,6 +67,7 @@ import org.wildfly.security.audit.PeriodicRotatingFileAuditEndpoint;
 import org.wildfly.security.audit.SimpleSecurityEventFormatter;
 import org.wildfly.security.audit.SizeRotatingFileAuditEndpoint;
 import org.wildfly.security.audit.SyslogAuditEndpoint;
+import org.wildfly.security.auth.server.event.SecurityEvent;
 import org.wildfly.security.auth.server.event.SecurityEventVisitor;
 
 /**
@@ -174,6 +180,41 @@ class AuditResourceDefinitions {
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition ASYNCHRONOUS = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.ASYNCHRONOUS, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition QUEUE_LENGTH = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.QUEUE_LENGTH, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(1024))
+            .setValidator(new IntRangeValidator(1, true))
+            .setRequires(ElytronDescriptionConstants.ASYNCHRONOUS)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition OVERFLOW_ACTION = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.OVERFLOW_ACTION, ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(OverflowAction.BLOCK.toString()))
+            .setAllowedValues(OverflowAction.BLOCK.toString(), OverflowAction.DISCARD.toString())
+            .setRequires(ElytronDescriptionConstants.ASYNCHRONOUS)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition QUEUE_DEPTH = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.QUEUE_DEPTH, ModelType.INT)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition DROPPED_EVENT_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.DROPPED_EVENT_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     private static final AggregateComponentDefinition<SecurityEventListener> AGGREGATE_SECURITY_EVENT_LISTENER = AggregateComponentDefinition.create(SecurityEventListener.class,
             ElytronDescriptionConstants.AGGREGATE_SECURITY_EVENT_LISTENER, ElytronDescriptionConstants.SECURITY_EVENT_LISTENERS, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY, SecurityEventListener::aggregate, false);
 
@@ -199,8 +240,44 @@ class AuditResourceDefinitions {
         }
     }
 
+    /**
+     * Builds a file endpoint, writing through an {@link AsyncAuditEndpoint} if asynchronous. An asynchronous endpoint
+     * flushes and syncs the file once per batch of events rather than for each event, when it can.
+     */
+    private static AuditEndpoint fileAuditEndpoint(String name, FileAuditEndpoint.Builder builder, boolean synv, boolean autoflush,
+            boolean asynchronous, int queueLength, boolean blockOnOverflow) throws IOException {
+        if (asynchronous && FileAuditEndpointFlusher.isSupported()) {
+            FileAuditEndpoint endpoint = (FileAuditEndpoint) builder.setSyncOnAccept(false).setFlushOnAccept(false).build();
+            Flushable flusher = synv || autoflush ? new FileAuditEndpointFlusher(endpoint, synv) : null;
+            return new AsyncAuditEndpoint(name, endpoint, flusher, queueLength, blockOnOverflow);
+        }
+        AuditEndpoint endpoint = builder.setSyncOnAccept(synv).setFlushOnAccept(autoflush).build();
+        return asynchronous ? new AsyncAuditEndpoint(name, endpoint, null, queueLength, blockOnOverflow) : endpoint;
+    }
+
+    /**
+     * Creates the listener logging to the endpoint, exposing the endpoint if it writes asynchronously.
+     */
+    private static SecurityEventListener auditListener(Consumer<SecurityEvent> auditLogger, AuditEndpoint endpoint) {
+        if (endpoint instanceof AsyncAuditEndpoint) {
+            return new AsyncAuditSecurityEventListener(auditLogger, (AsyncAuditEndpoint) endpoint);
+        }
+        return SecurityEventListener.from(auditLogger);
+    }
+
+    private static ResourceDefinition fileAuditLogResourceDefinition(String pathKey, AbstractAddStepHandler add, AttributeDefinition[] attributes) {
+        return TrivialResourceDefinition.builder()
+                .setPathKey(pathKey)
+                .setAddHandler(add)
+                .setAttributes(attributes)
+                .setRuntimeCapabilities(SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY)
+                .addReadOnlyAttribute(QUEUE_DEPTH, new AsyncAuditStatisticsHandler(AsyncAuditEndpoint::getQueueDepth))
+                .addReadOnlyAttribute(DROPPED_EVENT_COUNT, new AsyncAuditStatisticsHandler(AsyncAuditEndpoint::getDroppedEventCount))
+                .build();
+    }
+
     static ResourceDefinition getFileAuditLogResourceDefinition() {
-        AttributeDefinition[] attributes = new AttributeDefinition[] { PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING };
+        AttributeDefinition[] attributes = new AttributeDefinition[] { PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING, ASYNCHRONOUS, QUEUE_LENGTH, OVERFLOW_ACTION };
         AbstractAddStepHandler add = new TrivialAddHandler<SecurityEventListener>(SecurityEventListener.class, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY) {
 
             @Override
@@ -211,6 +288,10 @@ class AuditResourceDefinitions {
                 final boolean synv = SYNCHRONIZED.resolveModelAttribute(context, model).asBoolean();
                 final boolean autoflush = AUTOFLUSH.resolveModelAttribute(context, model).asBoolean(synv);
                 final Format format = Format.valueOf(FORMAT.resolveModelAttribute(context, model).asString());
+                final boolean asynchronous = ASYNCHRONOUS.resolveModelAttribute(context, model).asBoolean();
+                final int queueLength = QUEUE_LENGTH.resolveModelAttribute(context, model).asInt();
+                final boolean blockOnOverflow = OverflowAction.BLOCK == OverflowAction.valueOf(OVERFLOW_ACTION.resolveModelAttribute(context, model).asString());
+                final String name = context.getCurrentAddressValue();
 
                 final InjectedValue<PathManager> pathManager = new InjectedValue<PathManager>();
 
@@ -236,30 +317,30 @@ class AuditResourceDefinitions {
                         final Supplier<DateTimeFormatter> dateTimeFormatterSupplier = () -> DateTimeFormatter.ofPattern(DATE_FORMAT).withZone(ZoneId.systemDefault());
                         final SecurityEventVisitor<?, String> formatter = Format.JSON == format ? JsonSecurityEventFormatter.builder().setDateTimeFormatterSupplier(dateTimeFormatterSupplier).build() : SimpleSecurityEventFormatter.builder().setDateTimeFormatterSupplier(dateTimeFormatterSupplier).build();
                         try {
-                            endpoint = FileAuditEndpoint.builder().setLocation(resolvedPath.toPath())
-                                    .setSyncOnAccept(synv)
-                                    .setFlushOnAccept(autoflush)
+                            FileAuditEndpoint.Builder builder = FileAuditEndpoint.builder().setLocation(resolvedPath.toPath())
                                     .setCharset(encoding != null ? Charset.forName(encoding) : null)
-                                    .setDateTimeFormatterSupplier(dateTimeFormatterSupplier).build();
+                                    .setDateTimeFormatterSupplier(dateTimeFormatterSupplier);
+
+                            endpoint = fileAuditEndpoint(name, builder, synv, autoflush, asynchronous, queueLength, blockOnOverflow);
                         } catch (IOException e) {
                             throw ROOT_LOGGER.unableToStartService(e);
                         }
 
-                        return SecurityEventListener.from(AuditLogger.builder()
+                        return auditListener(AuditLogger.builder()
                                 .setPriorityMapper(m -> EventPriority.WARNING)
                                 .setMessageFormatter(m -> m.accept(formatter, null))
                                 .setAuditEndpoint(endpoint)
-                                .build());
+                                .build(), endpoint);
                     }
                 };
             }
         };
 
-        return new TrivialResourceDefinition(FILE_AUDIT_LOG, add, attributes, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
+        return fileAuditLogResourceDefinition(FILE_AUDIT_LOG, add, attributes);
     }
 
     static ResourceDefinition getPeriodicRotatingFileAuditLogResourceDefinition() {
-        AttributeDefinition[] attributes = new AttributeDefinition[] {PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING, PERIODIC_SUFFIX };
+        AttributeDefinition[] attributes = new AttributeDefinition[] {PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING, PERIODIC_SUFFIX, ASYNCHRONOUS, QUEUE_LENGTH, OVERFLOW_ACTION };
         AbstractAddStepHandler add = new TrivialAddHandler<SecurityEventListener>(SecurityEventListener.class, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY) {
 
             @Override
@@ -270,6 +351,10 @@ class AuditResourceDefinitions {
                 final boolean synv = SYNCHRONIZED.resolveModelAttribute(context, model).asBoolean();
                 final boolean autoflush = AUTOFLUSH.resolveModelAttribute(context, model).asBoolean(synv);
                 final Format format = Format.valueOf(FORMAT.resolveModelAttribute(context, model).asString());
+                final boolean asynchronous = ASYNCHRONOUS.resolveModelAttribute(context, model).asBoolean();
+                final int queueLength = QUEUE_LENGTH.resolveModelAttribute(context, model).asInt();
+                final boolean blockOnOverflow = OverflowAction.BLOCK == OverflowAction.valueOf(OVERFLOW_ACTION.resolveModelAttribute(context, model).asString());
+                final String name = context.getCurrentAddressValue();
                 final String suffix = PERIODIC_SUFFIX.resolveModelAttribute(context, model).asString();
 
                 final InjectedValue<PathManager> pathManager = new InjectedValue<>();
@@ -299,31 +384,29 @@ class AuditResourceDefinitions {
                             FileAuditEndpoint.Builder builder = PeriodicRotatingFileAuditEndpoint.builder()
                                     .setSuffix(suffix)
                                     .setLocation(resolvedPath.toPath())
-                                    .setSyncOnAccept(synv)
-                                    .setFlushOnAccept(autoflush)
                                     .setCharset(encoding != null ? Charset.forName(encoding) : null)
                                     .setDateTimeFormatterSupplier(dateTimeFormatterSupplier);
 
-                            endpoint = builder.build();
+                            endpoint = fileAuditEndpoint(name, builder, synv, autoflush, asynchronous, queueLength, blockOnOverflow);
                         } catch (IOException e) {
                             throw ROOT_LOGGER.unableToStartService(e);
                         }
 
-                        return SecurityEventListener.from(AuditLogger.builder()
+                        return auditListener(AuditLogger.builder()
                                 .setPriorityMapper(m -> EventPriority.WARNING)
                                 .setMessageFormatter(m -> m.accept(formatter, null))
                                 .setAuditEndpoint(endpoint)
-                                .build());
+                                .build(), endpoint);
                     }
                 };
             }
         };
 
-        return new TrivialResourceDefinition(PERIODIC_ROTATING_FILE_AUDIT_LOG, add, attributes, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
+        return fileAuditLogResourceDefinition(PERIODIC_ROTATING_FILE_AUDIT_LOG, add, attributes);
     }
 
     static ResourceDefinition getSizeRotatingFileAuditLogResourceDefinition() {
-        AttributeDefinition[] attributes = new AttributeDefinition[] { PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING, MAX_BACKUP_INDEX, ROTATE_ON_BOOT, ROTATE_SIZE, SIZE_SUFFIX };
+        AttributeDefinition[] attributes = new AttributeDefinition[] { PATH, RELATIVE_TO, AUTOFLUSH, SYNCHRONIZED, FORMAT, ENCODING, MAX_BACKUP_INDEX, ROTATE_ON_BOOT, ROTATE_SIZE, SIZE_SUFFIX, ASYNCHRONOUS, QUEUE_LENGTH, OVERFLOW_ACTION };
         AbstractAddStepHandler add = new TrivialAddHandler<SecurityEventListener>(SecurityEventListener.class, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY) {
 
             @Override
@@ -334,6 +417,10 @@ class AuditResourceDefinitions {
                 final boolean synv = SYNCHRONIZED.resolveModelAttribute(context, model).asBoolean();
                 final boolean autoflush = AUTOFLUSH.resolveModelAttribute(context, model).asBoolean(synv);
                 final Format format = Format.valueOf(FORMAT.resolveModelAttribute(context, model).asString());
+                final boolean asynchronous = ASYNCHRONOUS.resolveModelAttribute(context, model).asBoolean();
+                final int queueLength = QUEUE_LENGTH.resolveModelAttribute(context, model).asInt();
+                final boolean blockOnOverflow = OverflowAction.BLOCK == OverflowAction.valueOf(OVERFLOW_ACTION.resolveModelAttribute(context, model).asString());
+                final String name = context.getCurrentAddressValue();
                 final int maxBackupIndex = MAX_BACKUP_INDEX.resolveModelAttribute(context, model).asInt(0);
                 final boolean rotateOnBoot = ROTATE_ON_BOOT.resolveModelAttribute(context, model).asBoolean();
                 final long rotateSize = SizeValidator.parseSize(ROTATE_SIZE.resolveModelAttribute(context, model));
@@ -371,27 +458,25 @@ class AuditResourceDefinitions {
                                 builder.setSuffix(suffix.asString());
                             }
                             builder.setLocation(resolvedPath.toPath())
-                                    .setSyncOnAccept(synv)
-                                    .setFlushOnAccept(autoflush)
                                     .setCharset(encoding != null ? Charset.forName(encoding) : null)
                                     .setDateTimeFormatterSupplier(dateTimeFormatterSupplier);
 
-                            endpoint = builder.build();
+                            endpoint = fileAuditEndpoint(name, builder, synv, autoflush, asynchronous, queueLength, blockOnOverflow);
                         } catch (IOException e) {
                             throw ROOT_LOGGER.unableToStartService(e);
                         }
 
-                        return SecurityEventListener.from(AuditLogger.builder()
+                        return auditListener(AuditLogger.builder()
                                 .setPriorityMapper(m -> EventPriority.WARNING)
                                 .setMessageFormatter(m -> m.accept(formatter, null))
                                 .setAuditEndpoint(endpoint)
-                                .build());
+                                .build(), endpoint);
                     }
                 };
             }
         };
 
-        return new TrivialResourceDefinition(SIZE_ROTATING_FILE_AUDIT_LOG, add, attributes, SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY);
+        return fileAuditLogResourceDefinition(SIZE_ROTATING_FILE_AUDIT_LOG, add, attributes);
     }
 
     static ResourceDefinition getSyslogAuditLogResourceDefinition() {
@@ -466,6 +551,47 @@ class AuditResourceDefinitions {
         TCP, UDP, SSL_TCP
     }
 
+    private enum OverflowAction {
+        BLOCK, DISCARD
+    }
+
+    /**
+     * A listener writing to an {@link AsyncAuditEndpoint}, giving access to the endpoint for its runtime attributes.
+     */
+    private static final class AsyncAuditSecurityEventListener implements SecurityEventListener {
+
+        private final Consumer<SecurityEvent> auditLogger;
+        private final AsyncAuditEndpoint endpoint;
+
+        AsyncAuditSecurityEventListener(Consumer<SecurityEvent> auditLogger, AsyncAuditEndpoint endpoint) {
+            this.auditLogger = auditLogger;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public void accept(SecurityEvent event) {
+            auditLogger.accept(event);
+        }
+    }
+
+    private static class AsyncAuditStatisticsHandler extends ElytronRuntimeOnlyHandler {
+
+        private final ToLongFunction<AsyncAuditEndpoint> statistic;
+
+        AsyncAuditStatisticsHandler(ToLongFunction<AsyncAuditEndpoint> statistic) {
+            this.statistic = statistic;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceName serviceName = SECURITY_EVENT_LISTENER_RUNTIME_CAPABILITY.fromBaseCapability(context.getCurrentAddressValue()).getCapabilityServiceName();
+            ServiceController<?> serviceController = context.getServiceRegistry(false).getService(serviceName);
+            if (serviceController != null && serviceController.getValue() instanceof AsyncAuditSecurityEventListener) {
+                context.getResult().set(statistic.applyAsLong(((AsyncAuditSecurityEventListener) serviceController.getValue()).endpoint));
+            }
+        }
+    }
+
     static class SizeValidator extends ModelTypeValidator {
         private static final Pattern SIZE_PATTERN = Pattern.compile("(\\d+)([kKmMgGbBtT])?");
 
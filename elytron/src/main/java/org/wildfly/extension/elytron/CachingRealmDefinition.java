@@ -8,6 +8,10 @@ import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_CAPABILI
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.ElytronDefinition.commonDependencies;
 import static org.wildfly.extension.elytron.ElytronExtension.getRequiredService;
+import static org.wildfly.extension.elytron.ElytronExtension.isServerOrHostController;
+
+import java.security.Principal;
+import java.util.function.ToLongFunction;
 
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
@@ -23,9 +27,13 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.inject.Injector;
@@ -36,10 +44,14 @@ import org.jboss.msc.service.ServiceRegistry;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.value.InjectedValue;
 import org.wildfly.extension.elytron._private.ElytronSubsystemMessages;
+import org.wildfly.security.auth.principal.NamePrincipal;
 import org.wildfly.security.auth.realm.CacheableSecurityRealm;
 import org.wildfly.security.auth.realm.CachingModifiableSecurityRealm;
 import org.wildfly.security.auth.realm.CachingSecurityRealm;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
 import org.wildfly.security.auth.server.ModifiableSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
 import org.wildfly.security.auth.server.SecurityRealm;
 import org.wildfly.security.cache.LRURealmIdentityCache;
 import org.wildfly.security.cache.RealmIdentityCache;
@@ -71,8 +83,65 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition CACHE_TYPE = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.CACHE_TYPE, ModelType.STRING, true)
+            .setDefaultValue(new ModelNode(ElytronDescriptionConstants.LRU))
+            .setAllowedValues(ElytronDescriptionConstants.LRU, ElytronDescriptionConstants.SEGMENTED)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition NEGATIVE_CACHE_MAXIMUM_AGE = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.NEGATIVE_CACHE_MAXIMUM_AGE, ModelType.LONG, true)
+            .setValidator(LongRangeValidator.POSITIVE)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition NEGATIVE_CACHE_MAXIMUM_ENTRIES = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.NEGATIVE_CACHE_MAXIMUM_ENTRIES, ModelType.INT, true)
+            .setDefaultValue(new ModelNode(1000))
+            .setValidator(IntRangeValidator.POSITIVE)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {REALM_NAME, MAXIMUM_ENTRIES, MAXIMUM_AGE};
 
+    static final AttributeDefinition[] ATTRIBUTES_19_0 = new AttributeDefinition[] {REALM_NAME, MAXIMUM_ENTRIES, MAXIMUM_AGE, CACHE_TYPE, NEGATIVE_CACHE_MAXIMUM_AGE, NEGATIVE_CACHE_MAXIMUM_ENTRIES};
+
+    // Runtime Attributes
+
+    static final SimpleAttributeDefinition HIT_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.HIT_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition MISS_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.MISS_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition NEGATIVE_HIT_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.NEGATIVE_HIT_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition EVICTION_COUNT = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.EVICTION_COUNT, ModelType.LONG)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition TOTAL_LOAD_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.TOTAL_LOAD_TIME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition AVERAGE_LOAD_TIME = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.AVERAGE_LOAD_TIME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, SECURITY_REALM_RUNTIME_CAPABILITY);
 
@@ -87,9 +156,18 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
 
     @Override
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
-        for (AttributeDefinition current : ATTRIBUTES) {
+        for (AttributeDefinition current : ATTRIBUTES_19_0) {
             resourceRegistration.registerReadWriteAttribute(current, null, ElytronReloadRequiredWriteAttributeHandler.INSTANCE);
         }
+
+        if (isServerOrHostController(resourceRegistration)) {
+            resourceRegistration.registerMetric(HIT_COUNT, new CacheStatisticsHandler(RealmIdentityCacheStatistics::getHitCount));
+            resourceRegistration.registerMetric(MISS_COUNT, new CacheStatisticsHandler(RealmIdentityCacheStatistics::getMissCount));
+            resourceRegistration.registerMetric(NEGATIVE_HIT_COUNT, new CacheStatisticsHandler(RealmIdentityCacheStatistics::getNegativeHitCount));
+            resourceRegistration.registerMetric(EVICTION_COUNT, new CacheStatisticsHandler(RealmIdentityCacheStatistics::getEvictionCount));
+            resourceRegistration.registerMetric(TOTAL_LOAD_TIME, new CacheStatisticsHandler(RealmIdentityCacheStatistics::getTotalLoadTime));
+            resourceRegistration.registerMetric(AVERAGE_LOAD_TIME, new CacheStatisticsHandler(RealmIdentityCacheStatistics::getAverageLoadTime));
+        }
     }
 
     @Override
@@ -113,34 +191,43 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
             String cacheableRealm = REALM_NAME.resolveModelAttribute(context, model).asString();
             int maxEntries = MAXIMUM_ENTRIES.resolveModelAttribute(context, model).asInt();
             long maxAge = MAXIMUM_AGE.resolveModelAttribute(context, model).asInt();
+            boolean segmented = ElytronDescriptionConstants.SEGMENTED.equals(CACHE_TYPE.resolveModelAttribute(context, model).asString());
+            ModelNode negativeMaxAgeNode = NEGATIVE_CACHE_MAXIMUM_AGE.resolveModelAttribute(context, model);
+            long negativeMaxAge = negativeMaxAgeNode.isDefined() ? negativeMaxAgeNode.asLong() : -1;
+            int negativeMaxEntries = NEGATIVE_CACHE_MAXIMUM_ENTRIES.resolveModelAttribute(context, model).asInt();
             InjectedValue<SecurityRealm> cacheableRealmValue = new InjectedValue<>();
-            ServiceBuilder<SecurityRealm> serviceBuilder = serviceTarget.addService(realmName, createService(cacheableRealm, maxEntries, maxAge, cacheableRealmValue));
+            ServiceBuilder<SecurityRealm> serviceBuilder = serviceTarget.addService(realmName, createService(cacheableRealm, maxEntries, maxAge, segmented, negativeMaxAge, negativeMaxEntries, cacheableRealmValue));
 
             addRealmDependency(context, serviceBuilder, cacheableRealm, cacheableRealmValue);
             commonDependencies(serviceBuilder).setInitialMode(context.getRunningMode() == RunningMode.ADMIN_ONLY ? ServiceController.Mode.LAZY : ServiceController.Mode.ACTIVE).install();
         }
 
-        private TrivialService<SecurityRealm> createService(String realmName, int maxEntries, long maxAge, InjectedValue<SecurityRealm> injector) {
+        private TrivialService<SecurityRealm> createService(String realmName, int maxEntries, long maxAge, boolean segmented, long negativeMaxAge, int negativeMaxEntries, InjectedValue<SecurityRealm> injector) {
             return new TrivialService<>((TrivialService.ValueSupplier<SecurityRealm>) () -> {
                 SecurityRealm securityRealm = injector.getValue();
 
                 if (securityRealm instanceof CacheableSecurityRealm) {
-                    RealmIdentityCache cache = createRealmIdentityCache(maxEntries, maxAge);
+                    RealmIdentityCacheStatistics statistics = new RealmIdentityCacheStatistics(segmented);
+                    RealmIdentityCache cache = createRealmIdentityCache(maxEntries, maxAge, segmented, statistics);
+                    NegativeRealmIdentityCache negativeCache = negativeMaxAge > 0 ? new NegativeRealmIdentityCache(negativeMaxEntries, negativeMaxAge, statistics) : null;
                     CacheableSecurityRealm cacheableRealm = CacheableSecurityRealm.class.cast(securityRealm);
 
                     if (securityRealm instanceof ModifiableSecurityRealm) {
-                        return new CachingModifiableSecurityRealm(cacheableRealm, cache);
+                        return new StatisticsCachingModifiableSecurityRealm(cacheableRealm, cache, statistics, negativeCache);
                     }
 
-                    return new CachingSecurityRealm(cacheableRealm, cache);
+                    return new StatisticsCachingSecurityRealm(cacheableRealm, cache, statistics, negativeCache);
                 }
 
                 throw ElytronSubsystemMessages.ROOT_LOGGER.realmDoesNotSupportCache(realmName);
             });
         }
 
-        private LRURealmIdentityCache createRealmIdentityCache(int maxEntries, long maxAge) {
-            return new LRURealmIdentityCache(maxEntries, maxAge);
+        private RealmIdentityCache createRealmIdentityCache(int maxEntries, long maxAge, boolean segmented, RealmIdentityCacheStatistics statistics) {
+            if (segmented) {
+                return new SegmentedRealmIdentityCache(maxEntries, maxAge, statistics);
+            }
+            return new MeteredRealmIdentityCache(new LRURealmIdentityCache(maxEntries, maxAge), statistics);
         }
 
         private void addRealmDependency(OperationContext context, ServiceBuilder<SecurityRealm> serviceBuilder, String realmName, Injector<SecurityRealm> securityRealmInjector) {
@@ -153,8 +240,14 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
 
     private static class ClearCacheHandler extends ElytronRuntimeOnlyHandler {
 
+        static final SimpleAttributeDefinition IDENTITY = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.IDENTITY, ModelType.STRING, true)
+                .setMinSize(1)
+                .setStability(Stability.COMMUNITY)
+                .build();
+
         static void register(ManagementResourceRegistration resourceRegistration, ResourceDescriptionResolver descriptionResolver) {
             resourceRegistration.registerOperationHandler(new SimpleOperationDefinitionBuilder(ElytronDescriptionConstants.CLEAR_CACHE, descriptionResolver)
+                        .setParameters(IDENTITY)
                         .setRuntimeOnly()
                         .build()
                     , new CachingRealmDefinition.ClearCacheHandler());
@@ -174,7 +267,159 @@ class CachingRealmDefinition extends SimpleResourceDefinition {
                 throw ElytronSubsystemMessages.ROOT_LOGGER.cachedRealmServiceNotAvailable();
             }
             CachingSecurityRealm securityRealm = CachingSecurityRealm.class.cast(serviceController.getValue());
-            securityRealm.removeAllFromCache();
+            ModelNode identity = IDENTITY.resolveModelAttribute(context, operation);
+            if (identity.isDefined()) {
+                securityRealm.removeFromCache(new NamePrincipal(identity.asString()));
+            } else {
+                securityRealm.removeAllFromCache();
+            }
+        }
+    }
+
+    private static class CacheStatisticsHandler extends ElytronRuntimeOnlyHandler {
+
+        private final ToLongFunction<RealmIdentityCacheStatistics> metric;
+
+        CacheStatisticsHandler(ToLongFunction<RealmIdentityCacheStatistics> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            RuntimeCapability<Void> runtimeCapability = SECURITY_REALM_RUNTIME_CAPABILITY.fromBaseCapability(context.getCurrentAddressValue());
+            ServiceName realmName = runtimeCapability.getCapabilityServiceName();
+            ServiceController<?> serviceController = context.getServiceRegistry(false).getService(realmName);
+            if (serviceController != null && serviceController.getValue() instanceof CacheStatisticsSupplier) {
+                long value = metric.applyAsLong(((CacheStatisticsSupplier) serviceController.getValue()).getCacheStatistics());
+                if (value >= 0) {
+                    context.getResult().set(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Implemented by the caching realms created by this resource to give access to the statistics of their cache.
+     */
+    interface CacheStatisticsSupplier {
+        RealmIdentityCacheStatistics getCacheStatistics();
+    }
+
+    /**
+     * The statistics and negative cache shared by the caching realms created by this resource, which delegate to it.
+     */
+    static final class CacheSupport {
+
+        private final RealmIdentityCacheStatistics statistics;
+        private final NegativeRealmIdentityCache negativeCache;
+
+        /**
+         * @param statistics the statistics of the cache
+         * @param negativeCache the cache of the identities which do not exist, or {@code null} if they are not cached
+         */
+        CacheSupport(RealmIdentityCacheStatistics statistics, NegativeRealmIdentityCache negativeCache) {
+            this.statistics = statistics;
+            this.negativeCache = negativeCache;
+        }
+
+        RealmIdentity getRealmIdentity(Principal principal, NegativeRealmIdentityCache.IdentityLoader loader) throws RealmUnavailableException {
+            try {
+                if (negativeCache == null) {
+                    return loader.load(principal);
+                }
+                return negativeCache.getRealmIdentity(principal, loader);
+            } finally {
+                statistics.lookupCompleted();
+            }
+        }
+
+        ModifiableRealmIdentity getRealmIdentityForUpdate(ModifiableRealmIdentity identity) {
+            return negativeCache == null ? identity : negativeCache.invalidateOnCreate(identity);
+        }
+
+        void removeFromCache(Principal principal) {
+            if (negativeCache != null) {
+                negativeCache.remove(principal);
+            }
+        }
+
+        void removeAllFromCache() {
+            if (negativeCache != null) {
+                negativeCache.clear();
+            }
+        }
+
+        RealmIdentityCacheStatistics getStatistics() {
+            return statistics;
+        }
+    }
+
+    static class StatisticsCachingSecurityRealm extends CachingSecurityRealm implements CacheStatisticsSupplier {
+
+        private final CacheSupport support;
+
+        StatisticsCachingSecurityRealm(CacheableSecurityRealm realm, RealmIdentityCache cache, RealmIdentityCacheStatistics statistics, NegativeRealmIdentityCache negativeCache) {
+            super(realm, cache);
+            this.support = new CacheSupport(statistics, negativeCache);
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            return support.getRealmIdentity(principal, super::getRealmIdentity);
+        }
+
+        @Override
+        public void removeFromCache(Principal principal) {
+            super.removeFromCache(principal);
+            support.removeFromCache(principal);
+        }
+
+        @Override
+        public void removeAllFromCache() {
+            super.removeAllFromCache();
+            support.removeAllFromCache();
+        }
+
+        @Override
+        public RealmIdentityCacheStatistics getCacheStatistics() {
+            return support.getStatistics();
+        }
+    }
+
+    static class StatisticsCachingModifiableSecurityRealm extends CachingModifiableSecurityRealm implements CacheStatisticsSupplier {
+
+        private final CacheSupport support;
+
+        StatisticsCachingModifiableSecurityRealm(CacheableSecurityRealm realm, RealmIdentityCache cache, RealmIdentityCacheStatistics statistics, NegativeRealmIdentityCache negativeCache) {
+            super(realm, cache);
+            this.support = new CacheSupport(statistics, negativeCache);
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            return support.getRealmIdentity(principal, super::getRealmIdentity);
+        }
+
+        @Override
+        public void removeFromCache(Principal principal) {
+            super.removeFromCache(principal);
+            support.removeFromCache(principal);
+        }
+
+        @Override
+        public void removeAllFromCache() {
+            super.removeAllFromCache();
+            support.removeAllFromCache();
+        }
+
+        @Override
+        public ModifiableRealmIdentity getRealmIdentityForUpdate(Principal principal) throws RealmUnavailableException {
+            return support.getRealmIdentityForUpdate(super.getRealmIdentityForUpdate(principal));
+        }
+
+        @Override
+        public RealmIdentityCacheStatistics getCacheStatistics() {
+            return support.getStatistics();
         }
     }
 }
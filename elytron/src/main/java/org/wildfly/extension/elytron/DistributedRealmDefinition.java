@@ -8,6 +8,7 @@ package org.wildfly.extension.elytron;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_CAPABILITY;
 import static org.wildfly.extension.elytron.Capabilities.SECURITY_REALM_RUNTIME_CAPABILITY;
 import static org.wildfly.extension.elytron.ElytronDefinition.commonDependencies;
+import static org.wildfly.extension.elytron.ElytronExtension.isServerOrHostController;
 
 
 import org.jboss.as.controller.AbstractAddStepHandler;
@@ -19,18 +20,22 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.inject.Injector;
 import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceController.Mode;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartException;
 import org.jboss.msc.value.InjectedValue;
 
 import org.wildfly.security.auth.realm.DistributedSecurityRealm;
@@ -40,6 +45,7 @@ import org.wildfly.security.auth.server.event.SecurityRealmUnavailableEvent;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
 /**
@@ -70,8 +76,30 @@ class DistributedRealmDefinition extends SimpleResourceDefinition {
             .setDefaultValue(ModelNode.TRUE)
             .build();
 
+    static final SimpleAttributeDefinition LOOKUP_STRATEGY = new SimpleAttributeDefinitionBuilder(ElytronDescriptionConstants.LOOKUP_STRATEGY, ModelType.STRING, true)
+            .setDefaultValue(new ModelNode(ElytronDescriptionConstants.SEQUENTIAL))
+            .setAllowedValues(ElytronDescriptionConstants.SEQUENTIAL, ElytronDescriptionConstants.PARALLEL)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] {REALMS, IGNORE_UNAVAILABLE_REALMS, EMIT_EVENTS};
 
+    static final AttributeDefinition[] ATTRIBUTES_19_0 = new AttributeDefinition[] {REALMS, IGNORE_UNAVAILABLE_REALMS, EMIT_EVENTS, LOOKUP_STRATEGY};
+
+    // Runtime Attributes
+
+    static final SimpleMapAttributeDefinition REALM_LOOKUP_COUNT = new SimpleMapAttributeDefinition.Builder(ElytronDescriptionConstants.REALM_LOOKUP_COUNT, ModelType.LONG, true)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleMapAttributeDefinition REALM_AVERAGE_LOOKUP_TIME = new SimpleMapAttributeDefinition.Builder(ElytronDescriptionConstants.REALM_AVERAGE_LOOKUP_TIME, ModelType.LONG, true)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     private static final AbstractAddStepHandler ADD = new RealmAddHandler();
     private static final OperationStepHandler REMOVE = new TrivialCapabilityServiceRemoveHandler(ADD, SECURITY_REALM_RUNTIME_CAPABILITY);
 
@@ -86,9 +114,14 @@ class DistributedRealmDefinition extends SimpleResourceDefinition {
 
     @Override
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
-        for (AttributeDefinition current : ATTRIBUTES) {
+        for (AttributeDefinition current : ATTRIBUTES_19_0) {
             resourceRegistration.registerReadWriteAttribute(current, null, ElytronReloadRequiredWriteAttributeHandler.INSTANCE);
         }
+
+        if (isServerOrHostController(resourceRegistration)) {
+            resourceRegistration.registerMetric(REALM_LOOKUP_COUNT, new LookupStatisticsHandler(ParallelDistributedSecurityRealm::getLookupCount));
+            resourceRegistration.registerMetric(REALM_AVERAGE_LOOKUP_TIME, new LookupStatisticsHandler(ParallelDistributedSecurityRealm::getAverageLookupTime));
+        }
     }
 
     private static class RealmAddHandler extends BaseAddHandler {
@@ -107,26 +140,47 @@ class DistributedRealmDefinition extends SimpleResourceDefinition {
 
             boolean ignoreUnavailableRealms = IGNORE_UNAVAILABLE_REALMS.resolveModelAttribute(context, model).asBoolean();
             boolean emitEvents = EMIT_EVENTS.resolveModelAttribute(context, model).asBoolean();
+            boolean parallel = ElytronDescriptionConstants.PARALLEL.equals(LOOKUP_STRATEGY.resolveModelAttribute(context, model).asString());
+            String name = context.getCurrentAddressValue();
 
             List<String> distributedRealms = REALMS.unwrap(context, model);
 
-            TrivialService<SecurityRealm> distributedRealmService = new TrivialService<SecurityRealm>(() ->
-            {
-                SecurityRealm[] realms = new SecurityRealm[distributedRealmValues.size()];
+            TrivialService<SecurityRealm> distributedRealmService = new TrivialService<SecurityRealm>(new TrivialService.ValueSupplier<SecurityRealm>() {
 
-                Consumer<Integer> unavailableRealmConsumer = (ignoreUnavailableRealms && emitEvents) ? (realmIndex) -> {
-                    SecurityDomain domain = SecurityDomain.getCurrent();
-                    String realm = distributedRealms.get(realmIndex);
-                    if (domain != null) {
-                        domain.handleSecurityEvent(new SecurityRealmUnavailableEvent(domain.getCurrentSecurityIdentity(), realm));
+                private volatile ExecutorService executor;
+
+                @Override
+                public SecurityRealm get() throws StartException {
+                    SecurityRealm[] realms = new SecurityRealm[distributedRealmValues.size()];
+
+                    Consumer<Integer> unavailableRealmConsumer = (ignoreUnavailableRealms && emitEvents) ? (realmIndex) -> {
+                        SecurityDomain domain = SecurityDomain.getCurrent();
+                        String realm = distributedRealms.get(realmIndex);
+                        if (domain != null) {
+                            domain.handleSecurityEvent(new SecurityRealmUnavailableEvent(domain.getCurrentSecurityIdentity(), realm));
+                        }
+                    } : (realmIndex) -> {};
+
+                    for (int i = 0; i < distributedRealmValues.size(); i++) {
+                        realms[i] = distributedRealmValues.get(i).getValue();
                     }
-                } : (realmIndex) -> {};
 
-                for (int i = 0; i < distributedRealmValues.size(); i++) {
-                    realms[i] = distributedRealmValues.get(i).getValue();
+                    if (parallel) {
+                        executor = ParallelDistributedSecurityRealm.createExecutor(name);
+                        return new ParallelDistributedSecurityRealm(executor, distributedRealms, ignoreUnavailableRealms, unavailableRealmConsumer, realms);
+                    }
+
+                    return new DistributedSecurityRealm(ignoreUnavailableRealms, unavailableRealmConsumer, realms);
                 }
 
-                return new DistributedSecurityRealm(ignoreUnavailableRealms, unavailableRealmConsumer, realms);
+                @Override
+                public void dispose() {
+                    if (executor != null) {
+                        // Lookups already running are left to complete, the ones not needed dispose of their identity
+                        executor.shutdown();
+                        executor = null;
+                    }
+                }
             });
 
             ServiceBuilder<SecurityRealm> serviceBuilder = serviceTarget.addService(realmName, distributedRealmService);
@@ -151,4 +205,36 @@ class DistributedRealmDefinition extends SimpleResourceDefinition {
 
     }
 
+    /**
+     * Reports a statistic of each referenced realm, keyed by realm name, when the parallel lookup strategy is in use.
+     */
+    private static class LookupStatisticsHandler extends ElytronRuntimeOnlyHandler {
+
+        private final ObjIntToLong metric;
+
+        LookupStatisticsHandler(ObjIntToLong metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            ServiceName realmName = SECURITY_REALM_RUNTIME_CAPABILITY.fromBaseCapability(context.getCurrentAddressValue()).getCapabilityServiceName();
+            ServiceController<?> serviceController = context.getServiceRegistry(false).getService(realmName);
+            if (serviceController != null && serviceController.getValue() instanceof ParallelDistributedSecurityRealm) {
+                ParallelDistributedSecurityRealm realm = (ParallelDistributedSecurityRealm) serviceController.getValue();
+                // The realms the running service was created with, the configured ones may have changed since
+                List<String> realms = realm.getRealmNames();
+                ModelNode result = context.getResult().setEmptyObject();
+                for (int i = 0; i < realms.size(); i++) {
+                    result.get(realms.get(i)).set(metric.apply(realm, i));
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ObjIntToLong {
+        long apply(ParallelDistributedSecurityRealm realm, int index);
+    }
+
 }
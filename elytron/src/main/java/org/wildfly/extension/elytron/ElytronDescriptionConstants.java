@@ -44,6 +44,7 @@ interface ElytronDescriptionConstants {
     String APPLICATION_BUFFER_SIZE = "application-buffer-size";
     String APPLICATION_CONTEXT = "application-context";
     String ARGUMENT = "argument";
+    String ASYNCHRONOUS = "asynchronous";
     String ATTRIBUTE = "attribute";
     String ATTRIBUTE_MAPPING = "attribute-mapping";
     String ATTRIBUTE_NAME = "attribute-name";
@@ -66,6 +67,7 @@ interface ElytronDescriptionConstants {
     String AUTHORIZATION_REALMS = "authorization-realms";
     String AUTH_METHOD = "auth-method";
     String AUTOFLUSH = "autoflush";
+    String AVERAGE_LOAD_TIME = "average-load-time";
     String AVAILABLE_MECHANISMS = "available-mechanisms";
 
     String BASE64 = "base64";
@@ -73,6 +75,7 @@ interface ElytronDescriptionConstants {
     String BCRYPT_MAPPER = "bcrypt-mapper";
 
     String CAA_IDENTITIES = "caa-identities";
+    String CACHE_TYPE = "cache-type";
     String CACHING_REALM = "caching-realm";
     String CASE_PRINCIPAL_TRANSFORMER = "case-principal-transformer";
     String CALLBACK_HANDLER = "callback-handler";
@@ -172,6 +175,7 @@ interface ElytronDescriptionConstants {
     String DISALLOWED_PROVIDERS = "disallowed-providers";
     String DISTINGUISHED_NAME = "distinguished-name";
     String DISTRIBUTED_REALM = "distributed-realm";
+    String DROPPED_EVENT_COUNT = "dropped-event-count";
     String DOMAIN_NAMES = "domain-names";
     String DYNAMIC_CLIENT_SSL_CONTEXT = "dynamic-client-ssl-context";
     String DYNAMIC_CLIENT_SSL_CONTEXTS = "dynamic-client-ssl-contexts";
@@ -186,6 +190,7 @@ interface ElytronDescriptionConstants {
     String ENTRY_TYPE = "entry-type";
     String EVIDENCE_DECODER = "evidence-decoder";
     String EVIDENCE_DECODERS = "evidence-decoders";
+    String EVICTION_COUNT = "eviction-count";
     String EXPIRATION = "expiration";
     String EXPORT_CERTIFICATE = "export-certificate";
     String EXPORT_SECRET_KEY = "export-secret-key";
@@ -236,6 +241,7 @@ interface ElytronDescriptionConstants {
     String HASH_ENCODING = "hash-encoding";
     String HASH_FROM = "hash-from";
     String HEX = "hex";
+    String HIT_COUNT = "hit-count";
     String HTTP = "http";
     String HTTP_AUTHENTICATION_FACTORY = "http-authentication-factory";
     String HTTP_MECHANISM = "http-mechanism";
@@ -305,6 +311,8 @@ interface ElytronDescriptionConstants {
     String LOGICAL_OPERATION = "logical-operation";
     String LOGICAL_PERMISSION_MAPPER = "logical-permission-mapper";
     String LOGICAL_ROLE_MAPPER = "logical-role-mapper";
+    String LOOKUP_STRATEGY = "lookup-strategy";
+    String LRU = "lru";
 
     String MAPPED_REGEX_REALM_MAPPER = "mapped-regex-realm-mapper";
     String MAPPED_ROLE_MAPPER = "mapped-role-mapper";
@@ -343,6 +351,7 @@ interface ElytronDescriptionConstants {
     String MECHANISM_REALM_CONFIGURATIONS = "mechanism-realm-configurations";
     String MINIMUM_REMAINING_LIFETIME = "minimum-remaining-lifetime";
     String MINUS = "minus";
+    String MISS_COUNT = "miss-count";
     String MODIFIABLE = "modifiable";
     String MODIFIABLE_KEY_STORE = "modifiable-key-store";
     String MODIFIABLE_SECURITY_REALM = "modifiable-security-realm";
@@ -352,6 +361,9 @@ interface ElytronDescriptionConstants {
 
     String NAME = "name";
     String NEED_CLIENT_AUTH = "need-client-auth";
+    String NEGATIVE_CACHE_MAXIMUM_AGE = "negative-cache-maximum-age";
+    String NEGATIVE_CACHE_MAXIMUM_ENTRIES = "negative-cache-maximum-entries";
+    String NEGATIVE_HIT_COUNT = "negative-hit-count";
     String NEW_ALIAS = "new-alias";
     String NEW_IDENTITY_ATTRIBUTES = "new-identity-attributes";
     String NEW_IDENTITY_PARENT_DN = "new-identity-parent-dn";
@@ -378,8 +390,10 @@ interface ElytronDescriptionConstants {
     String OR = "or";
     String OUTFLOW_ANONYMOUS = "outflow-anonymous";
     String OUTFLOW_SECURITY_DOMAINS = "outflow-security-domains";
+    String OVERFLOW_ACTION = "overflow-action";
 
     String PACKET_BUFFER_SIZE = "packet-buffer-size";
+    String PARALLEL = "parallel";
     String PATH = "path";
     String PASSWORD = "password";
     String PASSWORD_INDEX = "password-index";
@@ -431,12 +445,17 @@ interface ElytronDescriptionConstants {
     String PROVIDERS = "providers";
     String PUBLIC_KEY = "public-key";
 
+    String QUEUE_DEPTH = "queue-depth";
+    String QUEUE_LENGTH = "queue-length";
+
     String RDN_IDENTIFIER = "rdn-identifier";
     String READ_ALIAS = "read-alias";
     String READ_ALIASES = "read-aliases";
     String READ_IDENTITY = "read-identity";
     String READ_TIMEOUT = "read-timeout";
     String REALM = "realm";
+    String REALM_AVERAGE_LOOKUP_TIME = "realm-average-lookup-time";
+    String REALM_LOOKUP_COUNT = "realm-lookup-count";
     String REALM_MAP = "realm-map";
     String REALM_MAPPER = "realm-mapper";
     String REALM_MAPPING = "realm-mapping";
@@ -506,6 +525,7 @@ interface ElytronDescriptionConstants {
     String SECURITY_PROPERTIES = "security-properties";
     String SECURITY_PROPERTY = "security-property";
     String SECURITY_REALMS = "security-realms";
+    String SEGMENTED = "segmented";
     String SECRET_KEY = "secret-key";
     String SECRET_KEY_CREDENTIAL_STORE = "secret-key-credential-store";
     String SECRET_VALUE = "secret-value";
@@ -533,6 +553,7 @@ interface ElytronDescriptionConstants {
     String SERVICES = "services";
     String SEQUENCE = "sequence";
     String SEQUENCE_FROM = "sequence-from";
+    String SEQUENTIAL = "sequential";
     String SHA_1_DIGEST = "sha-1-digest";
     String SHA_256_DIGEST = "sha-256-digest";
     String SHOULD_RENEW_CERTIFICATE = "should-renew-certificate";
@@ -572,6 +593,7 @@ interface ElytronDescriptionConstants {
     String TLS = "tls";
     String TO = "to";
     String TOKEN_REALM = "token-realm";
+    String TOTAL_LOAD_TIME = "total-load-time";
     String TRANSPORT = "transport";
     String TRUST_CACERTS = "trust-cacerts";
     String TRUST_MANAGER = "trust-manager";
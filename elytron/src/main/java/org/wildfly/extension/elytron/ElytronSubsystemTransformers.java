@@ -15,6 +15,7 @@ import static org.wildfly.extension.elytron.ElytronDescriptionConstants.AUTHORIZ
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.AUTHORIZATION_REALMS;
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.AUTOFLUSH;
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.BCRYPT_MAPPER;
+import static org.wildfly.extension.elytron.ElytronDescriptionConstants.CACHING_REALM;
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.CERTIFICATE_AUTHORITY;
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.CERTIFICATE_REVOCATION_LISTS;
 import static org.wildfly.extension.elytron.ElytronDescriptionConstants.CREDENTIAL_STORE;
@@ -55,6 +56,7 @@ import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_16_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_17_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_18_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_19_0_0;
+import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_20_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_1_2_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_2_0_0;
 import static org.wildfly.extension.elytron.ElytronExtension.ELYTRON_3_0_0;
@@ -106,6 +108,8 @@ public final class ElytronSubsystemTransformers implements ExtensionTransformerR
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
+        // 20.0.0 (WildFly 37) to 19.0.0 (WildFly 32)
+        from20(chainedBuilder);
         // 19.0.0 (WildFly 32) to 18.0.0 (WildFly 29)
         from19(chainedBuilder);
         // 18.0.0 (WildFly 29) to 17.0.0 (WildFly 28)
@@ -145,10 +149,44 @@ public final class ElytronSubsystemTransformers implements ExtensionTransformerR
         // 2.0.0 (WildFly 12) to 1.2.0, (WildFly 11 and EAP 7.1.0)
         from2(chainedBuilder);
 
-        chainedBuilder.buildAndRegister(registration, new ModelVersion[] { ELYTRON_18_0_0, ELYTRON_17_0_0, ELYTRON_16_0_0, ELYTRON_15_1_0, ELYTRON_15_0_0, ELYTRON_14_0_0, ELYTRON_13_0_0, ELYTRON_12_0_0, ELYTRON_11_0_0, ELYTRON_10_0_0, ELYTRON_9_0_0,
+        chainedBuilder.buildAndRegister(registration, new ModelVersion[] { ELYTRON_19_0_0, ELYTRON_18_0_0, ELYTRON_17_0_0, ELYTRON_16_0_0, ELYTRON_15_1_0, ELYTRON_15_0_0, ELYTRON_14_0_0, ELYTRON_13_0_0, ELYTRON_12_0_0, ELYTRON_11_0_0, ELYTRON_10_0_0, ELYTRON_9_0_0,
                 ELYTRON_8_0_0, ELYTRON_7_0_0, ELYTRON_6_0_0, ELYTRON_5_0_0, ELYTRON_4_0_0, ELYTRON_3_0_0, ELYTRON_2_0_0, ELYTRON_1_2_0 });
     }
 
+    private static void from20(ChainedTransformationDescriptionBuilder chainedBuilder) {
+        ResourceTransformationDescriptionBuilder builder = chainedBuilder.createBuilder(ELYTRON_20_0_0, ELYTRON_19_0_0);
+
+        builder.addChildResource(PathElement.pathElement(CACHING_REALM))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, CachingRealmDefinition.CACHE_TYPE, CachingRealmDefinition.NEGATIVE_CACHE_MAXIMUM_AGE, CachingRealmDefinition.NEGATIVE_CACHE_MAXIMUM_ENTRIES)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, CachingRealmDefinition.CACHE_TYPE, CachingRealmDefinition.NEGATIVE_CACHE_MAXIMUM_AGE, CachingRealmDefinition.NEGATIVE_CACHE_MAXIMUM_ENTRIES)
+                .end();
+
+        builder.addChildResource(PathElement.pathElement(DISTRIBUTED_REALM))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, DistributedRealmDefinition.LOOKUP_STRATEGY)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, DistributedRealmDefinition.LOOKUP_STRATEGY)
+                .end();
+
+        builder.addChildResource(PathElement.pathElement(ElytronDescriptionConstants.FILE_AUDIT_LOG))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+                .end();
+
+        builder.addChildResource(PathElement.pathElement(ElytronDescriptionConstants.PERIODIC_ROTATING_FILE_AUDIT_LOG))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+                .end();
+
+        builder.addChildResource(PathElement.pathElement(ElytronDescriptionConstants.SIZE_ROTATING_FILE_AUDIT_LOG))
+                .getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, AuditResourceDefinitions.ASYNCHRONOUS, AuditResourceDefinitions.QUEUE_LENGTH, AuditResourceDefinitions.OVERFLOW_ACTION)
+                .end();
+    }
+
     private static void from19(ChainedTransformationDescriptionBuilder chainedBuilder) {
         ResourceTransformationDescriptionBuilder builder = chainedBuilder.createBuilder(ELYTRON_19_0_0, ELYTRON_18_0_0);
 
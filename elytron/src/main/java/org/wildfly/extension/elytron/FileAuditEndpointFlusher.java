@@ -0,0 +1,80 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static java.security.AccessController.doPrivileged;
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.io.FileDescriptor;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.security.PrivilegedAction;
+
+import org.wildfly.security.audit.FileAuditEndpoint;
+
+/**
+ * Flushes a {@link FileAuditEndpoint} built without flushing on accept, and syncs its file if requested, so an
+ * {@link AsyncAuditEndpoint} can flush it once per batch of events rather than for each event.
+ *
+ * The endpoint offers no way to flush it, so its writer and file descriptor are reached reflectively. If that is not
+ * possible {@link #isSupported()} returns {@code false} and the endpoint has to flush on accept.
+ */
+final class FileAuditEndpointFlusher implements Flushable {
+
+    private static final Field WRITER = findField("writer");
+    private static final Field FILE_DESCRIPTOR = findField("fileDescriptor");
+
+    private final FileAuditEndpoint endpoint;
+    private final boolean sync;
+
+    /**
+     * @param endpoint the endpoint to flush
+     * @param sync {@code true} to also sync the file with the file system
+     */
+    FileAuditEndpointFlusher(FileAuditEndpoint endpoint, boolean sync) {
+        assert isSupported();
+        this.endpoint = endpoint;
+        this.sync = sync;
+    }
+
+    static boolean isSupported() {
+        return WRITER != null && FILE_DESCRIPTOR != null;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // The endpoint writes holding its own lock, and replaces its writer when it rotates the file
+        synchronized (endpoint) {
+            try {
+                Writer writer = (Writer) WRITER.get(endpoint);
+                if (writer == null) {
+                    return;
+                }
+                writer.flush();
+                FileDescriptor fileDescriptor = (FileDescriptor) FILE_DESCRIPTOR.get(endpoint);
+                if (sync && fileDescriptor != null) {
+                    fileDescriptor.sync();
+                }
+            } catch (IllegalAccessException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static Field findField(String name) {
+        return doPrivileged((PrivilegedAction<Field>) () -> {
+            try {
+                Field field = FileAuditEndpoint.class.getDeclaredField(name);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException | RuntimeException e) {
+                ROOT_LOGGER.tracef(e, "Unable to access the %s of file audit endpoints, they flush each event", name);
+                return null;
+            }
+        });
+    }
+}
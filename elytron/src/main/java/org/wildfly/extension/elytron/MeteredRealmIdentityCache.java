@@ -0,0 +1,52 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import java.security.Principal;
+
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.cache.RealmIdentityCache;
+
+/**
+ * A {@link RealmIdentityCache} decorator recording hits, misses and load times of a cache that does not record its own
+ * {@link RealmIdentityCacheStatistics}.
+ */
+final class MeteredRealmIdentityCache implements RealmIdentityCache {
+
+    private final RealmIdentityCache delegate;
+    private final RealmIdentityCacheStatistics statistics;
+
+    MeteredRealmIdentityCache(RealmIdentityCache delegate, RealmIdentityCacheStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void put(Principal principal, RealmIdentity realmIdentity) {
+        delegate.put(principal, realmIdentity);
+        statistics.loaded();
+    }
+
+    @Override
+    public RealmIdentity get(Principal principal) {
+        RealmIdentity result = delegate.get(principal);
+        if (result != null) {
+            statistics.hit();
+        } else {
+            statistics.miss();
+        }
+        return result;
+    }
+
+    @Override
+    public void remove(Principal principal) {
+        delegate.remove(principal);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.common.Assert.checkMinimumParameter;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.authz.Attributes;
+import org.wildfly.security.authz.AuthorizationIdentity;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Remembers, for a limited time, the principals for which the wrapped realm of a caching realm returned an identity that
+ * does not exist, so repeated lookups of unknown users do not reach the backing store.
+ *
+ * Once the configured maximum number of entries is reached expired entries are purged, at most once per purge
+ * interval so a full cache does not scan all its entries on every miss, and if the cache is still full further misses
+ * are simply not remembered.
+ */
+final class NegativeRealmIdentityCache {
+
+    private static final long MAX_PURGE_INTERVAL = 1000;
+
+    private final Map<Principal, Long> expirations = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long maxAge;
+    private final long purgeInterval;
+    private final AtomicLong nextPurge = new AtomicLong();
+    private final RealmIdentityCacheStatistics statistics;
+
+    /**
+     * @param maxEntries the maximum number of principals to remember
+     * @param maxAge the time in milliseconds a principal is remembered
+     * @param statistics the statistics to update
+     */
+    NegativeRealmIdentityCache(int maxEntries, long maxAge, RealmIdentityCacheStatistics statistics) {
+        checkMinimumParameter("maxEntries", 1, maxEntries);
+        checkMinimumParameter("maxAge", 1, maxAge);
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge;
+        this.purgeInterval = Math.min(maxAge, MAX_PURGE_INTERVAL);
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns {@link RealmIdentity#NON_EXISTENT} if the principal is known not to exist, otherwise loads the identity
+     * and remembers the principal if it does not exist.
+     */
+    RealmIdentity getRealmIdentity(Principal principal, IdentityLoader loader) throws RealmUnavailableException {
+        Long expiration = expirations.get(principal);
+        if (expiration != null) {
+            if (System.currentTimeMillis() < expiration) {
+                statistics.negativeHit();
+                return RealmIdentity.NON_EXISTENT;
+            }
+            expirations.remove(principal, expiration);
+        }
+        RealmIdentity identity = loader.load(principal);
+        if (!identity.exists()) {
+            put(principal);
+        }
+        return identity;
+    }
+
+    /**
+     * Wraps an identity obtained for update so the principal is forgotten once the identity is created.
+     */
+    ModifiableRealmIdentity invalidateOnCreate(ModifiableRealmIdentity identity) {
+        return identity == ModifiableRealmIdentity.NON_EXISTENT ? identity : new InvalidatingRealmIdentity(identity);
+    }
+
+    void remove(Principal principal) {
+        expirations.remove(principal);
+    }
+
+    void clear() {
+        expirations.clear();
+    }
+
+    private void put(Principal principal) {
+        long now = System.currentTimeMillis();
+        if (expirations.size() >= maxEntries) {
+            long purge = nextPurge.get();
+            if (now >= purge && nextPurge.compareAndSet(purge, now + purgeInterval)) {
+                expirations.values().removeIf(expiration -> expiration <= now);
+            }
+            if (expirations.size() >= maxEntries) {
+                return;
+            }
+        }
+        expirations.put(principal, now + maxAge);
+    }
+
+    @FunctionalInterface
+    interface IdentityLoader {
+        RealmIdentity load(Principal principal) throws RealmUnavailableException;
+    }
+
+    private final class InvalidatingRealmIdentity implements ModifiableRealmIdentity {
+
+        private final ModifiableRealmIdentity delegate;
+
+        InvalidatingRealmIdentity(ModifiableRealmIdentity delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void create() throws RealmUnavailableException {
+            delegate.create();
+            remove(delegate.getRealmIdentityPrincipal());
+        }
+
+        @Override
+        public void delete() throws RealmUnavailableException {
+            delegate.delete();
+        }
+
+        @Override
+        public void setCredentials(Collection<? extends Credential> credentials) throws RealmUnavailableException {
+            delegate.setCredentials(credentials);
+        }
+
+        @Override
+        public void updateCredential(Credential credential) throws RealmUnavailableException {
+            delegate.updateCredential(credential);
+        }
+
+        @Override
+        public void setAttributes(Attributes attributes) throws RealmUnavailableException {
+            delegate.setAttributes(attributes);
+        }
+
+        @Override
+        public Principal getRealmIdentityPrincipal() {
+            return delegate.getRealmIdentityPrincipal();
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(Class<C> credentialType) throws RealmUnavailableException {
+            return delegate.getCredential(credentialType);
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(Class<C> credentialType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getCredential(credentialType, algorithmName);
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(Class<C> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredential(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public <C extends Credential, R> R applyToCredential(Class<C> credentialType, Function<C, R> function) throws RealmUnavailableException {
+            return delegate.applyToCredential(credentialType, function);
+        }
+
+        @Override
+        public <C extends Credential, R> R applyToCredential(Class<C> credentialType, String algorithmName, Function<C, R> function) throws RealmUnavailableException {
+            return delegate.applyToCredential(credentialType, algorithmName, function);
+        }
+
+        @Override
+        public <C extends Credential, R> R applyToCredential(Class<C> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec, Function<C, R> function) throws RealmUnavailableException {
+            return delegate.applyToCredential(credentialType, algorithmName, parameterSpec, function);
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getEvidenceVerifySupport(evidenceType, algorithmName);
+        }
+
+        @Override
+        public boolean verifyEvidence(Evidence evidence) throws RealmUnavailableException {
+            return delegate.verifyEvidence(evidence);
+        }
+
+        @Override
+        public boolean exists() throws RealmUnavailableException {
+            return delegate.exists();
+        }
+
+        @Override
+        public void dispose() {
+            delegate.dispose();
+        }
+
+        @Override
+        public AuthorizationIdentity getAuthorizationIdentity() throws RealmUnavailableException {
+            return delegate.getAuthorizationIdentity();
+        }
+
+        @Override
+        public Attributes getAttributes() throws RealmUnavailableException {
+            return delegate.getAttributes();
+        }
+    }
+}
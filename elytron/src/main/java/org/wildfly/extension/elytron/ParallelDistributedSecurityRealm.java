@@ -0,0 +1,294 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static java.security.AccessController.doPrivileged;
+import static org.wildfly.extension.elytron._private.ElytronSubsystemMessages.ROOT_LOGGER;
+
+import java.security.Principal;
+import java.security.PrivilegedAction;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.realm.DistributedSecurityRealm;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A distributed {@link SecurityRealm} which looks an identity up in all of its realms at the same time instead of one
+ * after another.
+ *
+ * The results are still consumed in the configured order by a {@link DistributedSecurityRealm}, so the identity of the
+ * first realm in which it exists is used and the handling of unavailable realms is unchanged. Once that identity is
+ * known the lookups of the realms that follow it which have not started yet are cancelled, the ones already running
+ * are left to complete and dispose of their identity. Should one of them be needed later (e.g. because the identity
+ * lacks a credential) it is looked up again synchronously.
+ *
+ * The lookups run on an executor owned by the service of the realm, see {@link #createExecutor(String)}. When all of
+ * its threads are busy the lookups which could not be started are not queued behind other requests, they are done on
+ * the calling thread only if they are needed. Evidence based lookups are always sequential.
+ */
+final class ParallelDistributedSecurityRealm implements SecurityRealm {
+
+    private static final int MAX_THREADS = Math.max(16, Runtime.getRuntime().availableProcessors() * 4);
+
+    private final List<String> realmNames;
+    private final SecurityRealm[] securityRealms;
+    private final boolean ignoreUnavailableRealms;
+    private final Consumer<Integer> unavailableRealmCallback;
+    private final DistributedSecurityRealm sequentialRealm;
+    private final ExecutorService executor;
+    private final LongAdder[] lookupCounts;
+    private final LongAdder[] lookupTimes;
+
+    /**
+     * @param executor the executor running the lookups, which is not shut down by this realm
+     * @param realmNames the names of the realms, in the same order as the realms
+     */
+    ParallelDistributedSecurityRealm(ExecutorService executor, List<String> realmNames, boolean ignoreUnavailableRealms, Consumer<Integer> unavailableRealmCallback, SecurityRealm... securityRealms) {
+        assert realmNames.size() == securityRealms.length;
+        this.realmNames = Collections.unmodifiableList(new ArrayList<>(realmNames));
+        this.securityRealms = securityRealms;
+        this.ignoreUnavailableRealms = ignoreUnavailableRealms;
+        this.unavailableRealmCallback = unavailableRealmCallback;
+        this.sequentialRealm = new DistributedSecurityRealm(ignoreUnavailableRealms, unavailableRealmCallback, securityRealms);
+        this.executor = executor;
+        this.lookupCounts = new LongAdder[securityRealms.length];
+        this.lookupTimes = new LongAdder[securityRealms.length];
+        for (int i = 0; i < securityRealms.length; i++) {
+            lookupCounts[i] = new LongAdder();
+            lookupTimes[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+        Lookup lookup = new Lookup(principal);
+        try {
+            return new DistributedSecurityRealm(ignoreUnavailableRealms, unavailableRealmCallback, lookup.views).getRealmIdentity(principal);
+        } finally {
+            lookup.abandonFrom(0);
+        }
+    }
+
+    @Override
+    public RealmIdentity getRealmIdentity(Evidence evidence) throws RealmUnavailableException {
+        return sequentialRealm.getRealmIdentity(evidence);
+    }
+
+    @Override
+    public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+        return sequentialRealm.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+    }
+
+    @Override
+    public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+        return sequentialRealm.getEvidenceVerifySupport(evidenceType, algorithmName);
+    }
+
+    /**
+     * @return the names of the realms this realm was created with, in the configured order
+     */
+    List<String> getRealmNames() {
+        return realmNames;
+    }
+
+    /**
+     * @param index the position of the realm in the configured list
+     * @return the number of completed lookups in the realm
+     */
+    long getLookupCount(int index) {
+        return lookupCounts[index].sum();
+    }
+
+    /**
+     * @param index the position of the realm in the configured list
+     * @return the average time in milliseconds of a lookup in the realm
+     */
+    long getAverageLookupTime(int index) {
+        long count = lookupCounts[index].sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(lookupTimes[index].sum() / count);
+    }
+
+    /**
+     * Creates the executor running the lookups of a realm. It does not queue lookups, they are rejected when all of its
+     * threads are busy.
+     *
+     * @param name the name of the realm
+     * @return the executor, to be shut down when the realm is no longer used
+     */
+    static ExecutorService createExecutor(String name) {
+        ThreadGroup threadGroup = new ThreadGroup("distributed-realm-" + name);
+        ThreadFactory threadFactory = doPrivileged((PrivilegedAction<ThreadFactory>) () -> new JBossThreadFactory(threadGroup, Boolean.TRUE, null, "%G - %t", null, null));
+        return new ThreadPoolExecutor(0, MAX_THREADS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+
+    private RealmIdentity lookup(int index, Principal principal) throws RealmUnavailableException {
+        long start = System.nanoTime();
+        try {
+            // The existence check is what actually reaches the backing store for most realms
+            RealmIdentity identity = securityRealms[index].getRealmIdentity(principal);
+            if (identity.exists()) {
+                return identity;
+            }
+            identity.dispose();
+            return RealmIdentity.NON_EXISTENT;
+        } finally {
+            lookupCounts[index].increment();
+            lookupTimes[index].add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The lookups of a principal in all realms, started when it is created.
+     */
+    private final class Lookup {
+
+        private final RealmLookup[] lookups = new RealmLookup[securityRealms.length];
+        private final Future<?>[] results = new Future<?>[securityRealms.length];
+        private final SecurityRealm[] views = new SecurityRealm[securityRealms.length];
+
+        private Lookup(Principal principal) {
+            ClassLoader contextClassLoader = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+            for (int i = 0; i < securityRealms.length; i++) {
+                final int index = i;
+                lookups[i] = new RealmLookup(index, principal, contextClassLoader);
+                views[i] = new SecurityRealm() {
+                    @Override
+                    public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+                        return get(index, principal);
+                    }
+
+                    @Override
+                    public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+                        return securityRealms[index].getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+                    }
+
+                    @Override
+                    public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+                        return securityRealms[index].getEvidenceVerifySupport(evidenceType, algorithmName);
+                    }
+                };
+            }
+            // Start the lookups of the realms with the highest precedence first, they are the most likely to be needed
+            for (int i = 0; i < securityRealms.length; i++) {
+                try {
+                    results[i] = executor.submit(lookups[i]);
+                } catch (RejectedExecutionException e) {
+                    // All the lookup threads are busy, or the realm is stopping: the remaining realms are looked up
+                    // on the calling thread if and when they are needed
+                    ROOT_LOGGER.tracef("Parallel lookup of %s rejected, looking up the remaining realms sequentially", principal);
+                    break;
+                }
+            }
+        }
+
+        private RealmIdentity get(int index, Principal principal) throws RealmUnavailableException {
+            Future<?> result = results[index];
+            if (result == null) {
+                return securityRealms[index].getRealmIdentity(principal);
+            }
+            results[index] = null;
+            RealmIdentity identity;
+            try {
+                identity = (RealmIdentity) result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RealmUnavailableException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RealmUnavailableException) {
+                    throw (RealmUnavailableException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RealmUnavailableException(cause);
+            }
+            if (identity.exists()) {
+                abandonFrom(index + 1);
+            }
+            return identity;
+        }
+
+        /**
+         * Cancels the outstanding lookups from the given position on, disposing of identities already found.
+         */
+        private void abandonFrom(int index) {
+            for (int i = index; i < results.length; i++) {
+                Future<?> result = results[i];
+                if (result == null) {
+                    continue;
+                }
+                results[i] = null;
+                if (lookups[i].settled.compareAndSet(false, true)) {
+                    // Do not interrupt a running lookup, it may be doing I/O the realm does not expect to be interrupted
+                    result.cancel(false);
+                } else {
+                    try {
+                        ((RealmIdentity) result.get()).dispose();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (ExecutionException ignored) {
+                    }
+                }
+            }
+        }
+    }
+
+    private final class RealmLookup implements Callable<RealmIdentity> {
+
+        /**
+         * Set by whichever comes first of the lookup completing and the lookup being abandoned, an identity
+         * found by a lookup that was abandoned is disposed of by the lookup itself.
+         */
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private final int index;
+        private final Principal principal;
+        private final ClassLoader contextClassLoader;
+
+        private RealmLookup(int index, Principal principal, ClassLoader contextClassLoader) {
+            this.index = index;
+            this.principal = principal;
+            this.contextClassLoader = contextClassLoader;
+        }
+
+        @Override
+        public RealmIdentity call() throws RealmUnavailableException {
+            // Look up with the context class loader of the caller, as a sequential lookup would
+            ClassLoader previous = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(contextClassLoader);
+            try {
+                RealmIdentity identity = lookup(index, principal);
+                if (!settled.compareAndSet(false, true)) {
+                    identity.dispose();
+                }
+                return identity;
+            } finally {
+                WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(previous);
+            }
+        }
+    }
+}
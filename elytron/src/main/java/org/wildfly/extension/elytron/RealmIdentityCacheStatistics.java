@@ -0,0 +1,105 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of a {@link org.wildfly.security.cache.RealmIdentityCache} used by a caching realm.
+ *
+ * The caching realm calls {@code get} on the cache, loads the identity from the wrapped realm on a miss and then calls
+ * {@code put} on the same thread, so the load time is measured as the time between a miss and the subsequent put. A
+ * lookup which misses without a put, because the identity does not exist or the wrapped realm failed, must end with
+ * {@link #lookupCompleted()} so its start is not attributed to the next put.
+ */
+final class RealmIdentityCacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final ThreadLocal<long[]> missTime = ThreadLocal.withInitial(() -> new long[1]);
+    private final boolean evictionsTracked;
+
+    /**
+     * @param evictionsTracked {@code true} if the cache reports its evictions through {@link #evicted()}
+     */
+    RealmIdentityCacheStatistics(boolean evictionsTracked) {
+        this.evictionsTracked = evictionsTracked;
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+        missTime.get()[0] = System.nanoTime();
+    }
+
+    void negativeHit() {
+        negativeHits.increment();
+    }
+
+    void loaded() {
+        long[] start = missTime.get();
+        if (start[0] != 0) {
+            loads.increment();
+            loadTime.add(System.nanoTime() - start[0]);
+            start[0] = 0;
+        }
+    }
+
+    /**
+     * Discards the start of a load left by a miss of the current thread which was not followed by a put.
+     */
+    void lookupCompleted() {
+        missTime.remove();
+    }
+
+    void evicted() {
+        evictions.increment();
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of lookups answered by the negative cache without consulting the wrapped realm
+     */
+    long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * @return the number of evicted entries, or {@code -1} if the cache implementation does not report evictions
+     */
+    long getEvictionCount() {
+        return evictionsTracked ? evictions.sum() : -1;
+    }
+
+    /**
+     * @return the total time in milliseconds spent loading identities from the wrapped realm
+     */
+    long getTotalLoadTime() {
+        return TimeUnit.NANOSECONDS.toMillis(loadTime.sum());
+    }
+
+    /**
+     * @return the average time in milliseconds spent loading an identity from the wrapped realm
+     */
+    long getAverageLoadTime() {
+        long count = loads.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(loadTime.sum() / count);
+    }
+}
@@ -115,6 +115,9 @@ class RealmParser {
     private final PersistentResourceXMLDescription cachingRealmParser = builder(PathElement.pathElement(ElytronDescriptionConstants.CACHING_REALM))
             .addAttributes(CachingRealmDefinition.ATTRIBUTES)
             .build();
+    private final PersistentResourceXMLDescription cachingRealmParser_19 = builder(PathElement.pathElement(ElytronDescriptionConstants.CACHING_REALM))
+            .addAttributes(CachingRealmDefinition.ATTRIBUTES_19_0)
+            .build();
     private final PersistentResourceXMLDescription distributedRealmParser = builder(PathElement.pathElement(ElytronDescriptionConstants.DISTRIBUTED_REALM))
             .addAttribute(DistributedRealmDefinition.REALMS, AttributeParser.STRING_LIST, AttributeMarshaller.STRING_LIST)
             .build();
@@ -123,6 +126,12 @@ class RealmParser {
             .addAttribute(DistributedRealmDefinition.IGNORE_UNAVAILABLE_REALMS)
             .addAttribute(DistributedRealmDefinition.EMIT_EVENTS)
             .build();
+    private final PersistentResourceXMLDescription distributedRealmParser_19 = builder(PathElement.pathElement(ElytronDescriptionConstants.DISTRIBUTED_REALM))
+            .addAttribute(DistributedRealmDefinition.REALMS, AttributeParser.STRING_LIST, AttributeMarshaller.STRING_LIST)
+            .addAttribute(DistributedRealmDefinition.IGNORE_UNAVAILABLE_REALMS)
+            .addAttribute(DistributedRealmDefinition.EMIT_EVENTS)
+            .addAttribute(DistributedRealmDefinition.LOOKUP_STRATEGY)
+            .build();
     private final PersistentResourceXMLDescription failoverRealmParser = builder(PathElement.pathElement(ElytronDescriptionConstants.FAILOVER_REALM))
             .addAttributes(FailoverRealmDefinition.ATTRIBUTES)
             .build();
@@ -272,6 +281,23 @@ class RealmParser {
             .addChild(jaasRealmParser)
             .build();
 
+    final PersistentResourceXMLDescription realmParser_19 = decorator(ElytronDescriptionConstants.SECURITY_REALMS)
+            .addChild(aggregateRealmParser_8_0)
+            .addChild(customRealmParser)
+            .addChild(customModifiableRealmParser)
+            .addChild(identityRealmParser)
+            .addChild(jdbcRealmParser_14_0)
+            .addChild(keyStoreRealmParser)
+            .addChild(propertiesRealmParser_14_0)
+            .addChild(ldapRealmParser)
+            .addChild(filesystemRealmParser_16)
+            .addChild(tokenRealmParser)
+            .addChild(cachingRealmParser_19)
+            .addChild(distributedRealmParser_19)
+            .addChild(failoverRealmParser)
+            .addChild(jaasRealmParser)
+            .build();
+
     RealmParser() {
 
     }
@@ -0,0 +1,209 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.wildfly.common.Assert.checkMinimumParameter;
+
+import java.security.Principal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.cache.RealmIdentityCache;
+
+/**
+ * A {@link RealmIdentityCache} split into independently locked LRU segments.
+ *
+ * Unlike {@link org.wildfly.security.cache.LRURealmIdentityCache}, which serializes every access on a single lock,
+ * lookups of principals hashing to different segments never contend with each other. Each segment evicts its least
+ * recently used entry once it holds its share of the configured maximum number of entries, so the LRU ordering is
+ * approximate across the whole cache.
+ *
+ * As with the LRU cache, entries can also be found and removed using the principal of the cached identity itself,
+ * which is what the wrapped realm reports when an identity changes.
+ */
+final class SegmentedRealmIdentityCache implements RealmIdentityCache {
+
+    private static final int MAX_SEGMENTS = 64;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final long maxAge;
+    private final RealmIdentityCacheStatistics statistics;
+    private final Map<Principal, Set<Principal>> domainPrincipalMap = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxEntries the maximum number of entries held by the cache
+     * @param maxAge the time in milliseconds an entry stays in the cache, or {@code -1} for no limit
+     * @param statistics the statistics to update
+     */
+    SegmentedRealmIdentityCache(int maxEntries, long maxAge, RealmIdentityCacheStatistics statistics) {
+        checkMinimumParameter("maxEntries", 1, maxEntries);
+        checkMinimumParameter("maxAge", -1, maxAge);
+        int segmentCount = Integer.highestOneBit(Math.min(Math.min(MAX_SEGMENTS, Runtime.getRuntime().availableProcessors() * 2), maxEntries));
+        int segmentSize = (maxEntries + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.maxAge = maxAge;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void put(Principal principal, RealmIdentity realmIdentity) {
+        segmentFor(principal).put(principal, new CacheEntry(principal, realmIdentity, maxAge > 0 ? System.currentTimeMillis() + maxAge : -1));
+        domainPrincipalMap.computeIfAbsent(realmIdentity.getRealmIdentityPrincipal(), p -> ConcurrentHashMap.newKeySet()).add(principal);
+        statistics.loaded();
+    }
+
+    @Override
+    public RealmIdentity get(Principal principal) {
+        RealmIdentity result = segmentFor(principal).get(principal);
+        if (result == null) {
+            Set<Principal> principals = domainPrincipalMap.get(principal);
+            if (principals != null) {
+                Iterator<Principal> iterator = principals.iterator();
+                if (iterator.hasNext()) {
+                    Principal cachedPrincipal = iterator.next();
+                    result = segmentFor(cachedPrincipal).get(cachedPrincipal);
+                }
+            }
+        }
+        if (result != null) {
+            statistics.hit();
+        } else {
+            statistics.miss();
+        }
+        return result;
+    }
+
+    @Override
+    public void remove(Principal principal) {
+        CacheEntry removed = segmentFor(principal).remove(principal);
+        if (removed != null) {
+            unmapDomainPrincipal(removed);
+        }
+        Set<Principal> principals = domainPrincipalMap.remove(principal);
+        if (principals != null) {
+            for (Principal cachedPrincipal : principals) {
+                segmentFor(cachedPrincipal).remove(cachedPrincipal);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        domainPrincipalMap.clear();
+    }
+
+    private Segment segmentFor(Principal principal) {
+        int hash = principal.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    private void unmapDomainPrincipal(CacheEntry entry) {
+        Principal domainPrincipal = entry.identity.getRealmIdentityPrincipal();
+        domainPrincipalMap.computeIfPresent(domainPrincipal, (p, principals) -> {
+            principals.remove(entry.principal);
+            return principals.isEmpty() ? null : principals;
+        });
+    }
+
+    private static final class CacheEntry {
+
+        private final Principal principal;
+        private final RealmIdentity identity;
+        private final long expiration;
+
+        private CacheEntry(Principal principal, RealmIdentity identity, long expiration) {
+            this.principal = principal;
+            this.identity = identity;
+            this.expiration = expiration;
+        }
+
+        private boolean isExpired(long now) {
+            return expiration != -1 && now >= expiration;
+        }
+    }
+
+    private final class Segment extends ReentrantLock {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Map<Principal, CacheEntry> entries;
+
+        private Segment(int maxEntries) {
+            this.entries = new LinkedHashMap<Principal, CacheEntry>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Principal, CacheEntry> eldest) {
+                    if (size() > maxEntries) {
+                        statistics.evicted();
+                        unmapDomainPrincipal(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private RealmIdentity get(Principal principal) {
+            CacheEntry expired;
+            lock();
+            try {
+                CacheEntry entry = entries.get(principal);
+                if (entry == null) {
+                    return null;
+                }
+                if (!entry.isExpired(System.currentTimeMillis())) {
+                    return entry.identity;
+                }
+                expired = entries.remove(principal);
+            } finally {
+                unlock();
+            }
+            statistics.evicted();
+            unmapDomainPrincipal(expired);
+            return null;
+        }
+
+        private void put(Principal principal, CacheEntry entry) {
+            lock();
+            try {
+                entries.put(principal, entry);
+            } finally {
+                unlock();
+            }
+        }
+
+        private CacheEntry remove(Principal principal) {
+            lock();
+            try {
+                return entries.remove(principal);
+            } finally {
+                unlock();
+            }
+        }
+
+        private void clear() {
+            lock();
+            try {
+                entries.clear();
+            } finally {
+                unlock();
+            }
+        }
+    }
+}
@@ -733,6 +733,10 @@ public interface ElytronSubsystemMessages extends BasicLogger {
 
     @Message(id = 1221, value = "Unable to obtain DynamicSSLContext from the provided authentication context")
     RuntimeException unableToObtainDynamicSSLContext();
+
+    @LogMessage(level = WARN)
+    @Message(id = 1222, value = "Unable to write an event to the audit log '%s'")
+    void unableToWriteAuditEvent(String name, @Cause Throwable cause);
     /*
      * Don't just add new errors to the end of the file, there may be an appropriate section above for the resource.
      *
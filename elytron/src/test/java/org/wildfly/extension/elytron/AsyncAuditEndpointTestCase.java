@@ -0,0 +1,171 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.security.audit.AuditEndpoint;
+import org.wildfly.security.audit.EventPriority;
+import org.wildfly.security.audit.FileAuditEndpoint;
+
+/**
+ * Tests of {@link AsyncAuditEndpoint}.
+ */
+public class AsyncAuditEndpointTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testEventsWrittenInOrder() throws Exception {
+        RecordingEndpoint delegate = new RecordingEndpoint(new CountDownLatch(0));
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", delegate, null, 16, true);
+        for (int i = 0; i < 100; i++) {
+            endpoint.accept(EventPriority.INFORMATIONAL, Integer.toString(i));
+        }
+        endpoint.close();
+
+        assertEquals(100, delegate.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.toString(i), delegate.messages.get(i));
+        }
+        assertEquals(0, endpoint.getDroppedEventCount());
+        assertTrue(delegate.closed);
+    }
+
+    @Test
+    public void testEventsDiscardedWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEndpoint delegate = new RecordingEndpoint(release);
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", delegate, null, 2, false);
+
+        // The first event is taken by the writer, which then waits for the latch
+        endpoint.accept(EventPriority.INFORMATIONAL, "first");
+        assertTrue(delegate.writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            endpoint.accept(EventPriority.INFORMATIONAL, "queued");
+        }
+        assertEquals(2, endpoint.getQueueDepth());
+        assertEquals(3, endpoint.getDroppedEventCount());
+
+        release.countDown();
+        endpoint.close();
+        assertEquals(3, delegate.messages.size());
+    }
+
+    @Test
+    public void testFlushedOncePerBatch() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEndpoint delegate = new RecordingEndpoint(release);
+        AtomicInteger flushes = new AtomicInteger();
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", delegate, flushes::incrementAndGet, 16, true);
+
+        // The events queued while the writer waits for the latch are written as a single batch
+        endpoint.accept(EventPriority.INFORMATIONAL, "first");
+        assertTrue(delegate.writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            endpoint.accept(EventPriority.INFORMATIONAL, "queued");
+        }
+        release.countDown();
+        endpoint.close();
+
+        assertEquals(11, delegate.messages.size());
+        assertEquals(2, flushes.get());
+    }
+
+    @Test
+    public void testEventsDiscardedOnceWriterStopped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEndpoint delegate = new RecordingEndpoint(release);
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", delegate, null, 1, true);
+
+        endpoint.accept(EventPriority.INFORMATIONAL, "first");
+        assertTrue(delegate.writing.await(5, TimeUnit.SECONDS));
+        endpoint.accept(EventPriority.INFORMATIONAL, "queued");
+
+        // The queue stays full while the writer is stuck, so closing gives up on it and stops it
+        Thread closer = new Thread(() -> {
+            try {
+                endpoint.close();
+            } catch (Exception ignored) {
+            }
+        });
+        closer.start();
+        closer.join(TimeUnit.SECONDS.toMillis(15));
+        assertFalse(closer.isAlive());
+        assertTrue(delegate.closed);
+
+        // Events no longer wait for space in the queue
+        AsyncAuditEndpoint stopped = new AsyncAuditEndpoint("stopped", new RecordingEndpoint(new CountDownLatch(0)), null, 1, true);
+        stopped.close();
+        stopped.accept(EventPriority.INFORMATIONAL, "late");
+        assertEquals(0, stopped.getQueueDepth());
+    }
+
+    @Test
+    public void testFileEndpointFlushedPerBatch() throws Exception {
+        Assume.assumeTrue(FileAuditEndpointFlusher.isSupported());
+        File file = new File(folder.getRoot(), "audit.log");
+        FileAuditEndpoint delegate = (FileAuditEndpoint) FileAuditEndpoint.builder().setLocation(file.toPath())
+                .setSyncOnAccept(false).setFlushOnAccept(false).build();
+        AsyncAuditEndpoint endpoint = new AsyncAuditEndpoint("test", delegate, new FileAuditEndpointFlusher(delegate, true), 16, true);
+        try {
+            endpoint.accept(EventPriority.INFORMATIONAL, "flushed");
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+            while (!new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).contains("flushed")) {
+                assertTrue(System.currentTimeMillis() < deadline);
+                Thread.sleep(10);
+            }
+        } finally {
+            endpoint.close();
+        }
+    }
+
+    /**
+     * An endpoint recording the messages written to it, waiting for a latch before writing each one.
+     */
+    private static final class RecordingEndpoint implements AuditEndpoint {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean closed;
+
+        private RecordingEndpoint(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void accept(EventPriority priority, String message) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(message);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static jakarta.security.auth.message.config.AuthConfigFactory.DEFAULT_FACTORY_SECURITY_PROPERTY;
+
+import java.security.Security;
+
+import org.jboss.as.subsystem.test.AbstractSubsystemSchemaTest;
+import org.jboss.as.version.Stability;
+import org.junit.BeforeClass;
+
+/**
+ * Parsing test of the current community schema, which is newer than the current default schema.
+ */
+public class ElytronCommunitySubsystemParsingTestCase extends AbstractSubsystemSchemaTest<ElytronSubsystemSchema> {
+
+    @BeforeClass
+    public static void transferSystemProperty() {
+        String value = System.getProperty(DEFAULT_FACTORY_SECURITY_PROPERTY);
+        if (value != null) {
+            String securityValue = Security.getProperty(DEFAULT_FACTORY_SECURITY_PROPERTY);
+            if (securityValue == null) {
+                Security.setProperty(DEFAULT_FACTORY_SECURITY_PROPERTY, value);
+            }
+        }
+    }
+
+    public ElytronCommunitySubsystemParsingTestCase() {
+        super(ElytronExtension.SUBSYSTEM_NAME, new ElytronExtension(), ElytronSubsystemSchema.CURRENT.get(Stability.COMMUNITY), ElytronSubsystemSchema.CURRENT.get(Stability.COMMUNITY));
+    }
+
+    @Override
+    protected String getSubsystemXmlPathPattern() {
+        return "%1$s-subsystem-%4$s-%2$d.%3$d.xml";
+    }
+}
@@ -65,7 +65,8 @@ public class ElytronMixedStabilitySubsystemParsingTestCase extends AbstractSubsy
 
     @Parameters(name = "{0}")
     public static Iterable<ElytronSubsystemSchema> parameters() {
-        return EnumSet.allOf(ElytronSubsystemSchema.class);
+        // Community schemas newer than the current default schema are covered by ElytronCommunitySubsystemParsingTestCase
+        return EnumSet.complementOf(EnumSet.of(ElytronSubsystemSchema.VERSION_19_0_COMMUNITY));
     }
 
     public ElytronMixedStabilitySubsystemParsingTestCase(ElytronSubsystemSchema schema) {
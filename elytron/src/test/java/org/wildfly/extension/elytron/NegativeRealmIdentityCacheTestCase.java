@@ -0,0 +1,205 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.realm.CacheableSecurityRealm;
+import org.wildfly.security.auth.realm.FileSystemSecurityRealm;
+import org.wildfly.security.auth.realm.SimpleMapBackedSecurityRealm;
+import org.wildfly.security.auth.realm.SimpleRealmEntry;
+import org.wildfly.security.auth.server.ModifiableRealmIdentity;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.cache.LRURealmIdentityCache;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Tests of {@link NegativeRealmIdentityCache} used by the caching realm, counting the lookups reaching the wrapped realm.
+ */
+public class NegativeRealmIdentityCacheTestCase {
+
+    private static final Principal KNOWN = new NamePrincipal("known");
+    private static final Principal UNKNOWN = new NamePrincipal("unknown");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final CountingRealm backend = new CountingRealm();
+    private RealmIdentityCacheStatistics statistics;
+
+    @Before
+    public void createStatistics() {
+        statistics = new RealmIdentityCacheStatistics(false);
+    }
+
+    @Test
+    public void testUnknownIdentityCached() throws RealmUnavailableException {
+        CachingRealmDefinition.StatisticsCachingSecurityRealm realm = createRealm(60000);
+
+        assertFalse(realm.getRealmIdentity(UNKNOWN).exists());
+        assertFalse(realm.getRealmIdentity(UNKNOWN).exists());
+        assertFalse(realm.getRealmIdentity(UNKNOWN).exists());
+
+        assertEquals(1, backend.lookups.get());
+        assertEquals(2, statistics.getNegativeHitCount());
+    }
+
+    @Test
+    public void testUnknownIdentityNotCachedWhenDisabled() throws RealmUnavailableException {
+        CachingRealmDefinition.StatisticsCachingSecurityRealm realm = createRealm(-1);
+
+        assertFalse(realm.getRealmIdentity(UNKNOWN).exists());
+        assertFalse(realm.getRealmIdentity(UNKNOWN).exists());
+
+        assertEquals(2, backend.lookups.get());
+        assertEquals(0, statistics.getNegativeHitCount());
+    }
+
+    @Test
+    public void testUnknownIdentityExpires() throws Exception {
+        CachingRealmDefinition.StatisticsCachingSecurityRealm realm = createRealm(1);
+
+        realm.getRealmIdentity(UNKNOWN);
+        Thread.sleep(5);
+        realm.getRealmIdentity(UNKNOWN);
+
+        assertEquals(2, backend.lookups.get());
+    }
+
+    @Test
+    public void testFullCachePurgesExpiredEntries() throws Exception {
+        NegativeRealmIdentityCache negativeCache = new NegativeRealmIdentityCache(1, 200, statistics);
+        Principal other = new NamePrincipal("other");
+
+        negativeCache.getRealmIdentity(UNKNOWN, backend::getRealmIdentity);
+        // Full, the miss is not remembered
+        negativeCache.getRealmIdentity(other, backend::getRealmIdentity);
+        negativeCache.getRealmIdentity(other, backend::getRealmIdentity);
+        assertEquals(3, backend.lookups.get());
+
+        // Once the purge interval, bounded by the maximum age, elapsed the expired entry makes space
+        Thread.sleep(300);
+        negativeCache.getRealmIdentity(other, backend::getRealmIdentity);
+        negativeCache.getRealmIdentity(other, backend::getRealmIdentity);
+        assertEquals(4, backend.lookups.get());
+    }
+
+    @Test
+    public void testKnownIdentityAndAuthorizationCached() throws RealmUnavailableException {
+        CachingRealmDefinition.StatisticsCachingSecurityRealm realm = createRealm(60000);
+
+        RealmIdentity identity = realm.getRealmIdentity(KNOWN);
+        assertTrue(identity.exists());
+        identity.getAuthorizationIdentity();
+        realm.getRealmIdentity(KNOWN).getAuthorizationIdentity();
+
+        assertEquals(1, backend.lookups.get());
+        assertEquals(1, statistics.getHitCount());
+    }
+
+    @Test
+    public void testInvalidation() throws RealmUnavailableException {
+        CachingRealmDefinition.StatisticsCachingSecurityRealm realm = createRealm(60000);
+
+        realm.getRealmIdentity(KNOWN).getAuthorizationIdentity();
+        realm.getRealmIdentity(UNKNOWN);
+
+        realm.removeFromCache(UNKNOWN);
+        realm.getRealmIdentity(UNKNOWN);
+        realm.getRealmIdentity(KNOWN);
+        assertEquals(3, backend.lookups.get());
+
+        realm.removeAllFromCache();
+        realm.getRealmIdentity(UNKNOWN);
+        realm.getRealmIdentity(KNOWN);
+        assertEquals(5, backend.lookups.get());
+
+        // The wrapped realm reporting a change of the identity invalidates the negative entry
+        backend.listener.accept(UNKNOWN);
+        realm.getRealmIdentity(UNKNOWN);
+        assertEquals(6, backend.lookups.get());
+    }
+
+    @Test
+    public void testCreatedIdentityInvalidates() throws IOException, RealmUnavailableException {
+        FileSystemSecurityRealm fileSystemRealm = FileSystemSecurityRealm.builder().setRoot(folder.newFolder().toPath()).build();
+        CachingRealmDefinition.StatisticsCachingModifiableSecurityRealm realm = new CachingRealmDefinition.StatisticsCachingModifiableSecurityRealm(fileSystemRealm,
+                new MeteredRealmIdentityCache(new LRURealmIdentityCache(16), statistics), statistics, new NegativeRealmIdentityCache(16, 60000, statistics));
+
+        RealmIdentity unknown = realm.getRealmIdentity(UNKNOWN);
+        assertFalse(unknown.exists());
+        // The file system realm holds a lock on the identity until it is disposed
+        unknown.dispose();
+        assertFalse(realm.getRealmIdentity(UNKNOWN).exists());
+        assertEquals(1, statistics.getNegativeHitCount());
+
+        ModifiableRealmIdentity identity = realm.getRealmIdentityForUpdate(UNKNOWN);
+        identity.create();
+        identity.dispose();
+
+        RealmIdentity created = realm.getRealmIdentity(UNKNOWN);
+        assertTrue(created.exists());
+        created.dispose();
+        assertEquals(1, statistics.getNegativeHitCount());
+    }
+
+    private CachingRealmDefinition.StatisticsCachingSecurityRealm createRealm(long negativeMaxAge) {
+        NegativeRealmIdentityCache negativeCache = negativeMaxAge > 0 ? new NegativeRealmIdentityCache(16, negativeMaxAge, statistics) : null;
+        return new CachingRealmDefinition.StatisticsCachingSecurityRealm(backend,
+                new MeteredRealmIdentityCache(new LRURealmIdentityCache(16), statistics), statistics, negativeCache);
+    }
+
+    /**
+     * A cacheable realm standing in for a remote store, counting the identity lookups it receives.
+     */
+    private static final class CountingRealm implements CacheableSecurityRealm {
+
+        private final SimpleMapBackedSecurityRealm delegate = new SimpleMapBackedSecurityRealm();
+        private final AtomicInteger lookups = new AtomicInteger();
+        private Consumer<Principal> listener;
+
+        private CountingRealm() {
+            delegate.setIdentityMap(Collections.singletonMap(KNOWN.getName(), new SimpleRealmEntry(Collections.emptyList())));
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            lookups.incrementAndGet();
+            return delegate.getRealmIdentity(principal);
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return delegate.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+            return delegate.getEvidenceVerifySupport(evidenceType, algorithmName);
+        }
+
+        @Override
+        public void registerIdentityChangeListener(Consumer<Principal> listener) {
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.security.Principal;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.security.auth.SupportLevel;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.realm.SimpleMapBackedSecurityRealm;
+import org.wildfly.security.auth.realm.SimpleRealmEntry;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.credential.Credential;
+import org.wildfly.security.evidence.Evidence;
+
+/**
+ * Tests of {@link ParallelDistributedSecurityRealm}.
+ */
+public class ParallelDistributedSecurityRealmTestCase {
+
+    private static final Principal USER = new NamePrincipal("user");
+
+    private ExecutorService executor;
+
+    @Before
+    public void createExecutor() {
+        executor = ParallelDistributedSecurityRealm.createExecutor("test");
+    }
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPrecedence() throws Exception {
+        // Both realms answer once both lookups started, which would never happen if they were looked up in turn
+        CountDownLatch started = new CountDownLatch(2);
+        TestRealm first = new TestRealm(true, started);
+        TestRealm second = new TestRealm(true, started);
+        ParallelDistributedSecurityRealm realm = new ParallelDistributedSecurityRealm(executor, realmNames(2), false, i -> {}, first, second);
+
+        RealmIdentity identity = realm.getRealmIdentity(USER);
+        assertTrue(identity.exists());
+        assertSame(first.identityPrincipal, identity.getRealmIdentityPrincipal());
+    }
+
+    @Test
+    public void testLookupsRunInParallel() throws Exception {
+        // Each lookup waits for all of them to have started
+        CountDownLatch started = new CountDownLatch(3);
+        TestRealm first = new TestRealm(false, started);
+        TestRealm second = new TestRealm(false, started);
+        TestRealm third = new TestRealm(true, started);
+        ParallelDistributedSecurityRealm realm = new ParallelDistributedSecurityRealm(executor, realmNames(3), false, i -> {}, first, second, third);
+
+        RealmIdentity identity = realm.getRealmIdentity(USER);
+
+        assertTrue(identity.exists());
+        assertSame(third.identityPrincipal, identity.getRealmIdentityPrincipal());
+        assertEquals(realmNames(3), realm.getRealmNames());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, realm.getLookupCount(i));
+        }
+    }
+
+    @Test
+    public void testOutstandingLookupNotNeeded() throws Exception {
+        // The first realm answers once the lookup of the second one is running
+        CountDownLatch started = new CountDownLatch(2);
+        TestRealm first = new TestRealm(true, started);
+        BlockingRealm second = new BlockingRealm(started);
+        ParallelDistributedSecurityRealm realm = new ParallelDistributedSecurityRealm(executor, realmNames(2), false, i -> {}, first, second);
+
+        assertTrue(realm.getRealmIdentity(USER).exists());
+
+        // The running lookup is not interrupted, the identity it finds is disposed of once it completes
+        second.release.countDown();
+        assertTrue(second.disposed.await(5, TimeUnit.SECONDS));
+        assertFalse(second.interrupted.get());
+    }
+
+    @Test
+    public void testRejectedLookupsDoneWhenNeeded() throws Exception {
+        // A single lookup thread, kept busy so all the lookups are rejected
+        ExecutorService saturated = new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS, new SynchronousQueue<>());
+        CountDownLatch busy = new CountDownLatch(1);
+        saturated.submit(() -> busy.await(5, TimeUnit.SECONDS));
+        try {
+            TestRealm second = new TestRealm(true, null);
+            TestRealm first = new TestRealm(true, null);
+            ParallelDistributedSecurityRealm realm = new ParallelDistributedSecurityRealm(saturated, realmNames(2), false, i -> {}, first, second);
+
+            assertSame(first.identityPrincipal, realm.getRealmIdentity(USER).getRealmIdentityPrincipal());
+            assertSame(Thread.currentThread(), first.lookupThread.get());
+            assertEquals(0, second.lookups.get());
+
+            TestRealm missing = new TestRealm(false, null);
+            realm = new ParallelDistributedSecurityRealm(saturated, realmNames(2), false, i -> {}, missing, second);
+
+            assertSame(second.identityPrincipal, realm.getRealmIdentity(USER).getRealmIdentityPrincipal());
+            assertEquals(1, second.lookups.get());
+            assertSame(Thread.currentThread(), second.lookupThread.get());
+        } finally {
+            busy.countDown();
+            saturated.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUnavailableRealm() throws Exception {
+        TestRealm available = new TestRealm(true, null);
+        AtomicInteger unavailable = new AtomicInteger(-1);
+        ParallelDistributedSecurityRealm realm = new ParallelDistributedSecurityRealm(executor, realmNames(2), true, unavailable::set, new UnavailableRealm(), available);
+
+        assertTrue(realm.getRealmIdentity(USER).exists());
+        assertEquals(0, unavailable.get());
+
+        realm = new ParallelDistributedSecurityRealm(executor, realmNames(2), false, i -> {}, new UnavailableRealm(), available);
+        try {
+            realm.getRealmIdentity(USER);
+            fail("Expected RealmUnavailableException");
+        } catch (RealmUnavailableException expected) {
+        }
+    }
+
+    @Test
+    public void testNotFound() throws Exception {
+        ParallelDistributedSecurityRealm realm = new ParallelDistributedSecurityRealm(executor, realmNames(2), false, i -> {}, new TestRealm(false, null), new TestRealm(false, null));
+
+        assertFalse(realm.getRealmIdentity(USER).exists());
+    }
+
+    private static List<String> realmNames(int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            names.add("realm-" + i);
+        }
+        return names;
+    }
+
+    /**
+     * A realm containing the user or not, answering once all the lookups sharing a latch have started.
+     */
+    private static class TestRealm extends AbstractTestRealm {
+
+        private final SimpleMapBackedSecurityRealm delegate = new SimpleMapBackedSecurityRealm();
+        private final CountDownLatch started;
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final AtomicReference<Thread> lookupThread = new AtomicReference<>();
+        private final Principal identityPrincipal = new NamePrincipal(USER.getName());
+
+        /**
+         * @param containsUser whether the realm contains the user
+         * @param started the latch to count down and wait for before answering, or {@code null} to answer at once
+         */
+        TestRealm(boolean containsUser, CountDownLatch started) {
+            this.started = started;
+            delegate.setIdentityMap(containsUser
+                    ? Collections.singletonMap(USER.getName(), new SimpleRealmEntry(Collections.emptyList()))
+                    : Collections.emptyMap());
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            lookups.incrementAndGet();
+            lookupThread.set(Thread.currentThread());
+            if (started != null) {
+                started.countDown();
+                try {
+                    if (!started.await(5, TimeUnit.SECONDS)) {
+                        throw new RealmUnavailableException("Timed out waiting for the other lookups");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RealmUnavailableException(e);
+                }
+            }
+            RealmIdentity identity = delegate.getRealmIdentity(principal);
+            return new TestIdentity(identityPrincipal, identity, null);
+        }
+    }
+
+    /**
+     * A realm containing the user, whose lookups count down a latch and then block until released.
+     */
+    private static class BlockingRealm extends AbstractTestRealm {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch disposed = new CountDownLatch(1);
+        private final AtomicBoolean interrupted = new AtomicBoolean();
+
+        BlockingRealm(CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw new RealmUnavailableException(e);
+            }
+            SimpleMapBackedSecurityRealm delegate = new SimpleMapBackedSecurityRealm();
+            delegate.setIdentityMap(Collections.singletonMap(USER.getName(), new SimpleRealmEntry(Collections.emptyList())));
+            return new TestIdentity(principal, delegate.getRealmIdentity(principal), disposed);
+        }
+    }
+
+    private static class UnavailableRealm extends AbstractTestRealm {
+
+        @Override
+        public RealmIdentity getRealmIdentity(Principal principal) throws RealmUnavailableException {
+            throw new RealmUnavailableException();
+        }
+    }
+
+    private abstract static class AbstractTestRealm implements SecurityRealm {
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) {
+            return SupportLevel.UNSUPPORTED;
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) {
+            return SupportLevel.UNSUPPORTED;
+        }
+    }
+
+    /**
+     * An identity with a principal identifying the realm it comes from, counting down a latch when disposed.
+     */
+    private static class TestIdentity implements RealmIdentity {
+
+        private final Principal principal;
+        private final RealmIdentity identity;
+        private final CountDownLatch disposed;
+
+        TestIdentity(Principal principal, RealmIdentity identity, CountDownLatch disposed) {
+            this.principal = principal;
+            this.identity = identity;
+            this.disposed = disposed;
+        }
+
+        @Override
+        public Principal getRealmIdentityPrincipal() {
+            return principal;
+        }
+
+        @Override
+        public SupportLevel getCredentialAcquireSupport(Class<? extends Credential> credentialType, String algorithmName, AlgorithmParameterSpec parameterSpec) throws RealmUnavailableException {
+            return identity.getCredentialAcquireSupport(credentialType, algorithmName, parameterSpec);
+        }
+
+        @Override
+        public <C extends Credential> C getCredential(Class<C> credentialType) throws RealmUnavailableException {
+            return identity.getCredential(credentialType);
+        }
+
+        @Override
+        public SupportLevel getEvidenceVerifySupport(Class<? extends Evidence> evidenceType, String algorithmName) throws RealmUnavailableException {
+            return identity.getEvidenceVerifySupport(evidenceType, algorithmName);
+        }
+
+        @Override
+        public boolean verifyEvidence(Evidence evidence) throws RealmUnavailableException {
+            return identity.verifyEvidence(evidence);
+        }
+
+        @Override
+        public boolean exists() throws RealmUnavailableException {
+            return identity.exists();
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed != null) {
+                disposed.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests of the load time measured by {@link RealmIdentityCacheStatistics}.
+ */
+public class RealmIdentityCacheStatisticsTestCase {
+
+    @Test
+    public void testLoadTime() throws Exception {
+        RealmIdentityCacheStatistics statistics = new RealmIdentityCacheStatistics(false);
+
+        statistics.miss();
+        Thread.sleep(20);
+        statistics.loaded();
+        statistics.lookupCompleted();
+
+        assertEquals(1, statistics.getMissCount());
+        assertTrue(statistics.getTotalLoadTime() >= 20);
+    }
+
+    @Test
+    public void testMissWithoutPut() throws Exception {
+        RealmIdentityCacheStatistics statistics = new RealmIdentityCacheStatistics(false);
+
+        // A lookup of an identity which does not exist, nothing is put in the cache
+        statistics.miss();
+        Thread.sleep(20);
+        statistics.lookupCompleted();
+        // A put which does not follow a miss must not be counted as a load
+        statistics.loaded();
+
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(0, statistics.getTotalLoadTime());
+        assertEquals(0, statistics.getAverageLoadTime());
+    }
+}
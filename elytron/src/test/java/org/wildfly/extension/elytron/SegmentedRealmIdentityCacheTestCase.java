@@ -0,0 +1,103 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.elytron;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.auth.realm.SimpleMapBackedSecurityRealm;
+import org.wildfly.security.auth.realm.SimpleRealmEntry;
+import org.wildfly.security.auth.server.RealmIdentity;
+import org.wildfly.security.auth.server.RealmUnavailableException;
+
+/**
+ * Tests of {@link SegmentedRealmIdentityCache}.
+ */
+public class SegmentedRealmIdentityCacheTestCase {
+
+    private final SimpleMapBackedSecurityRealm realm = new SimpleMapBackedSecurityRealm();
+
+    @Before
+    public void createIdentities() {
+        Map<String, SimpleRealmEntry> identities = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            identities.put("user" + i, new SimpleRealmEntry(Collections.emptyList()));
+        }
+        realm.setIdentityMap(identities);
+    }
+
+    @Test
+    public void testHitsAndMisses() throws RealmUnavailableException {
+        RealmIdentityCacheStatistics statistics = new RealmIdentityCacheStatistics(true);
+        SegmentedRealmIdentityCache cache = new SegmentedRealmIdentityCache(16, -1, statistics);
+        Principal principal = new NamePrincipal("user1");
+
+        assertNull(cache.get(principal));
+        RealmIdentity identity = realm.getRealmIdentity(principal);
+        cache.put(principal, identity);
+        assertSame(identity, cache.get(principal));
+
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(0, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testMaximumEntries() throws RealmUnavailableException {
+        RealmIdentityCacheStatistics statistics = new RealmIdentityCacheStatistics(true);
+        // A single entry means a single segment, so eviction is strictly LRU
+        SegmentedRealmIdentityCache cache = new SegmentedRealmIdentityCache(1, -1, statistics);
+        Principal first = new NamePrincipal("user1");
+        Principal second = new NamePrincipal("user2");
+
+        cache.put(first, realm.getRealmIdentity(first));
+        cache.put(second, realm.getRealmIdentity(second));
+
+        assertNull(cache.get(first));
+        assertNotNull(cache.get(second));
+        assertEquals(1, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testMaximumAge() throws Exception {
+        RealmIdentityCacheStatistics statistics = new RealmIdentityCacheStatistics(true);
+        SegmentedRealmIdentityCache cache = new SegmentedRealmIdentityCache(16, 1, statistics);
+        Principal principal = new NamePrincipal("user1");
+
+        cache.put(principal, realm.getRealmIdentity(principal));
+        Thread.sleep(5);
+
+        assertNull(cache.get(principal));
+        assertEquals(1, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testRemove() throws RealmUnavailableException {
+        SegmentedRealmIdentityCache cache = new SegmentedRealmIdentityCache(16, -1, new RealmIdentityCacheStatistics(true));
+        for (int i = 0; i < 10; i++) {
+            Principal principal = new NamePrincipal("user" + i);
+            cache.put(principal, realm.getRealmIdentity(principal));
+        }
+
+        cache.remove(new NamePrincipal("user3"));
+        assertNull(cache.get(new NamePrincipal("user3")));
+        assertNotNull(cache.get(new NamePrincipal("user4")));
+
+        cache.clear();
+        for (int i = 0; i < 10; i++) {
+            assertNull(cache.get(new NamePrincipal("user" + i)));
+        }
+    }
+}
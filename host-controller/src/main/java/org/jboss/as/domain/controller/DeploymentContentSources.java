@@ -0,0 +1,82 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks which slave host controllers hold deployment content and can serve it to other slaves, so the domain
+ * controller does not have to send the same content to every host itself.
+ *
+ * Sources are handed out in turns, so the hosts fetching the same content at the same time spread over all the
+ * hosts already holding it.
+ */
+public final class DeploymentContentSources {
+
+    // Content hash -> host name -> the address the host serves content at
+    private final Map<String, Map<String, String>> sources = new HashMap<>();
+    private int turn;
+
+    /**
+     * Record that a host holds the given content.
+     *
+     * @param hash the hex hash of the content
+     * @param hostName the name of the host
+     * @param address the address the host serves content at
+     */
+    public synchronized void addSource(final String hash, final String hostName, final String address) {
+        sources.computeIfAbsent(hash, h -> new LinkedHashMap<>()).put(hostName, address);
+    }
+
+    /**
+     * Get the addresses of the hosts to fetch the given content from.
+     *
+     * @param hash the hex hash of the content
+     * @param hostName the name of the host fetching the content, which is never one of the sources
+     * @param max the maximum number of addresses to return
+     * @return the addresses, in the order they should be tried. May be empty
+     */
+    public synchronized List<String> getSources(final String hash, final String hostName, final int max) {
+        final Map<String, String> holders = sources.get(hash);
+        if (holders == null) {
+            return Collections.emptyList();
+        }
+        final List<String> candidates = new ArrayList<>(holders.size());
+        for (Map.Entry<String, String> holder : holders.entrySet()) {
+            if (!holder.getKey().equals(hostName)) {
+                candidates.add(holder.getValue());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Collections.rotate(candidates, -(turn++ % candidates.size()));
+        return candidates.size() > max ? new ArrayList<>(candidates.subList(0, max)) : candidates;
+    }
+
+    /**
+     * Forget the content held by a host, e.g. because it is no longer registered.
+     *
+     * @param hostName the name of the host
+     */
+    public synchronized void removeHost(final String hostName) {
+        sources.values().removeIf(holders -> holders.remove(hostName) != null && holders.isEmpty());
+    }
+
+    /**
+     * Forget the hosts holding some content, e.g. because the content was removed from the domain.
+     *
+     * @param hash the hex hash of the content
+     */
+    public synchronized void removeContent(final String hash) {
+        sources.remove(hash);
+    }
+}
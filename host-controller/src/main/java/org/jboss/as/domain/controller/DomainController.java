@@ -112,6 +112,35 @@ public interface DomainController {
         // default no-op because I'm tired of writing no-op impls in testsuite classes
     }
 
+    /**
+     * Gets the journal of the changes made to the domain wide part of the model, used to send reconnecting
+     * slave host controllers only the resources that changed since they last synchronized.
+     *
+     * @return the journal, or {@code null} if changes are not tracked
+     */
+    default DomainModelChangeJournal getDomainModelChangeJournal() {
+        return null;
+    }
+
+    /**
+     * Gets the registry of the slave host controllers able to serve deployment content to other slaves.
+     *
+     * @return the registry, or {@code null} if slaves always fetch content from the domain controller
+     */
+    default DeploymentContentSources getDeploymentContentSources() {
+        return null;
+    }
+
+    /**
+     * Gets the cache of the domain model and operations transformed for the slave host controllers, shared among the
+     * hosts with the same transformation target.
+     *
+     * @return the cache, or {@code null} if transformations are not shared
+     */
+    default TransformedDomainModelCache getTransformedDomainModelCache() {
+        return null;
+    }
+
     /**
      * Get the operations needed to create the given profile.
      *
@@ -0,0 +1,135 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.host.controller.logging.HostControllerLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Journal of the changes made to the domain wide part of the model, identifying each state of the model by a
+ * generation.
+ *
+ * A generation is only meaningful to the journal that issued it; it combines a random epoch chosen when the journal
+ * is created with a counter of the changes recorded since. Only the last {@code jboss.domain.model-change-journal.size}
+ * changes are kept, so the changes since an older generation, or since a generation of a previous epoch, are unknown.
+ *
+ * @see #getChangesSince(String)
+ */
+public final class DomainModelChangeJournal {
+
+    public static final String SIZE_PROPERTY = "jboss.domain.model-change-journal.size";
+
+    private static final int DEFAULT_SIZE = 256;
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final int size;
+    // The changes leading to each of the last generations, the last one leading to the current generation
+    private final Deque<Set<PathAddress>> changes = new ArrayDeque<>();
+    private long generation;
+
+    public DomainModelChangeJournal() {
+        this(parseSize(WildFlySecurityManager.getPropertyPrivileged(SIZE_PROPERTY, null)));
+    }
+
+    DomainModelChangeJournal(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Parse the value of the {@code jboss.domain.model-change-journal.size} system property.
+     *
+     * @param value the value of the property, or {@code null} if it is not set
+     * @return the size of the journal, the default one if the value is not a positive integer
+     */
+    static int parseSize(final String value) {
+        if (value == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            final int size = Integer.parseInt(value.trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the default
+        }
+        HostControllerLogger.DOMAIN_LOGGER.invalidSystemPropertyValue(value, SIZE_PROPERTY, DEFAULT_SIZE);
+        return DEFAULT_SIZE;
+    }
+
+    /**
+     * Record a committed change of the model.
+     *
+     * @param affectedAddresses the addresses of the resources that were changed, added or removed. Changes of host
+     *                          resources are ignored
+     */
+    public synchronized void recordChange(final Set<PathAddress> affectedAddresses) {
+        final Set<PathAddress> domainAddresses = new HashSet<>();
+        for (final PathAddress address : affectedAddresses) {
+            if (address.size() == 0 || !HOST.equals(address.getElement(0).getKey())) {
+                domainAddresses.add(address);
+            }
+        }
+        if (domainAddresses.isEmpty()) {
+            return;
+        }
+        generation++;
+        changes.addLast(domainAddresses);
+        while (changes.size() > size) {
+            changes.removeFirst();
+        }
+    }
+
+    /**
+     * Get the generation of the current state of the model.
+     *
+     * @return the generation
+     */
+    public synchronized String getGeneration() {
+        return epoch + ':' + generation;
+    }
+
+    /**
+     * Get the addresses of the resources that changed since the given generation. A change of a resource may
+     * include changes of any of its children, so the whole subtree of each address has to be considered changed.
+     *
+     * @param since a generation previously returned by {@link #getGeneration()}
+     * @return the addresses, or {@code null} if the changes since the generation are not known, or the root resource
+     *         of the model changed
+     */
+    public synchronized Set<PathAddress> getChangesSince(final String since) {
+        final int separator = since == null ? -1 : since.lastIndexOf(':');
+        if (separator < 0 || !epoch.equals(since.substring(0, separator))) {
+            return null;
+        }
+        final long sinceGeneration;
+        try {
+            sinceGeneration = Long.parseLong(since.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        final long missing = generation - sinceGeneration;
+        if (missing < 0 || missing > changes.size()) {
+            return null;
+        }
+        final Set<PathAddress> result = new HashSet<>();
+        final Iterator<Set<PathAddress>> iterator = changes.descendingIterator();
+        for (long i = 0; i < missing; i++) {
+            result.addAll(iterator.next());
+        }
+        return result.contains(PathAddress.EMPTY_ADDRESS) ? null : result;
+    }
+}
@@ -16,9 +16,13 @@ public interface HostConnectionInfo {
 
     String ADDRESS = "address";
     String CONNECTED = "connected";
+    String COUNT = "count";
     String EVENTS = "events";
+    String PING_ROUND_TRIP_TIMES = "ping-round-trip-times";
+    String SUSPICION_LEVEL = "suspicion-level";
     String TIMESTAMP = "timestamp";
     String TYPE = "type";
+    String UPPER_BOUND = "upper-bound";
 
     /**
      * Get the host name.
@@ -41,6 +45,25 @@ public interface HostConnectionInfo {
      */
     List<Event> getEvents();
 
+    /**
+     * Get the suspicion level of the host being unreachable, based on the round trip times of the pings sent to it.
+     *
+     * @return the suspicion level, {@code 0} if no ping is waiting for its response
+     */
+    default double getSuspicionLevel() {
+        return 0;
+    }
+
+    /**
+     * Get the histogram of the round trip times of the pings sent to the host.
+     *
+     * @return a list of buckets with their upper bound in milliseconds and number of pings, undefined if the host is
+     *         not pinged
+     */
+    default ModelNode getPingRoundTripTimes() {
+        return new ModelNode();
+    }
+
     public interface Event {
 
         /**
@@ -0,0 +1,146 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.host.controller.logging.HostControllerLogger;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Cache of the domain model transformed for the slave host controllers, shared among the hosts with the same
+ * transformation target.
+ *
+ * A transformation target is identified by a key combining everything the transformation of the domain model for a
+ * host depends on, i.e. the management and subsystem model versions of the host and the domain resources it
+ * ignores. Transformed models are cached per target and generation of the domain model, only the most recent
+ * {@code jboss.domain.transformed-model-cache.size} targets are kept, and only the latest generation for each.
+ *
+ * The keys of the targets of the registered hosts are tracked as well, so the transformation of an operation
+ * pushed to several hosts can be shared among those with the same target.
+ */
+public final class TransformedDomainModelCache {
+
+    public static final String SIZE_PROPERTY = "jboss.domain.transformed-model-cache.size";
+
+    private static final int DEFAULT_SIZE = 8;
+
+    private final int size;
+    // Host name -> the key of its transformation target
+    private final Map<String, String> hostTargets = new HashMap<>();
+    // Target key -> the model transformed for it, least recently used first
+    private final Map<String, CachedModel> models;
+
+    public TransformedDomainModelCache() {
+        this(parseSize(WildFlySecurityManager.getPropertyPrivileged(SIZE_PROPERTY, null)));
+    }
+
+    TransformedDomainModelCache(final int size) {
+        this.size = size;
+        this.models = new LinkedHashMap<String, CachedModel>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedModel> eldest) {
+                return size() > TransformedDomainModelCache.this.size;
+            }
+        };
+    }
+
+    /**
+     * Parse the value of the {@code jboss.domain.transformed-model-cache.size} system property.
+     *
+     * @param value the value of the property, or {@code null} if it is not set
+     * @return the size of the cache, {@code 0} disabling it, or the default size if the value is not a valid size
+     */
+    static int parseSize(final String value) {
+        if (value == null) {
+            return DEFAULT_SIZE;
+        }
+        try {
+            final int size = Integer.parseInt(value.trim());
+            if (size >= 0) {
+                return size;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the default
+        }
+        HostControllerLogger.DOMAIN_LOGGER.invalidSystemPropertyValue(value, SIZE_PROPERTY, DEFAULT_SIZE);
+        return DEFAULT_SIZE;
+    }
+
+    /**
+     * Get the domain model transformed for a target.
+     *
+     * @param targetKey the key of the transformation target
+     * @param generation the generation of the domain model
+     * @return the described resources of the transformed model, which must not be modified, or {@code null} if
+     *         the model was not cached for the target and generation
+     */
+    public synchronized List<ModelNode> getDescribedResources(final String targetKey, final String generation) {
+        final CachedModel cached = models.get(targetKey);
+        return cached != null && cached.generation.equals(generation) ? cached.describedResources : null;
+    }
+
+    /**
+     * Cache the domain model transformed for a target, replacing the model of any older generation.
+     *
+     * @param targetKey the key of the transformation target
+     * @param generation the generation of the domain model
+     * @param describedResources the described resources of the transformed model
+     */
+    public synchronized void putDescribedResources(final String targetKey, final String generation, final List<ModelNode> describedResources) {
+        if (size > 0) {
+            models.put(targetKey, new CachedModel(generation, Collections.unmodifiableList(describedResources)));
+        }
+    }
+
+    /**
+     * Record the transformation target of a registered host.
+     *
+     * @param hostName the name of the host
+     * @param targetKey the key of its transformation target, or {@code null} if it is unknown
+     */
+    public synchronized void registerHost(final String hostName, final String targetKey) {
+        if (targetKey == null) {
+            hostTargets.remove(hostName);
+        } else {
+            hostTargets.put(hostName, targetKey);
+        }
+    }
+
+    /**
+     * Forget the transformation target of a host, e.g. because it is no longer registered.
+     *
+     * @param hostName the name of the host
+     */
+    public synchronized void removeHost(final String hostName) {
+        hostTargets.remove(hostName);
+    }
+
+    /**
+     * Get the key of the transformation target of a registered host.
+     *
+     * @param hostName the name of the host
+     * @return the key, or {@code null} if it is unknown
+     */
+    public synchronized String getTargetKey(final String hostName) {
+        return hostTargets.get(hostName);
+    }
+
+    private static final class CachedModel {
+        private final String generation;
+        private final List<ModelNode> describedResources;
+
+        private CachedModel(final String generation, final List<ModelNode> describedResources) {
+            this.generation = generation;
+            this.describedResources = describedResources;
+        }
+    }
+}
@@ -789,4 +789,29 @@ public interface DomainControllerLogger extends BasicLogger {
 
     @Message(id = 98, value = "The following servers %s are starting; execution of remote management operations is not currently available")
     OperationFailedException serverManagementUnavailableDuringBoot(String serverNames);
+
+    /**
+     * A message indicating an invalid rollout plan. The server group, represented by the {@code name} parameter, has an
+     * invalid value and must be greater than 0.
+     *
+     * @param name         the name of the group.
+     * @param propertyName the name of the property.
+     * @param value        the invalid value.
+     *
+     * @return the message.
+     */
+    @Message(id = 99, value = "Invalid rollout plan. Server group %s has a %s value of %s; must be greater than 0.")
+    String invalidRolloutPlanNotPositive(String name, String propertyName, int value);
+
+    /**
+     * Logs a warning message indicating the result of a server could not be spooled to the stream of server results
+     * and is kept in memory instead.
+     *
+     * @param cause      the cause of the error.
+     * @param serverName the name of the server.
+     * @param hostName   the name of the host.
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 100, value = "Could not spool the result of server %s on host %s to the stream of server results; keeping it in the response")
+    void failedSpoolingServerResult(@Cause Throwable cause, String serverName, String hostName);
 }
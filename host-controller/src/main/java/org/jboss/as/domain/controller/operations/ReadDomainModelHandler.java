@@ -5,10 +5,22 @@
 
 package org.jboss.as.domain.controller.operations;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_MODEL;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST_EXCLUDE;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.DomainModelChangeJournal;
+import org.jboss.as.domain.controller.TransformedDomainModelCache;
 import org.jboss.dmr.ModelNode;
 
 /**
@@ -21,11 +33,38 @@ class ReadDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
     private final boolean lock;
+    private final DomainModelChangeJournal journal;
+    private final String knownGeneration;
+    private final boolean deltaAllowed;
+    private final TransformedDomainModelCache transformedModelCache;
+    private final String targetKey;
 
     public ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock) {
+        this(ignoredTransformationRegistry, transformers, lock, null, null, false, null, null);
+    }
+
+    /**
+     * Creates a handler which, given a journal, returns the generation of the model along with the model. If the
+     * journal knows the changes since the generation the reading host last applied, only the resources affected by
+     * those changes are returned.
+     *
+     * @param journal the journal of the domain model changes, or {@code null} to return the plain model
+     * @param knownGeneration the generation of the model last applied by the reading host, or {@code null}
+     * @param deltaAllowed whether the reading host can apply only the changed resources on top of its own model
+     * @param transformedModelCache the cache to share the transformed model of each generation in, or {@code null}
+     * @param targetKey the key of the transformation target of the reading host in the cache
+     */
+    ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers,
+                           final boolean lock, final DomainModelChangeJournal journal, final String knownGeneration, final boolean deltaAllowed,
+                           final TransformedDomainModelCache transformedModelCache, final String targetKey) {
         this.transformers = transformers;
         this.ignoredTransformationRegistry = ignoredTransformationRegistry != null ? ignoredTransformationRegistry : Transformers.DEFAULT;
         this.lock = lock;
+        this.journal = journal;
+        this.knownGeneration = knownGeneration;
+        this.deltaAllowed = deltaAllowed;
+        this.transformedModelCache = transformedModelCache;
+        this.targetKey = targetKey;
     }
 
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
@@ -35,10 +74,80 @@ class ReadDomainModelHandler implements OperationStepHandler {
             context.acquireControllerLock();
         }
 
+        // Get the generation before reading the model, so a change racing with the read is sent again next time
+        final String generation = journal == null ? null : journal.getGeneration();
         final Transformers.TransformationInputs transformationInputs = new Transformers.TransformationInputs(context);
-        final ReadMasterDomainModelUtil readUtil = ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
-                transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource());
-        context.getResult().set(readUtil.getDescribedResources());
+        // Hosts with the same transformation target share the model transformed for the generation
+        final boolean cached = transformedModelCache != null && generation != null;
+        List<ModelNode> describedResources = cached ? transformedModelCache.getDescribedResources(targetKey, generation) : null;
+        if (describedResources == null) {
+            describedResources = ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
+                    transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource()).getDescribedResources();
+            if (cached) {
+                transformedModelCache.putDescribedResources(targetKey, generation, describedResources);
+            }
+        }
+        if (generation == null) {
+            context.getResult().set(describedResources);
+            return;
+        }
+
+        final ModelNode result = context.getResult();
+        result.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_GENERATION).set(generation);
+        final Set<PathAddress> changedRoots = deltaAllowed && knownGeneration != null
+                ? getChangedRoots(journal.getChangesSince(knownGeneration), transformationInputs.getRootResource()) : null;
+        if (changedRoots == null) {
+            result.get(DOMAIN_MODEL).set(describedResources);
+        } else {
+            final ModelNode domainModel = result.get(DOMAIN_MODEL).setEmptyList();
+            for (ModelNode described : describedResources) {
+                final PathAddress address = PathAddress.pathAddress(described.require(ReadMasterDomainModelUtil.DOMAIN_RESOURCE_ADDRESS));
+                if (ReadMasterDomainModelUtil.isAffected(address, changedRoots)) {
+                    domainModel.add(described);
+                }
+            }
+            final ModelNode changes = result.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_CHANGES).setEmptyList();
+            for (PathAddress changedRoot : changedRoots) {
+                changes.add(changedRoot.toModelNode());
+            }
+        }
+    }
+
+    /**
+     * Gets the roots of the subtrees which have to be replaced on the reading host to apply the changes. The
+     * resources of an ordered child type are only replaced along with their parent so their order is kept.
+     *
+     * @return the roots, or {@code null} if all of the model has to be sent
+     */
+    private static Set<PathAddress> getChangedRoots(final Set<PathAddress> changes, final Resource root) {
+        if (changes == null) {
+            return null;
+        }
+        final Set<PathAddress> changedRoots = new HashSet<>();
+        for (PathAddress address : changes) {
+            final String type = address.getElement(0).getKey();
+            if (HOST_EXCLUDE.equals(type) || EXTENSION.equals(type)) {
+                // These affect what else the host ignores, so everything is sent
+                return null;
+            }
+            while (address.size() > 0 && isOrderedChild(root, address)) {
+                address = address.getParent();
+            }
+            if (address.size() == 0) {
+                return null;
+            }
+            changedRoots.add(address);
+        }
+        return changedRoots;
+    }
+
+    private static boolean isOrderedChild(final Resource root, final PathAddress address) {
+        Resource parent = root;
+        for (int i = 0; i < address.size() - 1 && parent != null; i++) {
+            parent = parent.getChild(address.getElement(i));
+        }
+        // If the parent was removed it is itself a changed root, so the child is replaced with it
+        return parent == null || parent.getOrderedChildTypes().contains(address.getLastElement().getKey());
     }
 
 }
@@ -12,7 +12,10 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.DomainModelChangeJournal;
+import org.jboss.as.domain.controller.TransformedDomainModelCache;
 import org.jboss.as.host.controller.mgmt.HostInfo;
+import org.jboss.as.version.Version;
 import org.jboss.dmr.ModelNode;
 
 /**
@@ -32,12 +35,27 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final ExtensionRegistry extensionRegistry;
     private final boolean lock;
+    private final DomainModelChangeJournal journal;
+    private final TransformedDomainModelCache transformedModelCache;
 
     public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock) {
+        this(hostInfo, transformers, extensionRegistry, lock, null, null);
+    }
+
+    /**
+     * @param journal the journal of the domain model changes, used to send hosts tracking the generation of their model
+     *                only the resources changed since. May be {@code null}
+     * @param transformedModelCache the cache of the transformed domain model shared among hosts with the same
+     *                              transformation target, only used along with the journal. May be {@code null}
+     */
+    public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry,
+                                        boolean lock, final DomainModelChangeJournal journal, final TransformedDomainModelCache transformedModelCache) {
         this.hostInfo = hostInfo;
         this.transformers = transformers;
         this.extensionRegistry = extensionRegistry;
         this.lock = lock;
+        this.journal = journal;
+        this.transformedModelCache = transformedModelCache;
     }
 
     @Override
@@ -57,7 +75,19 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
             ignoredTransformationRegistry = ReadMasterDomainModelUtil.createHostIgnoredRegistry(hostInfo, rc);
         }
 
-        final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
+        final OperationStepHandler handler;
+        if (journal != null && hostInfo != null && hostInfo.isDomainModelGenerationSupported()) {
+            // Only a host using the same model as the DC, and all of it, can apply the changed resources to its own model
+            final boolean deltaAllowed = !hostInfo.isIgnoreUnaffectedConfig()
+                    && hostInfo.getManagementMajorVersion() == Version.MANAGEMENT_MAJOR_VERSION
+                    && hostInfo.getManagementMinorVersion() == Version.MANAGEMENT_MINOR_VERSION
+                    && hostInfo.getManagementMicroVersion() == Version.MANAGEMENT_MICRO_VERSION;
+            final String targetKey = transformedModelCache == null ? null : hostInfo.getTransformationTargetKey();
+            handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock, journal, hostInfo.getDomainModelGeneration(), deltaAllowed,
+                    targetKey == null ? null : transformedModelCache, targetKey);
+        } else {
+            handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
+        }
         context.addStep(handler, OperationContext.Stage.MODEL);
     }
 
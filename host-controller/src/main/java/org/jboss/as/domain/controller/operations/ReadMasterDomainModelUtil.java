@@ -48,6 +48,12 @@ public class ReadMasterDomainModelUtil {
 
     public static final String ORDERED_CHILD_TYPES_PROPERTY = "ordered-child-types";
 
+    /** The generation of the domain model last applied by a host, or provided by the DC along with the model */
+    public static final String DOMAIN_MODEL_GENERATION = "domain-model-generation";
+
+    /** The roots of the subtrees of the domain model which changed, when only those are provided by the DC */
+    public static final String DOMAIN_MODEL_CHANGES = "domain-model-changes";
+
     private final Set<PathElement> newRootResources = new HashSet<>();
 
     private volatile List<ModelNode> describedResources;
@@ -131,6 +137,49 @@ public class ReadMasterDomainModelUtil {
     }
 
 
+    /**
+     * Combine the described resources of the local model with the changed resources provided by the DC into the
+     * description of the complete current model. The local resources within any of the changed subtrees are replaced
+     * by the ones from the DC, which also drops the resources removed on the DC.
+     *
+     * @param localResources the described resources of the local model
+     * @param changes the roots of the changed subtrees
+     * @param changedResources the described resources of the changed subtrees
+     * @return the described resources of the complete model
+     */
+    static ModelNode mergeChangedResources(final ModelNode localResources, final ModelNode changes, final ModelNode changedResources) {
+        final Set<PathAddress> changedRoots = new HashSet<>();
+        for (ModelNode change : changes.asList()) {
+            changedRoots.add(PathAddress.pathAddress(change));
+        }
+        final ModelNode result = new ModelNode().setEmptyList();
+        for (ModelNode local : localResources.asList()) {
+            if (!isAffected(PathAddress.pathAddress(local.require(DOMAIN_RESOURCE_ADDRESS)), changedRoots)) {
+                result.add(local);
+            }
+        }
+        for (ModelNode changed : changedResources.asList()) {
+            result.add(changed);
+        }
+        return result;
+    }
+
+    /**
+     * Gets whether a resource is within any of the given subtrees.
+     *
+     * @param address the address of the resource
+     * @param roots the roots of the subtrees
+     * @return {@code true} if the resource or any of its parents is one of the roots
+     */
+    static boolean isAffected(final PathAddress address, final Set<PathAddress> roots) {
+        for (int i = address.size(); i > 0; i--) {
+            if (roots.contains(address.subAddress(0, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Create a resource based on the result of the {@code ReadMasterDomainModelHandler}.
      *
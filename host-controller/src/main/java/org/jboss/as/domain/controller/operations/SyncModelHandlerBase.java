@@ -50,14 +50,29 @@ abstract class SyncModelHandlerBase implements OperationStepHandler {
     @Override
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
 
+        final HostControllerRegistrationHandler.OperationExecutor operationExecutor = parameters.getOperationExecutor();
+        final ModelNode remoteModel;
+        if (operation.hasDefined(ReadMasterDomainModelUtil.DOMAIN_MODEL_CHANGES)) {
+            // Only the changed resources were provided, the rest of the remote model is what we have locally
+            final ReadDomainModelHandler currentModelHandler = new ReadDomainModelHandler(null, TRANSFORMERS, true);
+            final ModelNode currentModel = operationExecutor.executeReadOnly(OPERATION, currentModelHandler, ModelController.OperationTransactionControl.COMMIT);
+            if (currentModel.hasDefined(FAILURE_DESCRIPTION)) {
+                context.getFailureDescription().set(currentModel.get(FAILURE_DESCRIPTION));
+                return;
+            }
+            remoteModel = ReadMasterDomainModelUtil.mergeChangedResources(currentModel.get(RESULT),
+                    operation.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_CHANGES), operation.require(DOMAIN_MODEL));
+        } else {
+            remoteModel = operation.require(DOMAIN_MODEL);
+        }
+
         // Create the remote model based on the result of the read-master-model operation
         final Set<String> remoteExtensions = new HashSet<>();
-        final Resource remote = ReadMasterDomainModelUtil.createResourceFromDomainModelOp(operation.require(DOMAIN_MODEL), remoteExtensions);
+        final Resource remote = ReadMasterDomainModelUtil.createResourceFromDomainModelOp(remoteModel, remoteExtensions);
         final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry = createRegistry(context, remote, remoteExtensions);
 
         // Describe the local model
         final ReadDomainModelHandler readModelHandler = new ReadDomainModelHandler(ignoredTransformationRegistry, TRANSFORMERS, true);
-        final HostControllerRegistrationHandler.OperationExecutor operationExecutor = parameters.getOperationExecutor();
         final ModelNode localModel = operationExecutor.executeReadOnly(OPERATION, readModelHandler, ModelController.OperationTransactionControl.COMMIT);
         if (localModel.hasDefined(FAILURE_DESCRIPTION)) {
             context.getFailureDescription().set(localModel.get(FAILURE_DESCRIPTION));
@@ -24,6 +24,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STE
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WARNINGS;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -72,6 +73,15 @@ class DomainFinalResultHandler implements OperationStepHandler {
         context.completeStep(new OperationContext.ResultHandler() {
             @Override
             public void handleResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
+                try {
+                    establishResult(resultAction, context, operation);
+                } finally {
+                    // The spooled server results are deleted here unless their stream was attached to the response
+                    multiphaseContext.discardServerResults();
+                }
+            }
+
+            private void establishResult(OperationContext.ResultAction resultAction, OperationContext context, ModelNode operation) {
                 DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Establishing final response -- result action is %s", resultAction);
                 // On the way out, fix up the response
                 final boolean isDomain = isDomainOperation(operation);
@@ -131,6 +141,12 @@ class DomainFinalResultHandler implements OperationStepHandler {
                 if (!shouldContinue && context.hasResult()) {
                     context.getResult().setEmptyObject();  // clear out any old data
                 }
+
+                final InputStream serverResultStream = multiphaseContext.getServerResultStream();
+                if (serverResultStream != null) {
+                    final String uuid = context.attachResultStream(ServerResultSpool.MIME_TYPE, serverResultStream);
+                    context.getResponseHeaders().get(ServerResultSpool.SERVER_RESULTS_STREAM).set(uuid);
+                }
             }
         });
     }
@@ -5,6 +5,9 @@
 
 package org.jboss.as.domain.controller.operations.coordination;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_DELAY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_SIZE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CALLER_TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CANCELLED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
@@ -475,6 +478,27 @@ public class DomainRolloutStepHandler implements OperationStepHandler {
                 throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanLess(prop.getName(), MAX_FAILED_SERVERS, max));
             }
         }
+        if (plan.hasDefined(BATCH_PERCENTAGE)) {
+            if (plan.has(BATCH_SIZE)) {
+                plan.remove(BATCH_SIZE);
+            }
+            int pct = plan.get(BATCH_PERCENTAGE).asInt();
+            if (pct < 0 || pct > 100) {
+                throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanRange(prop.getName(), BATCH_PERCENTAGE, pct));
+            }
+        }
+        if (plan.hasDefined(BATCH_SIZE)) {
+            int size = plan.get(BATCH_SIZE).asInt();
+            if (size < 1) {
+                throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanNotPositive(prop.getName(), BATCH_SIZE, size));
+            }
+        }
+        if (plan.hasDefined(BATCH_DELAY)) {
+            int delay = plan.get(BATCH_DELAY).asInt();
+            if (delay < 0) {
+                throw new OperationFailedException(DomainControllerLogger.HOST_CONTROLLER_LOGGER.invalidRolloutPlanLess(prop.getName(), BATCH_DELAY, delay));
+            }
+        }
     }
 
     private ModelNode getDefaultRolloutPlan(Map<String, Map<ServerIdentity, ModelNode>> opsByGroup) {
@@ -34,6 +34,7 @@ import org.jboss.as.controller.operations.OperationAttachments;
 import org.jboss.as.controller.remote.ResponseAttachmentInputStreamSupport;
 import org.jboss.as.controller.remote.TransactionalProtocolClient;
 import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.TransformedDomainModelCache;
 import org.jboss.dmr.ModelNode;
 import org.jboss.threads.AsyncFuture;
 import org.jboss.as.controller.operations.DomainOperationTransmuter;
@@ -47,11 +48,23 @@ public class DomainSlaveHandler implements OperationStepHandler {
 
     private final MultiphaseOverallContext multiphaseContext;
     private final Map<String, ProxyController> hostProxies;
+    private final TransformedDomainModelCache transformedModelCache;
 
     public DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
                               final MultiphaseOverallContext domainOperationContext) {
+        this(hostProxies, domainOperationContext, null);
+    }
+
+    /**
+     * @param transformedModelCache the cache tracking the transformation targets of the hosts, used to transform the
+     *                              operation only once for the hosts with the same target. May be {@code null}
+     */
+    public DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
+                              final MultiphaseOverallContext domainOperationContext,
+                              final TransformedDomainModelCache transformedModelCache) {
         this.hostProxies = hostProxies;
         this.multiphaseContext = domainOperationContext;
+        this.transformedModelCache = transformedModelCache;
     }
 
     @Override
@@ -70,6 +83,7 @@ public class DomainSlaveHandler implements OperationStepHandler {
         final HostControllerUpdateTask.ProxyOperationListener listener = new HostControllerUpdateTask.ProxyOperationListener();
         final Transformers.TransformationInputs transformationInputs = Transformers.TransformationInputs.getOrCreate(context);
         final List<DomainOperationTransmuter> transformers = context.getAttachment(OperationAttachments.SLAVE_SERVER_OPERATION_TRANSMUTERS);
+        final HostControllerUpdateTask.SharedTransformations sharedTransformations = transformedModelCache == null ? null : new HostControllerUpdateTask.SharedTransformations();
         for (Map.Entry<String, ProxyController> entry : hostProxies.entrySet()) {
             // Create the proxy task
             final String host = entry.getKey();
@@ -84,7 +98,9 @@ public class DomainSlaveHandler implements OperationStepHandler {
             // Set the flags for host controller operations
             clonedOp.get(OPERATION_HEADERS, EXECUTE_FOR_COORDINATOR).set(true);
             clonedOp.get(OPERATION_HEADERS, DomainControllerLockIdUtils.DOMAIN_CONTROLLER_LOCK_ID).set(CurrentOperationIdHolder.getCurrentOperationID());
-            final HostControllerUpdateTask task = new HostControllerUpdateTask(host, clonedOp, context, proxyController, transformationInputs);
+            final String targetKey = transformedModelCache == null ? null : transformedModelCache.getTargetKey(host);
+            final HostControllerUpdateTask task = new HostControllerUpdateTask(host, clonedOp, context, proxyController, transformationInputs,
+                    sharedTransformations, targetKey);
             // Execute the operation on the remote host
             final HostControllerUpdateTask.ExecutedHostRequest finalResult = task.execute(listener);
             multiphaseContext.recordHostRequest(host, finalResult);
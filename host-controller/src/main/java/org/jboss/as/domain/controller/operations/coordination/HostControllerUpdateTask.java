@@ -24,7 +24,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -58,15 +60,31 @@ class HostControllerUpdateTask {
     private final OperationContext context;
     private final TransformingProxyController proxyController;
     private final Transformers.TransformationInputs transformationInputs;
+    private final SharedTransformations sharedTransformations;
+    private final String targetKey;
 
     public HostControllerUpdateTask(final String name, final ModelNode operation, final OperationContext context,
                                     final TransformingProxyController proxyController,
                                     final Transformers.TransformationInputs transformationInputs) {
+        this(name, operation, context, proxyController, transformationInputs, null, null);
+    }
+
+    /**
+     * @param sharedTransformations the transformations of the operation shared among the hosts it is sent to, or
+     *                              {@code null} to transform it for this host only
+     * @param targetKey the key of the transformation target of the host, or {@code null} if it is unknown
+     */
+    HostControllerUpdateTask(final String name, final ModelNode operation, final OperationContext context,
+                             final TransformingProxyController proxyController,
+                             final Transformers.TransformationInputs transformationInputs,
+                             final SharedTransformations sharedTransformations, final String targetKey) {
         this.name = name;
         this.context = context;
         this.operation = operation;
         this.proxyController = proxyController;
         this.transformationInputs = transformationInputs;
+        this.sharedTransformations = sharedTransformations;
+        this.targetKey = targetKey;
     }
 
     public ExecutedHostRequest execute(final ProxyOperationListener listener) {
@@ -77,7 +95,7 @@ class HostControllerUpdateTask {
         final SubsystemInfoOperationListener subsystemListener = new SubsystemInfoOperationListener(listener, proxyController.getTransformers());
         try {
 
-            final OperationTransformer.TransformedOperation transformationResult = proxyController.transformOperation(transformationInputs, operation);
+            final OperationTransformer.TransformedOperation transformationResult = transformOperation();
             final ModelNode transformedOperation = transformationResult.getTransformedOperation();
             final ProxyOperation proxyOperation = new ProxyOperation(name, transformedOperation, messageHandler, operationAttachments);
             try {
@@ -119,6 +137,49 @@ class HostControllerUpdateTask {
         }
     }
 
+    private OperationTransformer.TransformedOperation transformOperation() throws OperationFailedException {
+        if (sharedTransformations == null || targetKey == null) {
+            return proxyController.transformOperation(transformationInputs, operation);
+        }
+        OperationTransformer.TransformedOperation transformed = sharedTransformations.get(targetKey, operation);
+        if (transformed == null) {
+            transformed = proxyController.transformOperation(transformationInputs, operation);
+            // A rejection policy describes its failures, and the warnings of the transformation, for this host only
+            if (transformed.hasRejectionPolicy()) {
+                return transformed;
+            }
+            sharedTransformations.put(targetKey, operation, transformed);
+        } else {
+            HOST_CONTROLLER_LOGGER.tracef("Reusing the transformation of %s for %s", operation, name);
+        }
+        // The transformed operation gets the headers of each host, so each gets its own copy
+        final ModelNode transformedOperation = transformed.getTransformedOperation();
+        return new OperationTransformer.TransformedOperation(transformedOperation == null ? null : transformedOperation.clone(),
+                transformed, transformed.getResultTransformer());
+    }
+
+    /**
+     * The transformations of an operation pushed to several hosts, shared among the hosts with the same
+     * transformation target so the operation is only transformed once for each target. Transformations with a
+     * rejection policy are not shared, as the failure description of the policy names the host it was created for.
+     */
+    static final class SharedTransformations {
+
+        // Target key -> the operation as it was before the transformation and the transformation
+        private final Map<String, ModelNode> operations = new HashMap<>();
+        private final Map<String, OperationTransformer.TransformedOperation> transformations = new HashMap<>();
+
+        private synchronized OperationTransformer.TransformedOperation get(final String targetKey, final ModelNode operation) {
+            // The operation is normally the same for all hosts, but this is not guaranteed
+            return operation.equals(operations.get(targetKey)) ? transformations.get(targetKey) : null;
+        }
+
+        private synchronized void put(final String targetKey, final ModelNode operation, final OperationTransformer.TransformedOperation transformed) {
+            operations.put(targetKey, operation.clone());
+            transformations.put(targetKey, transformed);
+        }
+    }
+
     static class ProxyOperation extends TransactionalOperationImpl {
 
         private final String name;
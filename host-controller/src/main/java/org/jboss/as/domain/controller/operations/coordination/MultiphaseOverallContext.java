@@ -11,6 +11,8 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_OPERATIONS;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,9 +47,19 @@ public final class MultiphaseOverallContext {
     private final Map<String, Boolean> serverGroupStatuses = new ConcurrentHashMap<String, Boolean>();
     private volatile boolean completeRollback = true;
     private volatile boolean failureReported;
+    private final ServerResultSpool serverResultSpool;
 
     MultiphaseOverallContext(final LocalHostControllerInfo localHostInfo) {
+        this(localHostInfo, null);
+    }
+
+    /**
+     * @param serverResultSpoolDirectory the directory to spool the full server results to, or {@code null} if the
+     *                                   server results are not streamed
+     */
+    MultiphaseOverallContext(final LocalHostControllerInfo localHostInfo, final Path serverResultSpoolDirectory) {
         this.localHostInfo = localHostInfo;
+        this.serverResultSpool = serverResultSpoolDirectory != null ? new ServerResultSpool(serverResultSpoolDirectory) : null;
     }
 
     LocalHostControllerInfo getLocalHostInfo() {
@@ -79,7 +91,30 @@ public final class MultiphaseOverallContext {
     }
 
     void addServerResult(ServerIdentity serverId, ModelNode serverResult) {
-        serverResults.put(serverId, serverResult);
+        if (serverResultSpool != null) {
+            // Only keep a summary, the full result goes to the stream of server results
+            serverResults.put(serverId, serverResultSpool.add(serverId, serverResult));
+        } else {
+            serverResults.put(serverId, serverResult);
+        }
+    }
+
+    /**
+     * Get the stream of the full server results if they are streamed.
+     *
+     * @return the stream, or {@code null} if the server results are not streamed or there are none
+     */
+    InputStream getServerResultStream() {
+        return serverResultSpool == null ? null : serverResultSpool.finish();
+    }
+
+    /**
+     * Discard the full server results if they are streamed but their stream was not attached to the response.
+     */
+    void discardServerResults() {
+        if (serverResultSpool != null) {
+            serverResultSpool.discard();
+        }
     }
 
     boolean isCompleteRollback() {
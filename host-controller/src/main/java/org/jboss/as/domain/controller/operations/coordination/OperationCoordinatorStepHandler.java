@@ -14,6 +14,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLOUT_PLAN;
 import static org.jboss.as.domain.controller.logging.DomainControllerLogger.HOST_CONTROLLER_LOGGER;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -28,6 +29,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.ProxyController;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
+import org.jboss.as.domain.controller.TransformedDomainModelCache;
 import org.jboss.as.domain.controller.logging.DomainControllerLogger;
 import org.jboss.dmr.ModelNode;
 
@@ -43,6 +45,8 @@ public class OperationCoordinatorStepHandler {
     private final Map<String, ProxyController> serverProxies;
     private final OperationSlaveStepHandler localSlaveHandler;
     private volatile ExecutorService executorService;
+    private volatile TransformedDomainModelCache transformedModelCache;
+    private volatile Path serverResultSpoolDirectory;
 
     OperationCoordinatorStepHandler(final LocalHostControllerInfo localHostControllerInfo,
                                     final Map<String, ProxyController> hostProxies,
@@ -98,6 +102,14 @@ public class OperationCoordinatorStepHandler {
         this.executorService = executorService;
     }
 
+    public void setTransformedDomainModelCache(TransformedDomainModelCache transformedModelCache) {
+        this.transformedModelCache = transformedModelCache;
+    }
+
+    public void setServerResultSpoolDirectory(Path serverResultSpoolDirectory) {
+        this.serverResultSpoolDirectory = serverResultSpoolDirectory;
+    }
+
     private ExecutorService getExecutorService() {
         return executorService == null ? Executors.newSingleThreadExecutor() : executorService;
     }
@@ -130,13 +142,16 @@ public class OperationCoordinatorStepHandler {
 
         configureDomainUUID(operation);
 
-        MultiphaseOverallContext overallContext = new MultiphaseOverallContext(localHostControllerInfo);
-
         // Get a copy of the headers for use on the servers so they don't get disrupted by any handlers
         // Also get a copy of the rollout plan. Remove it from the headers as no one needs it but us
         final ModelNode operationHeaders = operation.get(OPERATION_HEADERS);
         final ModelNode rolloutPlan = operationHeaders.has(ROLLOUT_PLAN)
                 ? operation.get(OPERATION_HEADERS).remove(ROLLOUT_PLAN) : new ModelNode();
+        final boolean streamServerResults = operationHeaders.has(ServerResultSpool.STREAM_SERVER_RESULTS)
+                && operation.get(OPERATION_HEADERS).remove(ServerResultSpool.STREAM_SERVER_RESULTS).asBoolean(false);
+
+        MultiphaseOverallContext overallContext = new MultiphaseOverallContext(localHostControllerInfo,
+                streamServerResults ? serverResultSpoolDirectory : null);
 
         // Create the op we'll ask the HCs to execute
         final ModelNode slaveOp = operation.clone();
@@ -192,7 +207,7 @@ public class OperationCoordinatorStepHandler {
                     }
                 }
 
-                context.addStep(slaveOp.clone(), new DomainSlaveHandler(remoteProxies, overallContext), OperationContext.Stage.DOMAIN);
+                context.addStep(slaveOp.clone(), new DomainSlaveHandler(remoteProxies, overallContext, transformedModelCache), OperationContext.Stage.DOMAIN);
             }
         }
 
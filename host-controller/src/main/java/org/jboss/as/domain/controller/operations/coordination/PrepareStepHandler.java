@@ -16,6 +16,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USE
 import static org.jboss.as.domain.controller.logging.DomainControllerLogger.HOST_CONTROLLER_LOGGER;
 import static org.jboss.as.domain.controller.operations.coordination.OperationCoordinatorStepHandler.configureDomainUUID;
 
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
@@ -29,6 +30,7 @@ import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
+import org.jboss.as.domain.controller.TransformedDomainModelCache;
 import org.jboss.as.host.controller.ServerInventory;
 import org.jboss.as.host.controller.ignored.IgnoredDomainResourceRegistry;
 import org.jboss.dmr.ModelNode;
@@ -83,6 +85,14 @@ public class PrepareStepHandler  implements OperationStepHandler {
         coordinatorHandler.setExecutorService(executorService);
     }
 
+    public void setTransformedDomainModelCache(final TransformedDomainModelCache transformedModelCache) {
+        coordinatorHandler.setTransformedDomainModelCache(transformedModelCache);
+    }
+
+    public void setServerResultSpoolDirectory(final Path serverResultSpoolDirectory) {
+        coordinatorHandler.setServerResultSpoolDirectory(serverResultSpoolDirectory);
+    }
+
     private boolean isServerOperation(ModelNode operation) {
         PathAddress addr = PathAddress.pathAddress(operation.get(OP_ADDR));
         return addr.size() > 1
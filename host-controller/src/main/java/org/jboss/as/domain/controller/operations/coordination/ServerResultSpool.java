@@ -0,0 +1,159 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller.operations.coordination;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLED_BACK;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jboss.as.domain.controller.ServerIdentity;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
+import org.jboss.as.protocol.StreamUtils;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Spools the full results of the servers of a domain operation to a temporary file of the host controller as they
+ * arrive, so the domain controller only keeps a summary of each of them in memory. The file is attached to the
+ * response of the operation as a stream, see {@link #STREAM_SERVER_RESULTS}, and deleted once the stream is closed
+ * or, if the response never gets it, once the spool is {@link #discard() discarded}.
+ */
+final class ServerResultSpool {
+
+    /**
+     * The operation header asking for the results of the servers to be streamed. The {@code server-groups} part of
+     * the response then only holds the outcome and failure description of each server, and the response header
+     * {@link #SERVER_RESULTS_STREAM} holds the uuid of the attached stream with the full results. The stream is a
+     * sequence of DMR encoded objects with {@code server-group}, {@code host}, {@code server} and {@code response}
+     * keys, in the order the servers responded.
+     */
+    static final String STREAM_SERVER_RESULTS = "stream-server-results";
+    /** The response header with the uuid of the stream of server results */
+    static final String SERVER_RESULTS_STREAM = "server-results-stream";
+    static final String MIME_TYPE = "application/dmr-encoded";
+
+    private final Path directory;
+    private Path file;
+    private DataOutputStream output;
+    private int count;
+    private boolean closed;
+
+    /**
+     * @param directory the directory of the spool file
+     */
+    ServerResultSpool(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Write the result of a server to the spool.
+     *
+     * @param serverId the server
+     * @param response the full response of the server
+     * @return the summary of the response to keep in memory, or the full response if it could not be spooled
+     */
+    synchronized ModelNode add(final ServerIdentity serverId, final ModelNode response) {
+        if (closed) {
+            return response;
+        }
+        try {
+            if (output == null) {
+                Files.createDirectories(directory);
+                file = Files.createTempFile(directory, "server-results", ".dmr");
+                output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            }
+            final ModelNode entry = new ModelNode();
+            entry.get(SERVER_GROUP).set(serverId.getServerGroupName());
+            entry.get(HOST).set(serverId.getHostName());
+            entry.get(SERVER).set(serverId.getServerName());
+            entry.get(RESPONSE).set(response);
+            entry.writeExternal(output);
+            count++;
+        } catch (IOException e) {
+            DomainControllerLogger.HOST_CONTROLLER_LOGGER.failedSpoolingServerResult(e, serverId.getServerName(), serverId.getHostName());
+            return response;
+        }
+        return summarize(response);
+    }
+
+    /**
+     * Close the spool and get the stream of the spooled results. The file of the spool is deleted when the stream
+     * is closed.
+     *
+     * @return the stream, or {@code null} if no result was spooled
+     */
+    synchronized InputStream finish() {
+        if (closed || output == null) {
+            closed = true;
+            return null;
+        }
+        closed = true;
+        try {
+            output.close();
+            if (count > 0) {
+                final Path spooled = file;
+                return new FilterInputStream(Files.newInputStream(spooled)) {
+                    @Override
+                    public void close() throws IOException {
+                        try {
+                            super.close();
+                        } finally {
+                            Files.deleteIfExists(spooled);
+                        }
+                    }
+                };
+            }
+        } catch (IOException e) {
+            DomainControllerLogger.HOST_CONTROLLER_LOGGER.debugf(e, "Failed to read spooled server results from %s", file);
+        }
+        delete();
+        return null;
+    }
+
+    /**
+     * Close the spool and delete its file, unless the stream of the spooled results was already handed out by
+     * {@link #finish()}.
+     */
+    synchronized void discard() {
+        if (!closed) {
+            closed = true;
+            if (output != null) {
+                StreamUtils.safeClose(output);
+                delete();
+            }
+        }
+    }
+
+    private void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            DomainControllerLogger.HOST_CONTROLLER_LOGGER.debugf(e, "Failed to delete spooled server results %s", file);
+        }
+    }
+
+    private static ModelNode summarize(final ModelNode response) {
+        final ModelNode summary = new ModelNode();
+        for (String key : new String[] { OUTCOME, FAILURE_DESCRIPTION, ROLLED_BACK, RESPONSE_HEADERS }) {
+            if (response.has(key)) {
+                summary.get(key).set(response.get(key));
+            }
+        }
+        return summary;
+    }
+}
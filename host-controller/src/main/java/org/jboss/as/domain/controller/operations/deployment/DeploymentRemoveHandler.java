@@ -26,6 +26,7 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.domain.controller.DeploymentContentSources;
 import org.jboss.as.domain.controller.logging.DomainControllerLogger;
 import org.jboss.as.repository.ContentRepository;
 import org.jboss.as.repository.DeploymentFileRepository;
@@ -52,7 +53,18 @@ public abstract class DeploymentRemoveHandler implements OperationStepHandler {
     }
 
     public static DeploymentRemoveHandler createForMaster(ContentRepository contentRepository) {
-        return new MasterDeploymentRemoveHandler(contentRepository);
+        return createForMaster(contentRepository, null);
+    }
+
+    /**
+     * Create the handler removing deployments on the domain controller.
+     *
+     * @param contentRepository the repository of the deployment content
+     * @param contentSources the registry of the hosts serving deployment content to other hosts, or {@code null}
+     * @return the handler
+     */
+    public static DeploymentRemoveHandler createForMaster(ContentRepository contentRepository, DeploymentContentSources contentSources) {
+        return new MasterDeploymentRemoveHandler(contentRepository, contentSources);
     }
 
     @Override
@@ -111,10 +123,12 @@ public abstract class DeploymentRemoveHandler implements OperationStepHandler {
 
     private static class MasterDeploymentRemoveHandler extends DeploymentRemoveHandler {
         final ContentRepository contentRepository;
+        final DeploymentContentSources contentSources;
 
-        private MasterDeploymentRemoveHandler(ContentRepository contentRepository) {
+        private MasterDeploymentRemoveHandler(ContentRepository contentRepository, DeploymentContentSources contentSources) {
             assert contentRepository != null : "Null contentRepository";
             this.contentRepository = contentRepository;
+            this.contentSources = contentSources;
         }
 
         @Override
@@ -123,6 +137,10 @@ public abstract class DeploymentRemoveHandler implements OperationStepHandler {
                 try {
                     if (contentRepository != null && (newHashes.isEmpty() || !newHashes.contains(HashUtil.bytesToHexString(hash)))) {
                         contentRepository.removeContent(ModelContentReference.fromModelAddress(address, hash));
+                        if (contentSources != null) {
+                            // The slaves drop the content as well
+                            contentSources.removeContent(HashUtil.bytesToHexString(hash));
+                        }
                     } else if(contentRepository != null) {
                         ROOT_LOGGER.undeployingDeploymentHasBeenRedeployed(address.getLastElement().getValue());
                     }
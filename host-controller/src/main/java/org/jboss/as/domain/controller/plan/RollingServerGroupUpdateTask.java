@@ -6,8 +6,9 @@
 package org.jboss.as.domain.controller.plan;
 
 import java.net.InetAddress;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.BlockingTimeout;
@@ -17,48 +18,131 @@ import org.wildfly.security.auth.server.SecurityIdentity;
 import org.jboss.as.domain.controller.ServerIdentity;
 
 /**
+ * Rolls an update out to the servers of a group in waves of a fixed number of servers, one server at a time by
+ * default. A wave is only started once all servers of the previous one prepared the update, and only on the servers
+ * the {@link ServerUpdatePolicy} still allows to update, so too many failures stop the rollout of further waves.
+ *
  * @author Emanuel Muckenhuber
  */
 class RollingServerGroupUpdateTask extends AbstractServerGroupRolloutTask implements Runnable {
 
+    private final int batchSize;
+    private final long batchDelay;
+
     public RollingServerGroupUpdateTask(List<ServerUpdateTask> tasks, ServerUpdatePolicy updatePolicy,
                                         ServerTaskExecutor executor, SecurityIdentity securityIdentity, InetAddress sourceAddress, BlockingTimeout blockingTimeout) {
+        this(tasks, updatePolicy, executor, securityIdentity, sourceAddress, blockingTimeout, 1, 0);
+    }
+
+    /**
+     * @param batchSize the number of servers updated concurrently in each wave
+     * @param batchDelay the time in milliseconds to wait between waves
+     */
+    RollingServerGroupUpdateTask(List<ServerUpdateTask> tasks, ServerUpdatePolicy updatePolicy,
+                                 ServerTaskExecutor executor, SecurityIdentity securityIdentity, InetAddress sourceAddress, BlockingTimeout blockingTimeout,
+                                 int batchSize, long batchDelay) {
         super(tasks, updatePolicy, executor, securityIdentity, sourceAddress, blockingTimeout);
+        this.batchSize = Math.max(1, batchSize);
+        this.batchDelay = batchDelay;
     }
 
     @Override
     public void execute() {
         boolean interrupted = false;
         final ServerTaskExecutor.ServerOperationListener listener = new ServerTaskExecutor.ServerOperationListener();
-        for(final ServerUpdateTask task : tasks) {
+        for (int start = 0; start < tasks.size(); start += batchSize) {
+            final List<ServerUpdateTask> wave = tasks.subList(start, Math.min(start + batchSize, tasks.size()));
+            if (start > 0 && !interrupted) {
+                if (!canUpdateAny(tasks.subList(start, tasks.size()))) {
+                    // The policy refuses any further update, don't wait for waves that would not update anything
+                    break;
+                }
+                if (batchDelay > 0) {
+                    try {
+                        Thread.sleep(batchDelay);
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            interrupted = executeWave(wave, listener, interrupted);
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets whether the update policy still allows to update any of the servers of the remaining tasks, skipping
+     * them otherwise.
+     */
+    private boolean canUpdateAny(final List<ServerUpdateTask> remaining) {
+        for (final ServerUpdateTask task : remaining) {
+            if (updatePolicy.canUpdateServer(task.getServerIdentity())) {
+                return true;
+            }
+        }
+        for (final ServerUpdateTask task : remaining) {
+            DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Skipping server update task for %s", task.getServerIdentity());
+        }
+        return false;
+    }
+
+    /**
+     * Execute the tasks of a wave, waiting for all of them to prepare.
+     *
+     * @return whether the thread was interrupted
+     */
+    private boolean executeWave(final List<ServerUpdateTask> wave, final ServerTaskExecutor.ServerOperationListener listener, final boolean wasInterrupted) {
+        final Map<ServerIdentity, ServerUpdateTask> outstanding = new LinkedHashMap<>();
+        long preparedTimeout = 0;
+        for (final ServerUpdateTask task : wave) {
             final ServerIdentity identity = task.getServerIdentity();
-            if(interrupted || ! updatePolicy.canUpdateServer(identity)) {
+            if(wasInterrupted || ! updatePolicy.canUpdateServer(identity)) {
                 DomainControllerLogger.HOST_CONTROLLER_LOGGER.tracef("Skipping server update task for %s", identity);
                 continue;
             }
             // Execute the task
             long timeout = executor.executeTask(listener, task);
             if (timeout > -1) {
-                try {
-                    // Wait for the prepared result
-                    final TransactionalProtocolClient.PreparedOperation<ServerTaskExecutor.ServerOperation> prepared =
-                            listener.retrievePreparedOperation(timeout, TimeUnit.MILLISECONDS);
-                    if (prepared != null) {
-                        recordPreparedOperation(identity, prepared);
-                    } else {
-                        DomainControllerLogger.HOST_CONTROLLER_LOGGER.timedOutAwaitingPreparedResponse(getClass().getSimpleName(), timeout, Collections.singleton(identity));
-                        executor.cancelTask(identity);
-                        handlePreparePhaseTimeout(identity, task, timeout);
-                    }
-                } catch (InterruptedException e) {
-                    DomainControllerLogger.HOST_CONTROLLER_LOGGER.interruptedAwaitingPreparedResponse(getClass().getSimpleName(), Collections.singleton(identity));
-                    executor.cancelTask(identity);
-                    interrupted = true;
+                outstanding.put(identity, task);
+                preparedTimeout = Math.max(preparedTimeout, timeout);
+            }
+        }
+        boolean interrupted = wasInterrupted;
+        final long deadline = System.currentTimeMillis() + preparedTimeout;
+        long remaining = preparedTimeout;
+        while (!interrupted && !outstanding.isEmpty() && remaining > 0) {
+            try {
+                // Wait for the prepared results
+                final TransactionalProtocolClient.PreparedOperation<ServerTaskExecutor.ServerOperation> prepared =
+                        listener.retrievePreparedOperation(remaining, TimeUnit.MILLISECONDS);
+                if (prepared == null) {
+                    // timed out
+                    break;
                 }
+                final ServerIdentity identity = prepared.getOperation().getIdentity();
+                recordPreparedOperation(identity, prepared);
+                outstanding.remove(identity);
+            } catch (InterruptedException e) {
+                interrupted = true;
             }
+            remaining = deadline - System.currentTimeMillis();
         }
-        if(interrupted) {
-            Thread.currentThread().interrupt();
+        if (!outstanding.isEmpty()) {
+            if (interrupted) {
+                DomainControllerLogger.HOST_CONTROLLER_LOGGER.interruptedAwaitingPreparedResponse(getClass().getSimpleName(), outstanding.keySet());
+            } else {
+                DomainControllerLogger.HOST_CONTROLLER_LOGGER.timedOutAwaitingPreparedResponse(getClass().getSimpleName(), preparedTimeout, outstanding.keySet());
+            }
+            for (Map.Entry<ServerIdentity, ServerUpdateTask> entry : outstanding.entrySet()) {
+                final ServerIdentity identity = entry.getKey();
+                executor.cancelTask(identity);
+                if (!interrupted) {
+                    handlePreparePhaseTimeout(identity, entry.getValue(), preparedTimeout);
+                }
+            }
         }
+        return interrupted;
     }
 }
@@ -9,6 +9,9 @@
 package org.jboss.as.domain.controller.plan;
 
 import static java.security.AccessController.doPrivileged;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_DELAY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_SIZE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONCURRENT_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.GRACEFUL_SHUTDOWN_TIMEOUT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
@@ -124,7 +127,17 @@ public class RolloutPlanController {
 
                     SecurityIdentity securityIdentity = accessAuditContext != null ?  accessAuditContext.getSecurityIdentity() : null;
                     InetAddress sourceAddress = accessAuditContext != null ?  accessAuditContext.getRemoteAddress() : null;
-                    seriesTasks.add(rollingGroup ? new RollingServerGroupUpdateTask(groupTasks, policy, taskExecutor, securityIdentity, sourceAddress, blockingTimeout)
+                    // Waves of a batch of servers, or of a single server when rolling to servers
+                    int batchSize = rollingGroup ? 1 : 0;
+                    if (policyNode.hasDefined(BATCH_PERCENTAGE)) {
+                        int pct = policyNode.get(BATCH_PERCENTAGE).asInt();
+                        batchSize = Math.max(1, (servers.size() * pct) / 100);
+                    }
+                    else if (policyNode.hasDefined(BATCH_SIZE)) {
+                        batchSize = policyNode.get(BATCH_SIZE).asInt();
+                    }
+                    final long batchDelay = policyNode.hasDefined(BATCH_DELAY) ? policyNode.get(BATCH_DELAY).asLong() : 0;
+                    seriesTasks.add(batchSize > 0 ? new RollingServerGroupUpdateTask(groupTasks, policy, taskExecutor, securityIdentity, sourceAddress, blockingTimeout, batchSize, batchDelay)
                         : new ConcurrentServerGroupUpdateTask(groupTasks, policy, taskExecutor, securityIdentity, sourceAddress, blockingTimeout));
 
                     updatePolicies.put(serverGroupName, policy);
@@ -15,6 +15,7 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry.Flag;
+import org.jboss.as.domain.controller.DeploymentContentSources;
 import org.jboss.as.domain.controller.operations.deployment.DeploymentAddHandler;
 import org.jboss.as.domain.controller.operations.deployment.DeploymentExplodeHandler;
 import org.jboss.as.domain.controller.operations.deployment.DeploymentRemoveHandler;
@@ -57,10 +58,14 @@ class DomainDeploymentResourceDefinition extends DeploymentResourceDefinition {
     }
 
     public static DomainDeploymentResourceDefinition createForDomainMaster(ContentRepository contentRepository) {
+        return createForDomainMaster(contentRepository, null);
+    }
+
+    public static DomainDeploymentResourceDefinition createForDomainMaster(ContentRepository contentRepository, DeploymentContentSources contentSources) {
         return new DomainDeploymentResourceDefinition(DeploymentResourceParent.DOMAIN,
                 DeploymentAttributes.DOMAIN_DEPLOYMENT_ADD_DEFINITION,
                 new DeploymentAddHandler(contentRepository),
-                DeploymentRemoveHandler.createForMaster(contentRepository),
+                DeploymentRemoveHandler.createForMaster(contentRepository, contentSources),
                 new DeploymentExplodeHandler(contentRepository),
                 new ExplodedDeploymentAddContentHandler(contentRepository),
                 new ExplodedDeploymentRemoveContentHandler(contentRepository),
@@ -4,6 +4,9 @@
  */
 package org.jboss.as.domain.controller.resources;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_DELAY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_SIZE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONCURRENT_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
@@ -100,6 +103,7 @@ import org.jboss.as.server.services.net.InterfaceAddHandler;
 import org.jboss.as.server.services.net.InterfaceResourceDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
 import org.wildfly.common.Assert;
 
 /**
@@ -319,7 +323,7 @@ public class DomainRootDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerSubModel(new ProfileResourceDefinition(hostControllerInfo, ignoredDomainResourceRegistry));
         resourceRegistration.registerSubModel(PathResourceDefinition.createNamed());
         ResourceDefinition domainDeploymentDefinition = isMaster
-                ? DomainDeploymentResourceDefinition.createForDomainMaster(contentRepo)
+                ? DomainDeploymentResourceDefinition.createForDomainMaster(contentRepo, domainController.getDeploymentContentSources())
                 : DomainDeploymentResourceDefinition.createForDomainSlave(environment.isBackupDomainFiles(), fileRepository, contentRepo);
         resourceRegistration.registerSubModel(domainDeploymentDefinition);
         resourceRegistration.registerSubModel(new DomainDeploymentOverlayDefinition(true, contentRepo, fileRepository));
@@ -355,7 +359,8 @@ public class DomainRootDefinition extends SimpleResourceDefinition {
     }
 
     public static class RolloutPlanValidator implements ParameterValidator {
-        private static final List<String> ALLOWED_SERVER_GROUP_CHILDREN = Arrays.asList(ROLLING_TO_SERVERS, MAX_FAILURE_PERCENTAGE, MAX_FAILED_SERVERS);
+        private static final List<String> ALLOWED_SERVER_GROUP_CHILDREN = Arrays.asList(ROLLING_TO_SERVERS, MAX_FAILURE_PERCENTAGE, MAX_FAILED_SERVERS,
+                BATCH_SIZE, BATCH_PERCENTAGE, BATCH_DELAY);
         @Override
         public void validateParameter(String parameterName, ModelNode plan) throws OperationFailedException {
             Assert.assertNotNull(plan);
@@ -400,10 +405,12 @@ public class DomainRootDefinition extends SimpleResourceDefinition {
                         throw new OperationFailedException(DomainControllerLogger.ROOT_LOGGER.serverGroupExpectsSingleChild(plan.toString()));
                     }
                     validateInSeriesServerGroup(serverGroup.asProperty().getValue());
+                    validateBatches(serverGroup.asProperty());
                 } else if(group.hasDefined(CONCURRENT_GROUPS)) {
                     final ModelNode concurrent = group.get(CONCURRENT_GROUPS);
                     for(ModelNode child: concurrent.asList()) {
                         validateInSeriesServerGroup(child.asProperty().getValue());
+                        validateBatches(child.asProperty());
                     }
                 } else {
                     throw new OperationFailedException(DomainControllerLogger.ROOT_LOGGER.unexpectedInSeriesGroup(plan.toString()));
@@ -422,6 +429,27 @@ public class DomainRootDefinition extends SimpleResourceDefinition {
                 }
             }
         }
+
+        private static void validateBatches(Property serverGroup) throws OperationFailedException {
+            final ModelNode spec = serverGroup.getValue();
+            if (spec.hasDefined(BATCH_PERCENTAGE)) {
+                int pct = spec.get(BATCH_PERCENTAGE).asInt();
+                if (pct < 0 || pct > 100) {
+                    throw new OperationFailedException(DomainControllerLogger.ROOT_LOGGER.invalidRolloutPlanRange(serverGroup.getName(), BATCH_PERCENTAGE, pct));
+                }
+            } else if (spec.hasDefined(BATCH_SIZE)) {
+                int size = spec.get(BATCH_SIZE).asInt();
+                if (size < 1) {
+                    throw new OperationFailedException(DomainControllerLogger.ROOT_LOGGER.invalidRolloutPlanNotPositive(serverGroup.getName(), BATCH_SIZE, size));
+                }
+            }
+            if (spec.hasDefined(BATCH_DELAY)) {
+                int delay = spec.get(BATCH_DELAY).asInt();
+                if (delay < 0) {
+                    throw new OperationFailedException(DomainControllerLogger.ROOT_LOGGER.invalidRolloutPlanLess(serverGroup.getName(), BATCH_DELAY, delay));
+                }
+            }
+        }
     }
 
 }
@@ -21,6 +21,7 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -68,6 +69,33 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
             .setRuntimeServiceNotRequired()
             .build();
 
+    private static final AttributeDefinition SUSPICION_LEVEL_DEF = SimpleAttributeDefinitionBuilder.create(HostConnectionInfo.SUSPICION_LEVEL, ModelType.DOUBLE, true)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    private static final AttributeDefinition UPPER_BOUND_DEF = SimpleAttributeDefinitionBuilder.create(HostConnectionInfo.UPPER_BOUND, ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    private static final AttributeDefinition COUNT_DEF = SimpleAttributeDefinitionBuilder.create(HostConnectionInfo.COUNT, ModelType.LONG, false)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    private static final ObjectTypeAttributeDefinition BUCKET = ObjectTypeAttributeDefinition.Builder.of("bucket", UPPER_BOUND_DEF, COUNT_DEF)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
+    private static final ObjectListAttributeDefinition PING_ROUND_TRIP_TIMES = ObjectListAttributeDefinition.Builder.of(HostConnectionInfo.PING_ROUND_TRIP_TIMES, BUCKET)
+            .setRequired(false)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
     private static final OperationDefinition PRUNE_EXPIRED_DEF = new SimpleOperationDefinitionBuilder("prune-expired", RESOLVER)
             .withFlag(OperationEntry.Flag.MASTER_HOST_CONTROLLER_ONLY)
             .build();
@@ -88,6 +116,8 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
         resourceRegistration.registerReadOnlyAttribute(CONNECTION_DEF, attributeReadHandler);
         resourceRegistration.registerReadOnlyAttribute(EVENT_LIST, attributeReadHandler);
+        resourceRegistration.registerMetric(SUSPICION_LEVEL_DEF, attributeReadHandler);
+        resourceRegistration.registerMetric(PING_ROUND_TRIP_TIMES, attributeReadHandler);
     }
 
     @Override
@@ -125,6 +155,14 @@ public class HostConnectionResourceDefinition extends SimpleResourceDefinition {
                     case HostConnectionInfo.EVENTS:
                         processEvents(info, result.setEmptyList());
                         break;
+                    case HostConnectionInfo.SUSPICION_LEVEL:
+                        if (info.isConnected()) {
+                            result.set(info.getSuspicionLevel());
+                        }
+                        break;
+                    case HostConnectionInfo.PING_ROUND_TRIP_TIMES:
+                        result.set(info.getPingRoundTripTimes());
+                        break;
                 }
             }
         }
@@ -121,11 +121,14 @@ import org.jboss.as.controller.remote.ModelControllerOperationHandlerFactory;
 import org.jboss.as.controller.services.path.PathManagerService;
 import org.jboss.as.controller.transform.Transformers;
 import org.jboss.as.domain.controller.DomainController;
+import org.jboss.as.domain.controller.DeploymentContentSources;
+import org.jboss.as.domain.controller.DomainModelChangeJournal;
 import org.jboss.as.domain.controller.HostConnectionInfo;
 import org.jboss.as.domain.controller.HostConnectionInfo.Event;
 import org.jboss.as.domain.controller.HostRegistrations;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
+import org.jboss.as.domain.controller.TransformedDomainModelCache;
 import org.jboss.as.domain.controller.operations.ApplyExtensionsHandler;
 import org.jboss.as.domain.controller.operations.DomainModelIncludesValidator;
 import org.jboss.as.domain.controller.operations.coordination.PrepareStepHandler;
@@ -140,6 +143,7 @@ import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.host.controller.mgmt.DomainHostExcludeRegistry;
 import org.jboss.as.host.controller.mgmt.HostControllerRegistrationHandler;
 import org.jboss.as.host.controller.mgmt.MasterDomainControllerOperationHandlerService;
+import org.jboss.as.host.controller.mgmt.PeerContentOperationHandlerService;
 import org.jboss.as.host.controller.mgmt.ServerToHostOperationHandlerFactoryService;
 import org.jboss.as.host.controller.mgmt.ServerToHostProtocolHandler;
 import org.jboss.as.host.controller.mgmt.SlaveHostPinger;
@@ -208,6 +212,8 @@ public class DomainModelControllerService extends AbstractControllerService impl
     private final LocalHostControllerInfoImpl hostControllerInfo;
     private final HostFileRepository localFileRepository;
     private final RemoteFileRepository remoteFileRepository;
+    private final DeploymentContentSources deploymentContentSources = new DeploymentContentSources();
+    private final TransformedDomainModelCache transformedDomainModelCache = new TransformedDomainModelCache();
     private final InjectedValue<ProcessControllerConnectionService> injectedProcessControllerConnection = new InjectedValue<ProcessControllerConnectionService>();
     private final ConcurrentMap<String, ProxyController> hostProxies;
     private final DomainSlaveHostRegistrations slaveHostRegistrations = new DomainSlaveHostRegistrations();
@@ -411,6 +417,8 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 final String address = hostRegistration.getAddress();
                 final Event event = cleanShutdown ? create(HostConnectionInfo.EventType.UNREGISTERED, address) : create(HostConnectionInfo.EventType.UNCLEAN_UNREGISTRATION, address);
                 slaveHostRegistrations.unregisterHost(id, event);
+                deploymentContentSources.removeHost(id);
+                transformedDomainModelCache.removeHost(id);
                 boolean registered = hostProxies.remove(id) != null;
 
                 if (registered) {
@@ -525,6 +533,8 @@ public class DomainModelControllerService extends AbstractControllerService impl
         this.hostControllerConfigurationPersister = new HostControllerConfigurationPersister(environment, hostControllerInfo, executorService, hostExtensionRegistry, extensionRegistry);
         setConfigurationPersister(hostControllerConfigurationPersister);
         prepareStepHandler.setExecutorService(executorService);
+        prepareStepHandler.setTransformedDomainModelCache(transformedDomainModelCache);
+        prepareStepHandler.setServerResultSpoolDirectory(environment.getDomainTempDir().toPath());
         ThreadFactory pingerThreadFactory = doPrivileged(new PrivilegedAction<JBossThreadFactory>() {
             public JBossThreadFactory run() {
                 return new JBossThreadFactory(ThreadGroupHolder.THREAD_GROUP, Boolean.TRUE, null, "%G - %t", null, null);
@@ -1016,6 +1026,10 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 serverProxies,
                 domainConfigAvailable);
         masterDomainControllerClient = getFuture(clientFuture);
+        if (WildFlySecurityManager.getPropertyPrivileged(PeerContentOperationHandlerService.PEER_ADDRESS_PROPERTY, null) != null) {
+            // Other slaves may fetch the deployment content held by this host
+            PeerContentOperationHandlerService.install(serviceTarget, getExecutorService(), localFileRepository);
+        }
         //Registers us with the master and gets down the master copy of the domain model to our DC
         // if --cached-dc is used and the DC is unavailable, we'll use a cached copy of the domain config
         // (if available), and poll for reconnection to the DC. Once the DC becomes available again, the domain
@@ -1285,6 +1299,16 @@ public class DomainModelControllerService extends AbstractControllerService impl
             return getServerInventory().determineServerStatus(serverName);
         }
 
+        @Override
+        public long getServerStartWaitTime(String serverName) {
+            return getServerInventory().getServerStartWaitTime(serverName);
+        }
+
+        @Override
+        public long getServerStartDuration(String serverName) {
+            return getServerInventory().getServerStartDuration(serverName);
+        }
+
         @Override
         public ServerStatus startServer(String serverName, ModelNode domainModel) {
             return getServerInventory().startServer(serverName, domainModel);
@@ -1387,6 +1411,21 @@ public class DomainModelControllerService extends AbstractControllerService impl
         return extensionRegistry;
     }
 
+    @Override
+    public DomainModelChangeJournal getDomainModelChangeJournal() {
+        return hostControllerConfigurationPersister.getDomainModelChangeJournal();
+    }
+
+    @Override
+    public DeploymentContentSources getDeploymentContentSources() {
+        return hostControllerInfo.isMasterDomainController() ? deploymentContentSources : null;
+    }
+
+    @Override
+    public TransformedDomainModelCache getTransformedDomainModelCache() {
+        return hostControllerInfo.isMasterDomainController() ? transformedDomainModelCache : null;
+    }
+
     @Override
     public ImmutableCapabilityRegistry getCapabilityRegistry() {
         return capabilityRegistry;
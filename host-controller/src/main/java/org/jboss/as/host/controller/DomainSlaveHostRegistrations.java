@@ -15,6 +15,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.domain.controller.HostConnectionInfo;
 import org.jboss.as.host.controller.mgmt.SlaveHostPinger;
+import org.jboss.dmr.ModelNode;
 
 /**
  * @author Emanuel Muckenhuber
@@ -181,6 +182,16 @@ public class DomainSlaveHostRegistrations {
             return events;
         }
 
+        @Override
+        public double getSuspicionLevel() {
+            return pinger != null ? pinger.getSuspicionLevel() : 0;
+        }
+
+        @Override
+        public ModelNode getPingRoundTripTimes() {
+            return pinger != null ? pinger.getRoundTripTimes() : new ModelNode();
+        }
+
         protected String getAddress() {
             return address;
         }
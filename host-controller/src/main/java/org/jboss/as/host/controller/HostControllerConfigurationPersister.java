@@ -22,6 +22,7 @@ import org.jboss.as.controller.persistence.ConfigurationFile;
 import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
 import org.jboss.as.controller.persistence.ExtensibleConfigurationPersister;
 import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
+import org.jboss.as.domain.controller.DomainModelChangeJournal;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.dmr.ModelNode;
@@ -42,6 +43,7 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
     private final ExecutorService executorService;
     private final ExtensionRegistry hostExtensionRegistry;
     private final ExtensionRegistry extensionRegistry;
+    private final DomainModelChangeJournal domainModelChangeJournal = new DomainModelChangeJournal();
     private Boolean slave;
 
     public HostControllerConfigurationPersister(final HostControllerEnvironment environment, final LocalHostControllerInfo localHostControllerInfo,
@@ -123,6 +125,15 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
         return hostPersister;
     }
 
+    /**
+     * Gets the journal of the committed changes of the domain wide part of the model.
+     *
+     * @return the journal. Will not be {@code null}
+     */
+    public DomainModelChangeJournal getDomainModelChangeJournal() {
+        return domainModelChangeJournal;
+    }
+
     @Override
     public PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
         final PersistenceResource[] delegates = new PersistenceResource[2];
@@ -148,6 +159,7 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
                 }
                 if (delegates[1] != null) {
                     delegates[1].commit();
+                    domainModelChangeJournal.recordChange(affectedAddresses);
                 }
             }
 
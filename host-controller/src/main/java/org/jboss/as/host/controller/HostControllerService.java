@@ -31,6 +31,7 @@ import java.util.regex.Pattern;
 import org.jboss.as.controller.CapabilityRegistry;
 import org.jboss.as.controller.ControlledProcessState;
 import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.VirtualThreadExecutor;
 import org.jboss.as.domain.http.server.ConsoleAvailabilityService;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.remoting.HttpListenerRegistryService;
@@ -262,7 +263,11 @@ public class HostControllerService implements Service<AsyncFuture<ServiceContain
 
         @Override
         public synchronized void start(final StartContext context) throws StartException {
-            if (EnhancedQueueExecutor.DISABLE_HINT) {
+            final ExecutorService virtualThreadExecutor = VirtualThreadExecutor.createIfEnabled(
+                    "Host Controller Service Virtual Threads - ", 0, 0);
+            if (virtualThreadExecutor != null) {
+                executorService = virtualThreadExecutor;
+            } else if (EnhancedQueueExecutor.DISABLE_HINT) {
                 executorService = new ThreadPoolExecutor(1, Integer.MAX_VALUE,
                     5L, TimeUnit.SECONDS,
                     new SynchronousQueue<Runnable>(),
@@ -244,6 +244,17 @@ class ManagedServer {
      * @param factory the boot command factory
      */
     synchronized void start(final ManagedServerBootCmdFactory factory) {
+        start(factory, CurrentOperationIdHolder.getCurrentOperationID());
+    }
+
+    /**
+     * Start a managed server on behalf of an operation other than the current one, e.g. once a start queued by the
+     * operation can proceed.
+     *
+     * @param factory the boot command factory
+     * @param operationID the id of the operation starting the server
+     */
+    synchronized void start(final ManagedServerBootCmdFactory factory, final Integer operationID) {
         final InternalState required = this.requiredState;
         // Ignore if the server is already started
         if(required == InternalState.SERVER_STARTED) {
@@ -257,7 +268,7 @@ class ManagedServer {
                 throw new IllegalStateException();
             }
         }
-        operationID = CurrentOperationIdHolder.getCurrentOperationID();
+        this.operationID = operationID;
         bootConfiguration = factory.createConfiguration();
         requiredState = InternalState.SERVER_STARTED;
         ROOT_LOGGER.startingServer(serverName);
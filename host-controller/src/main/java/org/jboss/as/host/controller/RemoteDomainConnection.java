@@ -177,6 +177,33 @@ class RemoteDomainConnection extends FutureManagementChannel {
      * @throws IOException
      */
     protected Connection openConnection() throws IOException {
+        return openConnection(uri);
+    }
+
+    /**
+     * Open a channel to another host controller, connecting with the same configuration and authentication
+     * as used for the remote domain controller.
+     *
+     * @param peerUri the uri of the host controller
+     * @param channelName the name of the channel
+     * @return the channel. Closing its connection is up to the caller
+     * @throws IOException
+     */
+    Channel openPeerChannel(final URI peerUri, final String channelName) throws IOException {
+        final Connection connection = openConnection(peerUri);
+        boolean ok = false;
+        try {
+            final Channel channel = openChannel(connection, channelName, configuration.getOptionMap());
+            ok = true;
+            return channel;
+        } finally {
+            if (!ok) {
+                StreamUtils.safeClose(connection);
+            }
+        }
+    }
+
+    private Connection openConnection(final URI uri) throws IOException {
         // Perhaps this can just be done once?
         CallbackHandler callbackHandler = null;
         SSLContext sslContext = null;
@@ -294,8 +321,7 @@ class RemoteDomainConnection extends FutureManagementChannel {
         if(! result.hasDefined(ModelDescriptionConstants.RESULT)) {
             return false;
         }
-        final List<ModelNode> bootOperations= result.get(ModelDescriptionConstants.RESULT).asList();
-        return callback.applyDomainModel(bootOperations);
+        return callback.applyDomainModel(result.get(ModelDescriptionConstants.RESULT));
     }
 
     void registered() {
@@ -320,10 +346,11 @@ class RemoteDomainConnection extends FutureManagementChannel {
         /**
          * Apply the remote domain model.
          *
-         * @param result the read-domain-model operation result
+         * @param result the read-domain-model operation result, either the list of described resources or, from a
+         *               DC tracking the model generation, the generation along with all or the changed resources
          * @return {@code true} if the model was applied successfully, {@code false} otherwise
          */
-        boolean applyDomainModel(List<ModelNode> result);
+        boolean applyDomainModel(ModelNode result);
 
         /**
          * Event that the registration was completed.
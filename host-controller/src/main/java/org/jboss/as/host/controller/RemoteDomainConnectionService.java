@@ -20,15 +20,18 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
 import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
+import static org.jboss.as.process.protocol.ProtocolUtils.expectHeader;
 
 import java.io.DataInput;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
@@ -66,6 +69,7 @@ import org.jboss.as.domain.controller.DomainController;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.operations.FetchMissingConfigurationHandler;
+import org.jboss.as.domain.controller.operations.ReadMasterDomainModelUtil;
 import org.jboss.as.domain.controller.operations.SyncDomainModelOperationHandler;
 import org.jboss.as.domain.controller.operations.SyncServerGroupOperationHandler;
 import org.jboss.as.domain.controller.operations.coordination.DomainControllerLockIdUtils;
@@ -78,21 +82,26 @@ import org.jboss.as.host.controller.mgmt.DomainControllerProtocol;
 import org.jboss.as.host.controller.mgmt.DomainRemoteFileRequestAndHandler;
 import org.jboss.as.host.controller.mgmt.HostControllerRegistrationHandler;
 import org.jboss.as.host.controller.mgmt.HostInfo;
+import org.jboss.as.host.controller.mgmt.PeerContentOperationHandlerService;
 import org.jboss.as.protocol.ProtocolConnectionConfiguration;
 import org.jboss.as.protocol.StreamUtils;
 import org.jboss.as.protocol.mgmt.AbstractManagementRequest;
 import org.jboss.as.protocol.mgmt.ActiveOperation;
 import org.jboss.as.protocol.mgmt.FlushableDataOutput;
 import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
+import org.jboss.as.protocol.mgmt.ManagementClientChannelStrategy;
+import org.jboss.as.protocol.mgmt.ManagementProtocol;
 import org.jboss.as.protocol.mgmt.ManagementRequestContext;
 import org.jboss.as.remoting.management.ManagementRemotingServices;
 import org.jboss.as.repository.ContentReference;
 import org.jboss.as.repository.ContentRepository;
 import org.jboss.as.repository.HostFileRepository;
+import org.jboss.as.repository.PathUtil;
 import org.jboss.as.repository.RemoteFileRequestAndHandler.CannotCreateLocalDirectoryException;
 import org.jboss.as.repository.RemoteFileRequestAndHandler.DidNotReadEntireFileException;
 import org.jboss.as.version.ProductConfig;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
@@ -102,6 +111,7 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
+import org.jboss.remoting3.Channel;
 import org.jboss.remoting3.Connection;
 import org.jboss.remoting3.Endpoint;
 import org.jboss.remoting3.RemotingOptions;
@@ -124,6 +134,7 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
     private static final int CONNECTION_TIMEOUT_DEFAULT = 30000;
     private static final String CONNECTION_TIMEOUT_PROPERTY = "jboss.host.domain.connection.timeout";
     private static final int CONNECTION_TIMEOUT = getSystemProperty(CONNECTION_TIMEOUT_PROPERTY, CONNECTION_TIMEOUT_DEFAULT);
+    private static final String CONTENT = "content";
 
     //private static final ModelNode APPLY_EXTENSIONS = new ModelNode();
     private static final ModelNode APPLY_DOMAIN_MODEL = new ModelNode();
@@ -177,6 +188,10 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
     private ManagementChannelHandler handler;
     private volatile ResponseAttachmentInputStreamSupport responseAttachmentSupport;
     private volatile RemoteDomainConnection connection;
+    /** The generation of the domain model last applied from the DC, {@code null} if unknown */
+    private volatile String domainModelGeneration;
+    /** The address other slaves fetch deployment content from this host at, {@code null} if content is only fetched from the DC */
+    private final String peerAddress = WildFlySecurityManager.getPropertyPrivileged(PeerContentOperationHandlerService.PEER_ADDRESS_PROPERTY, null);
 
     private RemoteDomainConnectionService(final ModelController controller,
                                           final ExtensionRegistry extensionRegistry,
@@ -506,7 +521,11 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                  */
                 @Override
                 public ModelNode createLocalHostInfo() {
-                    return HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    final ModelNode info = HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    // Let the DC know we can apply only the changes since the model we last applied
+                    final String generation = domainModelGeneration;
+                    info.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_GENERATION).set(generation == null ? "" : generation);
+                    return info;
                 }
 
                 @Override
@@ -515,10 +534,19 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                 }
 
                 @Override
-                public boolean applyDomainModel(final List<ModelNode> bootOperations) {
+                public boolean applyDomainModel(final ModelNode result) {
                     // Apply the model.
                     final HostInfo info = HostInfo.fromModelNode(createLocalHostInfo(), null);
-                    return applyRemoteDomainModel(bootOperations, info);
+                    if (result.getType() == ModelType.LIST) {
+                        // A DC not tracking the model generation
+                        domainModelGeneration = null;
+                        return applyRemoteDomainModel(result.asList(), null, info);
+                    }
+                    final ModelNode changes = result.hasDefined(ReadMasterDomainModelUtil.DOMAIN_MODEL_CHANGES)
+                            ? result.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_CHANGES) : null;
+                    final boolean applied = applyRemoteDomainModel(result.require(DOMAIN_MODEL).asList(), changes, info);
+                    domainModelGeneration = applied ? result.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_GENERATION).asStringOrNull() : null;
+                    return applied;
                 }
 
                 @Override
@@ -562,9 +590,11 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
      * Apply the remote domain model to the local host controller.
      *
      * @param bootOperations the result of the remote read-domain-model op
+     * @param changes the roots of the subtrees described by {@code bootOperations} if only the resources changed since
+     *                the last applied model were provided, {@code null} if the complete model was provided
      * @return {@code true} if the model was applied successfully, {@code false} otherwise
      */
-    private boolean applyRemoteDomainModel(final List<ModelNode> bootOperations, final HostInfo hostInfo) {
+    private boolean applyRemoteDomainModel(final List<ModelNode> bootOperations, final ModelNode changes, final HostInfo hostInfo) {
         try {
             HostControllerLogger.ROOT_LOGGER.debug("Applying domain level boot operations provided by master");
             SyncModelParameters parameters =
@@ -574,6 +604,9 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                     new SyncDomainModelOperationHandler(hostInfo, parameters);
             final ModelNode operation = APPLY_DOMAIN_MODEL.clone();
             operation.get(DOMAIN_MODEL).set(bootOperations);
+            if (changes != null) {
+                operation.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_CHANGES).set(changes);
+            }
 
             final ModelNode result = operationExecutor.execute(OperationBuilder.create(operation).build(), OperationMessageHandler.DISCARD, ModelController.OperationTransactionControl.COMMIT, handler);
 
@@ -780,6 +813,9 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
         public File getFile(final String relativePath, final byte repoId, HostFileRepository localFileRepository) {
             if(connection.isConnected()) {
                 try {
+                    if (repoId == DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT && peerAddress != null) {
+                        return getDeploymentContent(relativePath, localFileRepository);
+                    }
                     return handler.executeRequest(new GetFileRequest(repoId, relativePath, localFileRepository), null).getResult().get();
                 } catch (Exception e) {
                     throw HostControllerLogger.ROOT_LOGGER.failedToGetFileFromRemoteRepository(e);
@@ -797,6 +833,120 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
         }
     };
 
+    /**
+     * Get deployment content from the other slaves the DC knows to hold it, or from the DC if none of them provides
+     * it, and let the DC know this host now holds the content as well.
+     *
+     * @param hash the hex hash of the content
+     * @param localFileRepository the repository to store the content in
+     * @return the deployment root of the content
+     */
+    private File getDeploymentContent(final String hash, final HostFileRepository localFileRepository) throws Exception {
+        List<String> sources;
+        try {
+            sources = handler.executeRequest(new ContentSourcesRequest(hash, null), null).getResult().get();
+        } catch (IOException | ExecutionException e) {
+            // e.g. a DC of an older version which doesn't track the content of the slaves
+            ROOT_LOGGER.debugf(e, "Unable to get the hosts holding deployment content %s, fetching it from the domain controller", hash);
+            sources = null;
+        }
+        File root = null;
+        if (sources != null) {
+            for (String source : sources) {
+                root = getDeploymentContentFromPeer(source, hash, localFileRepository);
+                if (root != null) {
+                    break;
+                }
+            }
+        }
+        if (root == null) {
+            root = handler.executeRequest(new GetFileRequest(DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT, hash, localFileRepository), null).getResult().get();
+        }
+        if (sources != null && new File(root, CONTENT).exists()) {
+            // No need to wait, until the DC knows other slaves just fetch the content from elsewhere
+            handler.executeRequest(new ContentSourcesRequest(hash, peerAddress), null);
+        }
+        return root;
+    }
+
+    private File getDeploymentContentFromPeer(final String source, final String hash, final HostFileRepository localFileRepository) {
+        final ContentReference reference = new ContentReference(hash, HashUtil.hexStringToByteArray(hash));
+        Channel channel = null;
+        try {
+            channel = connection.openPeerChannel(new URI(source), PeerContentOperationHandlerService.CHANNEL_NAME);
+            final ManagementChannelHandler peerHandler = new ManagementChannelHandler(ManagementClientChannelStrategy.create(channel), executor);
+            channel.receiveMessage(peerHandler.getReceiver());
+            final File root = peerHandler.executeRequest(new GetFileRequest(DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT, hash, localFileRepository), null).getResult().get();
+            final File content = new File(root, CONTENT);
+            if (!content.exists()) {
+                // The peer no longer has it
+                return null;
+            }
+            if (PathUtil.isContentHash(content.toPath(), reference.getHash())) {
+                ROOT_LOGGER.debugf("Received deployment content %s from the host controller at %s", hash, source);
+                return root;
+            }
+            ROOT_LOGGER.peerContentHashMismatch(hash, source);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ROOT_LOGGER.failedToGetContentFromPeer(e, hash, source);
+        } catch (Exception e) {
+            ROOT_LOGGER.failedToGetContentFromPeer(e, hash, source);
+        } finally {
+            if (channel != null) {
+                StreamUtils.safeClose(channel.getConnection());
+            }
+        }
+        localFileRepository.deleteDeployment(reference);
+        return null;
+    }
+
+    /**
+     * Asks the DC which other slaves hold some deployment content, or tells it this host holds the content.
+     */
+    private class ContentSourcesRequest extends AbstractManagementRequest<List<String>, Void> {
+        private final String hash;
+        private final String source;
+
+        /**
+         * @param hash the hex hash of the content
+         * @param source the address this host serves the content at, or {@code null} to ask for the sources
+         */
+        private ContentSourcesRequest(final String hash, final String source) {
+            this.hash = hash;
+            this.source = source;
+        }
+
+        @Override
+        public byte getOperationType() {
+            return DomainControllerProtocol.CONTENT_SOURCES_REQUEST;
+        }
+
+        @Override
+        protected void sendRequest(ActiveOperation.ResultHandler<List<String>> resultHandler, ManagementRequestContext<Void> context, FlushableDataOutput output) throws IOException {
+            output.write(DomainControllerProtocol.PARAM_HOST_ID);
+            output.writeUTF(localHostInfo.getLocalHostName());
+            output.write(DomainControllerProtocol.PARAM_FILE_PATH);
+            output.writeUTF(hash);
+            if (source != null) {
+                output.write(DomainControllerProtocol.PARAM_CONTENT_SOURCE);
+                output.writeUTF(source);
+            }
+        }
+
+        @Override
+        public void handleRequest(DataInput input, ActiveOperation.ResultHandler<List<String>> resultHandler, ManagementRequestContext<Void> context) throws IOException {
+            final int count = input.readInt();
+            final List<String> sources = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                expectHeader(input, DomainControllerProtocol.PARAM_CONTENT_SOURCE);
+                sources.add(input.readUTF());
+            }
+            expectHeader(input, ManagementProtocol.RESPONSE_END);
+            resultHandler.done(sources);
+        }
+    }
+
     private void setupHandler() {
         // Set up the transaction protocol handler
         handler.addHandlerFactory(new TransactionalProtocolOperationHandler(controller, handler, responseAttachmentSupport));
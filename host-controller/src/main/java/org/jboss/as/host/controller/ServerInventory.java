@@ -66,6 +66,29 @@ public interface ServerInventory {
      */
     ServerStatus determineServerStatus(final String serverName);
 
+    /**
+     * Get the time the last start of a server waited for the servers started before it, before its process was
+     * launched.
+     *
+     * @param serverName the server name. Cannot be {@code null}
+     *
+     * @return the time in milliseconds, or {@code -1} if unknown
+     */
+    default long getServerStartWaitTime(final String serverName) {
+        return -1;
+    }
+
+    /**
+     * Get the time the last start of a server took, from the launch of its process until it reported it started.
+     *
+     * @param serverName the server name. Cannot be {@code null}
+     *
+     * @return the time in milliseconds, or {@code -1} if unknown
+     */
+    default long getServerStartDuration(final String serverName) {
+        return -1;
+    }
+
     /**
      * Start the server with the given name. Note that returning from this method does not mean the server
      * is completely started; it usually will only be in the process of starting, having received all startup instructions.
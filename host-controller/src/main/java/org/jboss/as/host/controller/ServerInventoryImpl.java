@@ -6,7 +6,9 @@
 package org.jboss.as.host.controller;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_CONFIG;
 import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
 
 import java.io.IOException;
@@ -73,6 +75,7 @@ public class ServerInventoryImpl implements ServerInventory {
     private final URI managementURI;
     private final DomainController domainController;
     private final ExtensionRegistry extensionRegistry;
+    private final ServerStartScheduler startScheduler = new ServerStartScheduler();
 
     private volatile boolean shutdown;
     private volatile boolean connectionFinished;
@@ -141,9 +144,22 @@ public class ServerInventoryImpl implements ServerInventory {
         if(server == null) {
             return ServerStatus.STOPPED;
         }
+        if (startScheduler.isQueued(serverName)) {
+            return ServerStatus.STARTING;
+        }
         return server.getState();
     }
 
+    @Override
+    public long getServerStartWaitTime(final String serverName) {
+        return startScheduler.getStartWaitTime(serverName);
+    }
+
+    @Override
+    public long getServerStartDuration(final String serverName) {
+        return startScheduler.getStartDuration(serverName);
+    }
+
     @Override
     public ServerStatus startServer(final String serverName, final ModelNode domainModel) {
         return startServer(serverName, domainModel, false, false);
@@ -174,8 +190,29 @@ public class ServerInventoryImpl implements ServerInventory {
                 server = newServer;
             }
         }
+        final ManagedServerBootCmdFactory bootFactory = createBootFactory(serverName, domainModel, suspend);
+        final ServerStatus state = server.getState();
+        if (state == ServerStatus.STOPPED || state == ServerStatus.FAILED) {
+            if (blocking) {
+                // Don't queue a start the caller waits for, it holds the controller lock the starting servers need to
+                // register, so the servers queued behind it could never get a start slot
+                startScheduler.startNow(serverName);
+            } else {
+                final ManagedServer queuedServer = server;
+                final Integer operationID = CurrentOperationIdHolder.getCurrentOperationID();
+                if (!startScheduler.schedule(serverName, getServerGroup(domainModel, serverName),
+                        () -> launchQueuedServer(queuedServer, bootFactory, operationID))) {
+                    return ServerStatus.STARTING;
+                }
+            }
+        }
         // Start the server
-        server.start(createBootFactory(serverName, domainModel, suspend));
+        try {
+            server.start(bootFactory);
+        } catch (RuntimeException e) {
+            startScheduler.finished(serverName, false);
+            throw e;
+        }
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -189,6 +226,43 @@ public class ServerInventoryImpl implements ServerInventory {
         return server.getState();
     }
 
+    private void launchQueuedServer(final ManagedServer server, final ManagedServerBootCmdFactory bootFactory, final Integer operationID) {
+        try {
+            if (shutdown || connectionFinished) {
+                startScheduler.finished(server.getServerName(), false);
+                return;
+            }
+            server.start(bootFactory, operationID);
+        } finally {
+            launched(server);
+        }
+    }
+
+    private void reloadQueuedServer(final ManagedServer server, final Integer operationID, final boolean suspend) {
+        try {
+            if (shutdown || connectionFinished || !server.reload(operationID, suspend)) {
+                startScheduler.finished(server.getServerName(), false);
+            }
+        } finally {
+            launched(server);
+        }
+    }
+
+    private void launched(final ManagedServer server) {
+        startScheduler.launched(server.getServerName());
+        synchronized (shutdownCondition) {
+            shutdownCondition.notifyAll();
+        }
+    }
+
+    private String getServerGroup(final ModelNode domainModel, final String serverName) {
+        final String hostName = domainController.getLocalHostInfo().getLocalHostName();
+        if (domainModel.hasDefined(HOST, hostName, SERVER_CONFIG, serverName, GROUP)) {
+            return domainModel.get(HOST, hostName, SERVER_CONFIG, serverName, GROUP).asString();
+        }
+        return null;
+    }
+
     private String createServerAuthToken(final String serverName) {
         // For now this is hard coded but at a later point Elytron may start to issue
         // a different token so if we plug in an alternative approach it can come through
@@ -243,6 +317,14 @@ public class ServerInventoryImpl implements ServerInventory {
         if(server == null) {
             return ServerStatus.STOPPED;
         }
+        if (startScheduler.cancel(serverName) && server.getState() != ServerStatus.STARTED) {
+            // The server was never launched, rather than waiting for a reload
+            servers.remove(serverName, server);
+            synchronized (shutdownCondition) {
+                shutdownCondition.notifyAll();
+            }
+            return ServerStatus.STOPPED;
+        }
         Integer currentOperationID = CurrentOperationIdHolder.getCurrentOperationID();
         server.stop(currentOperationID == null ? null : gracefulTimeout);
         if(blocking) {
@@ -289,13 +371,26 @@ public class ServerInventoryImpl implements ServerInventory {
         if (server == null) {
             return ServerStatus.STOPPED;
         }
-        if (server.reload(CurrentOperationIdHolder.getCurrentOperationID(), suspend)) {
+        final Integer operationID = CurrentOperationIdHolder.getCurrentOperationID();
+        final boolean started = server.getState() == ServerStatus.STARTED;
+        if (started) {
+            // A reloading server boots again, so it takes a start slot like a starting one
+            if (blocking) {
+                // Don't queue a reload the caller waits for, see startServer
+                startScheduler.startNow(serverName);
+            } else if (!startScheduler.schedule(serverName, null, () -> reloadQueuedServer(server, operationID, suspend))) {
+                return ServerStatus.STARTING;
+            }
+        }
+        if (server.reload(operationID, suspend)) {
             // Reload with current permit
             if (blocking) {
                 server.awaitState(ManagedServer.InternalState.SERVER_STARTED);
             } else {
                 server.awaitState(ManagedServer.InternalState.SERVER_STARTING);
             }
+        } else if (started) {
+            startScheduler.finished(serverName, false);
         }
         return determineServerStatus(serverName);
     }
@@ -326,6 +421,10 @@ public class ServerInventoryImpl implements ServerInventory {
     @Override
     public void stopServers(final int gracefulTimeout, final boolean blockUntilStopped) {
         for(final ManagedServer server : servers.values()) {
+            if (startScheduler.cancel(server.getServerName()) && server.getState() != ServerStatus.STARTED) {
+                servers.remove(server.getServerName(), server);
+                continue;
+            }
             Integer currentOperationID = CurrentOperationIdHolder.getCurrentOperationID();
             server.stop(currentOperationID == null ? null : gracefulTimeout);
         }
@@ -369,11 +468,27 @@ public class ServerInventoryImpl implements ServerInventory {
             if(server == null) {
                 continue;
             }
+            if (started) {
+                awaitLaunched(serverName);
+            }
             server.awaitState(started ? ManagedServer.InternalState.SERVER_STARTED : ManagedServer.InternalState.STOPPED);
         }
     }
 
 
+    private void awaitLaunched(final String serverName) {
+        synchronized (shutdownCondition) {
+            while (startScheduler.isQueued(serverName) && !shutdown && !connectionFinished) {
+                try {
+                    shutdownCondition.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
     @Override
     public List<ModelNode> suspendServers(Set<String> serverNames, BlockingTimeout blockingTimeout) {
         return suspendServers(serverNames, 0, blockingTimeout);
@@ -596,6 +711,7 @@ public class ServerInventoryImpl implements ServerInventory {
         // always un-register in case the process exits
         domainController.unregisterRunningServer(server.getServerName());
         server.processFinished();
+        startScheduler.finished(serverName, false);
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -619,6 +735,7 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.serverStarted(null);
+        startScheduler.finished(serverName, true);
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -633,6 +750,7 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.serverStartFailed();
+        startScheduler.finished(serverName, false);
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -689,6 +807,7 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.processRemoved();
+        startScheduler.finished(serverName, false);
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -720,6 +839,9 @@ public class ServerInventoryImpl implements ServerInventory {
                 server.transitionFailed(ManagedServer.InternalState.PROCESS_REMOVING);
                 break;
         }
+        if (server.getState() == ServerStatus.FAILED) {
+            startScheduler.finished(serverName, false);
+        }
     }
 
     @Override
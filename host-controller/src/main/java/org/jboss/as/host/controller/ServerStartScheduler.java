@@ -0,0 +1,261 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.as.host.controller.logging.HostControllerLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Limits the number of servers of a host launched at the same time.
+ *
+ * A server takes a start slot from the moment its process is launched, or its reload requested, until it reports it
+ * started, or its start failed or was stopped. Starts requested while all the slots are taken are queued, servers of
+ * the groups listed in
+ * {@code org.jboss.as.host.start.servers.group-order} first, in the order of the list, then in the order they were
+ * requested. The timing of the last start of each server is recorded as well.
+ */
+final class ServerStartScheduler {
+
+    /** The system property with the maximum number of servers starting at the same time, {@code 0} for no limit */
+    static final String MAX_CONCURRENT_STARTS_PROPERTY = "org.jboss.as.host.start.servers.max-concurrent";
+    /** The system property with the comma separated server groups whose servers are started first */
+    static final String GROUP_ORDER_PROPERTY = "org.jboss.as.host.start.servers.group-order";
+
+    private final int maxConcurrentStarts;
+    private final List<String> groupOrder;
+
+    private final Set<String> starting = new HashSet<>();
+    private final Map<String, QueuedStart> queuedByServer = new HashMap<>();
+    private final Map<String, String> groups = new HashMap<>();
+    private final PriorityQueue<QueuedStart> queue;
+    private long sequence;
+
+    private final Map<String, StartTimes> startTimes = new ConcurrentHashMap<>();
+
+    ServerStartScheduler() {
+        this(parseMaxConcurrentStarts(WildFlySecurityManager.getPropertyPrivileged(MAX_CONCURRENT_STARTS_PROPERTY, "0")),
+                parseGroupOrder(WildFlySecurityManager.getPropertyPrivileged(GROUP_ORDER_PROPERTY, "")));
+    }
+
+    ServerStartScheduler(final int maxConcurrentStarts, final List<String> groupOrder) {
+        this.maxConcurrentStarts = maxConcurrentStarts;
+        this.groupOrder = groupOrder;
+        this.queue = new PriorityQueue<>(Comparator.<QueuedStart>comparingInt(queued -> queued.groupRank)
+                .thenComparingLong(queued -> queued.sequence));
+    }
+
+    /**
+     * Schedule the start of a server.
+     *
+     * @param serverName the name of the server
+     * @param group the server group of the server, or {@code null} for the group of its previous start, e.g. for a reload
+     * @param start the task launching the server, run later if the start is queued. It must call
+     *              {@link #launched(String)} once it ran
+     * @return {@code true} if the server got a start slot and the caller must launch it, {@code false} if the start
+     *         was queued
+     */
+    boolean schedule(final String serverName, String group, final Runnable start) {
+        synchronized (this) {
+            if (group != null) {
+                groups.put(serverName, group);
+            } else {
+                group = groups.get(serverName);
+            }
+            final StartTimes times = new StartTimes();
+            startTimes.put(serverName, times);
+            if (maxConcurrentStarts <= 0 || starting.size() < maxConcurrentStarts) {
+                starting.add(serverName);
+                times.launched = times.requested;
+                return true;
+            }
+            cancel(serverName);
+            final int index = group == null ? -1 : groupOrder.indexOf(group);
+            final QueuedStart queued = new QueuedStart(serverName, index == -1 ? groupOrder.size() : index, sequence++, start);
+            queuedByServer.put(serverName, queued);
+            queue.add(queued);
+        }
+        HostControllerLogger.ROOT_LOGGER.serverStartQueued(serverName, maxConcurrentStarts);
+        return false;
+    }
+
+    /**
+     * Take a start slot for a server launched right away whatever the number of servers starting, e.g. because
+     * the caller waits for it to be started.
+     *
+     * @param serverName the name of the server
+     */
+    synchronized void startNow(final String serverName) {
+        cancel(serverName);
+        starting.add(serverName);
+        final StartTimes times = new StartTimes();
+        times.launched = times.requested;
+        startTimes.put(serverName, times);
+    }
+
+    /**
+     * Determine whether the start of a server is queued.
+     *
+     * @param serverName the name of the server
+     * @return {@code true} if the server waits for a start slot, or its queued start task did not run yet
+     */
+    synchronized boolean isQueued(final String serverName) {
+        return queuedByServer.containsKey(serverName);
+    }
+
+    /**
+     * Remove the queued start of a server, e.g. because it is stopped before it was launched.
+     *
+     * @param serverName the name of the server
+     * @return {@code true} if the start of the server was queued
+     */
+    synchronized boolean cancel(final String serverName) {
+        final QueuedStart queued = queuedByServer.get(serverName);
+        if (queued != null && queue.remove(queued)) {
+            queuedByServer.remove(serverName);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Notification that the queued start task of a server ran, once it got a start slot.
+     *
+     * @param serverName the name of the server
+     */
+    synchronized void launched(final String serverName) {
+        final QueuedStart queued = queuedByServer.get(serverName);
+        if (queued != null && !queue.contains(queued)) {
+            queuedByServer.remove(serverName);
+        }
+    }
+
+    /**
+     * Notification that a server is no longer starting, freeing its start slot for the next queued server.
+     *
+     * @param serverName the name of the server
+     * @param started {@code true} if the server started, {@code false} if it failed to start or was stopped
+     */
+    void finished(final String serverName, final boolean started) {
+        final List<QueuedStart> launch = new ArrayList<>();
+        synchronized (this) {
+            if (!starting.remove(serverName)) {
+                return;
+            }
+            final StartTimes times = startTimes.get(serverName);
+            if (started && times != null) {
+                times.started = System.currentTimeMillis();
+            }
+            while (!queue.isEmpty() && starting.size() < maxConcurrentStarts) {
+                // The server stays queued until its start task ran, see launched()
+                final QueuedStart next = queue.poll();
+                starting.add(next.serverName);
+                final StartTimes nextTimes = startTimes.get(next.serverName);
+                if (nextTimes != null) {
+                    nextTimes.launched = System.currentTimeMillis();
+                }
+                launch.add(next);
+            }
+        }
+        // Launch outside the lock, the start of a server may call back into the scheduler
+        for (final QueuedStart next : launch) {
+            try {
+                next.start.run();
+            } catch (RuntimeException e) {
+                HostControllerLogger.ROOT_LOGGER.failedToStartServer(e, next.serverName);
+                launched(next.serverName);
+                finished(next.serverName, false);
+            }
+        }
+    }
+
+    /**
+     * Get the time the last start of a server waited for a start slot.
+     *
+     * @param serverName the name of the server
+     * @return the time in milliseconds, or {@code -1} if the server was not launched yet
+     */
+    long getStartWaitTime(final String serverName) {
+        final StartTimes times = startTimes.get(serverName);
+        if (times == null) {
+            return -1;
+        }
+        final long launched = times.launched;
+        return launched == -1 ? -1 : launched - times.requested;
+    }
+
+    /**
+     * Get the time the last start of a server took, from the launch of its process until it reported it started.
+     *
+     * @param serverName the name of the server
+     * @return the time in milliseconds, or {@code -1} if the server did not start yet
+     */
+    long getStartDuration(final String serverName) {
+        final StartTimes times = startTimes.get(serverName);
+        if (times == null) {
+            return -1;
+        }
+        final long started = times.started;
+        return started == -1 ? -1 : started - times.launched;
+    }
+
+    synchronized int getStartingCount() {
+        return starting.size();
+    }
+
+    static int parseMaxConcurrentStarts(final String value) {
+        try {
+            final int maxConcurrentStarts = Integer.parseInt(value.trim());
+            if (maxConcurrentStarts >= 0) {
+                return maxConcurrentStarts;
+            }
+        } catch (NumberFormatException ignored) {
+            // logged below
+        }
+        HostControllerLogger.DOMAIN_LOGGER.invalidSystemPropertyValue(value, MAX_CONCURRENT_STARTS_PROPERTY, 0);
+        return 0;
+    }
+
+    private static List<String> parseGroupOrder(final String groupOrder) {
+        final List<String> groups = new ArrayList<>();
+        for (String group : groupOrder.split(",")) {
+            if (!group.trim().isEmpty()) {
+                groups.add(group.trim());
+            }
+        }
+        return Collections.unmodifiableList(groups);
+    }
+
+    private static final class QueuedStart {
+        private final String serverName;
+        private final int groupRank;
+        private final long sequence;
+        private final Runnable start;
+
+        private QueuedStart(final String serverName, final int groupRank, final long sequence, final Runnable start) {
+            this.serverName = serverName;
+            this.groupRank = groupRank;
+            this.sequence = sequence;
+            this.start = start;
+        }
+    }
+
+    private static final class StartTimes {
+        private final long requested = System.currentTimeMillis();
+        private volatile long launched = -1;
+        private volatile long started = -1;
+    }
+}
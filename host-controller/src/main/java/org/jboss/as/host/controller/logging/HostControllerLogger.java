@@ -1471,6 +1471,22 @@ public interface HostControllerLogger extends BasicLogger {
     @Message(id = 224, value = "Cannot create a HostControllerEnvironment for an embedded host controller")
     IllegalStateException cannotCreateHostControllerEnvironment();
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 225, value = "Deployment content %s received from the host controller at %s does not match its hash and was discarded")
+    void peerContentHashMismatch(String hash, String source);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 226, value = "Failed to get deployment content %s from the host controller at %s")
+    void failedToGetContentFromPeer(@Cause Throwable cause, String hash, String source);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 227, value = "Server %s will be started once fewer than %d servers are starting")
+    void serverStartQueued(String serverName, int maxConcurrentStarts);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 228, value = "Invalid value %s for system property %s -- using default value %s")
+    void invalidSystemPropertyValue(String value, String name, Object defaultValue);
+
     ////////////////////////////////////////////////
     //Messages without IDs
 
@@ -48,6 +48,7 @@ import org.jboss.as.domain.controller.HostConnectionInfo;
 import org.jboss.as.domain.controller.HostRegistrations;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
+import org.jboss.as.domain.controller.TransformedDomainModelCache;
 import org.jboss.as.domain.controller.logging.DomainControllerLogger;
 import org.jboss.as.domain.controller.operations.ReadMasterDomainModelHandler;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
@@ -372,7 +373,8 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                 // Remotely resolve the subsystem versions and create the transformation
                 registrationContext.processSubsystems(transformers, extensions);
                 // Now run the read-domain model operation
-                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false);
+                final ReadMasterDomainModelHandler handler = new ReadMasterDomainModelHandler(hostInfo, transformers, domainController.getExtensionRegistry(), false,
+                        domainController.getDomainModelChangeJournal(), domainController.getTransformedDomainModelCache());
                 context.addStep(READ_DOMAIN_MODEL.getOperation(), handler, OperationContext.Stage.MODEL);
 
                 context.completeStep(new OperationContext.ResultHandler() {
@@ -534,6 +536,7 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                 final ModelNode version = subsystem.getValue();
                 target.addSubsystemVersion(subsystemName, ModelVersion.fromString(version.asString()));
             }
+            hostInfo.setSubsystemVersions(subsystems);
         }
 
         protected void setSubsystems(final ModelNode resolved, final ManagementRequestContext<RegistrationContext> responseChannel) {
@@ -557,6 +560,10 @@ public class HostControllerRegistrationHandler implements ManagementRequestHandl
                 Long pingPongId = hostInfo.getRemoteConnectionId();
                 // Register the slave
                 domainController.registerRemoteHost(hostName, handler, transformers, pingPongId, registerProxyController);
+                final TransformedDomainModelCache transformedModelCache = domainController.getTransformedDomainModelCache();
+                if (transformedModelCache != null) {
+                    transformedModelCache.registerHost(hostName, hostInfo.getTransformationTargetKey());
+                }
                 // Complete registration
                 if(! failed) {
                     transaction.commit();
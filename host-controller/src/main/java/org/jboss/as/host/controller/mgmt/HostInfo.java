@@ -31,6 +31,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.jboss.as.controller.Feature;
 import org.jboss.as.controller.PathAddress;
@@ -119,6 +121,10 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
     private final Set<String> domainIgnoredExtensions;
     private final boolean hostDeclaredIgnoreUnaffected;
     private final Stability stability;
+    private final boolean domainModelGenerationSupported;
+    private final String domainModelGeneration;
+    private final ModelNode ignoredResourcesDescription;
+    private volatile ModelNode subsystemVersions;
     // GuardedBy this
     private ReadMasterDomainModelUtil.RequiredConfigurationHolder requiredConfigurationHolder;
 
@@ -135,6 +141,11 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
                 ? hostInfo.get(RemoteDomainConnectionService.DOMAIN_CONNECTION_ID).asLong() : null;
         // Legacy hosts may return null - if so, assume default stability per our ProductConfig
         this.stability = Optional.ofNullable(hostInfo.get(ModelDescriptionConstants.STABILITY).asStringOrNull()).map(Stability::valueOf).orElse(Stability.DEFAULT);
+        // Hosts able to track the generation always send it, empty if they have none yet
+        domainModelGenerationSupported = hostInfo.has(ReadMasterDomainModelUtil.DOMAIN_MODEL_GENERATION);
+        final String generation = hostInfo.hasDefined(ReadMasterDomainModelUtil.DOMAIN_MODEL_GENERATION)
+                ? hostInfo.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_GENERATION).asString() : null;
+        domainModelGeneration = generation == null || generation.isEmpty() ? null : generation;
 
         Set<String> domainIgnoredExtensions = null;
         Set<String> domainActiveServerGroups = null;
@@ -154,6 +165,7 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         this.domainIgnoredExtensions = domainIgnoredExtensions;
 
         ignoredResources = createIgnoredRegistry(hostInfo, domainIgnoredExtensions);
+        ignoredResourcesDescription = describeIgnoredResources(hostInfo, domainIgnoredExtensions);
 
         hostDeclaredIgnoreUnaffected = hostInfo.hasDefined(IGNORE_UNUSED_CONFIG) && hostInfo.get(IGNORE_UNUSED_CONFIG).asBoolean();
         ignoreUnaffectedConfig = hostDeclaredIgnoreUnaffected || (domainActiveServerGroups != null && !domainActiveServerGroups.isEmpty());
@@ -213,6 +225,60 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         return remoteConnectionId;
     }
 
+    public boolean isDomainModelGenerationSupported() {
+        return domainModelGenerationSupported;
+    }
+
+    public String getDomainModelGeneration() {
+        return domainModelGeneration;
+    }
+
+    /**
+     * Record the versions of the subsystems of the host, as resolved when it registers.
+     *
+     * @param subsystemVersions the versions keyed by subsystem name
+     */
+    public void setSubsystemVersions(final ModelNode subsystemVersions) {
+        this.subsystemVersions = subsystemVersions.clone();
+    }
+
+    /**
+     * Get the key identifying the transformation target of this host among the registered hosts. Hosts with the
+     * same key get the same transformed domain model and operations, so the transformation can be shared among them.
+     *
+     * @return the key, or {@code null} if the subsystem versions or the configuration required by the host are
+     *         not known yet
+     */
+    public synchronized String getTransformationTargetKey() {
+        final ModelNode subsystems = this.subsystemVersions;
+        if (subsystems == null || (ignoreUnaffectedConfig && requiredConfigurationHolder == null)) {
+            return null;
+        }
+        final ModelNode key = new ModelNode();
+        key.get(MANAGEMENT_MAJOR_VERSION).set(managementMajorVersion);
+        key.get(MANAGEMENT_MINOR_VERSION).set(managementMinorVersion);
+        key.get(MANAGEMENT_MICRO_VERSION).set(managementMicroVersion);
+        final ModelNode subsystemsKey = key.get(ModelDescriptionConstants.SUBSYSTEM).setEmptyObject();
+        for (String name : new TreeSet<>(subsystems.keys())) {
+            subsystemsKey.get(name).set(subsystems.get(name).asString());
+        }
+        key.get(IGNORED_RESOURCES).set(ignoredResourcesDescription);
+        key.get(IGNORE_UNUSED_CONFIG).set(hostDeclaredIgnoreUnaffected);
+        if (ignoreUnaffectedConfig) {
+            addSorted(key.get(PROFILE), requiredConfigurationHolder.getProfiles());
+            addSorted(key.get(SERVER_GROUP), requiredConfigurationHolder.getServerGroups());
+            addSorted(key.get(SOCKET_BINDING_GROUP), requiredConfigurationHolder.getSocketBindings());
+        }
+        return key.toJSONString(true);
+    }
+
+    private static void addSorted(final ModelNode list, final Set<String> names) {
+        list.setEmptyList();
+        for (String name : new TreeSet<>(names)) {
+            list.add(name);
+        }
+    }
+
     public boolean isResourceTransformationIgnored(final PathAddress address) {
         // This resource transformation is only used when registering the host
         // Future operations will send an updated list of ignored-resources
@@ -341,6 +407,35 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         };
     }
 
+    /**
+     * Describes the resources ignored by a host independently of the order they were provided in.
+     */
+    private static ModelNode describeIgnoredResources(final ModelNode model, final Set<String> domainIgnoredExtensions) {
+        final Map<String, Set<String>> ignored = new TreeMap<>();
+        if (model.hasDefined(IGNORED_RESOURCES)) {
+            for (Property prop : model.require(IGNORED_RESOURCES).asPropertyList()) {
+                final ModelNode ignoredModel = prop.getValue();
+                final Set<String> names = new TreeSet<>();
+                if (ignoredModel.hasDefined(WILDCARD) && ignoredModel.get(WILDCARD).asBoolean()) {
+                    names.add(WILDCARD);
+                } else if (ignoredModel.hasDefined(NAMES)) {
+                    for (ModelNode name : ignoredModel.get(NAMES).asList()) {
+                        names.add(name.asString());
+                    }
+                }
+                ignored.put(prop.getName(), names);
+            }
+        }
+        if (domainIgnoredExtensions != null && !domainIgnoredExtensions.isEmpty()) {
+            ignored.computeIfAbsent(EXTENSION, type -> new TreeSet<>()).addAll(domainIgnoredExtensions);
+        }
+        final ModelNode description = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, Set<String>> entry : ignored.entrySet()) {
+            addSorted(description.get(entry.getKey()), entry.getValue());
+        }
+        return description;
+    }
+
     private static Map<String, IgnoredType> processIgnoredResource(final ModelNode model, Set<String> domainIgnoredExtensions) {
         Map<String, IgnoredType> ignoredResources = null;
         if (model.hasDefined(IGNORED_RESOURCES)) {
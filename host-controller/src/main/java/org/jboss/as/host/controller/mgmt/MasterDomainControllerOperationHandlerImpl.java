@@ -9,9 +9,12 @@ import static org.jboss.as.process.protocol.ProtocolUtils.expectHeader;
 import java.io.DataInput;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.controller.HashUtil;
+import org.jboss.as.domain.controller.DeploymentContentSources;
 import org.jboss.as.domain.controller.DomainController;
 import org.jboss.as.domain.controller.logging.DomainControllerLogger;
 import org.jboss.as.host.controller.logging.HostControllerLogger;
@@ -36,6 +39,8 @@ import org.jboss.as.repository.RemoteFileRequestAndHandler.RootFileReader;
  */
 class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHandlerFactory {
 
+    private static final int MAX_CONTENT_SOURCES = 3;
+
     private final DomainController domainController;
     private final Executor asyncExecutor;
 
@@ -54,6 +59,9 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
             } case DomainControllerProtocol.GET_FILE_REQUEST: {
                 handlers.registerActiveOperation(header.getBatchId(), null);
                 return new GetFileOperation();
+            } case DomainControllerProtocol.CONTENT_SOURCES_REQUEST: {
+                handlers.registerActiveOperation(header.getBatchId(), null);
+                return new ContentSourcesOperation();
             } case DomainControllerProtocol.SERVER_INSTABILITY_REQUEST: {
                 handlers.registerActiveOperation(header.getBatchId(), null);
                 return new ServerUnstableHandler();
@@ -112,6 +120,43 @@ class MasterDomainControllerOperationHandlerImpl implements ManagementRequestHan
         }
     }
 
+    /**
+     * Tells a slave which other slaves it can fetch deployment content from, or records that a slave holds content.
+     */
+    private class ContentSourcesOperation extends AbstractHostRequestHandler {
+
+        @Override
+        void handleRequest(String hostId, DataInput input, ActiveOperation.ResultHandler<Void> resultHandler, ManagementRequestContext<Void> context) throws IOException {
+            expectHeader(input, DomainControllerProtocol.PARAM_FILE_PATH);
+            final String hash = input.readUTF();
+            // The address the host serves the content at, if it reports holding it rather than asking for sources
+            final String source = input.readByte() == DomainControllerProtocol.PARAM_CONTENT_SOURCE ? input.readUTF() : null;
+            final DeploymentContentSources contentSources = domainController.getDeploymentContentSources();
+            final List<String> sources;
+            if (contentSources == null) {
+                sources = Collections.emptyList();
+            } else if (source != null) {
+                contentSources.addSource(hash, hostId, source);
+                sources = Collections.emptyList();
+            } else {
+                sources = contentSources.getSources(hash, hostId, MAX_CONTENT_SOURCES);
+            }
+            final FlushableDataOutput os = writeGenericResponseHeader(context);
+            try {
+                os.writeInt(sources.size());
+                for (String address : sources) {
+                    os.writeByte(DomainControllerProtocol.PARAM_CONTENT_SOURCE);
+                    os.writeUTF(address);
+                }
+                os.write(ManagementProtocol.RESPONSE_END);
+                os.close();
+                resultHandler.done(null);
+            } finally {
+                StreamUtils.safeClose(os);
+            }
+        }
+    }
+
     abstract static class AbstractHostRequestHandler implements ManagementRequestHandler<Void, Void> {
 
         abstract void handleRequest(final String hostId, DataInput input, ActiveOperation.ResultHandler<Void> resultHandler, ManagementRequestContext<Void> context) throws IOException;
@@ -0,0 +1,132 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller.mgmt;
+
+import static org.jboss.as.process.protocol.ProtocolUtils.expectHeader;
+
+import java.io.DataInput;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Pattern;
+
+import org.jboss.as.controller.HashUtil;
+import org.jboss.as.host.controller.logging.HostControllerLogger;
+import org.jboss.as.protocol.mgmt.ActiveOperation;
+import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
+import org.jboss.as.protocol.mgmt.ManagementClientChannelStrategy;
+import org.jboss.as.protocol.mgmt.ManagementRequestContext;
+import org.jboss.as.protocol.mgmt.ManagementRequestHandler;
+import org.jboss.as.protocol.mgmt.ManagementRequestHandlerFactory;
+import org.jboss.as.protocol.mgmt.ManagementRequestHeader;
+import org.jboss.as.protocol.mgmt.support.ManagementChannelInitialization;
+import org.jboss.as.remoting.management.ManagementRemotingServices;
+import org.jboss.as.repository.ContentReference;
+import org.jboss.as.repository.HostFileRepository;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.jboss.remoting3.Channel;
+import org.xnio.OptionMap;
+
+/**
+ * Serves the deployment content held by a slave host controller to other slaves, on the
+ * {@link #CHANNEL_NAME domain-content} channel of its management endpoint. Only content already present locally
+ * is served; a request for anything else is answered as not found so the requesting slave moves on to another source.
+ *
+ * The domain controller tells slaves which other slaves hold the content they need, the
+ * {@code jboss.domain.content.peer-address} system property is the address other slaves reach this host at, and
+ * enables the peer distribution of content for the host.
+ */
+public class PeerContentOperationHandlerService implements ManagementChannelInitialization, Service<ManagementChannelInitialization> {
+
+    public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("management", "peer", "content");
+
+    /** The name of the channel other slaves fetch content on */
+    public static final String CHANNEL_NAME = "domain-content";
+
+    /** The system property with the address, e.g. {@code remote://host:9999}, other slaves fetch content from this host at */
+    public static final String PEER_ADDRESS_PROPERTY = "jboss.domain.content.peer-address";
+
+    private static final String CONTENT = "content";
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{40}");
+
+    private final ExecutorService executorService;
+    private final HostFileRepository localFileRepository;
+
+    private PeerContentOperationHandlerService(final ExecutorService executorService, final HostFileRepository localFileRepository) {
+        this.executorService = executorService;
+        this.localFileRepository = localFileRepository;
+    }
+
+    public static void install(final ServiceTarget serviceTarget, final ExecutorService executorService, final HostFileRepository localFileRepository) {
+        serviceTarget.addService(SERVICE_NAME, new PeerContentOperationHandlerService(executorService, localFileRepository))
+            .install();
+        ManagementRemotingServices.installManagementChannelOpenListenerService(serviceTarget, ManagementRemotingServices.MANAGEMENT_ENDPOINT,
+                CHANNEL_NAME, SERVICE_NAME, OptionMap.EMPTY, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start(StartContext context) throws StartException {
+        // no-op
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop(StopContext context) {
+        // no-op
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ManagementChannelInitialization getValue() throws IllegalStateException, IllegalArgumentException {
+        return this;
+    }
+
+    @Override
+    public ManagementChannelHandler startReceiving(final Channel channel) {
+        final ManagementChannelHandler channelHandler = new ManagementChannelHandler(ManagementClientChannelStrategy.create(channel), executorService);
+        channelHandler.addHandlerFactory(new ManagementRequestHandlerFactory() {
+            @Override
+            public ManagementRequestHandler<?, ?> resolveHandler(RequestHandlerChain handlers, ManagementRequestHeader header) {
+                if (header.getOperationId() == DomainControllerProtocol.GET_FILE_REQUEST) {
+                    handlers.registerActiveOperation(header.getBatchId(), null);
+                    return new GetContentOperation();
+                }
+                return handlers.resolveNext();
+            }
+        });
+        channel.receiveMessage(channelHandler.getReceiver());
+        return channelHandler;
+    }
+
+    private class GetContentOperation implements ManagementRequestHandler<Void, Void> {
+
+        private final DomainRemoteFileRequestAndHandler remoteSupport = new DomainRemoteFileRequestAndHandler(executorService);
+
+        @Override
+        public void handleRequest(DataInput input, ActiveOperation.ResultHandler<Void> resultHandler, ManagementRequestContext<Void> context) throws IOException {
+            expectHeader(input, DomainControllerProtocol.PARAM_HOST_ID);
+            final String hostId = input.readUTF();
+            HostControllerLogger.ROOT_LOGGER.tracef("Handling peer content request with id %d from %s", context.getOperationId(), hostId);
+            remoteSupport.handleRequest(input, (rootId, filePath) -> {
+                if (rootId != DomainControllerProtocol.PARAM_ROOT_ID_DEPLOYMENT) {
+                    throw HostControllerLogger.ROOT_LOGGER.invalidRootId(rootId);
+                }
+                if (!HASH.matcher(filePath).matches()) {
+                    return null;
+                }
+                final File root = localFileRepository.getDeploymentRoot(new ContentReference(filePath, HashUtil.hexStringToByteArray(filePath)));
+                // The DC only sends other slaves here once the content was received completely and verified
+                return new File(root, CONTENT).exists() ? root : null;
+            }, resultHandler, context);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller.mgmt;
+
+import org.jboss.as.domain.controller.HostConnectionInfo;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Phi accrual failure detector fed by the round trip times of the pings sent to a secondary Host Controller.
+ *
+ * The suspicion level (phi) of a ping waiting for its response for a given time is {@code -log10} of the
+ * probability that a ping takes at least that long to return, based on the normal distribution of the recent round
+ * trip times widened by an acceptable pause, e.g. to let a host through a GC pause. A ping is given up once its
+ * suspicion level reaches the threshold.
+ */
+final class PingFailureDetector {
+
+    /** The upper bounds in milliseconds of the buckets of the round trip time histogram, the last bucket being unbounded */
+    static final long[] BUCKETS = { 1, 5, 10, 50, 100, 500, 1000, 5000, 10000 };
+
+    private static final int MAX_SAMPLES = 100;
+
+    private final double threshold;
+    private final long acceptablePause;
+    private final double minStdDeviation;
+
+    private final long[] samples = new long[MAX_SAMPLES];
+    private int sampleCount;
+    private int nextSample;
+    private double sum;
+    private double squaresSum;
+    private final long[] histogram = new long[BUCKETS.length + 1];
+
+    /**
+     * Create a detector.
+     *
+     * @param threshold the suspicion level at which a ping is given up, {@code 0} or less to always wait for the
+     *                  full timeout
+     * @param acceptablePause the time in milliseconds added to the mean round trip time
+     * @param minStdDeviation the minimum standard deviation in milliseconds of the round trip times
+     */
+    PingFailureDetector(final double threshold, final long acceptablePause, final double minStdDeviation) {
+        this.threshold = threshold;
+        this.acceptablePause = acceptablePause;
+        this.minStdDeviation = minStdDeviation > 0 ? minStdDeviation : 1;
+    }
+
+    /**
+     * Record the round trip time of a ping.
+     *
+     * @param roundTripTime the round trip time in milliseconds
+     */
+    synchronized void addRoundTripTime(final long roundTripTime) {
+        if (sampleCount == MAX_SAMPLES) {
+            final long evicted = samples[nextSample];
+            sum -= evicted;
+            squaresSum -= (double) evicted * evicted;
+        } else {
+            sampleCount++;
+        }
+        samples[nextSample] = roundTripTime;
+        nextSample = (nextSample + 1) % MAX_SAMPLES;
+        sum += roundTripTime;
+        squaresSum += (double) roundTripTime * roundTripTime;
+
+        int bucket = 0;
+        while (bucket < BUCKETS.length && roundTripTime > BUCKETS[bucket]) {
+            bucket++;
+        }
+        histogram[bucket]++;
+    }
+
+    /**
+     * Get the suspicion level of a ping waiting for its response.
+     *
+     * @param elapsed the time in milliseconds since the ping was sent
+     * @return the suspicion level, {@code 0} if no round trip time was recorded yet
+     */
+    synchronized double phi(final long elapsed) {
+        if (sampleCount == 0) {
+            return 0;
+        }
+        final double mean = sum / sampleCount + acceptablePause;
+        final double variance = Math.max(0, squaresSum / sampleCount - (sum / sampleCount) * (sum / sampleCount));
+        final double stdDeviation = Math.max(Math.sqrt(variance), minStdDeviation);
+        // Logistic approximation of the cumulative distribution function of the normal distribution
+        final double y = (elapsed - mean) / stdDeviation;
+        final double e = Math.exp(-y * (1.5976 + 0.070566 * y * y));
+        final double p = elapsed > mean ? e / (1.0 + e) : 1.0 - 1.0 / (1.0 + e);
+        // Keep the level finite once the probability is too low to be represented
+        return Math.max(0, -Math.log10(Math.max(p, Double.MIN_VALUE)));
+    }
+
+    /**
+     * Get the time to wait for the response to a ping before giving it up.
+     *
+     * @param maxTimeout the maximum time in milliseconds to wait
+     * @return the time in milliseconds after which the suspicion level of the ping reaches the threshold, or
+     *         {@code maxTimeout} if that comes first or the threshold is disabled
+     */
+    long getTimeout(final long maxTimeout) {
+        if (threshold <= 0 || phi(maxTimeout) < threshold) {
+            return maxTimeout;
+        }
+        long low = 0;
+        long high = maxTimeout;
+        while (low < high) {
+            final long mid = (low + high) >>> 1;
+            if (phi(mid) >= threshold) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Write the round trip time histogram as a list of buckets with their upper bound and number of pings.
+     *
+     * @param target the target list
+     */
+    synchronized void histogramToModelNode(final ModelNode target) {
+        target.setEmptyList();
+        for (int i = 0; i < histogram.length; i++) {
+            final ModelNode bucket = target.add();
+            bucket.get(HostConnectionInfo.UPPER_BOUND);
+            if (i < BUCKETS.length) {
+                bucket.get(HostConnectionInfo.UPPER_BOUND).set(BUCKETS[i]);
+            }
+            bucket.get(HostConnectionInfo.COUNT).set(histogram[i]);
+        }
+    }
+}
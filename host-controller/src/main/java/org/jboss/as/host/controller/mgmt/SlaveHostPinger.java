@@ -16,12 +16,15 @@ import org.jboss.as.host.controller.logging.HostControllerLogger;
 import org.jboss.as.protocol.StreamUtils;
 import org.jboss.as.protocol.mgmt.ManagementChannelHandler;
 import org.jboss.as.protocol.mgmt.ManagementPingRequest;
+import org.jboss.dmr.ModelNode;
 import org.jboss.remoting3.Channel;
 import org.jboss.threads.AsyncFuture;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
- * Coordinates periodic pinging of a slave Host Controller to validate its connection
+ * Coordinates periodic pinging of a slave Host Controller to validate its connection. Once a suspicion threshold is
+ * configured, the time waited for the response to a ping adapts to the round trip times of the previous pings, see
+ * {@link PingFailureDetector}.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
@@ -31,6 +34,20 @@ public class SlaveHostPinger {
     public static final long STD_TIMEOUT;
     public static final long SHORT_TIMEOUT = 10000;
 
+    private static final String SUSPICION_THRESHOLD_PROPERTY = "jboss.as.domain.ping.suspicion-threshold";
+    private static final String ACCEPTABLE_PAUSE_PROPERTY = "jboss.as.domain.ping.acceptable-pause";
+    private static final String MIN_STD_DEVIATION_PROPERTY = "jboss.as.domain.ping.min-std-deviation";
+
+    /**
+     * The suspicion level at which a ping is given up before its timeout, {@code 0}, the default, to always wait for
+     * the timeout
+     */
+    static final double SUSPICION_THRESHOLD;
+    /** The time in milliseconds a host may pause on top of its usual ping round trip time */
+    static final long ACCEPTABLE_PAUSE;
+    /** The minimum standard deviation in milliseconds assumed for the ping round trip times */
+    static final long MIN_STD_DEVIATION;
+
     static {
         long interval = -1;
         try {
@@ -49,14 +66,43 @@ public class SlaveHostPinger {
         } finally {
             STD_TIMEOUT = timeout > 0 ? timeout : 30000;
         }
+        double threshold = -1;
+        final String thresholdValue = WildFlySecurityManager.getPropertyPrivileged(SUSPICION_THRESHOLD_PROPERTY, "0");
+        try {
+            threshold = Double.parseDouble(thresholdValue);
+        } catch (Exception e) {
+            HostControllerLogger.DOMAIN_LOGGER.invalidSystemPropertyValue(thresholdValue, SUSPICION_THRESHOLD_PROPERTY, 0);
+        } finally {
+            SUSPICION_THRESHOLD = threshold >= 0 ? threshold : 0;
+        }
+        long pause = -1;
+        final String pauseValue = WildFlySecurityManager.getPropertyPrivileged(ACCEPTABLE_PAUSE_PROPERTY, "5000");
+        try {
+            pause = Long.parseLong(pauseValue);
+        } catch (Exception e) {
+            HostControllerLogger.DOMAIN_LOGGER.invalidSystemPropertyValue(pauseValue, ACCEPTABLE_PAUSE_PROPERTY, 5000);
+        } finally {
+            ACCEPTABLE_PAUSE = pause >= 0 ? pause : 5000;
+        }
+        long stdDeviation = -1;
+        final String stdDeviationValue = WildFlySecurityManager.getPropertyPrivileged(MIN_STD_DEVIATION_PROPERTY, "500");
+        try {
+            stdDeviation = Long.parseLong(stdDeviationValue);
+        } catch (Exception e) {
+            HostControllerLogger.DOMAIN_LOGGER.invalidSystemPropertyValue(stdDeviationValue, MIN_STD_DEVIATION_PROPERTY, 500);
+        } finally {
+            MIN_STD_DEVIATION = stdDeviation > 0 ? stdDeviation : 500;
+        }
     }
 
     private final String hostName;
     private final ManagementChannelHandler channelHandler;
     private final ScheduledExecutorService scheduler;
+    private final PingFailureDetector failureDetector = new PingFailureDetector(SUSPICION_THRESHOLD, ACCEPTABLE_PAUSE, MIN_STD_DEVIATION);
 
     private volatile Long remoteConnectionID;
     private volatile boolean cancelled;
+    private volatile long pingSent = -1;
 
     public SlaveHostPinger(String hostName, ManagementChannelHandler channelHandler, ScheduledExecutorService scheduler, long remoteConnectionID) {
         this.hostName = hostName;
@@ -82,6 +128,27 @@ public class SlaveHostPinger {
         this.cancelled = true;
     }
 
+    /**
+     * Get the suspicion level of the host being unreachable.
+     *
+     * @return the suspicion level of the ping waiting for its response, {@code 0} if there is none
+     */
+    public double getSuspicionLevel() {
+        final long sent = pingSent;
+        return sent == -1 ? 0 : failureDetector.phi(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sent));
+    }
+
+    /**
+     * Get the histogram of the round trip times of the pings sent to the host.
+     *
+     * @return a list of buckets with their upper bound in milliseconds and number of pings
+     */
+    public ModelNode getRoundTripTimes() {
+        final ModelNode result = new ModelNode();
+        failureDetector.histogramToModelNode(result);
+        return result;
+    }
+
     private class PingTask implements Runnable {
 
         private final long timeout;
@@ -97,10 +164,14 @@ public class SlaveHostPinger {
             if (!cancelled) {
                 boolean fail = false;
                 AsyncFuture<Long> future = null;
+                final long pingTimeout = failureDetector.getTimeout(timeout);
                 try {
                     if (interval < 1 || System.currentTimeMillis() - channelHandler.getLastMessageReceivedTime() > interval) {
+                        final long sent = System.nanoTime();
+                        pingSent = sent;
                         future = channelHandler.executeRequest(ManagementPingRequest.INSTANCE, null).getResult();
-                        Long id = future.get(timeout, TimeUnit.MILLISECONDS);
+                        Long id = future.get(pingTimeout, TimeUnit.MILLISECONDS);
+                        failureDetector.addRoundTripTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sent));
                         if (!cancelled && remoteConnectionID != null && !remoteConnectionID.equals(id)) {
                             HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerChanged(hostName);
                             fail = true;
@@ -118,10 +189,11 @@ public class SlaveHostPinger {
                 } catch (TimeoutException e) {
                     if (!cancelled) {
                         fail = true;
-                        HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerUnreachable(hostName, timeout);
+                        HostControllerLogger.DOMAIN_LOGGER.slaveHostControllerUnreachable(hostName, pingTimeout);
                     }
                     safeCancel(future);
                 } finally {
+                    pingSent = -1;
                     if (fail) {
                         Channel channel = null;
                         try {
@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.host.controller.ServerInventory;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * {@code OperationHandler} reading the timing of the last start of a server.
+ */
+public class ServerStartTimeHandler implements OperationStepHandler {
+
+    public static final String START_WAIT_TIME = "start-wait-time";
+    public static final String START_DURATION = "start-duration";
+
+    private final ServerInventory serverInventory;
+
+    public ServerStartTimeHandler(final ServerInventory serverInventory) {
+        this.serverInventory = serverInventory;
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String serverName = context.getCurrentAddressValue();
+        final long time = START_WAIT_TIME.equals(operation.require(NAME).asString())
+                ? serverInventory.getServerStartWaitTime(serverName)
+                : serverInventory.getServerStartDuration(serverName);
+        if (time >= 0) {
+            context.getResult().set(time);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.client.helpers.domain.ServerStatus;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.EnumValidator;
@@ -58,6 +59,7 @@ import org.jboss.as.host.controller.operations.ServerRestartHandler;
 import org.jboss.as.host.controller.operations.ServerRestartRequiredServerConfigWriteAttributeHandler;
 import org.jboss.as.host.controller.operations.ServerResumeHandler;
 import org.jboss.as.host.controller.operations.ServerStartHandler;
+import org.jboss.as.host.controller.operations.ServerStartTimeHandler;
 import org.jboss.as.host.controller.operations.ServerStatusHandler;
 import org.jboss.as.host.controller.operations.ServerStopHandler;
 import org.jboss.as.host.controller.operations.ServerSuspendHandler;
@@ -119,6 +121,18 @@ public class ServerConfigResourceDefinition extends SimpleResourceDefinition {
             .setValidator(EnumValidator.create(ServerStatus.class))
             .build();
 
+    public static final SimpleAttributeDefinition START_WAIT_TIME = SimpleAttributeDefinitionBuilder.create(ServerStartTimeHandler.START_WAIT_TIME, ModelType.LONG, true)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+
+    public static final SimpleAttributeDefinition START_DURATION = SimpleAttributeDefinitionBuilder.create(ServerStartTimeHandler.START_DURATION, ModelType.LONG, true)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+
     /**
      * Bogus attribute that we accidentally registered in AS 7.1.2/EAP 6 even though it didn't appear in the
      * resource description. So for compatibility we register it here as well, and include it in the description
@@ -179,6 +193,9 @@ public class ServerConfigResourceDefinition extends SimpleResourceDefinition {
 
         if (serverInventory != null) {
             resourceRegistration.registerMetric(STATUS, new ServerStatusHandler(serverInventory));
+            final ServerStartTimeHandler startTimeHandler = new ServerStartTimeHandler(serverInventory);
+            resourceRegistration.registerMetric(START_WAIT_TIME, startTimeHandler);
+            resourceRegistration.registerMetric(START_DURATION, startTimeHandler);
         }
     }
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link DeploymentContentSources}.
+ */
+public class DeploymentContentSourcesTestCase {
+
+    private static final String HASH = "0123456789abcdef0123456789abcdef01234567";
+
+    @Test
+    public void testRequesterIsNotASource() {
+        final DeploymentContentSources sources = new DeploymentContentSources();
+        Assert.assertEquals(Collections.emptyList(), sources.getSources(HASH, "a", 3));
+
+        sources.addSource(HASH, "a", "remote://a:9999");
+        Assert.assertEquals(Collections.emptyList(), sources.getSources(HASH, "a", 3));
+        Assert.assertEquals(Collections.singletonList("remote://a:9999"), sources.getSources(HASH, "b", 3));
+    }
+
+    @Test
+    public void testSourcesAreRotated() {
+        final DeploymentContentSources sources = new DeploymentContentSources();
+        sources.addSource(HASH, "a", "remote://a:9999");
+        sources.addSource(HASH, "b", "remote://b:9999");
+        sources.addSource(HASH, "c", "remote://c:9999");
+
+        final List<String> first = sources.getSources(HASH, "d", 2);
+        final List<String> second = sources.getSources(HASH, "d", 2);
+        Assert.assertEquals(2, first.size());
+        Assert.assertEquals(2, second.size());
+        Assert.assertNotEquals(first.get(0), second.get(0));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("remote://a:9999", "remote://b:9999", "remote://c:9999")),
+                new HashSet<>(sources.getSources(HASH, "d", 3)));
+    }
+
+    @Test
+    public void testRemoveHost() {
+        final DeploymentContentSources sources = new DeploymentContentSources();
+        sources.addSource(HASH, "a", "remote://a:9999");
+        sources.addSource(HASH, "b", "remote://b:9999");
+
+        sources.removeHost("a");
+        Assert.assertEquals(Collections.singletonList("remote://b:9999"), sources.getSources(HASH, "c", 3));
+        sources.removeHost("b");
+        Assert.assertEquals(Collections.emptyList(), sources.getSources(HASH, "c", 3));
+    }
+
+    @Test
+    public void testRemoveContent() {
+        final DeploymentContentSources sources = new DeploymentContentSources();
+        sources.addSource(HASH, "a", "remote://a:9999");
+        sources.addSource("other", "a", "remote://a:9999");
+
+        sources.removeContent(HASH);
+        Assert.assertEquals(Collections.emptyList(), sources.getSources(HASH, "c", 3));
+        Assert.assertEquals(Collections.singletonList("remote://a:9999"), sources.getSources("other", "c", 3));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jboss.as.controller.PathAddress;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link DomainModelChangeJournal}.
+ */
+public class DomainModelChangeJournalTestCase {
+
+    private static final PathAddress PROFILE = PathAddress.pathAddress("profile", "default");
+    private static final PathAddress SERVER_GROUP = PathAddress.pathAddress("server-group", "main");
+    private static final PathAddress HOST = PathAddress.pathAddress("host", "primary");
+
+    @Test
+    public void testChangesSince() {
+        final DomainModelChangeJournal journal = new DomainModelChangeJournal(10);
+        final String initial = journal.getGeneration();
+        Assert.assertEquals(Collections.emptySet(), journal.getChangesSince(initial));
+
+        journal.recordChange(Collections.singleton(PROFILE));
+        final String afterProfile = journal.getGeneration();
+        journal.recordChange(Collections.singleton(SERVER_GROUP));
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(PROFILE, SERVER_GROUP)), journal.getChangesSince(initial));
+        Assert.assertEquals(Collections.singleton(SERVER_GROUP), journal.getChangesSince(afterProfile));
+        Assert.assertEquals(Collections.emptySet(), journal.getChangesSince(journal.getGeneration()));
+    }
+
+    @Test
+    public void testHostChangesIgnored() {
+        final DomainModelChangeJournal journal = new DomainModelChangeJournal(10);
+        final String initial = journal.getGeneration();
+        journal.recordChange(Collections.singleton(HOST.append("server-config", "one")));
+        Assert.assertEquals(initial, journal.getGeneration());
+
+        final Set<PathAddress> mixed = new HashSet<>();
+        mixed.add(HOST);
+        mixed.add(PROFILE);
+        journal.recordChange(mixed);
+        Assert.assertEquals(Collections.singleton(PROFILE), journal.getChangesSince(initial));
+    }
+
+    @Test
+    public void testUnknownGenerations() {
+        final DomainModelChangeJournal journal = new DomainModelChangeJournal(2);
+        final String initial = journal.getGeneration();
+        for (int i = 0; i < 3; i++) {
+            journal.recordChange(Collections.singleton(PROFILE));
+        }
+        // Evicted
+        Assert.assertNull(journal.getChangesSince(initial));
+        // Another journal, e.g. before a restart of the DC
+        Assert.assertNull(journal.getChangesSince(new DomainModelChangeJournal(2).getGeneration()));
+        Assert.assertNull(journal.getChangesSince("garbage"));
+        Assert.assertNull(journal.getChangesSince(null));
+
+        final String current = journal.getGeneration();
+        journal.recordChange(Collections.singleton(PathAddress.EMPTY_ADDRESS));
+        Assert.assertNull(journal.getChangesSince(current));
+    }
+
+    @Test
+    public void testParseSize() {
+        Assert.assertEquals(16, DomainModelChangeJournal.parseSize("16"));
+        Assert.assertEquals(256, DomainModelChangeJournal.parseSize(null));
+        Assert.assertEquals(256, DomainModelChangeJournal.parseSize("large"));
+        Assert.assertEquals(256, DomainModelChangeJournal.parseSize("0"));
+        Assert.assertEquals(256, DomainModelChangeJournal.parseSize("-1"));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link TransformedDomainModelCache}.
+ */
+public class TransformedDomainModelCacheTestCase {
+
+    private static final List<ModelNode> MODEL = Collections.singletonList(new ModelNode("model"));
+
+    @Test
+    public void testCachedPerGeneration() {
+        final TransformedDomainModelCache cache = new TransformedDomainModelCache(2);
+        Assert.assertNull(cache.getDescribedResources("a", "e:1"));
+
+        cache.putDescribedResources("a", "e:1", MODEL);
+        Assert.assertEquals(MODEL, cache.getDescribedResources("a", "e:1"));
+        Assert.assertNull(cache.getDescribedResources("a", "e:2"));
+        Assert.assertNull(cache.getDescribedResources("b", "e:1"));
+
+        // A newer generation replaces the older one
+        cache.putDescribedResources("a", "e:2", MODEL);
+        Assert.assertNull(cache.getDescribedResources("a", "e:1"));
+        Assert.assertEquals(MODEL, cache.getDescribedResources("a", "e:2"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTargetEvicted() {
+        final TransformedDomainModelCache cache = new TransformedDomainModelCache(2);
+        cache.putDescribedResources("a", "e:1", MODEL);
+        cache.putDescribedResources("b", "e:1", MODEL);
+        Assert.assertNotNull(cache.getDescribedResources("a", "e:1"));
+
+        cache.putDescribedResources("c", "e:1", MODEL);
+        Assert.assertNotNull(cache.getDescribedResources("a", "e:1"));
+        Assert.assertNull(cache.getDescribedResources("b", "e:1"));
+        Assert.assertNotNull(cache.getDescribedResources("c", "e:1"));
+    }
+
+    @Test
+    public void testHostTargets() {
+        final TransformedDomainModelCache cache = new TransformedDomainModelCache(2);
+        cache.registerHost("primary", "a");
+        cache.registerHost("secondary", null);
+        Assert.assertEquals("a", cache.getTargetKey("primary"));
+        Assert.assertNull(cache.getTargetKey("secondary"));
+
+        cache.removeHost("primary");
+        Assert.assertNull(cache.getTargetKey("primary"));
+    }
+
+    @Test
+    public void testParseSize() {
+        Assert.assertEquals(4, TransformedDomainModelCache.parseSize("4"));
+        Assert.assertEquals(0, TransformedDomainModelCache.parseSize("0"));
+        Assert.assertEquals(8, TransformedDomainModelCache.parseSize(null));
+        Assert.assertEquals(8, TransformedDomainModelCache.parseSize("many"));
+        Assert.assertEquals(8, TransformedDomainModelCache.parseSize("-1"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller.operations.coordination;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.as.domain.controller.ServerIdentity;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests of {@link ServerResultSpool}.
+ */
+public class ServerResultSpoolTestCase {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSpooledResults() throws Exception {
+        final ServerResultSpool spool = new ServerResultSpool(folder.getRoot().toPath());
+        final ModelNode success = new ModelNode();
+        success.get(OUTCOME).set(SUCCESS);
+        success.get(RESULT, "attribute").set("value");
+        final ModelNode failure = new ModelNode();
+        failure.get(OUTCOME).set(FAILED);
+        failure.get(FAILURE_DESCRIPTION).set("broken");
+
+        final ModelNode successSummary = spool.add(new ServerIdentity("primary", "main-server-group", "server-one"), success);
+        Assert.assertEquals(SUCCESS, successSummary.get(OUTCOME).asString());
+        Assert.assertFalse(successSummary.has(RESULT));
+        final ModelNode failureSummary = spool.add(new ServerIdentity("secondary", "other-server-group", "server-two"), failure);
+        Assert.assertEquals(failure, failureSummary);
+
+        final List<ModelNode> entries = new ArrayList<>();
+        try (InputStream stream = spool.finish()) {
+            Assert.assertNotNull(stream);
+            final DataInputStream input = new DataInputStream(stream);
+            while (true) {
+                final ModelNode entry = new ModelNode();
+                try {
+                    entry.readExternal(input);
+                } catch (EOFException e) {
+                    break;
+                }
+                entries.add(entry);
+            }
+        }
+        Assert.assertEquals(2, entries.size());
+        Assert.assertEquals("main-server-group", entries.get(0).get(SERVER_GROUP).asString());
+        Assert.assertEquals("primary", entries.get(0).get(HOST).asString());
+        Assert.assertEquals("server-one", entries.get(0).get(SERVER).asString());
+        Assert.assertEquals(success, entries.get(0).get(RESPONSE));
+        Assert.assertEquals("server-two", entries.get(1).get(SERVER).asString());
+        Assert.assertEquals(failure, entries.get(1).get(RESPONSE));
+        // The spool file is deleted once the stream is closed, and discarding the spool afterwards does nothing
+        spool.discard();
+        Assert.assertArrayEquals(new String[0], folder.getRoot().list());
+    }
+
+    @Test
+    public void testNothingSpooled() {
+        Assert.assertNull(new ServerResultSpool(folder.getRoot().toPath()).finish());
+    }
+
+    @Test
+    public void testDiscard() {
+        final ServerResultSpool spool = new ServerResultSpool(folder.getRoot().toPath().resolve("spool"));
+        final ModelNode success = new ModelNode();
+        success.get(OUTCOME).set(SUCCESS);
+        spool.add(new ServerIdentity("primary", "main-server-group", "server-one"), success);
+        Assert.assertEquals(1, folder.getRoot().toPath().resolve("spool").toFile().list().length);
+
+        spool.discard();
+        Assert.assertArrayEquals(new String[0], folder.getRoot().toPath().resolve("spool").toFile().list());
+        Assert.assertNull(spool.finish());
+        // Results arriving once the spool is discarded are kept in full
+        Assert.assertEquals(success, spool.add(new ServerIdentity("primary", "main-server-group", "server-two"), success));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.as.controller.remote.BlockingQueueOperationListener;
+import org.jboss.as.controller.remote.TransactionalProtocolClient;
+import org.jboss.as.controller.transform.OperationResultTransformer;
+import org.jboss.as.domain.controller.ServerIdentity;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the waves of {@link RollingServerGroupUpdateTask}.
+ */
+public class RollingServerGroupUpdateTaskTestCase {
+
+    private static final String GROUP = "main-server-group";
+
+    @Test
+    public void testWaves() {
+        final List<ServerIdentity> servers = createServers(5);
+        final TestExecutor executor = new TestExecutor(Collections.emptySet());
+        final RollingServerGroupUpdateTask task = createTask(servers, 0, executor, 2, 0);
+
+        task.execute();
+
+        Assert.assertEquals(servers, executor.executed);
+        Assert.assertEquals(5, executor.prepared.size());
+    }
+
+    @Test(timeout = 30000)
+    public void testGateStopsWaves() {
+        // The first server fails, so the policy refuses any further update and the delay is never waited for
+        final List<ServerIdentity> servers = createServers(6);
+        final TestExecutor executor = new TestExecutor(Collections.singleton(servers.get(0)));
+        final RollingServerGroupUpdateTask task = createTask(servers, 0, executor, 2, 60000);
+
+        task.execute();
+
+        Assert.assertEquals(servers.subList(0, 2), executor.executed);
+    }
+
+    @Test
+    public void testWavesWithinFailureLimit() {
+        final List<ServerIdentity> servers = createServers(4);
+        final TestExecutor executor = new TestExecutor(Collections.singleton(servers.get(1)));
+        final RollingServerGroupUpdateTask task = createTask(servers, 1, executor, 1, 0);
+
+        task.execute();
+
+        Assert.assertEquals(servers, executor.executed);
+    }
+
+    private static List<ServerIdentity> createServers(final int count) {
+        final List<ServerIdentity> servers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            servers.add(new ServerIdentity("primary", GROUP, "server-" + i));
+        }
+        return servers;
+    }
+
+    private static RollingServerGroupUpdateTask createTask(final List<ServerIdentity> servers, final int maxFailures,
+                                                           final ServerTaskExecutor executor, final int batchSize, final long batchDelay) {
+        final ConcurrentGroupServerUpdatePolicy parent = new ConcurrentGroupServerUpdatePolicy(null, Collections.singleton(GROUP));
+        final Set<ServerIdentity> identities = new LinkedHashSet<>(servers);
+        final ServerUpdatePolicy policy = new ServerUpdatePolicy(parent, GROUP, identities, maxFailures);
+        final List<ServerUpdateTask> tasks = new ArrayList<>();
+        for (final ServerIdentity identity : servers) {
+            tasks.add(new ServerUpdateTask(identity, policy) {
+                @Override
+                public ModelNode getOperation() {
+                    return new ModelNode();
+                }
+            });
+        }
+        return new RollingServerGroupUpdateTask(tasks, policy, executor, null, null, null, batchSize, batchDelay);
+    }
+
+    /**
+     * Executor preparing the operations at once, failing them on the given servers.
+     */
+    private static class TestExecutor extends ServerTaskExecutor {
+
+        private final Set<ServerIdentity> failing;
+        private final List<ServerIdentity> executed = new ArrayList<>();
+        private final List<ServerPreparedResponse> prepared;
+
+        TestExecutor(final Set<ServerIdentity> failing) {
+            this(failing, new ArrayList<>());
+        }
+
+        private TestExecutor(final Set<ServerIdentity> failing, final List<ServerPreparedResponse> prepared) {
+            super(null, new HashMap<>(), prepared);
+            this.failing = failing;
+            this.prepared = prepared;
+        }
+
+        @Override
+        protected int execute(final TransactionalProtocolClient.TransactionalOperationListener<ServerOperation> listener,
+                              final ServerIdentity identity, final ModelNode operation) {
+            executed.add(identity);
+            final ServerOperation serverOperation = new ServerOperation(identity, operation, null, null, OperationResultTransformer.ORIGINAL_RESULT);
+            listener.operationPrepared(failing.contains(identity)
+                    ? BlockingQueueOperationListener.FailedOperation.create(serverOperation, "failed")
+                    : BlockingQueueOperationListener.SucceededOperation.create(serverOperation));
+            return 1000;
+        }
+    }
+}
@@ -4,6 +4,9 @@
  */
 package org.jboss.as.host.controller;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_DELAY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_PERCENTAGE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BATCH_SIZE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONCURRENT_GROUPS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.IN_SERIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAX_FAILED_SERVERS;
@@ -242,6 +245,55 @@ public class RolloutPlanValidationUnitTestCase {
         } catch(OperationFailedException expected) {}
     }
 
+    @Test
+    public void testServerGroupWithBatches() throws Exception {
+        final ModelNode rolloutPlan = new ModelNode();
+        final ModelNode inSeries = rolloutPlan.get(ROLLOUT_PLAN, IN_SERIES);
+        ModelNode group = inSeries.add().get(SERVER_GROUP).get("group1");
+        group.get(BATCH_SIZE).set(10);
+        group.get(BATCH_DELAY).set(5000);
+        group.get(MAX_FAILED_SERVERS).set(1);
+        group = inSeries.add().get(SERVER_GROUP).get("group2");
+        group.get(BATCH_PERCENTAGE).set(25);
+        group.get(MAX_FAILURE_PERCENTAGE).set(5);
+        validateRolloutPlanStructure(rolloutPlan);
+    }
+
+    @Test
+    public void testServerGroupWithInvalidBatchSize() throws Exception {
+        final ModelNode rolloutPlan = new ModelNode();
+        final ModelNode inSeries = rolloutPlan.get(ROLLOUT_PLAN, IN_SERIES);
+        inSeries.add().get(SERVER_GROUP).get("group1").get(BATCH_SIZE).set(0);
+        try {
+            validateRolloutPlanStructure(rolloutPlan);
+            Assert.fail("batch-size must be positive");
+        } catch(OperationFailedException expected) {}
+    }
+
+    @Test
+    public void testServerGroupWithInvalidBatchPercentage() throws Exception {
+        final ModelNode rolloutPlan = new ModelNode();
+        final ModelNode inSeries = rolloutPlan.get(ROLLOUT_PLAN, IN_SERIES);
+        inSeries.add().get(SERVER_GROUP).get("group1").get(BATCH_PERCENTAGE).set(101);
+        try {
+            validateRolloutPlanStructure(rolloutPlan);
+            Assert.fail("batch-percentage must be in range");
+        } catch(OperationFailedException expected) {}
+    }
+
+    @Test
+    public void testServerGroupWithInvalidBatchDelay() throws Exception {
+        final ModelNode rolloutPlan = new ModelNode();
+        final ModelNode inSeries = rolloutPlan.get(ROLLOUT_PLAN, IN_SERIES);
+        final ModelNode group = inSeries.add().get(SERVER_GROUP).get("group1");
+        group.get(BATCH_SIZE).set(2);
+        group.get(BATCH_DELAY).set(-1);
+        try {
+            validateRolloutPlanStructure(rolloutPlan);
+            Assert.fail("batch-delay must not be negative");
+        } catch(OperationFailedException expected) {}
+    }
+
     @Test
     public void testMix() throws Exception {
         // this doesn't make sense actually
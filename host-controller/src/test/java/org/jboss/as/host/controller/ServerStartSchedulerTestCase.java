@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.host.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ServerStartScheduler}.
+ */
+public class ServerStartSchedulerTestCase {
+
+    private final List<String> launched = new ArrayList<>();
+
+    @Test
+    public void testUnlimited() {
+        final ServerStartScheduler scheduler = new ServerStartScheduler(0, Collections.emptyList());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(scheduler.schedule("server-" + i, "main", launch(scheduler, "server-" + i)));
+        }
+        Assert.assertEquals(10, scheduler.getStartingCount());
+        Assert.assertEquals(0, scheduler.getStartWaitTime("server-0"));
+    }
+
+    @Test
+    public void testQueuedInGroupOrder() {
+        final ServerStartScheduler scheduler = new ServerStartScheduler(2, List.of("first", "second"));
+        Assert.assertTrue(scheduler.schedule("a", "other", launch(scheduler, "a")));
+        Assert.assertTrue(scheduler.schedule("b", "other", launch(scheduler, "b")));
+        Assert.assertFalse(scheduler.schedule("c", "other", launch(scheduler, "c")));
+        Assert.assertFalse(scheduler.schedule("d", "second", launch(scheduler, "d")));
+        Assert.assertFalse(scheduler.schedule("e", "first", launch(scheduler, "e")));
+        Assert.assertFalse(scheduler.schedule("f", null, launch(scheduler, "f")));
+        Assert.assertTrue(scheduler.isQueued("c"));
+        Assert.assertEquals(-1, scheduler.getStartWaitTime("c"));
+
+        scheduler.finished("a", true);
+        Assert.assertEquals(List.of("e"), launched);
+        Assert.assertFalse(scheduler.isQueued("e"));
+        Assert.assertTrue(scheduler.getStartWaitTime("e") >= 0);
+        Assert.assertTrue(scheduler.getStartDuration("a") >= 0);
+        Assert.assertEquals(-1, scheduler.getStartDuration("b"));
+
+        scheduler.finished("b", false);
+        scheduler.finished("e", true);
+        Assert.assertEquals(List.of("e", "d", "c"), launched);
+        Assert.assertEquals(-1, scheduler.getStartDuration("b"));
+
+        // Finishing a server twice doesn't free another slot
+        scheduler.finished("e", true);
+        Assert.assertEquals(List.of("e", "d", "c"), launched);
+        Assert.assertEquals(2, scheduler.getStartingCount());
+    }
+
+    @Test
+    public void testCancelAndStartNow() {
+        final ServerStartScheduler scheduler = new ServerStartScheduler(1, Collections.emptyList());
+        Assert.assertTrue(scheduler.schedule("a", "main", launch(scheduler, "a")));
+        Assert.assertFalse(scheduler.schedule("b", "main", launch(scheduler, "b")));
+        Assert.assertFalse(scheduler.schedule("c", "main", launch(scheduler, "c")));
+
+        Assert.assertTrue(scheduler.cancel("b"));
+        Assert.assertFalse(scheduler.cancel("b"));
+
+        // A server started right away takes a slot beyond the limit
+        scheduler.startNow("d");
+        Assert.assertEquals(2, scheduler.getStartingCount());
+        scheduler.finished("a", true);
+        Assert.assertTrue(launched.isEmpty());
+        scheduler.finished("d", true);
+        Assert.assertEquals(List.of("c"), launched);
+    }
+
+    @Test
+    public void testFailedLaunchFreesSlot() {
+        final ServerStartScheduler scheduler = new ServerStartScheduler(1, Collections.emptyList());
+        Assert.assertTrue(scheduler.schedule("a", "main", launch(scheduler, "a")));
+        Assert.assertFalse(scheduler.schedule("b", "main", () -> {
+            throw new IllegalStateException();
+        }));
+        Assert.assertFalse(scheduler.schedule("c", "main", launch(scheduler, "c")));
+
+        scheduler.finished("a", true);
+        Assert.assertEquals(List.of("c"), launched);
+        Assert.assertEquals(1, scheduler.getStartingCount());
+    }
+
+    @Test
+    public void testQueuedUntilLaunched() {
+        final ServerStartScheduler scheduler = new ServerStartScheduler(1, Collections.emptyList());
+        Assert.assertTrue(scheduler.schedule("a", "main", launch(scheduler, "a")));
+        Assert.assertFalse(scheduler.schedule("b", "main", () -> {
+            // Waiters must not see the server launched before its start task ran
+            Assert.assertTrue(scheduler.isQueued("b"));
+            Assert.assertFalse(scheduler.cancel("b"));
+            launched.add("b");
+            scheduler.launched("b");
+        }));
+        scheduler.finished("a", true);
+        Assert.assertEquals(List.of("b"), launched);
+        Assert.assertFalse(scheduler.isQueued("b"));
+    }
+
+    @Test
+    public void testReloadKeepsGroup() {
+        final ServerStartScheduler scheduler = new ServerStartScheduler(1, List.of("first"));
+        Assert.assertTrue(scheduler.schedule("a", "first", launch(scheduler, "a")));
+        scheduler.finished("a", true);
+        Assert.assertTrue(scheduler.schedule("b", "other", launch(scheduler, "b")));
+        Assert.assertFalse(scheduler.schedule("c", "other", launch(scheduler, "c")));
+        // A reload is scheduled without a group and is queued with the group of the previous start
+        Assert.assertFalse(scheduler.schedule("a", null, launch(scheduler, "a")));
+        scheduler.finished("b", true);
+        Assert.assertEquals(List.of("a"), launched);
+    }
+
+    @Test
+    public void testParseMaxConcurrentStarts() {
+        Assert.assertEquals(0, ServerStartScheduler.parseMaxConcurrentStarts("0"));
+        Assert.assertEquals(4, ServerStartScheduler.parseMaxConcurrentStarts(" 4 "));
+        Assert.assertEquals(0, ServerStartScheduler.parseMaxConcurrentStarts("-1"));
+        Assert.assertEquals(0, ServerStartScheduler.parseMaxConcurrentStarts("four"));
+    }
+
+    private Runnable launch(final ServerStartScheduler scheduler, final String serverName) {
+        return () -> {
+            launched.add(serverName);
+            scheduler.launched(serverName);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.host.controller.mgmt;
+
+import org.jboss.as.domain.controller.HostConnectionInfo;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link PingFailureDetector}.
+ */
+public class PingFailureDetectorTestCase {
+
+    @Test
+    public void testNoHistory() {
+        final PingFailureDetector detector = new PingFailureDetector(8, 1000, 100);
+        Assert.assertEquals(0, detector.phi(60000), 0);
+        Assert.assertEquals(30000, detector.getTimeout(30000));
+    }
+
+    @Test
+    public void testSuspicionGrowsWithElapsedTime() {
+        final PingFailureDetector detector = new PingFailureDetector(8, 1000, 100);
+        for (int i = 0; i < 50; i++) {
+            detector.addRoundTripTime(10 + i % 5);
+        }
+        Assert.assertTrue(detector.phi(10) < 0.01);
+        Assert.assertTrue(detector.phi(1000) < detector.phi(1200));
+        Assert.assertTrue(detector.phi(1200) < detector.phi(2000));
+        Assert.assertTrue(Double.isFinite(detector.phi(Long.MAX_VALUE / 2)));
+
+        final long timeout = detector.getTimeout(30000);
+        Assert.assertTrue(timeout > 1000 && timeout < 30000);
+        Assert.assertTrue(detector.phi(timeout) >= 8);
+        Assert.assertTrue(detector.phi(timeout - 1) < 8);
+
+        // The timeout is never longer than the maximum
+        Assert.assertEquals(500, detector.getTimeout(500));
+    }
+
+    @Test
+    public void testSlowerHostGetsLongerTimeout() {
+        final PingFailureDetector fast = new PingFailureDetector(8, 1000, 100);
+        final PingFailureDetector slow = new PingFailureDetector(8, 1000, 100);
+        for (int i = 0; i < 50; i++) {
+            fast.addRoundTripTime(5);
+            slow.addRoundTripTime(i % 2 == 0 ? 100 : 2000);
+        }
+        Assert.assertTrue(fast.getTimeout(30000) < slow.getTimeout(30000));
+    }
+
+    @Test
+    public void testDisabledThreshold() {
+        final PingFailureDetector detector = new PingFailureDetector(0, 0, 1);
+        detector.addRoundTripTime(1);
+        Assert.assertEquals(30000, detector.getTimeout(30000));
+    }
+
+    @Test
+    public void testHistogram() {
+        final PingFailureDetector detector = new PingFailureDetector(8, 1000, 100);
+        detector.addRoundTripTime(0);
+        detector.addRoundTripTime(1);
+        detector.addRoundTripTime(7);
+        detector.addRoundTripTime(60000);
+        final ModelNode histogram = new ModelNode();
+        detector.histogramToModelNode(histogram);
+        Assert.assertEquals(PingFailureDetector.BUCKETS.length + 1, histogram.asList().size());
+        Assert.assertEquals(1, histogram.get(0).get(HostConnectionInfo.UPPER_BOUND).asLong());
+        Assert.assertEquals(2, histogram.get(0).get(HostConnectionInfo.COUNT).asLong());
+        Assert.assertEquals(1, histogram.get(2).get(HostConnectionInfo.COUNT).asLong());
+        final ModelNode last = histogram.get(PingFailureDetector.BUCKETS.length);
+        Assert.assertFalse(last.get(HostConnectionInfo.UPPER_BOUND).isDefined());
+        Assert.assertEquals(1, last.get(HostConnectionInfo.COUNT).asLong());
+    }
+}
@@ -6,12 +6,14 @@
 package org.wildfly.extension.io;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 import java.util.function.Supplier;
 
 import io.undertow.connector.ByteBufferPool;
@@ -21,6 +23,7 @@ import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
@@ -29,12 +32,15 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceRegistry;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
 import org.xnio.Pool;
@@ -102,6 +108,26 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
             DIRECT_BUFFERS
     );
 
+    private static final AttributeDefinition SLICES_ALLOCATED = new SimpleAttributeDefinitionBuilder("slices-allocated", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+    private static final AttributeDefinition ALLOCATED_BYTES = new SimpleAttributeDefinitionBuilder("allocated-bytes", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .build();
+    private static final AttributeDefinition BUFFERS_IN_USE = new SimpleAttributeDefinitionBuilder("buffers-in-use", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+    private static final AttributeDefinition PEAK_BUFFERS_IN_USE = new SimpleAttributeDefinitionBuilder("peak-buffers-in-use", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+    private static final AttributeDefinition ALLOCATION_FAILURES = new SimpleAttributeDefinitionBuilder("allocation-failures", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+    private static final AttributeDefinition LEAKED_BUFFERS = new SimpleAttributeDefinitionBuilder("leaked-buffers", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
     BufferPoolResourceDefinition() {
         super(new SimpleResourceDefinition.Parameters(PATH, IOSubsystemResourceDefinitionRegistrar.RESOLVER.createChildResolver(PATH))
                 .setAddHandler(new BufferPoolAdd())
@@ -117,6 +143,26 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
         return ATTRIBUTES;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(SLICES_ALLOCATED, new BufferPoolMetricsHandler(MonitoredBufferPool::getSlicesAllocated));
+        resourceRegistration.registerMetric(ALLOCATED_BYTES, new BufferPoolMetricsHandler(MonitoredBufferPool::getAllocatedBytes));
+        resourceRegistration.registerMetric(BUFFERS_IN_USE, new BufferPoolMetricsHandler(MonitoredBufferPool::getBuffersInUse));
+        resourceRegistration.registerMetric(PEAK_BUFFERS_IN_USE, new BufferPoolMetricsHandler(MonitoredBufferPool::getPeakBuffersInUse));
+        resourceRegistration.registerMetric(ALLOCATION_FAILURES, new BufferPoolMetricsHandler(MonitoredBufferPool::getAllocationFailures));
+        resourceRegistration.registerMetric(LEAKED_BUFFERS, new BufferPoolMetricsHandler(MonitoredBufferPool::getLeakedBuffers));
+    }
+
+    static MonitoredBufferPool getBufferPool(ServiceRegistry serviceRegistry, String name) {
+        ServiceController<?> controller = serviceRegistry.getService(IO_POOL_RUNTIME_CAPABILITY.getCapabilityServiceName(name));
+        if (controller == null || controller.getState() != ServiceController.State.UP) {
+            return null;
+        }
+        Object pool = controller.getValue();
+        return pool instanceof MonitoredBufferPool ? (MonitoredBufferPool) pool : null;
+    }
+
     private static class BufferPoolAdd extends AbstractAddStepHandler {
 
         @Override
@@ -132,7 +178,7 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
 
             CapabilityServiceBuilder<?> builder = context.getCapabilityServiceTarget().addCapability(IO_POOL_RUNTIME_CAPABILITY);
             final Consumer<Pool<ByteBuffer>> byteBufferConsumer = builder.provides(IO_POOL_RUNTIME_CAPABILITY);
-            builder.setInstance(new BufferPoolService(byteBufferConsumer, bufferSize, bufferPerSlice, direct));
+            builder.setInstance(new BufferPoolService(byteBufferConsumer, address.getLastElement().getValue(), bufferSize, bufferPerSlice, direct));
             builder.setInitialMode(ServiceController.Mode.ON_DEMAND);
             builder.install();
 
@@ -145,6 +191,27 @@ class BufferPoolResourceDefinition extends PersistentResourceDefinition {
         }
     }
 
+    private static class BufferPoolMetricsHandler implements OperationStepHandler {
+        private final ToLongFunction<MonitoredBufferPool> metric;
+
+        BufferPoolMetricsHandler(ToLongFunction<MonitoredBufferPool> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            // Pools of a domain profile have no services
+            if (PROFILE.equals(context.getCurrentAddress().getElement(0).getKey())) {
+                return;
+            }
+            context.addStep((ctx, op) -> {
+                // The pool is on demand, it has no metrics until a user starts it
+                MonitoredBufferPool pool = getBufferPool(ctx.getServiceRegistry(false), ctx.getCurrentAddressValue());
+                ctx.getResult().set(pool != null ? metric.applyAsLong(pool) : 0L);
+            }, OperationContext.Stage.RUNTIME);
+        }
+    }
+
     private static final class ByteBufferPoolService implements Service<ByteBufferPool> {
         private final Consumer<ByteBufferPool> poolConsumer;
         private final Supplier<Pool> poolSupplier;
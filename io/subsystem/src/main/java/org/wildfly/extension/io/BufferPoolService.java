@@ -5,14 +5,16 @@
 
 package org.wildfly.extension.io;
 
+import static java.security.AccessController.doPrivileged;
+
 import java.nio.ByteBuffer;
+import java.security.PrivilegedAction;
 import java.util.function.Consumer;
 
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
 import org.xnio.BufferAllocator;
-import org.xnio.ByteBufferSlicePool;
 import org.xnio.Pool;
 
 /**
@@ -21,15 +23,29 @@ import org.xnio.Pool;
  * @author Flavia Rainone
  */
 public class BufferPoolService implements Service<Pool<ByteBuffer>> {
+
+    /**
+     * The system property enabling the recording of the allocation site of every buffer, to log the buffers garbage
+     * collected without being freed. This is a debugging aid: it costs a stack trace per allocation.
+     */
+    static final String LEAK_DETECTION = "org.wildfly.io.buffer-pool.leak-detection";
+    private static final boolean LEAK_DETECTION_ENABLED = doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean(LEAK_DETECTION));
+
     private final Consumer<Pool<ByteBuffer>> byteBufferConsumer;
-    private volatile Pool<ByteBuffer> bufferPool;
+    private volatile MonitoredBufferPool bufferPool;
+    private final String name;
     /*<buffer-pool name="default" buffer-size="2048" buffers-per-slice="512"/>*/
     private final int bufferSize;
     private final int buffersPerSlice;
     private final boolean directBuffers;
 
     public BufferPoolService(final Consumer<Pool<ByteBuffer>> byteBufferConsumer, final int bufferSize, final int buffersPerSlice, final boolean directBuffers) {
+        this(byteBufferConsumer, null, bufferSize, buffersPerSlice, directBuffers);
+    }
+
+    BufferPoolService(final Consumer<Pool<ByteBuffer>> byteBufferConsumer, final String name, final int bufferSize, final int buffersPerSlice, final boolean directBuffers) {
         this.byteBufferConsumer = byteBufferConsumer;
+        this.name = name;
         this.bufferSize = bufferSize;
         this.buffersPerSlice = buffersPerSlice;
         this.directBuffers = directBuffers;
@@ -37,14 +53,15 @@ public class BufferPoolService implements Service<Pool<ByteBuffer>> {
 
     @Override
     public void start(final StartContext context) {
-        bufferPool = new ByteBufferSlicePool(directBuffers ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR, bufferSize, buffersPerSlice * bufferSize);
+        bufferPool = new MonitoredBufferPool(name, directBuffers ? BufferAllocator.DIRECT_BYTE_BUFFER_ALLOCATOR : BufferAllocator.BYTE_BUFFER_ALLOCATOR,
+                bufferSize, buffersPerSlice * bufferSize, LEAK_DETECTION_ENABLED);
         byteBufferConsumer.accept(bufferPool);
     }
 
     @Override
     public void stop(final StopContext context) {
         byteBufferConsumer.accept(null);
-        ((ByteBufferSlicePool) bufferPool).clean();
+        bufferPool.clean();
         bufferPool = null;
     }
 
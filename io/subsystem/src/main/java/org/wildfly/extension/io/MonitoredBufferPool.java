@@ -0,0 +1,186 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.io;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.extension.io.logging.IOLogger;
+import org.xnio.BufferAllocator;
+import org.xnio.ByteBufferSlicePool;
+import org.xnio.Pool;
+import org.xnio.Pooled;
+
+/**
+ * {@link ByteBufferSlicePool} keeping track of the slices it allocates and of the buffers in use. With leak detection
+ * enabled, the allocation site of every buffer is recorded, and buffers garbage collected without being freed are
+ * logged with it.
+ */
+final class MonitoredBufferPool implements Pool<ByteBuffer> {
+
+    private static final AtomicIntegerFieldUpdater<MonitoredPooled> releasedUpdater = AtomicIntegerFieldUpdater.newUpdater(MonitoredPooled.class, "released");
+
+    private final String name;
+    private final ByteBufferSlicePool delegate;
+    private final boolean leakDetection;
+
+    private final LongAdder slicesAllocated = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder allocationFailures = new LongAdder();
+    private final AtomicLong inUse = new AtomicLong();
+    private final AtomicLong peakInUse = new AtomicLong();
+    private final LongAdder leaked = new LongAdder();
+
+    private final ReferenceQueue<MonitoredPooled> leakQueue = new ReferenceQueue<>();
+    private final Set<LeakReference> trackedBuffers = ConcurrentHashMap.newKeySet();
+
+    MonitoredBufferPool(final String name, final BufferAllocator<ByteBuffer> allocator, final int bufferSize,
+                        final int sliceSize, final boolean leakDetection) {
+        this.name = name;
+        this.leakDetection = leakDetection;
+        this.delegate = new ByteBufferSlicePool(size -> {
+            final ByteBuffer slice = allocator.allocate(size);
+            slicesAllocated.increment();
+            allocatedBytes.add(size);
+            return slice;
+        }, bufferSize, sliceSize);
+    }
+
+    @Override
+    public Pooled<ByteBuffer> allocate() {
+        if (leakDetection) {
+            reportLeaks();
+        }
+        final Pooled<ByteBuffer> pooled;
+        try {
+            pooled = delegate.allocate();
+        } catch (RuntimeException | OutOfMemoryError e) {
+            allocationFailures.increment();
+            throw e;
+        }
+        final long current = inUse.incrementAndGet();
+        peakInUse.accumulateAndGet(current, Math::max);
+        final MonitoredPooled monitored = new MonitoredPooled(pooled);
+        if (leakDetection) {
+            monitored.leak = new LeakReference(monitored, leakQueue, new Throwable());
+            trackedBuffers.add(monitored.leak);
+        }
+        return monitored;
+    }
+
+    void clean() {
+        delegate.clean();
+    }
+
+    long getSlicesAllocated() {
+        return slicesAllocated.sum();
+    }
+
+    long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    long getBuffersInUse() {
+        return inUse.get();
+    }
+
+    long getPeakBuffersInUse() {
+        return peakInUse.get();
+    }
+
+    long getAllocationFailures() {
+        return allocationFailures.sum();
+    }
+
+    long getLeakedBuffers() {
+        if (leakDetection) {
+            reportLeaks();
+        }
+        return leaked.sum();
+    }
+
+    private void reportLeaks() {
+        Reference<? extends MonitoredPooled> reference;
+        while ((reference = leakQueue.poll()) != null) {
+            final LeakReference leak = (LeakReference) reference;
+            if (trackedBuffers.remove(leak)) {
+                // The buffer is lost to the pool
+                inUse.decrementAndGet();
+                leaked.increment();
+                IOLogger.ROOT_LOGGER.bufferLeaked(leak.allocationSite, name);
+            }
+        }
+    }
+
+    private final class MonitoredPooled implements Pooled<ByteBuffer> {
+        private final Pooled<ByteBuffer> pooled;
+        private volatile LeakReference leak;
+        @SuppressWarnings("unused")
+        private volatile int released;
+
+        private MonitoredPooled(final Pooled<ByteBuffer> pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public void discard() {
+            if (release()) {
+                pooled.discard();
+            }
+        }
+
+        @Override
+        public void free() {
+            if (release()) {
+                pooled.free();
+            }
+        }
+
+        @Override
+        public ByteBuffer getResource() throws IllegalStateException {
+            return pooled.getResource();
+        }
+
+        @Override
+        public void close() {
+            free();
+        }
+
+        private boolean release() {
+            if (!releasedUpdater.compareAndSet(this, 0, 1)) {
+                return false;
+            }
+            inUse.decrementAndGet();
+            final LeakReference leak = this.leak;
+            if (leak != null) {
+                trackedBuffers.remove(leak);
+                leak.clear();
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return pooled.toString();
+        }
+    }
+
+    private static final class LeakReference extends PhantomReference<MonitoredPooled> {
+        private final Throwable allocationSite;
+
+        LeakReference(final MonitoredPooled referent, final ReferenceQueue<MonitoredPooled> queue, final Throwable allocationSite) {
+            super(referent, queue);
+            this.allocationSite = allocationSite;
+        }
+    }
+}
@@ -8,15 +8,20 @@ package org.wildfly.extension.io;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -27,6 +32,7 @@ import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.LongRangeValidator;
@@ -46,6 +52,7 @@ import org.wildfly.io.IOServiceDescriptor;
 import org.wildfly.io.OptionAttributeDefinition;
 import org.xnio.Option;
 import org.xnio.Options;
+import org.xnio.XnioIoThread;
 import org.xnio.XnioWorker;
 import org.xnio.management.XnioServerMXBean;
 import org.xnio.management.XnioWorkerMXBean;
@@ -99,6 +106,15 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
     private static final AttributeDefinition IO_THREAD_COUNT = new SimpleAttributeDefinitionBuilder("io-thread-count", ModelType.INT).build();
     private static final AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder("queue-size", ModelType.INT).build();
     private static final AttributeDefinition BUSY_WORKER_THREAD_COUNT = new SimpleAttributeDefinitionBuilder("busy-task-thread-count", ModelType.INT).build();
+    private static final AttributeDefinition IO_THREAD_NAME = new SimpleAttributeDefinitionBuilder("name", ModelType.STRING).build();
+    private static final AttributeDefinition IO_THREAD_STATE = new SimpleAttributeDefinitionBuilder("state", ModelType.STRING).build();
+    private static final AttributeDefinition IO_THREAD_CPU_TIME = new SimpleAttributeDefinitionBuilder("cpu-time", ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .build();
+    private static final AttributeDefinition IO_THREAD_USAGE = ObjectListAttributeDefinition.Builder.of("io-thread-usage",
+                    ObjectTypeAttributeDefinition.Builder.of("io-thread", IO_THREAD_NAME, IO_THREAD_STATE, IO_THREAD_CPU_TIME).build())
+            .setRequired(false)
+            .build();
 
     WorkerResourceDefinition(AtomicInteger maxThreads) {
         super(new SimpleResourceDefinition.Parameters(PATH, IOSubsystemResourceDefinitionRegistrar.RESOLVER.createChildResolver(PATH))
@@ -163,6 +179,7 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
         resourceRegistration.registerMetric(IO_THREAD_COUNT, metricsHandler);
         resourceRegistration.registerMetric(QUEUE_SIZE, metricsHandler);
         resourceRegistration.registerMetric(BUSY_WORKER_THREAD_COUNT, metricsHandler);
+        resourceRegistration.registerMetric(IO_THREAD_USAGE, new IoThreadUsageMetricsHandler());
     }
 
     @Override
@@ -266,6 +283,28 @@ class WorkerResourceDefinition extends PersistentResourceDefinition {
         }
     }
 
+    private static class IoThreadUsageMetricsHandler extends AbstractWorkerAttributeHandler {
+
+        @Override
+        void executeWithWorker(OperationContext context, ModelNode operation, XnioWorker worker) {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            boolean cpuTime = threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+            ModelNode result = context.getResult().setEmptyList();
+            for (int i = 0; i < worker.getIoThreadCount(); i++) {
+                XnioIoThread thread = worker.getIoThread(i);
+                ModelNode ioThread = new ModelNode();
+                ioThread.get(IO_THREAD_NAME.getName()).set(thread.getName());
+                ioThread.get(IO_THREAD_STATE.getName()).set(thread.getState().name());
+                // The time a thread spends on CPU is the time it is busy handling I/O, as it otherwise waits on its selector
+                long nanos = cpuTime ? threadMXBean.getThreadCpuTime(thread.getId()) : -1;
+                if (nanos >= 0) {
+                    ioThread.get(IO_THREAD_CPU_TIME.getName()).set(TimeUnit.NANOSECONDS.toMillis(nanos));
+                }
+                result.add(ioThread);
+            }
+        }
+    }
+
     static XnioWorker getXnioWorker(OperationContext context) {
         String name = context.getCurrentAddressValue();
         if (!context.getCurrentAddress().getLastElement().getKey().equals(PATH.getKey())) { //we are somewhere deeper, lets find worker name
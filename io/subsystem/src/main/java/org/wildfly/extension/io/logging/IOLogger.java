@@ -15,6 +15,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -61,4 +62,8 @@ public interface IOLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 8, value = "The stack-size value of %d bytes for IO worker %s is low and may result in problems. A value of at least 150,000 is recommended.")
     void wrongStackSize(long val, String workerName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 9, value = "A buffer of buffer pool '%s' was garbage collected without being freed, it was allocated at the attached stack trace")
+    void bufferLeaked(@Cause Throwable allocationSite, String poolName);
 }
@@ -58,6 +58,10 @@ public class IOSubsystemTestCase extends AbstractSubsystemSchemaTest<IOSubsystem
         ModelNode op = Util.createOperation("read-resource", addr);
         op.get("include-runtime").set(true);
         mainServices.executeOperation(op);
+
+        ModelNode ioThreadUsage = mainServices.executeForResult(Util.getReadAttributeOperation(addr, "io-thread-usage"));
+        Assert.assertEquals(worker.getIoThreadCount(), ioThreadUsage.asList().size());
+        Assert.assertEquals(worker.getIoThread(0).getName(), ioThreadUsage.get(0).get("name").asString());
     }
 
     @Override
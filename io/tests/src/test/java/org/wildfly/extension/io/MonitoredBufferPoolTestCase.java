@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.io;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xnio.BufferAllocator;
+import org.xnio.Pooled;
+
+/**
+ * Tests of {@link MonitoredBufferPool}.
+ */
+public class MonitoredBufferPoolTestCase {
+
+    @Test
+    public void testUsageMetrics() {
+        final MonitoredBufferPool pool = new MonitoredBufferPool("test", BufferAllocator.BYTE_BUFFER_ALLOCATOR, 16, 64, false);
+        Assert.assertEquals(0, pool.getSlicesAllocated());
+
+        final Pooled<ByteBuffer> first = pool.allocate();
+        final Pooled<ByteBuffer> second = pool.allocate();
+        Assert.assertEquals(16, first.getResource().capacity());
+        Assert.assertEquals(1, pool.getSlicesAllocated());
+        Assert.assertEquals(64, pool.getAllocatedBytes());
+        Assert.assertEquals(2, pool.getBuffersInUse());
+
+        first.free();
+        // Freeing twice is not counted twice
+        first.free();
+        second.discard();
+        Assert.assertEquals(0, pool.getBuffersInUse());
+        Assert.assertEquals(2, pool.getPeakBuffersInUse());
+
+        for (int i = 0; i < 5; i++) {
+            pool.allocate();
+        }
+        Assert.assertEquals(2, pool.getSlicesAllocated());
+        Assert.assertEquals(5, pool.getBuffersInUse());
+        Assert.assertEquals(5, pool.getPeakBuffersInUse());
+        Assert.assertEquals(0, pool.getAllocationFailures());
+        Assert.assertEquals(0, pool.getLeakedBuffers());
+        pool.clean();
+    }
+
+    @Test
+    public void testAllocationFailures() {
+        final MonitoredBufferPool pool = new MonitoredBufferPool("test", size -> {
+            throw new OutOfMemoryError();
+        }, 16, 64, false);
+        try {
+            pool.allocate();
+            Assert.fail();
+        } catch (OutOfMemoryError expected) {
+        }
+        Assert.assertEquals(1, pool.getAllocationFailures());
+        Assert.assertEquals(0, pool.getBuffersInUse());
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        final MonitoredBufferPool pool = new MonitoredBufferPool("test", BufferAllocator.BYTE_BUFFER_ALLOCATOR, 16, 64, true);
+        pool.allocate().free();
+        pool.allocate();
+        for (int i = 0; i < 100 && pool.getLeakedBuffers() == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, pool.getLeakedBuffers());
+        Assert.assertEquals(0, pool.getBuffersInUse());
+        pool.clean();
+    }
+}
@@ -261,6 +261,13 @@ public class PlatformMBeanConstants {
     public static final String LOGGER_NAME = "logger-name";
     public static final String LEVEL_NAME = "level-name";
 
+    // Metrics snapshot
+    public static final String READ_METRICS_SNAPSHOT = "read-metrics-snapshot";
+    public static final String INCLUDE_THREAD_INFO = "include-thread-info";
+    public static final String FLAT = "flat";
+    public static final String THREAD_INFO = "thread-info";
+    public static final String TIMESTAMP = "timestamp";
+
 
     // Paths
     public static final PathElement ROOT_PATH = PathElement.pathElement(ModelDescriptionConstants.CORE_SERVICE,
@@ -0,0 +1,169 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.platform.mbean;
+
+import static org.jboss.as.platform.mbean.PlatformMBeanUtil.escapeMBeanName;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+/**
+ * Reads the metrics of all the platform MBeans in a single step, instead of one step per attribute and resource as a
+ * recursive {@code read-resource} does. Thread information, which costs a walk of all the threads, is only read
+ * when requested, and the per-thread metrics of the thread running the operation are left out.
+ */
+public class PlatformMBeanMetricsSnapshotHandler implements OperationStepHandler {
+
+    static final SimpleAttributeDefinition INCLUDE_THREAD_INFO = new SimpleAttributeDefinitionBuilder(PlatformMBeanConstants.INCLUDE_THREAD_INFO, ModelType.BOOLEAN)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .build();
+
+    static final SimpleAttributeDefinition FLAT = new SimpleAttributeDefinitionBuilder(PlatformMBeanConstants.FLAT, ModelType.BOOLEAN)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.FALSE)
+            .build();
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(PlatformMBeanConstants.READ_METRICS_SNAPSHOT, PlatformMBeanUtil.getResolver("platform-mbeans"))
+            .setParameters(INCLUDE_THREAD_INFO, FLAT)
+            .setReplyType(ModelType.OBJECT)
+            .setRuntimeOnly()
+            .setReadOnly()
+            .build();
+
+    public static final PlatformMBeanMetricsSnapshotHandler INSTANCE = new PlatformMBeanMetricsSnapshotHandler();
+
+    private static final String SEPARATOR = ".";
+
+    private PlatformMBeanMetricsSnapshotHandler() {
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final boolean includeThreadInfo = INCLUDE_THREAD_INFO.resolveModelAttribute(context, operation).asBoolean();
+        final boolean flat = FLAT.resolveModelAttribute(context, operation).asBoolean();
+
+        final ModelNode snapshot = new ModelNode();
+        try {
+            snapshot.get(PlatformMBeanConstants.TIMESTAMP).set(System.currentTimeMillis());
+            storeMetrics(snapshot, includeThreadInfo);
+        } catch (SecurityException e) {
+            throw new OperationFailedException(e.toString());
+        }
+
+        if (flat) {
+            final ModelNode result = context.getResult().setEmptyObject();
+            flatten(null, snapshot, result);
+        } else {
+            context.getResult().set(snapshot);
+        }
+    }
+
+    static void storeMetrics(final ModelNode snapshot, final boolean includeThreadInfo) throws OperationFailedException {
+        final ModelNode classLoading = snapshot.get(PlatformMBeanConstants.CLASS_LOADING);
+        classLoading.get(PlatformMBeanConstants.TOTAL_LOADED_CLASS_COUNT).set(ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount());
+        classLoading.get(PlatformMBeanConstants.LOADED_CLASS_COUNT).set(ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+        classLoading.get(PlatformMBeanConstants.UNLOADED_CLASS_COUNT).set(ManagementFactory.getClassLoadingMXBean().getUnloadedClassCount());
+
+        if (ManagementFactory.getCompilationMXBean() != null) {
+            final ModelNode compilation = snapshot.get(PlatformMBeanConstants.COMPILATION);
+            for (String name : CompilationResourceDefinition.COMPILATION_METRICS) {
+                CompilationMXBeanAttributeHandler.storeResult(name, compilation.get(name));
+            }
+        }
+
+        final ModelNode garbageCollectors = snapshot.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).setEmptyObject();
+        for (GarbageCollectorMXBean mbean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            final ModelNode gc = garbageCollectors.get(escapeMBeanName(mbean.getName()));
+            gc.get(PlatformMBeanConstants.COLLECTION_COUNT).set(mbean.getCollectionCount());
+            gc.get(PlatformMBeanConstants.COLLECTION_TIME).set(mbean.getCollectionTime());
+        }
+
+        final ModelNode memory = snapshot.get(PlatformMBeanConstants.MEMORY);
+        memory.get(PlatformMBeanConstants.OBJECT_PENDING_FINALIZATION_COUNT).set(ManagementFactory.getMemoryMXBean().getObjectPendingFinalizationCount());
+        memory.get(PlatformMBeanConstants.HEAP_MEMORY_USAGE).set(PlatformMBeanUtil.getDetypedMemoryUsage(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage()));
+        memory.get(PlatformMBeanConstants.NON_HEAP_MEMORY_USAGE).set(PlatformMBeanUtil.getDetypedMemoryUsage(ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage()));
+
+        final ModelNode memoryPools = snapshot.get(PlatformMBeanConstants.MEMORY_POOL).setEmptyObject();
+        for (MemoryPoolMXBean mbean : ManagementFactory.getMemoryPoolMXBeans()) {
+            final String poolName = escapeMBeanName(mbean.getName());
+            final ModelNode pool = memoryPools.get(poolName);
+            for (String name : MemoryPoolResourceDefinition.MEMORY_POOL_METRICS) {
+                try {
+                    MemoryPoolMXBeanAttributeHandler.storeResult(name, pool.get(name), mbean, poolName);
+                } catch (UnsupportedOperationException e) {
+                    // Thresholds not supported by this pool, leave the metric undefined
+                }
+            }
+        }
+
+        final ModelNode operatingSystem = snapshot.get(PlatformMBeanConstants.OPERATING_SYSTEM);
+        for (String name : OperatingSystemResourceDefinition.OPERATING_SYSTEM_METRICS) {
+            OperatingSystemMXBeanAttributeHandler.storeResult(name, operatingSystem.get(name));
+        }
+        for (String name : OperatingSystemResourceDefinition.OPERATING_SYSTEM_EXTENDED_METRICS) {
+            OperatingSystemMXBeanAttributeHandler.storeExtendedResult(name, operatingSystem.get(name));
+        }
+
+        final ModelNode runtime = snapshot.get(PlatformMBeanConstants.RUNTIME);
+        for (String name : RuntimeResourceDefinition.RUNTIME_METRICS) {
+            RuntimeMXBeanAttributeHandler.storeResult(name, runtime.get(name));
+        }
+
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        final ModelNode threading = snapshot.get(PlatformMBeanConstants.THREADING);
+        threading.get(PlatformMBeanConstants.THREAD_COUNT).set(threadMXBean.getThreadCount());
+        threading.get(PlatformMBeanConstants.PEAK_THREAD_COUNT).set(threadMXBean.getPeakThreadCount());
+        threading.get(PlatformMBeanConstants.TOTAL_STARTED_THREAD_COUNT).set(threadMXBean.getTotalStartedThreadCount());
+        threading.get(PlatformMBeanConstants.DAEMON_THREAD_COUNT).set(threadMXBean.getDaemonThreadCount());
+        if (includeThreadInfo) {
+            final ModelNode threadInfos = threading.get(PlatformMBeanConstants.THREAD_INFO).setEmptyList();
+            for (ThreadInfo info : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds())) {
+                // Threads which died since their id was read have no info
+                if (info != null) {
+                    threadInfos.add(PlatformMBeanUtil.getDetypedThreadInfo(info, threadMXBean.isThreadCpuTimeSupported()));
+                }
+            }
+        }
+
+        final ModelNode bufferPools = snapshot.get(PlatformMBeanConstants.BUFFER_POOL).setEmptyObject();
+        for (BufferPoolMXBean mbean : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            final ModelNode pool = bufferPools.get(escapeMBeanName(mbean.getName()));
+            pool.get(PlatformMBeanConstants.COUNT).set(mbean.getCount());
+            pool.get(PlatformMBeanConstants.MEMORY_USED_NAME).set(mbean.getMemoryUsed());
+            pool.get(PlatformMBeanConstants.TOTAL_CAPACITY).set(mbean.getTotalCapacity());
+        }
+    }
+
+    /**
+     * Copy the leaves of a tree of objects to a single object, keyed by their path in the tree, e.g.
+     * {@code memory.heap-memory-usage.used}. Lists are copied as they are.
+     */
+    static void flatten(final String prefix, final ModelNode node, final ModelNode result) {
+        if (node.getType() == ModelType.OBJECT) {
+            for (Property property : node.asPropertyList()) {
+                flatten(prefix == null ? property.getName() : prefix + SEPARATOR + property.getName(), property.getValue(), result);
+            }
+        } else if (node.isDefined()) {
+            result.get(prefix).set(node);
+        }
+    }
+}
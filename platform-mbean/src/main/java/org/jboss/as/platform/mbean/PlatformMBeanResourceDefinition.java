@@ -21,6 +21,12 @@ public class PlatformMBeanResourceDefinition extends SimpleResourceDefinition {
                 PlatformMBeanUtil.getResolver("platform-mbeans")).setRuntime());
     }
 
+    @Override
+    public void registerOperations(ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+        resourceRegistration.registerOperationHandler(PlatformMBeanMetricsSnapshotHandler.DEFINITION, PlatformMBeanMetricsSnapshotHandler.INSTANCE);
+    }
+
     @Override
     public void registerChildren(ManagementResourceRegistration resourceRegistration) {
         super.registerChildren(resourceRegistration);
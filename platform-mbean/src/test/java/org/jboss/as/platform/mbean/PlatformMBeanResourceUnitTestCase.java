@@ -151,6 +151,31 @@ public class PlatformMBeanResourceUnitTestCase {
         Assert.assertTrue(result.isDefined());
     }
 
+    @Test
+    public void testReadMetricsSnapshot() throws IOException {
+        ModelNode op = getOperation(PlatformMBeanConstants.READ_METRICS_SNAPSHOT, null, null);
+        ModelNode result = executeOp(op, false);
+        Assert.assertTrue(result.hasDefined(PlatformMBeanConstants.TIMESTAMP));
+        Assert.assertTrue(result.get(PlatformMBeanConstants.MEMORY, PlatformMBeanConstants.HEAP_MEMORY_USAGE, PlatformMBeanConstants.USED).asLong() > 0);
+        Assert.assertTrue(result.get(PlatformMBeanConstants.THREADING, PlatformMBeanConstants.THREAD_COUNT).asInt() > 0);
+        Assert.assertEquals(ManagementFactory.getGarbageCollectorMXBeans().size(), result.get(PlatformMBeanConstants.GARBAGE_COLLECTOR).keys().size());
+        Assert.assertEquals(ManagementFactory.getMemoryPoolMXBeans().size(), result.get(PlatformMBeanConstants.MEMORY_POOL).keys().size());
+        Assert.assertFalse(result.get(PlatformMBeanConstants.THREADING).has(PlatformMBeanConstants.THREAD_INFO));
+
+        op.get(PlatformMBeanConstants.INCLUDE_THREAD_INFO).set(true);
+        result = executeOp(op, false);
+        Assert.assertFalse(result.get(PlatformMBeanConstants.THREADING, PlatformMBeanConstants.THREAD_INFO).asList().isEmpty());
+
+        op = getOperation(PlatformMBeanConstants.READ_METRICS_SNAPSHOT, null, null);
+        op.get(PlatformMBeanConstants.FLAT).set(true);
+        result = executeOp(op, false);
+        Assert.assertTrue(result.get("memory.heap-memory-usage.used").asLong() > 0);
+        Assert.assertTrue(result.get("threading.thread-count").asInt() > 0);
+        for (String key : result.keys()) {
+            Assert.assertNotEquals(key, ModelType.OBJECT, result.get(key).getType());
+        }
+    }
+
     @Test
     public void testClassLoadingMXBean() throws IOException {
         DescribedResource describedResource = basicResourceTest("class-loading", null);
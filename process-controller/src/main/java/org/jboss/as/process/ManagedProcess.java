@@ -477,6 +477,7 @@ final class ManagedProcess {
                 final OutputStreamWriter writer = new OutputStreamWriter(target, StandardCharsets.UTF_8);
                 String s;
                 String prevEscape = "";
+                final StringBuilder line = new StringBuilder();
                 while ((s = reader.readLine()) != null) {
 
                     if (s.contains(ProcessController.STDIO_ABOUT_TO_INSTALL_MSG)) {
@@ -503,18 +504,21 @@ final class ManagedProcess {
 
                         logConsumer.accept(sp.toString());
                     } else {
+                        line.setLength(0);
+                        line.append('[');
+                        line.append(processName);
+                        line.append("] ");
+                        line.append(prevEscape);
+                        line.append(s);
+
+                        // Reset if there was ANSI
+                        if (j != 0 || !prevEscape.isEmpty()) {
+                            line.append("\033[0m");
+                        }
+                        line.append('\n');
+                        // Write the whole line at once, the line buffer is reused for the next line
                         synchronized (target) {
-                            writer.write('[');
-                            writer.write(processName);
-                            writer.write("] ");
-                            writer.write(prevEscape);
-                            writer.write(s);
-
-                            // Reset if there was ANSI
-                            if (j != 0 || !prevEscape.isEmpty()) {
-                                writer.write("\033[0m");
-                            }
-                            writer.write('\n');
+                            writer.append(line);
                             writer.flush();
                         }
                     }
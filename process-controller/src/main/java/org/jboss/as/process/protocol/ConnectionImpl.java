@@ -5,6 +5,7 @@
 
 package org.jboss.as.process.protocol;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.Closeable;
 import java.io.FilterInputStream;
@@ -35,6 +36,9 @@ final class ConnectionImpl implements Connection {
         }
     };
 
+    private static final int BUFFER_SIZE = 8192;
+    private static final int CHUNK_HEADER_SIZE = 5;
+
     private final Socket socket;
 
     private final Object lock = new Object();
@@ -47,6 +51,9 @@ final class ConnectionImpl implements Connection {
     private boolean readDone;
     // protected by {@link #lock}
     private boolean writeDone;
+    // protected by {@link #lock}
+    // Buffers the header and the data of a chunk so they are sent together, and flushed after each chunk
+    private OutputStream socketOutput;
 
     private volatile MessageHandler messageHandler;
 
@@ -82,12 +89,15 @@ final class ConnectionImpl implements Connection {
             }
             boolean ok = false;
             try {
-                MessageOutputStream mos = new MessageOutputStream();
+                if (socketOutput == null) {
+                    socketOutput = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE + CHUNK_HEADER_SIZE);
+                }
+                MessageOutputStream mos = new MessageOutputStream(socketOutput);
                 // Use a PhantomReference instead of overriding finalize() to ensure close gets called
                 // CleanerReference handles ensuring there's a strong ref to itself so we can just construct it and move on
                 new CleanerReference<MessageOutputStream, OutputStreamCloser>(mos, mos.closer, REAPER);
                 sender = mos.closer;
-                os = new BufferedOutputStream(mos);
+                os = new BufferedOutputStream(mos, BUFFER_SIZE);
                 ok = true;
             } finally {
                 if (! ok) {
@@ -180,9 +190,11 @@ final class ConnectionImpl implements Connection {
                 OutputStream mos = null;
                 try {
                     Pipe pipe = null;
-                    final InputStream is = socket.getInputStream();
-                    final int bufferSize = 8192;
-                    final byte[] buffer = new byte[bufferSize];
+                    // Read the chunk headers and data in bulk instead of a socket read for each byte of a header
+                    final InputStream is = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE + CHUNK_HEADER_SIZE);
+                    final byte[] buffer = new byte[BUFFER_SIZE];
+                    // Messages are handled one at a time, so the buffer of a pipe is reused for the next message
+                    final byte[] pipeBuffer = new byte[BUFFER_SIZE];
                     for (;;) {
 
                         int cmd = is.read();
@@ -210,7 +222,7 @@ final class ConnectionImpl implements Connection {
                             }
                             case ProtocolConstants.CHUNK_START: {
                                 if (mos == null) {
-                                    pipe = new Pipe(8192);
+                                    pipe = new Pipe(pipeBuffer);
                                     // new message!
                                     final InputStream pis = pipe.getIn();
                                     mos = pipe.getOut();
@@ -218,14 +230,15 @@ final class ConnectionImpl implements Connection {
                                     readExecutor.execute(new Runnable() {
                                         @Override
                                         public void run() {
-                                            safeHandleMessage(new MessageInputStream(pis));
+                                            // Let handlers read the fields of a message without a pipe access per byte
+                                            safeHandleMessage(new BufferedInputStream(new MessageInputStream(pis), BUFFER_SIZE));
                                         }
                                     });
                                 }
                                 int cnt = StreamUtils.readInt(is);
                                 ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Received data chunk of size %d", Integer.valueOf(cnt));
                                 while (cnt > 0) {
-                                    int sc = is.read(buffer, 0, Math.min(cnt, bufferSize));
+                                    int sc = is.read(buffer, 0, Math.min(cnt, BUFFER_SIZE));
                                     if (sc == -1) {
                                         throw ProcessLogger.ROOT_LOGGER.unexpectedEndOfStream();
                                     }
@@ -324,10 +337,6 @@ final class ConnectionImpl implements Connection {
         private final byte[] hdr = new byte[5];
         private final OutputStreamCloser closer;
 
-        MessageOutputStream() throws IOException {
-            this(socket.getOutputStream());
-        }
-
         private MessageOutputStream(OutputStream out) {
             super(out);
             this.closer = new OutputStreamCloser(out);
@@ -358,6 +367,7 @@ final class ConnectionImpl implements Connection {
                 ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending data chunk of size %d", Integer.valueOf(len));
                 out.write(hdr);
                 out.write(b, off, len);
+                out.flush();
             }
         }
 
@@ -395,6 +405,7 @@ final class ConnectionImpl implements Connection {
                 }
                 ProcessLogger.PROTOCOL_CONNECTION_LOGGER.tracef("Sending end of message");
                 out.write(ProtocolConstants.CHUNK_END);
+                out.flush();
             }
         }
 
@@ -26,7 +26,16 @@ final class Pipe {
     private boolean readClosed;
 
     Pipe(int bufferSize) {
-        buffer = new byte[bufferSize];
+        this(new byte[bufferSize]);
+    }
+
+    /**
+     * Create a pipe using the given buffer, which may be reused for another pipe once {@link #await()} returned.
+     *
+     * @param buffer the buffer
+     */
+    Pipe(byte[] buffer) {
+        this.buffer = buffer;
     }
 
     public void await() {
@@ -80,12 +80,7 @@ public final class StreamUtils {
     }
 
     public static void writeString(final OutputStream output, final String s) throws IOException {
-        final int length = s.length();
-
-        int strIdx = 0;
-        while (strIdx < length) {
-            writeChar(output, s.charAt(strIdx ++));
-        }
+        output.write(encode(s, false));
     }
 
     public static void writeChar(final OutputStream output, final char c) throws IOException {
@@ -203,11 +198,40 @@ public final class StreamUtils {
     }
 
     public static void writeUTFZBytes(final OutputStream outputStream, String string) throws IOException {
-        final int len = string.length();
-        for (int i = 0; i < len; i ++) {
-            writeChar(outputStream, string.charAt(i));
+        outputStream.write(encode(string, true));
+    }
+
+    /**
+     * Encode a string the way {@link #writeChar(OutputStream, char)} does, so it can be written with a single write.
+     *
+     * @param s the string
+     * @param terminate whether to append the {@code 0} terminator
+     * @return the encoded bytes
+     */
+    private static byte[] encode(final String s, final boolean terminate) {
+        final int length = s.length();
+        int size = terminate ? 1 : 0;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            size += c >= 0x20 && c <= 0x7f ? 1 : c <= 0x07ff ? 2 : 3;
+        }
+        // The terminator, if any, is the last byte and already 0
+        final byte[] bytes = new byte[size];
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x20 && c <= 0x7f) {
+                bytes[pos++] = (byte) c;
+            } else if (c <= 0x07ff) {
+                bytes[pos++] = (byte) (0xc0 | 0x1f & c >> 6);
+                bytes[pos++] = (byte) (0x80 | 0x3f & c);
+            } else {
+                bytes[pos++] = (byte) (0xe0 | 0x0f & c >> 12);
+                bytes[pos++] = (byte) (0x80 | 0x3f & c >> 6);
+                bytes[pos++] = (byte) (0x80 | 0x3f & c);
+            }
         }
-        outputStream.write(0);
+        return bytes;
     }
 
     public static void safeClose(final Closeable closeable) {
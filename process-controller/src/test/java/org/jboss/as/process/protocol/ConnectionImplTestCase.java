@@ -0,0 +1,111 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.process.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ServerSocketFactory;
+import javax.net.SocketFactory;
+
+import org.junit.Test;
+
+/**
+ * Tests the framing of messages sent over a {@link ConnectionImpl}.
+ */
+public final class ConnectionImplTestCase {
+
+    private static final int[] SIZES = { 0, 1, 4, 8191, 8192, 8193, 100000, 17 };
+
+    @Test
+    public void testMessages() throws Exception {
+        final BlockingQueue<byte[]> received = new LinkedBlockingQueue<>();
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final ProtocolServer.Configuration serverConfiguration = new ProtocolServer.Configuration();
+        serverConfiguration.setBindAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        serverConfiguration.setSocketFactory(ServerSocketFactory.getDefault());
+        serverConfiguration.setThreadFactory(Executors.defaultThreadFactory());
+        serverConfiguration.setReadExecutor(executor);
+        serverConfiguration.setConnectionHandler(connection -> new MessageHandler() {
+            @Override
+            public void handleMessage(final Connection connection, final InputStream dataStream) throws IOException {
+                final ByteArrayOutputStream message = new ByteArrayOutputStream();
+                StreamUtils.copyStream(dataStream, message);
+                received.add(message.toByteArray());
+            }
+
+            @Override
+            public void handleShutdown(final Connection connection) throws IOException {
+                connection.shutdownWrites();
+            }
+
+            @Override
+            public void handleFailure(final Connection connection, final IOException e) throws IOException {
+                connection.close();
+            }
+
+            @Override
+            public void handleFinished(final Connection connection) throws IOException {
+                connection.close();
+            }
+        });
+        final ProtocolServer server = new ProtocolServer(serverConfiguration);
+        server.start();
+        try {
+            final ProtocolClient.Configuration clientConfiguration = new ProtocolClient.Configuration();
+            clientConfiguration.setServerAddress(server.getBoundAddress());
+            clientConfiguration.setSocketFactory(SocketFactory.getDefault());
+            clientConfiguration.setThreadFactory(Executors.defaultThreadFactory());
+            clientConfiguration.setReadExecutor(executor);
+            clientConfiguration.setMessageHandler(MessageHandler.NULL);
+            final Connection connection = new ProtocolClient(clientConfiguration).connect();
+            try {
+                final Random random = new Random(123L);
+                final byte[][] sent = new byte[SIZES.length][];
+                for (int i = 0; i < SIZES.length; i++) {
+                    sent[i] = new byte[SIZES[i]];
+                    random.nextBytes(sent[i]);
+                    try (OutputStream os = connection.writeMessage()) {
+                        // Mix single byte and bulk writes
+                        if (sent[i].length > 0) {
+                            os.write(sent[i][0]);
+                            os.write(sent[i], 1, sent[i].length - 1);
+                        }
+                    }
+                }
+                for (int i = 0; i < SIZES.length; i++) {
+                    if (SIZES[i] == 0) {
+                        // An empty message has no chunk, so it is not seen by the other side
+                        continue;
+                    }
+                    final byte[] message = received.poll(10, TimeUnit.SECONDS);
+                    assertNotNull(message);
+                    assertArrayEquals(sent[i], message);
+                }
+                assertEquals(0, received.size());
+            } finally {
+                connection.close();
+            }
+        } finally {
+            server.stop();
+            executor.shutdownNow();
+        }
+    }
+}
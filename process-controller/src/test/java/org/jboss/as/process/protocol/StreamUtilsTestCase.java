@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.process.protocol;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+/**
+ * Tests of {@link StreamUtils}.
+ */
+public final class StreamUtilsTestCase {
+
+    private static final String[] STRINGS = { "", "server-one", "tab\tand\nnewline", "café Ā", "€ 中文", "\u007f\u0080߿ࠀ￿" };
+
+    @Test
+    public void testUTFZBytesRoundTrip() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String s : STRINGS) {
+            StreamUtils.writeUTFZBytes(out, s);
+        }
+        final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        for (String s : STRINGS) {
+            assertEquals(s, StreamUtils.readUTFZBytes(in));
+        }
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void testWriteStringMatchesWriteChar() throws IOException {
+        for (String s : STRINGS) {
+            final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            for (int i = 0; i < s.length(); i++) {
+                StreamUtils.writeChar(expected, s.charAt(i));
+            }
+            final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            StreamUtils.writeString(actual, s);
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        }
+    }
+}
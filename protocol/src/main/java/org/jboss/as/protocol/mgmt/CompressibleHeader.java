@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.protocol.mgmt;
+
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link ManagementProtocolHeader} followed by a body which can be compressed, see {@link MessageCompression}.
+ */
+abstract class CompressibleHeader extends ManagementProtocolHeader {
+
+    CompressibleHeader(final int version) {
+        super(version);
+    }
+
+    /**
+     * Whether this header can be written with {@link #writeCompressed(DataOutput)}, i.e. whether it is
+     * followed by a body.
+     *
+     * @return {@code true} if the body following this header can be compressed
+     */
+    abstract boolean isCompressible();
+
+    /**
+     * Write the header information to the provided {@link java.io.DataOutput}, marking the body following it as
+     * compressed.
+     *
+     * @param output The output to write to
+     * @throws IOException If any problems occur writing to the output
+     */
+    abstract void writeCompressed(DataOutput output) throws IOException;
+}
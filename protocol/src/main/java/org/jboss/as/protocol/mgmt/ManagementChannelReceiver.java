@@ -5,7 +5,6 @@
 
 package org.jboss.as.protocol.mgmt;
 
-import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -47,8 +46,9 @@ public final class ManagementChannelReceiver implements Channel.Receiver {
         try {
             ProtocolLogger.ROOT_LOGGER.tracef("%s handling incoming data", this);
             lastMessageTime = System.currentTimeMillis();
-            final DataInput input = new DataInputStream(message);
-            final ManagementProtocolHeader header = ManagementProtocolHeader.parse(input);
+            final ManagementProtocolHeader header = ManagementProtocolHeader.parse(new DataInputStream(message));
+            final DataInputStream input = MessageCompression.bodyInput(header, message);
+            MessageCompression.registerPeerVersion(channel, header);
             final byte type = header.getType();
             try {
                 if (type == ManagementProtocol.TYPE_PING) {
@@ -76,6 +76,7 @@ public final class ManagementChannelReceiver implements Channel.Receiver {
                 } catch (IOException ignore) {
                     //
                 }
+                StreamUtils.safeClose(input);
             }
             message.close();
         } catch(IOException e) {
@@ -56,6 +56,15 @@ public abstract class ManagementProtocolHeader {
         return version;
     }
 
+    /**
+     * Whether the body following this header is compressed.
+     *
+     * @return {@code true} if the body is compressed, {@code false} otherwise
+     */
+    public boolean isCompressed() {
+        return false;
+    }
+
     /**
      * The type
      *
@@ -17,13 +17,14 @@ import java.io.IOException;
  * @author John Bailey
  * @author Kabir Khan
  */
-public class ManagementRequestHeader extends ManagementProtocolHeader {
+public class ManagementRequestHeader extends CompressibleHeader {
 
     private int requestId;
     private int batchId;
     private byte operationId;
     // Actually not needed
     private boolean oneWay;
+    private boolean compressed;
 
     /**
      * Construct an instance with the protocol version and operation handler for the header.
@@ -55,11 +56,25 @@ public class ManagementRequestHeader extends ManagementProtocolHeader {
         operationId = input.readByte();
         ProtocolUtils.expectHeader(input, ManagementProtocol.ONE_WAY);
         oneWay = input.readBoolean();
-        ProtocolUtils.expectHeader(input, ManagementProtocol.REQUEST_BODY);
+        final byte body = input.readByte();
+        if (body == ManagementProtocol.REQUEST_BODY_COMPRESSED) {
+            compressed = true;
+        } else {
+            ProtocolUtils.expectHeader(body, ManagementProtocol.REQUEST_BODY);
+        }
     }
 
     /** {@inheritDoc} */
     public void write(final DataOutput output) throws IOException {
+        write(output, false);
+    }
+
+    @Override
+    void writeCompressed(final DataOutput output) throws IOException {
+        write(output, true);
+    }
+
+    private void write(final DataOutput output, final boolean compressed) throws IOException {
         super.write(output);
         output.write(ManagementProtocol.REQUEST_ID);
         output.writeInt(requestId);
@@ -69,7 +84,7 @@ public class ManagementRequestHeader extends ManagementProtocolHeader {
         output.write(operationId);
         output.write(ManagementProtocol.ONE_WAY);
         output.writeBoolean(oneWay);
-        output.write(ManagementProtocol.REQUEST_BODY);
+        output.write(compressed ? ManagementProtocol.REQUEST_BODY_COMPRESSED : ManagementProtocol.REQUEST_BODY);
     }
 
     /**
@@ -99,6 +114,16 @@ public class ManagementRequestHeader extends ManagementProtocolHeader {
         return operationId;
     }
 
+    @Override
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    @Override
+    boolean isCompressible() {
+        return true;
+    }
+
     @Override
     public byte getType() {
         return ManagementProtocol.TYPE_REQUEST;
@@ -18,11 +18,12 @@ import org.jboss.as.protocol.logging.ProtocolLogger;
  * @author John Bailey
  * @author Kabir Khan
  */
-public class ManagementResponseHeader extends ManagementProtocolHeader {
+public class ManagementResponseHeader extends CompressibleHeader {
 
     private int responseId;
     private boolean failed = false;
     private String error;
+    private boolean compressed;
 
     /**
      * Construct an instance with the protocol version for the header.
@@ -51,12 +52,24 @@ public class ManagementResponseHeader extends ManagementProtocolHeader {
         if (type == ManagementProtocol.RESPONSE_ERROR) {
             this.failed = true;
             error = input.readUTF();
+        } else if (type == ManagementProtocol.RESPONSE_BODY_COMPRESSED) {
+            this.compressed = true;
         } else if (type != ManagementProtocol.RESPONSE_BODY) {
             throw ProtocolLogger.ROOT_LOGGER.invalidType("RESPONSE_ERROR", "RESPONSE_BODY", type);
         }
     }
 
     public void write(DataOutput output) throws IOException {
+        write(output, false);
+    }
+
+    @Override
+    void writeCompressed(final DataOutput output) throws IOException {
+        assert error == null;
+        write(output, true);
+    }
+
+    private void write(final DataOutput output, final boolean compressed) throws IOException {
         super.write(output);
         output.write(ManagementProtocol.RESPONSE_ID);
         output.writeInt(responseId);
@@ -65,7 +78,7 @@ public class ManagementResponseHeader extends ManagementProtocolHeader {
             output.write(ManagementProtocol.RESPONSE_ERROR);
             output.writeUTF(error);
         } else {
-            output.write(ManagementProtocol.RESPONSE_BODY);
+            output.write(compressed ? ManagementProtocol.RESPONSE_BODY_COMPRESSED : ManagementProtocol.RESPONSE_BODY);
         }
     }
 
@@ -96,6 +109,16 @@ public class ManagementResponseHeader extends ManagementProtocolHeader {
         return error;
     }
 
+    @Override
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    @Override
+    boolean isCompressible() {
+        return error == null;
+    }
+
     @Override
     public byte getType() {
         return ManagementProtocol.TYPE_RESPONSE;
@@ -0,0 +1,203 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.protocol.mgmt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.jboss.remoting3.Attachments;
+import org.jboss.remoting3.Channel;
+
+/**
+ * Support for compressing the body of management protocol messages.
+ *
+ * A peer sending requests with a protocol version of at least {@link ManagementProtocol#VERSION_COMPRESSION} is able
+ * to read compressed message bodies, which is recorded on the channel the request was received on. Only once that is
+ * known are messages on the channel compressed, and then only those whose body exceeds a size threshold, so older
+ * peers never receive a compressed message. Whether a body is compressed is marked in its header, so the receiving
+ * side does not depend on any negotiated state.
+ *
+ * The threshold in bytes is configured with the {@code jboss.management.protocol.compression.threshold} system
+ * property, a value of {@code 0} or less disables the compression of sent messages.
+ */
+final class MessageCompression {
+
+    static final String THRESHOLD_PROPERTY = "jboss.management.protocol.compression.threshold";
+    private static final int DEFAULT_THRESHOLD = 32 * 1024;
+    static final int THRESHOLD = getThreshold();
+
+    private static final Attachments.Key<Boolean> PEER_SUPPORTS_COMPRESSION = new Attachments.Key<>(Boolean.class);
+
+    private MessageCompression() {
+    }
+
+    /**
+     * Record whether the peer on the other side of the channel can read compressed messages, based on the header
+     * of a message received from it.
+     *
+     * @param channel the channel the message was received on
+     * @param header the header of the message
+     */
+    static void registerPeerVersion(final Channel channel, final ManagementProtocolHeader header) {
+        // Responses may just echo the version of our own request, only requests tell the version of the peer
+        if (header.getType() == ManagementProtocol.TYPE_REQUEST && header.getVersion() >= ManagementProtocol.VERSION_COMPRESSION) {
+            channel.getAttachments().attach(PEER_SUPPORTS_COMPRESSION, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Get the input to read the body of a received message from. Closing it releases the resources used to inflate a
+     * compressed body, and closes the message if the body is not compressed.
+     *
+     * @param header the header of the message
+     * @param message the message, positioned after the header
+     * @return the input to read the body from
+     */
+    static DataInputStream bodyInput(final ManagementProtocolHeader header, final InputStream message) {
+        return new DataInputStream(header.isCompressed() ? new BodyInflaterInputStream(message) : message);
+    }
+
+    /**
+     * Write the header of a message, returning the output to write its body to.
+     *
+     * @param channel the channel the message is sent on
+     * @param header the header of the message
+     * @param os the output stream of the message
+     * @return the output for the body of the message
+     * @throws IOException if any problems occur writing the header
+     */
+    static FlushableDataOutput writeHeader(final Channel channel, final ManagementProtocolHeader header, final OutputStream os) throws IOException {
+        if (THRESHOLD > 0 && header instanceof CompressibleHeader && ((CompressibleHeader) header).isCompressible()
+                && channel.getAttachments().getAttachment(PEER_SUPPORTS_COMPRESSION) != null) {
+            return ProtocolUtils.wrapAsDataOutput(new CompressingOutputStream((CompressibleHeader) header, os, THRESHOLD));
+        }
+        return AbstractMessageHandler.writeHeader(header, os);
+    }
+
+    private static int getThreshold() {
+        final String value = System.getSecurityManager() == null ? System.getProperty(THRESHOLD_PROPERTY)
+                : AccessController.doPrivileged((PrivilegedAction<String>) () -> System.getProperty(THRESHOLD_PROPERTY));
+        if (value == null) {
+            return DEFAULT_THRESHOLD;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_THRESHOLD;
+        }
+    }
+
+    /**
+     * Inflates a compressed body with an {@link Inflater} released when the stream is closed, rather than once the
+     * stream is garbage collected. The message itself is left to its receiver, which drains and closes it.
+     */
+    private static final class BodyInflaterInputStream extends InflaterInputStream {
+
+        BodyInflaterInputStream(final InputStream message) {
+            super(message, new Inflater());
+        }
+
+        @Override
+        public void close() {
+            inf.end();
+        }
+    }
+
+    /**
+     * Buffers the body of a message until it exceeds the threshold, then writes the header marking the body as
+     * compressed followed by the deflated body. If the message is flushed or closed first the header and body are
+     * written as they are.
+     */
+    static final class CompressingOutputStream extends OutputStream {
+
+        private final CompressibleHeader header;
+        private final OutputStream output;
+        private final int threshold;
+        private ByteArrayOutputStream buffer;
+        private OutputStream body;
+        private Deflater deflater;
+
+        CompressingOutputStream(final CompressibleHeader header, final OutputStream output, final int threshold) {
+            this.header = header;
+            this.output = output;
+            this.threshold = threshold;
+            this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192));
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (body == null) {
+                buffer.write(b);
+                if (buffer.size() > threshold) {
+                    commit(true);
+                }
+            } else {
+                body.write(b);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (body == null) {
+                if (buffer.size() + len > threshold) {
+                    commit(true);
+                    body.write(b, off, len);
+                } else {
+                    buffer.write(b, off, len);
+                }
+            } else {
+                body.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (body == null) {
+                // Someone is waiting for what was written so far, it can't be held back any longer
+                commit(false);
+            }
+            body.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (body == null) {
+                commit(false);
+            }
+            try {
+                body.close();
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+        }
+
+        private void commit(final boolean compressed) throws IOException {
+            final DataOutputStream headerOutput = new DataOutputStream(output);
+            if (compressed) {
+                header.writeCompressed(headerOutput);
+                deflater = new Deflater(Deflater.BEST_SPEED);
+                body = new DeflaterOutputStream(output, deflater, 8192, true);
+            } else {
+                header.write(headerOutput);
+                body = output;
+            }
+            buffer.writeTo(body);
+            buffer = null;
+        }
+    }
+}
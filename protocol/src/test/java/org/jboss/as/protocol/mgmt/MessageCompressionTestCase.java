@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.protocol.mgmt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the compression of management protocol message bodies.
+ */
+public class MessageCompressionTestCase {
+
+    private static final int THRESHOLD = 1024;
+
+    @Test
+    public void testSmallBodyNotCompressed() throws IOException {
+        final byte[] body = body(THRESHOLD);
+        final byte[] message = write(new ManagementRequestHeader(ManagementProtocol.VERSION, 1, 2, (byte) 3), body, false);
+
+        final InputStream input = new ByteArrayInputStream(message);
+        final ManagementProtocolHeader header = ManagementProtocolHeader.parse(new DataInputStream(input));
+        Assert.assertFalse(header.isCompressed());
+        assertBody(body, MessageCompression.bodyInput(header, input));
+    }
+
+    @Test
+    public void testLargeRequestBodyCompressed() throws IOException {
+        final byte[] body = body(64 * THRESHOLD);
+        final byte[] message = write(new ManagementRequestHeader(ManagementProtocol.VERSION, 1, 2, (byte) 3), body, false);
+        Assert.assertTrue(message.length < body.length);
+
+        final InputStream input = new ByteArrayInputStream(message);
+        final ManagementProtocolHeader header = ManagementProtocolHeader.parse(new DataInputStream(input));
+        Assert.assertTrue(header.isCompressed());
+        Assert.assertEquals(1, ((ManagementRequestHeader) header).getRequestId());
+        Assert.assertEquals(2, ((ManagementRequestHeader) header).getBatchId());
+        assertBody(body, MessageCompression.bodyInput(header, input));
+    }
+
+    @Test
+    public void testLargeResponseBodyCompressed() throws IOException {
+        final byte[] body = body(64 * THRESHOLD);
+        final byte[] message = write(new ManagementResponseHeader(ManagementProtocol.VERSION, 7, null), body, false);
+
+        final InputStream input = new ByteArrayInputStream(message);
+        final ManagementProtocolHeader header = ManagementProtocolHeader.parse(new DataInputStream(input));
+        Assert.assertTrue(header.isCompressed());
+        Assert.assertFalse(((ManagementResponseHeader) header).isFailed());
+        Assert.assertEquals(7, ((ManagementResponseHeader) header).getResponseId());
+        assertBody(body, MessageCompression.bodyInput(header, input));
+    }
+
+    @Test
+    public void testFlushedBodyNotCompressed() throws IOException {
+        final byte[] body = body(64 * THRESHOLD);
+        final byte[] message = write(new ManagementRequestHeader(ManagementProtocol.VERSION, 1, 2, (byte) 3), body, true);
+
+        final InputStream input = new ByteArrayInputStream(message);
+        final ManagementProtocolHeader header = ManagementProtocolHeader.parse(new DataInputStream(input));
+        Assert.assertFalse(header.isCompressed());
+        assertBody(body, MessageCompression.bodyInput(header, input));
+    }
+
+    @Test
+    public void testCompressedBodyInputClosed() throws IOException {
+        final byte[] body = body(64 * THRESHOLD);
+        final byte[] message = write(new ManagementRequestHeader(ManagementProtocol.VERSION, 1, 2, (byte) 3), body, false);
+
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream input = new ByteArrayInputStream(message) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        final ManagementProtocolHeader header = ManagementProtocolHeader.parse(new DataInputStream(input));
+        final DataInputStream bodyInput = MessageCompression.bodyInput(header, input);
+        bodyInput.readFully(new byte[THRESHOLD]);
+        bodyInput.close();
+        // Only the inflater is released, the message is left for its receiver to drain and close
+        Assert.assertFalse(closed.get());
+    }
+
+    private static byte[] write(final CompressibleHeader header, final byte[] body, final boolean flushFirst) throws IOException {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        final FlushableDataOutput output = ProtocolUtils.wrapAsDataOutput(new MessageCompression.CompressingOutputStream(header, os, THRESHOLD));
+        if (flushFirst) {
+            output.write(body, 0, 1);
+            output.flush();
+            output.write(body, 1, body.length - 1);
+        } else {
+            // Write it in pieces, as a model node would be written
+            for (int i = 0; i < body.length; i += 100) {
+                output.write(body, i, Math.min(100, body.length - i));
+            }
+        }
+        output.close();
+        return os.toByteArray();
+    }
+
+    private static void assertBody(final byte[] expected, final DataInput input) throws IOException {
+        final byte[] actual = new byte[expected.length];
+        input.readFully(actual);
+        Assert.assertTrue(Arrays.equals(expected, actual));
+    }
+
+    private static byte[] body(final int length) {
+        final byte[] body = new byte[length];
+        for (int i = 0; i < length; i++) {
+            body[i] = (byte) ("address=[subsystem=logging],".charAt(i % 28));
+        }
+        return body;
+    }
+}
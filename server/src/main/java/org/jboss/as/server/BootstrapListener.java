@@ -11,10 +11,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 
+import org.jboss.as.controller.BootProfiler;
 import org.jboss.as.network.NetworkUtils;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.as.server.mgmt.UndertowHttpManagementService;
 import org.jboss.as.server.mgmt.domain.HttpManagement;
+import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceTarget;
@@ -36,6 +38,8 @@ public final class BootstrapListener {
     private final String prettyVersion;
     private final FutureServiceContainer futureContainer;
     private final File tempDir;
+    private final BootProfiler bootProfiler;
+    private volatile ModelNode bootProfile;
     private  String startedCleanMessage;
     private  String startedWitErrorsMessage;
 
@@ -47,6 +51,10 @@ public final class BootstrapListener {
         this.futureContainer = futureContainer;
         this.tempDir = tempDir;
         serviceTarget.addMonitor(monitor);
+        this.bootProfiler = BootProfiler.start();
+        if (bootProfiler != null) {
+            serviceTarget.addListener(bootProfiler);
+        }
     }
 
     public StabilityMonitor getStabilityMonitor() {
@@ -66,12 +74,25 @@ public final class BootstrapListener {
             Thread.currentThread().interrupt();
         } finally {
             serviceTarget.removeMonitor(monitor);
+            if (bootProfiler != null) {
+                serviceTarget.removeListener(bootProfiler);
+                bootProfile = bootProfiler.finish();
+            }
             final long bootstrapTime = elapsedTime.getElapsedTime();
             done(bootstrapTime, statistics, messages);
             monitor.clear();
         }
     }
 
+    /**
+     * Gets the report of the {@link BootProfiler}, available once the boot statistics are generated.
+     *
+     * @return the report, or {@code null} if the boot profiler is not enabled
+     */
+    public ModelNode getBootProfile() {
+        return bootProfile;
+    }
+
     public void printBootStatisticsMessage() {
         if (startedCleanMessage != null) {
             ServerLogger.AS_ROOT_LOGGER.startedClean(startedCleanMessage);
@@ -16,6 +16,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.jboss.as.controller.VirtualThreadExecutor;
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceController;
@@ -97,7 +98,11 @@ public class ExternalManagementRequestExecutor implements Service<ExecutorServic
         });
 
         int poolSize = getPoolSize();
-        if (EnhancedQueueExecutor.DISABLE_HINT) {
+        final ExecutorService virtualThreadExecutor = VirtualThreadExecutor.createIfEnabled(
+                "External Management Request Virtual Threads -- ", poolSize, WORK_QUEUE_SIZE);
+        if (virtualThreadExecutor != null) {
+            executorService = virtualThreadExecutor;
+        } else if (EnhancedQueueExecutor.DISABLE_HINT) {
             final BlockingQueue<Runnable> workQueue = new LinkedBlockingQueue<Runnable>(WORK_QUEUE_SIZE);
             executorService = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
                     workQueue, threadFactory);
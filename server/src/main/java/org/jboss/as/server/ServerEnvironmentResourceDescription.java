@@ -24,6 +24,7 @@ import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathInfoHandler;
 import org.jboss.as.server.controller.descriptions.ServerDescriptions;
+import org.jboss.as.server.deployment.DeploymentProcessorTimingHandler;
 import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -94,6 +95,7 @@ public class ServerEnvironmentResourceDescription extends SimpleResourceDefiniti
         for (AttributeDefinition attribute : SERVER_ENV_ATTRIBUTES) {
             resourceRegistration.registerReadOnlyAttribute(attribute, osh);
         }
+        resourceRegistration.registerMetric(DeploymentProcessorTimingHandler.DEPLOYMENT_PROCESSOR_TIMINGS, DeploymentProcessorTimingHandler.AGGREGATE);
     }
 
     @Override
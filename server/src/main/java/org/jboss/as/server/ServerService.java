@@ -12,7 +12,12 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MAN
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVICE;
 import static org.jboss.as.domain.http.server.ConsoleAvailability.CONSOLE_AVAILABILITY_CAPABILITY;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,6 +35,7 @@ import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractControllerService;
 import org.jboss.as.controller.BootContext;
+import org.jboss.as.controller.BootProfiler;
 import org.jboss.as.controller.CapabilityRegistry;
 import org.jboss.as.controller.ControlledProcessState;
 import org.jboss.as.controller.DelegatingResourceDefinition;
@@ -43,6 +49,7 @@ import org.jboss.as.controller.ProcessType;
 import org.jboss.as.controller.ResourceDefinition;
 import org.jboss.as.controller.RunningModeControl;
 import org.jboss.as.controller.ServiceNameFactory;
+import org.jboss.as.controller.VirtualThreadExecutor;
 import org.jboss.as.controller.access.management.DelegatingConfigurableAuthorizer;
 import org.jboss.as.controller.access.management.ManagementSecurityIdentitySupplier;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
@@ -66,6 +73,7 @@ import org.jboss.as.platform.mbean.RootPlatformMBeanResource;
 import org.jboss.as.remoting.HttpListenerRegistryService;
 import org.jboss.as.remoting.management.ManagementRemotingServices;
 import org.jboss.as.repository.ContentRepository;
+import org.jboss.as.server.controller.resources.BootProfileResourceDefinition;
 import org.jboss.as.server.controller.resources.ServerRootResourceDefinition;
 import org.jboss.as.server.controller.resources.VersionModelInitializer;
 import org.jboss.as.server.deployment.Attachments;
@@ -164,6 +172,9 @@ public final class ServerService extends AbstractControllerService {
 
     static final String EXTERNAL_MODULE_CAPABILITY_NAME = "org.wildfly.management.external-module";
 
+    /** Name of the boot profiler report, written to the log directory */
+    static final String BOOT_PROFILE_FILE = "boot-profile.json";
+
     // TODO Remove type narrowing as soon as references to the implementation class are dropped from WildFly
     static final RuntimeCapability<Void> SUSPEND_CONTROLLER_CAPABILITY = RuntimeCapability.Builder.of(ServerSuspendController.SERVICE_DESCRIPTOR.asType(SuspendController.class)).build();
 
@@ -420,6 +431,10 @@ public final class ServerService extends AbstractControllerService {
                 messages.add(ServerLogger.AS_ROOT_LOGGER.serverStabilityInUse(stability));
             }
             bootstrapListener.generateBootStatistics(messages.toArray(new String[0]));
+            final ModelNode bootProfile = bootstrapListener.getBootProfile();
+            if (bootProfile != null) {
+                writeBootProfile(bootProfile);
+            }
         } else {
             // Die!
             List<String> messages = new ArrayList<>();
@@ -440,6 +455,17 @@ public final class ServerService extends AbstractControllerService {
         }
     }
 
+    private void writeBootProfile(final ModelNode bootProfile) {
+        final Path file = configuration.getServerEnvironment().getServerLogDir().toPath().resolve(BOOT_PROFILE_FILE);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(bootProfile.toJSONString(false));
+        } catch (IOException e) {
+            ServerLogger.ROOT_LOGGER.cannotWriteBootProfile(e, file);
+            return;
+        }
+        ServerLogger.ROOT_LOGGER.bootProfileWritten(file);
+    }
+
     @Override
     protected void finishBoot(boolean suspend) throws ConfigurationPersistenceException {
         super.finishBoot();
@@ -476,6 +502,9 @@ public final class ServerService extends AbstractControllerService {
         rootResource.registerChild(PathElement.pathElement(ModelDescriptionConstants.CORE_SERVICE, ModelDescriptionConstants.MANAGEMENT), managementResource);
         rootResource.registerChild(PathElement.pathElement(ModelDescriptionConstants.CORE_SERVICE, ModelDescriptionConstants.SERVICE_CONTAINER), Resource.Factory.create());
         rootResource.registerChild(PathElement.pathElement(ModelDescriptionConstants.CORE_SERVICE, ModelDescriptionConstants.MODULE_LOADING), PlaceholderResource.INSTANCE);
+        if (BootProfiler.isEnabled()) {
+            rootResource.registerChild(BootProfileResourceDefinition.RESOURCE_PATH, PlaceholderResource.INSTANCE);
+        }
         rootResource.registerChild(PathElement.pathElement(ModelDescriptionConstants.CORE_SERVICE, ModelDescriptionConstants.CAPABILITY_REGISTRY), Resource.Factory.create());
         managementResource.registerChild(AccessAuthorizationResourceDefinition.PATH_ELEMENT, AccessAuthorizationResourceDefinition.createResource(authorizer.getWritableAuthorizerConfiguration()));
         rootResource.registerChild(ServerEnvironmentResourceDescription.RESOURCE_PATH, Resource.Factory.create());
@@ -534,6 +563,7 @@ public final class ServerService extends AbstractControllerService {
         private static final String CORE_POOL_SIZE_SYS_PROP = "org.jboss.as.server-service.core.threads";
         private static final String MAX_POOL_SIZE_SYS_PROP = "org.jboss.as.server-service.max.threads";
         private static final String ENHANCED_EXECUTOR_MBEAN_NAME = "ServerService";
+        private static final String VIRTUAL_THREAD_NAME_PREFIX = "ServerService Virtual Thread -- ";
 
         private final ThreadFactory threadFactory;
         private final boolean forDomain;
@@ -546,7 +576,10 @@ public final class ServerService extends AbstractControllerService {
 
         @Override
         public synchronized void start(StartContext context) throws StartException {
-            if (EnhancedQueueExecutor.DISABLE_HINT) {
+            final ExecutorService virtualThreadExecutor = VirtualThreadExecutor.createIfEnabled(VIRTUAL_THREAD_NAME_PREFIX, 0, 0);
+            if (virtualThreadExecutor != null) {
+                executorService = virtualThreadExecutor;
+            } else if (EnhancedQueueExecutor.DISABLE_HINT) {
                 executorService = new ThreadPoolExecutor(getCorePoolSize(forDomain), Integer.MAX_VALUE, 20L, TimeUnit.SECONDS,
                         new SynchronousQueue<Runnable>(), threadFactory);
             } else {
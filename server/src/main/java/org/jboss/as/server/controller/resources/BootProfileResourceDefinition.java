@@ -0,0 +1,100 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.controller.resources;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.BootProfiler;
+import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.server.controller.descriptions.ServerDescriptions;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Definition of the core-service=boot-profile resource, which exposes the report of the {@link BootProfiler}. It is
+ * only registered when the boot profiler is enabled.
+ */
+public class BootProfileResourceDefinition extends SimpleResourceDefinition {
+
+    public static final String BOOT_PROFILE = "boot-profile";
+    public static final PathElement RESOURCE_PATH = PathElement.pathElement(CORE_SERVICE, BOOT_PROFILE);
+
+    private static final AttributeDefinition BOOT_TIME = SimpleAttributeDefinitionBuilder.create(BootProfiler.BOOT_TIME, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+    private static final AttributeDefinition CRITICAL_PATH = createActivityList(BootProfiler.CRITICAL_PATH);
+    private static final AttributeDefinition SUBSYSTEMS = createActivityList(BootProfiler.SUBSYSTEMS);
+    private static final AttributeDefinition OPERATIONS = createActivityList(BootProfiler.OPERATIONS);
+    private static final AttributeDefinition DEPLOYMENT_PROCESSORS = createActivityList(BootProfiler.DEPLOYMENT_PROCESSORS);
+    private static final AttributeDefinition SERVICES = createActivityList(BootProfiler.SERVICES);
+
+    private static final AttributeDefinition[] ATTRIBUTES = { BOOT_TIME, CRITICAL_PATH, SUBSYSTEMS, OPERATIONS, DEPLOYMENT_PROCESSORS, SERVICES };
+
+    public static final BootProfileResourceDefinition INSTANCE = new BootProfileResourceDefinition();
+
+    private BootProfileResourceDefinition() {
+        super(new Parameters(RESOURCE_PATH, ServerDescriptions.getResourceDescriptionResolver("core", BOOT_PROFILE))
+                .setRuntime());
+    }
+
+    private static AttributeDefinition createActivityList(final String name) {
+        final SimpleAttributeDefinition type = SimpleAttributeDefinitionBuilder.create(BootProfiler.TYPE, ModelType.STRING).build();
+        final SimpleAttributeDefinition activityName = SimpleAttributeDefinitionBuilder.create(BootProfiler.NAME, ModelType.STRING).build();
+        final SimpleAttributeDefinition detail = SimpleAttributeDefinitionBuilder.create(BootProfiler.DETAIL, ModelType.STRING)
+                .setRequired(false)
+                .build();
+        final SimpleAttributeDefinition thread = SimpleAttributeDefinitionBuilder.create(BootProfiler.THREAD, ModelType.STRING)
+                .setRequired(false)
+                .build();
+        final SimpleAttributeDefinition start = SimpleAttributeDefinitionBuilder.create(BootProfiler.START, ModelType.LONG)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .build();
+        final SimpleAttributeDefinition elapsed = SimpleAttributeDefinitionBuilder.create(BootProfiler.ELAPSED, ModelType.LONG)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .build();
+        return ObjectListAttributeDefinition.Builder.of(name,
+                        ObjectTypeAttributeDefinition.Builder.of("activity", type, activityName, detail, thread, start, elapsed).build())
+                .setRequired(false)
+                .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                .build();
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        for (AttributeDefinition attribute : ATTRIBUTES) {
+            resourceRegistration.registerReadOnlyAttribute(attribute, BootProfileReadHandler.INSTANCE);
+        }
+    }
+
+    /** Reads the attributes from the report of the last profiled boot, which are undefined until the boot completes */
+    private static class BootProfileReadHandler implements OperationStepHandler {
+
+        private static final BootProfileReadHandler INSTANCE = new BootProfileReadHandler();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final ModelNode report = BootProfiler.getReport();
+            if (report != null) {
+                final String name = operation.require(NAME).asString();
+                context.getResult().set(report.get(name));
+            }
+        }
+    }
+}
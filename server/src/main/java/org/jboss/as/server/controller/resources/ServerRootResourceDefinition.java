@@ -17,6 +17,7 @@ import static org.jboss.as.controller.services.path.PathResourceDefinition.PATH_
 
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.BootErrorCollector;
+import org.jboss.as.controller.BootProfiler;
 import org.jboss.as.controller.CapabilityRegistry;
 import org.jboss.as.controller.CompositeOperationHandler;
 import org.jboss.as.controller.ControlledProcessState;
@@ -526,6 +527,11 @@ public class ServerRootResourceDefinition extends SimpleResourceDefinition {
         //module loading
         resourceRegistration.registerSubModel(ModuleLoadingResourceDefinition.INSTANCE);
 
+        // Boot profile
+        if (BootProfiler.isEnabled()) {
+            resourceRegistration.registerSubModel(BootProfileResourceDefinition.INSTANCE);
+        }
+
         // Platform MBeans
         PlatformMBeanResourceRegistrar.registerPlatformMBeanResources(resourceRegistration);
 
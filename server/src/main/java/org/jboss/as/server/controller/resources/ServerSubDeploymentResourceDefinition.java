@@ -12,6 +12,7 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.server.deployment.DeploymentListModulesHandler;
+import org.jboss.as.server.deployment.DeploymentProcessorTimingHandler;
 
 /**
  * The sub-deployment resource definition.
@@ -28,6 +29,12 @@ public class ServerSubDeploymentResourceDefinition extends SimpleResourceDefinit
         return new ServerSubDeploymentResourceDefinition(PathElement.pathElement(SUBDEPLOYMENT), DeploymentAttributes.DEPLOYMENT_RESOLVER);
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(DeploymentProcessorTimingHandler.DEPLOYMENT_PROCESSOR_TIMINGS, DeploymentProcessorTimingHandler.DEPLOYMENT);
+    }
+
     @Override
     public void registerOperations(ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
@@ -6,21 +6,93 @@
 package org.jboss.as.server.deployment;
 
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * The deployer chains service value object.
+ * <p>
+ * When enabled with the {@value #TIMING_PROPERTY} system property, the time spent running each processor is kept,
+ * in aggregate for as long as the chains are in use, and for each deployment unit in an attachment of the unit, so
+ * they go away with it.
  *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 final class DeployerChains {
+
+    /** System property enabling the timing of the deployment unit processors */
+    static final String TIMING_PROPERTY = "org.wildfly.deployment.processor-timing";
+
+    private static final AttachmentKey<ConcurrentMap<RegisteredDeploymentUnitProcessor, DeploymentProcessorTiming>> TIMINGS = AttachmentKey.create(ConcurrentMap.class);
+    private static final boolean TIMING_ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(TIMING_PROPERTY, "false"));
+
     private final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases;
+    private final Map<RegisteredDeploymentUnitProcessor, DeploymentProcessorTiming> timings;
 
     DeployerChains(final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases) {
+        this(phases, TIMING_ENABLED);
+    }
+
+    DeployerChains(final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases, final boolean timingEnabled) {
         this.phases = phases;
+        if (timingEnabled) {
+            timings = new HashMap<>();
+            for (List<RegisteredDeploymentUnitProcessor> chain : phases.values()) {
+                for (RegisteredDeploymentUnitProcessor processor : chain) {
+                    timings.put(processor, new DeploymentProcessorTiming());
+                }
+            }
+        } else {
+            timings = null;
+        }
     }
 
     List<RegisteredDeploymentUnitProcessor> getChain(Phase phase) {
         return phases.get(phase);
     }
+
+    boolean isTimingEnabled() {
+        return timings != null;
+    }
+
+    /**
+     * Records the time a processor took to run for a deployment unit. Must only be called when timing is enabled.
+     */
+    void recordTiming(final DeploymentUnit deploymentUnit, final RegisteredDeploymentUnitProcessor processor, final long time) {
+        final DeploymentProcessorTiming timing = timings.get(processor);
+        if (timing != null) {
+            timing.record(time);
+        }
+        // The phases of a deployment unit run one after the other
+        ConcurrentMap<RegisteredDeploymentUnitProcessor, DeploymentProcessorTiming> unitTimings = deploymentUnit.getAttachment(TIMINGS);
+        if (unitTimings == null) {
+            unitTimings = new ConcurrentHashMap<>();
+            deploymentUnit.putAttachment(TIMINGS, unitTimings);
+        }
+        unitTimings.computeIfAbsent(processor, p -> new DeploymentProcessorTiming()).record(time);
+    }
+
+    /**
+     * Gets the aggregated timings of the processors.
+     *
+     * @return the timings, or {@code null} if timing is not enabled
+     */
+    Map<RegisteredDeploymentUnitProcessor, DeploymentProcessorTiming> getTimings() {
+        return timings;
+    }
+
+    /**
+     * Gets the timings of the processors which ran for a deployment unit.
+     *
+     * @param deploymentUnit the deployment unit
+     * @return the timings, or {@code null} if timing is not enabled or no processor ran for the deployment unit
+     */
+    static Map<RegisteredDeploymentUnitProcessor, DeploymentProcessorTiming> getTimings(final DeploymentUnit deploymentUnit) {
+        return deploymentUnit.getAttachment(TIMINGS);
+    }
 }
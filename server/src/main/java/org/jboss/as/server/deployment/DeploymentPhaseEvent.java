@@ -0,0 +1,37 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the run of the processors of a deployment phase. Disabled unless a recording enables
+ * it; only create it once {@link org.jboss.as.controller.FlightRecorderSupport#isAvailable()} returned {@code true}.
+ */
+@Name("org.wildfly.deployment.DeploymentPhase")
+@Label("Deployment Phase")
+@Description("The run of the deployment unit processors of a deployment phase")
+@Category({"WildFly", "Deployment"})
+@Enabled(false)
+@StackTrace(false)
+final class DeploymentPhaseEvent extends Event {
+
+    @Label("Deployment")
+    String deployment;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Processors")
+    @Description("The number of deployment unit processors which ran")
+    int processors;
+}
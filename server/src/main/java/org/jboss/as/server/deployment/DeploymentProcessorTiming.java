@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time spent running a deployment unit processor, in nanoseconds.
+ */
+final class DeploymentProcessorTiming {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private volatile long lastTime;
+
+    void record(final long time) {
+        invocations.increment();
+        totalTime.add(time);
+        lastTime = time;
+    }
+
+    long getInvocations() {
+        return invocations.sum();
+    }
+
+    long getTotalTime() {
+        return totalTime.sum();
+    }
+
+    long getLastTime() {
+        return lastTime;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBDEPLOYMENT;
+import static org.jboss.as.server.controller.resources.DeploymentAttributes.ENABLED;
+import static org.jboss.as.server.controller.resources.DeploymentAttributes.RUNTIME_NAME;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectListAttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+
+/**
+ * Reads the time spent running the deployment unit processors, either in aggregate or for the deployment or
+ * subdeployment the handler is registered on. The metric is undefined unless the timing of the processors is enabled
+ * with the {@value DeployerChains#TIMING_PROPERTY} system property.
+ */
+public class DeploymentProcessorTimingHandler implements OperationStepHandler {
+
+    private static final String PROCESSOR = "processor";
+    private static final String PHASE = "phase";
+    private static final String SUBSYSTEM = "subsystem";
+    private static final String INVOCATIONS = "invocations";
+    private static final String TOTAL_TIME = "total-time";
+    private static final String LAST_TIME = "last-time";
+
+    public static final AttributeDefinition DEPLOYMENT_PROCESSOR_TIMINGS = ObjectListAttributeDefinition.Builder.of("deployment-processor-timings",
+                    ObjectTypeAttributeDefinition.Builder.of("timing",
+                            SimpleAttributeDefinitionBuilder.create(PROCESSOR, ModelType.STRING).build(),
+                            SimpleAttributeDefinitionBuilder.create(PHASE, ModelType.STRING).build(),
+                            SimpleAttributeDefinitionBuilder.create(SUBSYSTEM, ModelType.STRING).setRequired(false).build(),
+                            SimpleAttributeDefinitionBuilder.create(INVOCATIONS, ModelType.LONG).build(),
+                            createTime(TOTAL_TIME),
+                            createTime(LAST_TIME)).build())
+            .setRequired(false)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    /** Handler reading the timings aggregated over all the deployments */
+    public static final OperationStepHandler AGGREGATE = new DeploymentProcessorTimingHandler(false);
+    /** Handler reading the timings of a deployment or subdeployment */
+    public static final OperationStepHandler DEPLOYMENT = new DeploymentProcessorTimingHandler(true);
+
+    private final boolean deployment;
+
+    private DeploymentProcessorTimingHandler(final boolean deployment) {
+        this.deployment = deployment;
+    }
+
+    private static SimpleAttributeDefinition createTime(final String name) {
+        return SimpleAttributeDefinitionBuilder.create(name, ModelType.LONG)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .build();
+    }
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (!context.isNormalServer()) {
+            return;
+        }
+        final ServiceName deploymentUnitName;
+        if (deployment) {
+            final PathAddress currentAddress = context.getCurrentAddress();
+            final boolean subDeploymentFlag = currentAddress.getLastElement().getKey().equals(SUBDEPLOYMENT);
+            final PathAddress address = subDeploymentFlag ? currentAddress.getParent() : currentAddress;
+            final ModelNode model = context.readResourceFromRoot(address, false).getModel();
+            if (!ENABLED.resolveModelAttribute(context, model).asBoolean()) {
+                return;
+            }
+            final String runtimeName = RUNTIME_NAME.resolveModelAttribute(context, model).asString();
+            deploymentUnitName = subDeploymentFlag ? Services.deploymentUnitName(runtimeName, context.getCurrentAddressValue()) : Services.deploymentUnitName(runtimeName);
+        } else {
+            deploymentUnitName = null;
+        }
+        context.addStep(new OperationStepHandler() {
+            @Override
+            public void execute(final OperationContext context, final ModelNode operation) {
+                final ServiceRegistry registry = context.getServiceRegistry(false);
+                final ServiceController<?> controller = registry.getService(Services.JBOSS_DEPLOYMENT_CHAINS);
+                if (controller == null || controller.getState() != ServiceController.State.UP) {
+                    return;
+                }
+                final DeployerChains chains = (DeployerChains) controller.getValue();
+                final Map<RegisteredDeploymentUnitProcessor, DeploymentProcessorTiming> timings;
+                if (deploymentUnitName != null) {
+                    final ServiceController<?> deploymentUnitController = registry.getService(deploymentUnitName);
+                    if (deploymentUnitController == null || deploymentUnitController.getState() != ServiceController.State.UP) {
+                        return;
+                    }
+                    timings = DeployerChains.getTimings((DeploymentUnit) deploymentUnitController.getValue());
+                } else {
+                    timings = chains.getTimings();
+                }
+                if (timings != null) {
+                    storeTimings(chains, timings, context.getResult().setEmptyList());
+                }
+            }
+        }, OperationContext.Stage.RUNTIME);
+    }
+
+    static void storeTimings(final DeployerChains chains, final Map<RegisteredDeploymentUnitProcessor, DeploymentProcessorTiming> timings, final ModelNode result) {
+        for (Phase phase : Phase.values()) {
+            for (RegisteredDeploymentUnitProcessor processor : chains.getChain(phase)) {
+                final DeploymentProcessorTiming timing = timings.get(processor);
+                if (timing != null && timing.getInvocations() > 0) {
+                    final ModelNode entry = result.add();
+                    entry.get(PROCESSOR).set(processor.getProcessor().getClass().getName());
+                    entry.get(PHASE).set(phase.name());
+                    if (processor.getSubsystemName() != null) {
+                        entry.get(SUBSYSTEM).set(processor.getSubsystemName());
+                    }
+                    entry.get(INVOCATIONS).set(timing.getInvocations());
+                    entry.get(TOTAL_TIME).set(TimeUnit.NANOSECONDS.toMicros(timing.getTotalTime()));
+                    entry.get(LAST_TIME).set(TimeUnit.NANOSECONDS.toMicros(timing.getLastTime()));
+                }
+            }
+        }
+    }
+}
@@ -14,6 +14,8 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
+import org.jboss.as.controller.BootProfiler;
+import org.jboss.as.controller.FlightRecorderSupport;
 import org.jboss.as.controller.RequirementServiceTarget;
 import org.jboss.as.server.deployment.module.ModuleSpecification;
 import org.jboss.as.server.logging.ServerLogger;
@@ -158,13 +160,30 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
             }
         }
 
+        final DeploymentPhaseEvent event = beginEvent();
+        final BootProfiler profiler = BootProfiler.getActive();
+        final boolean timed = profiler != null || chains.isTimingEnabled();
+        int processors = 0;
         while (iterator.hasNext()) {
             final RegisteredDeploymentUnitProcessor processor = iterator.next();
             try {
                 if (shouldRun(deploymentUnit, processor)) {
+                    processors++;
+                    final long start = timed ? System.nanoTime() : 0;
                     processor.getProcessor().deploy(processorContext);
+                    if (timed) {
+                        final long end = System.nanoTime();
+                        if (chains.isTimingEnabled()) {
+                            chains.recordTiming(deploymentUnit, processor, end - start);
+                        }
+                        if (profiler != null) {
+                            profiler.recordDeploymentProcessor(context.getController().getName(), deploymentUnit.getName(), phase.name(),
+                                    processor.getProcessor().getClass().getName(), start, end);
+                        }
+                    }
                 }
             } catch (Throwable e) {
+                commitEvent(event, deploymentUnit, phase, processors);
                 while (iterator.hasPrevious()) {
                     final RegisteredDeploymentUnitProcessor prev = iterator.previous();
                     safeUndeploy(deploymentUnit, phase, prev);
@@ -173,6 +192,8 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
             }
         }
 
+        commitEvent(event, deploymentUnit, phase, processors);
+
         final Phase nextPhase = phase.next();
         if (nextPhase != null) {
             final ServiceName serviceName = DeploymentUtils.getDeploymentUnitPhaseServiceName(deploymentUnit, nextPhase);
@@ -230,6 +251,30 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         }
     }
 
+    private static DeploymentPhaseEvent beginEvent() {
+        if (!FlightRecorderSupport.isAvailable()) {
+            return null;
+        }
+        final DeploymentPhaseEvent event = new DeploymentPhaseEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static void commitEvent(final DeploymentPhaseEvent event, final DeploymentUnit deploymentUnit, final Phase phase, final int processors) {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.deployment = deploymentUnit.getName();
+                event.phase = phase.name();
+                event.processors = processors;
+                event.commit();
+            }
+        }
+    }
+
     private static void safeUndeploy(final DeploymentUnit deploymentUnit, final Phase phase, final RegisteredDeploymentUnitProcessor prev) {
         try {
             if (shouldRun(deploymentUnit, prev)) {
@@ -1485,6 +1485,14 @@ public interface ServerLogger extends BasicLogger {
     @Message(id = 312, value = "Caught exception during shutdown")
     void caughtExceptionDuringShutdown(@Cause Throwable e);
 
+    @LogMessage(level = WARN)
+    @Message(id = 313, value = "Could not write the boot profile to %s")
+    void cannotWriteBootProfile(@Cause IOException e, Path file);
+
+    @LogMessage(level = INFO)
+    @Message(id = 314, value = "Boot profile written to %s")
+    void bootProfileWritten(Path file);
+
     ////////////////////////////////////////////////
     //Messages without IDs
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+import org.jboss.as.version.Stability;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests of the timing of the deployment unit processors by {@link DeployerChains}.
+ */
+public class DeployerChainsTestCase {
+
+    private final RegisteredDeploymentUnitProcessor parse = new RegisteredDeploymentUnitProcessor(1, Mockito.mock(DeploymentUnitProcessor.class), "ee");
+    private final RegisteredDeploymentUnitProcessor install = new RegisteredDeploymentUnitProcessor(1, Mockito.mock(DeploymentUnitProcessor.class), null);
+
+    private EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> createPhases() {
+        final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new ArrayList<>());
+        }
+        phases.get(Phase.PARSE).add(parse);
+        phases.get(Phase.INSTALL).add(install);
+        return phases;
+    }
+
+    @Test
+    public void testTimingDisabled() {
+        final DeployerChains chains = new DeployerChains(createPhases(), false);
+        assertFalse(chains.isTimingEnabled());
+        assertNull(chains.getTimings());
+    }
+
+    @Test
+    public void testTimings() {
+        final DeployerChains chains = new DeployerChains(createPhases(), true);
+        assertTrue(chains.isTimingEnabled());
+        final DeploymentUnit first = new DeploymentUnitImpl(null, "first.war", null, Stability.DEFAULT);
+        final DeploymentUnit second = new DeploymentUnitImpl(null, "second.war", null, Stability.DEFAULT);
+
+        chains.recordTiming(first, parse, 3000);
+        chains.recordTiming(second, parse, 5000);
+        chains.recordTiming(second, parse, 1000);
+        chains.recordTiming(second, install, 2000);
+
+        final DeploymentProcessorTiming aggregate = chains.getTimings().get(parse);
+        assertEquals(3, aggregate.getInvocations());
+        assertEquals(9000, aggregate.getTotalTime());
+        assertEquals(1000, aggregate.getLastTime());
+        assertEquals(3000, DeployerChains.getTimings(first).get(parse).getTotalTime());
+        assertNull(DeployerChains.getTimings(first).get(install));
+        // The timings are attached to the deployment units, nothing is kept for units no processor ran for
+        assertNull(DeployerChains.getTimings(new DeploymentUnitImpl(null, "third.war", null, Stability.DEFAULT)));
+
+        final ModelNode result = new ModelNode().setEmptyList();
+        DeploymentProcessorTimingHandler.storeTimings(chains, DeployerChains.getTimings(second), result);
+        assertEquals(2, result.asList().size());
+        final ModelNode parseTiming = result.get(0);
+        assertEquals(parse.getProcessor().getClass().getName(), parseTiming.get("processor").asString());
+        assertEquals(Phase.PARSE.name(), parseTiming.get("phase").asString());
+        assertEquals("ee", parseTiming.get("subsystem").asString());
+        assertEquals(2, parseTiming.get("invocations").asLong());
+        assertEquals(6, parseTiming.get("total-time").asLong());
+        assertEquals(1, parseTiming.get("last-time").asLong());
+        assertEquals(Phase.INSTALL.name(), result.get(1).get("phase").asString());
+        assertFalse(result.get(1).hasDefined("subsystem"));
+    }
+}
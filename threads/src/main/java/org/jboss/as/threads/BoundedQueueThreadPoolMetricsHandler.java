@@ -24,7 +24,8 @@ public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandl
 
     public static final List<AttributeDefinition> METRICS = Arrays.asList(PoolAttributeDefinitions.CURRENT_THREAD_COUNT,
             PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT,
-            PoolAttributeDefinitions.QUEUE_SIZE);
+            PoolAttributeDefinitions.QUEUE_SIZE,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME, PoolAttributeDefinitions.EXECUTION_TIME);
 
     public BoundedQueueThreadPoolMetricsHandler(final RuntimeCapability<Void> capability, final ServiceName serviceNameBase) {
         super(METRICS, capability, serviceNameBase);
@@ -46,6 +47,12 @@ public class BoundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHandl
             case CommonAttributes.QUEUE_SIZE:
                 context.getResult().set(bounded.getQueueSize());
                 break;
+            case CommonAttributes.QUEUE_WAIT_TIME:
+                setTaskTimesResult(context, bounded.getQueueWaitTimes());
+                break;
+            case CommonAttributes.EXECUTION_TIME:
+                setTaskTimesResult(context, bounded.getExecutionTimes());
+                break;
             default:
                 // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
                 throw ThreadsLogger.ROOT_LOGGER.unsupportedBoundedQueueThreadPoolMetric(attributeName);
@@ -10,6 +10,7 @@ package org.jboss.as.threads;
 public interface CommonAttributes {
     String ACTIVE_COUNT = "active-count";
     String ALLOW_CORE_TIMEOUT = "allow-core-timeout";
+    String AUTO_SIZING = "auto-sizing";
     String BLOCKING = "blocking";
     String BLOCKING_BOUNDED_QUEUE_THREAD_POOL = "blocking-bounded-queue-thread-pool";
     String BLOCKING_QUEUELESS_THREAD_POOL = "blocking-queueless-thread-pool";
@@ -18,12 +19,15 @@ public interface CommonAttributes {
     String CORE_THREADS = "core-threads";
     String COUNT = "count";
     String CURRENT_THREAD_COUNT = "current-thread-count";
+    String EXECUTION_TIME = "execution-time";
     String PER_CPU = "per-cpu";
+    String PINNED_COUNT = "pinned-count";
     String HANDOFF_EXECUTOR = "handoff-executor";
     String LARGEST_THREAD_COUNT = "largest-thread-count";
     String NAME = "name";
     String GROUP_NAME = "group-name";
     String KEEPALIVE_TIME = "keepalive-time";
+    String MAX_CONCURRENCY = "max-concurrency";
     String MAX_THREADS = "max-threads";
     String PRIORITY = "priority";
     String PROPERTIES = "properties";
@@ -31,8 +35,10 @@ public interface CommonAttributes {
     String QUEUELESS_THREAD_POOL = "queueless-thread-pool";
     String QUEUE_LENGTH = "queue-length";
     String QUEUE_SIZE = "queue-size";
+    String QUEUE_WAIT_TIME = "queue-wait-time";
     String REJECTED_COUNT = "rejected-count";
     String SCHEDULED_THREAD_POOL = "scheduled-thread-pool";
+    String TARGET_THREAD_COUNT = "target-thread-count";
     String TASK_COUNT = "task-count";
     String THREADS = "threads";
     String TIME = "time";
@@ -40,6 +46,7 @@ public interface CommonAttributes {
     String THREAD_NAME_PATTERN = "thread-name-pattern";
     String UNBOUNDED_QUEUE_THREAD_POOL = "unbounded-queue-thread-pool";
     String ENHANCED_QUEUE_THREAD_POOL = "enhanced-queue-thread-pool";
+    String VIRTUAL_THREAD_EXECUTOR = "virtual-thread-executor";
     String UNIT = "unit";
     String VALUE = "value";
 }
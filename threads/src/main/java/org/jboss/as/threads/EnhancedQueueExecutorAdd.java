@@ -20,7 +20,8 @@ import org.jboss.msc.service.ServiceName;
 class EnhancedQueueExecutorAdd extends AbstractAddStepHandler {
 
     static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[]{PoolAttributeDefinitions.KEEPALIVE_TIME,
-            PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.CORE_THREADS, PoolAttributeDefinitions.THREAD_FACTORY};
+            PoolAttributeDefinitions.MAX_THREADS, PoolAttributeDefinitions.CORE_THREADS, PoolAttributeDefinitions.THREAD_FACTORY,
+            PoolAttributeDefinitions.AUTO_SIZING};
 
     private final ThreadFactoryResolver threadFactoryResolver;
     private final ServiceName serviceNameBase;
@@ -45,12 +46,23 @@ class EnhancedQueueExecutorAdd extends AbstractAddStepHandler {
                 Integer.MAX_VALUE,
                 params.getKeepAliveTime(),
                 false);
+        if (PoolAttributeDefinitions.AUTO_SIZING.resolveModelAttribute(context, model).asBoolean()) {
+            service.setAutoSizing(params.getName(), getAutoSizingMinThreads(context, model));
+        }
 
         ThreadPoolManagementUtils.installThreadPoolService(service, params.getName(), capability, context.getCurrentAddress(),
                 serviceNameBase, params.getThreadFactory(), threadFactoryResolver, service.getThreadFactoryInjector(),
                 null, null, null, context.getCapabilityServiceTarget());
     }
 
+    /**
+     * Gets the lower bound of the number of threads of an auto-sized pool, its core threads if they are defined.
+     */
+    static int getAutoSizingMinThreads(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final ModelNode coreThreads = PoolAttributeDefinitions.CORE_THREADS.resolveModelAttribute(context, model);
+        return coreThreads.isDefined() ? coreThreads.asInt() : 1;
+    }
+
     ServiceName getServiceNameBase() {
         return serviceNameBase;
     }
@@ -23,7 +23,9 @@ class EnhancedQueueExecutorMetricsHandler extends ThreadPoolMetricsHandler {
     private static final List<AttributeDefinition> METRICS = Arrays.asList(PoolAttributeDefinitions.ACTIVE_COUNT,
             PoolAttributeDefinitions.COMPLETED_TASK_COUNT, PoolAttributeDefinitions.CURRENT_THREAD_COUNT,
             PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT,
-            PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE);
+            PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME, PoolAttributeDefinitions.EXECUTION_TIME,
+            PoolAttributeDefinitions.TARGET_THREAD_COUNT);
 
     EnhancedQueueExecutorMetricsHandler(final RuntimeCapability<Void> capability, final ServiceName serviceNameBase) {
         super(METRICS, capability, serviceNameBase);
@@ -54,6 +56,18 @@ class EnhancedQueueExecutorMetricsHandler extends ThreadPoolMetricsHandler {
             case CommonAttributes.QUEUE_SIZE:
                 context.getResult().set(pool.getQueueSize());
                 break;
+            case CommonAttributes.TARGET_THREAD_COUNT:
+                final int target = pool.getTargetThreadCount();
+                if (target > 0) {
+                    context.getResult().set(target);
+                }
+                break;
+            case CommonAttributes.QUEUE_WAIT_TIME:
+                setTaskTimesResult(context, pool.getQueueWaitTimes());
+                break;
+            case CommonAttributes.EXECUTION_TIME:
+                setTaskTimesResult(context, pool.getExecutionTimes());
+                break;
             default:
                 // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
                 throw ThreadsLogger.ROOT_LOGGER.unsupportedEnhancedQueueExecutorMetric(attributeName);
@@ -6,6 +6,8 @@
 package org.jboss.as.threads;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -31,6 +33,11 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
     private TimeSpec keepAlive;
     private boolean allowCoreThreadTimeout;
     private final boolean blocking;
+    private String autoSizingPoolName;
+    private int autoSizingMinThreads;
+    private ThreadPoolAutoSizer autoSizer;
+    private ScheduledExecutorService autoSizingScheduler;
+    private ScheduledFuture<?> autoSizing;
 
     EnhancedQueueExecutorService(int maxThreads, TimeSpec keepAlive, boolean blocking) {
         this(false, maxThreads, 0, Integer.MAX_VALUE, keepAlive, blocking);
@@ -63,6 +70,7 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
         }
         EnhancedQueueExecutor enhancedQueueExecutor = executorBuilder.build();
         this.executor = new ManagedEnhancedQueueExecutor(enhancedQueueExecutor, blocking);
+        restartAutoSizing();
     }
 
     public void stop(final StopContext context) {
@@ -70,6 +78,9 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
         synchronized (this) {
             executor = this.executor;
             this.executor = null;
+            cancelAutoSizing();
+            autoSizer = null;
+            stopAutoSizingScheduler();
         }
         context.asynchronous();
         executor.internalShutdown(context);
@@ -93,18 +104,103 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
 
     synchronized void setMaxThreads(final int maxThreads) {
         final ManagedEnhancedQueueExecutor executor = this.executor;
-        if (executor != null) {
+        this.maxThreads = maxThreads;
+        if (autoSizer != null) {
+            restartAutoSizing();
+        } else if (executor != null) {
             executor.setMaxThreads(maxThreads);
         }
-        this.maxThreads = maxThreads;
     }
 
     synchronized void setCoreThreads(final int coreThreads) {
         final ManagedEnhancedQueueExecutor executor = this.executor;
-        if (executor != null) {
+        this.coreThreads = coreThreads;
+        if (autoSizer != null) {
+            autoSizingMinThreads = coreThreads;
+            restartAutoSizing();
+        } else if (executor != null) {
             executor.setCoreThreads(coreThreads);
         }
-        this.coreThreads = coreThreads;
+    }
+
+    /**
+     * Enables or disables the auto-sizing of the pool. An auto-sized pool gets its core and max threads from a
+     * {@link ThreadPoolAutoSizer}, bounded by the given minimum and the max threads of the pool. Disabling it restores
+     * the configured core and max threads.
+     *
+     * @param poolName the name of the pool, {@code null} to disable auto-sizing
+     * @param minThreads the lower bound of the number of threads
+     */
+    synchronized void setAutoSizing(final String poolName, final int minThreads) {
+        this.autoSizingPoolName = poolName;
+        this.autoSizingMinThreads = minThreads;
+        restartAutoSizing();
+    }
+
+    /**
+     * Gets the number of threads the auto-sizing of the pool currently targets.
+     *
+     * @return the target, or {@code -1} if the pool is not auto-sized
+     */
+    synchronized int getTargetThreadCount() {
+        return autoSizer != null ? autoSizer.getTarget() : -1;
+    }
+
+    private void restartAutoSizing() {
+        assert Thread.holdsLock(this);
+        cancelAutoSizing();
+        final ManagedEnhancedQueueExecutor executor = this.executor;
+        if (executor == null) {
+            return;
+        }
+        if (autoSizingPoolName == null) {
+            stopAutoSizingScheduler();
+            if (autoSizer != null) {
+                autoSizer = null;
+                resize(executor, coreThreads > 0 ? coreThreads : maxThreads, maxThreads);
+            }
+            return;
+        }
+        final int current = autoSizer != null ? autoSizer.getTarget() : executor.getCoreThreads();
+        final ThreadPoolAutoSizer sizer = new ThreadPoolAutoSizer(autoSizingPoolName, autoSizingMinThreads, maxThreads, current);
+        autoSizer = sizer;
+        resize(executor, sizer.getTarget(), sizer.getTarget());
+        if (autoSizingScheduler == null) {
+            autoSizingScheduler = ThreadPoolAutoSizer.createScheduler(autoSizingPoolName);
+        }
+        autoSizing = ThreadPoolAutoSizer.schedule(autoSizingScheduler, () -> {
+            final int target = sizer.sample(executor.getCompletedTaskCount(), executor.getQueueSize(), executor.getActiveCount());
+            synchronized (this) {
+                if (autoSizer == sizer) {
+                    resize(executor, target, target);
+                }
+            }
+        });
+    }
+
+    private void cancelAutoSizing() {
+        if (autoSizing != null) {
+            autoSizing.cancel(false);
+            autoSizing = null;
+        }
+    }
+
+    private void stopAutoSizingScheduler() {
+        if (autoSizingScheduler != null) {
+            autoSizingScheduler.shutdownNow();
+            autoSizingScheduler = null;
+        }
+    }
+
+    private static void resize(final ManagedEnhancedQueueExecutor executor, final int coreThreads, final int maxThreads) {
+        // Keep core threads within max threads at each step
+        if (maxThreads >= executor.getMaxThreads()) {
+            executor.setMaxThreads(maxThreads);
+            executor.setCoreThreads(coreThreads);
+        } else {
+            executor.setCoreThreads(coreThreads);
+            executor.setMaxThreads(maxThreads);
+        }
     }
 
     synchronized void setKeepAlive(final TimeSpec keepAlive) {
@@ -163,6 +259,14 @@ class EnhancedQueueExecutorService implements Service<ManagedQueueExecutorServic
         return executor.getQueueSize();
     }
 
+    TaskTimeHistogram getQueueWaitTimes() {
+        return ((ManagedEnhancedQueueExecutor) getValue()).getQueueWaitTimes();
+    }
+
+    TaskTimeHistogram getExecutionTimes() {
+        return ((ManagedEnhancedQueueExecutor) getValue()).getExecutionTimes();
+    }
+
     TimeUnit getKeepAliveUnit() {
         return keepAlive == null ? TimeSpec.DEFAULT_KEEPALIVE.getUnit() : keepAlive.getUnit();
     }
@@ -41,6 +41,10 @@ class EnhancedQueueExecutorWriteAttributeHandler extends ThreadsWriteAttributeOp
             pool.setMaxThreads(PoolAttributeDefinitions.MAX_THREADS.resolveModelAttribute(context, model).asInt());
         } else if (PoolAttributeDefinitions.CORE_THREADS.getName().equals(attributeName)) {
             pool.setCoreThreads(PoolAttributeDefinitions.CORE_THREADS.resolveModelAttribute(context, model).asInt());
+        } else if (PoolAttributeDefinitions.AUTO_SIZING.getName().equals(attributeName)) {
+            final boolean autoSizing = PoolAttributeDefinitions.AUTO_SIZING.resolveModelAttribute(context, model).asBoolean();
+            pool.setAutoSizing(autoSizing ? context.getCurrentAddressValue() : null,
+                    EnhancedQueueExecutorAdd.getAutoSizingMinThreads(context, model));
         } else if (!forRollback) {
             // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
             throw ThreadsLogger.ROOT_LOGGER.unsupportedEnhancedQueueExecutorAttribute(attributeName);
@@ -1,5 +1,8 @@
 package org.jboss.as.threads;
 
+import static java.security.AccessController.doPrivileged;
+
+import java.security.PrivilegedAction;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -10,14 +13,30 @@ class ManagedEnhancedQueueExecutor extends ManagedExecutorServiceImpl
         implements ManagedQueueExecutorService,
                 // implement the to-be-removed interfaces as well until uses are gone
                 ManagedQueuelessExecutorService, ManagedJBossThreadPoolExecutorService {
+
+    /**
+     * The system property enabling the histograms of the times tasks wait in the queue and run. Recording costs two
+     * reads of the clock and a wrapper for each task, so it is off by default.
+     */
+    static final String RECORD_TASK_TIMES = "org.jboss.as.threads.record-task-times";
+    private static final boolean RECORD_TASK_TIMES_ENABLED = doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean(RECORD_TASK_TIMES));
+
     private final EnhancedQueueExecutor executor;
+    private final TaskTimeHistogram queueWaitTimes;
+    private final TaskTimeHistogram executionTimes;
 
     private volatile int maxTasks;
     private volatile ReducableSemaphore semaphore;
 
     ManagedEnhancedQueueExecutor(EnhancedQueueExecutor executor, boolean blocking) {
+        this(executor, blocking, RECORD_TASK_TIMES_ENABLED);
+    }
+
+    ManagedEnhancedQueueExecutor(EnhancedQueueExecutor executor, boolean blocking, boolean recordTaskTimes) {
         super(executor);
         this.executor = executor;
+        this.queueWaitTimes = recordTaskTimes ? new TaskTimeHistogram() : null;
+        this.executionTimes = recordTaskTimes ? new TaskTimeHistogram() : null;
         if (blocking) {
             this.maxTasks = getMaxTasks(executor);
             this.semaphore = new ReducableSemaphore(maxTasks);
@@ -47,6 +66,9 @@ class ManagedEnhancedQueueExecutor extends ManagedExecutorServiceImpl
     public void execute(Runnable command) {
         Semaphore gate = semaphore;
 
+        if (queueWaitTimes != null) {
+            command = new TimedRunnable(command, queueWaitTimes, executionTimes);
+        }
         if (gate != null) {
             try {
                 gate.acquire();
@@ -171,6 +193,24 @@ class ManagedEnhancedQueueExecutor extends ManagedExecutorServiceImpl
         return executor.getQueueSize();
     }
 
+    /**
+     * Gets the histogram of the times tasks waited between their submission and the start of their execution.
+     *
+     * @return the histogram, or {@code null} if task times are not recorded
+     */
+    TaskTimeHistogram getQueueWaitTimes() {
+        return queueWaitTimes;
+    }
+
+    /**
+     * Gets the histogram of the execution times of tasks.
+     *
+     * @return the histogram, or {@code null} if task times are not recorded
+     */
+    TaskTimeHistogram getExecutionTimes() {
+        return executionTimes;
+    }
+
     private static int getMaxTasks(EnhancedQueueExecutor executor) {
         return getMaxTasks(executor.getMaximumPoolSize(), executor.getMaximumQueueSize());
     }
@@ -209,4 +249,28 @@ class ManagedEnhancedQueueExecutor extends ManagedExecutorServiceImpl
             }
         }
     }
+
+    private static class TimedRunnable implements Runnable {
+        private final Runnable wrapped;
+        private final TaskTimeHistogram queueWaitTimes;
+        private final TaskTimeHistogram executionTimes;
+        private final long submitted = System.nanoTime();
+
+        private TimedRunnable(Runnable wrapped, TaskTimeHistogram queueWaitTimes, TaskTimeHistogram executionTimes) {
+            this.wrapped = wrapped;
+            this.queueWaitTimes = queueWaitTimes;
+            this.executionTimes = executionTimes;
+        }
+
+        @Override
+        public void run() {
+            final long started = System.nanoTime();
+            queueWaitTimes.record(started - submitted);
+            try {
+                wrapped.run();
+            } finally {
+                executionTimes.record(System.nanoTime() - started);
+            }
+        }
+    }
 }
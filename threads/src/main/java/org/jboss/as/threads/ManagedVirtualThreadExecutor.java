@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.VirtualThreadExecutor;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * {@link ManagedExecutorService} running its tasks in virtual threads.
+ */
+class ManagedVirtualThreadExecutor extends ManagedExecutorServiceImpl {
+
+    private final VirtualThreadExecutor executor;
+    private final AtomicLong pinnedCount = new AtomicLong();
+
+    ManagedVirtualThreadExecutor(VirtualThreadExecutor executor) {
+        super(executor);
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    @Override
+    void internalShutdown(StopContext stopContext) {
+        executor.shutdown();
+        VirtualThreadPinningMonitor.unregister(this);
+        stopContext.complete();
+    }
+
+    VirtualThreadExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Count a pinning of its carrier thread by a virtual thread, if the thread is one of the threads of this executor.
+     *
+     * @param threadId the id of the pinned thread
+     * @return {@code true} if the pinning was counted
+     */
+    boolean pinned(long threadId) {
+        if (!executor.ownsThread(threadId)) {
+            return false;
+        }
+        pinnedCount.incrementAndGet();
+        return true;
+    }
+
+    long getPinnedCount() {
+        return pinnedCount.get();
+    }
+}
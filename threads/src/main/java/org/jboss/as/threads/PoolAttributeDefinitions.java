@@ -6,8 +6,10 @@ package org.jboss.as.threads;
 
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
@@ -36,6 +38,14 @@ public interface PoolAttributeDefinitions {
     SimpleAttributeDefinition CORE_THREADS = new SimpleAttributeDefinitionBuilder(CommonAttributes.CORE_THREADS, ModelType.INT, true)
             .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true)).setAllowExpression(true).build();
 
+    SimpleAttributeDefinition MAX_CONCURRENCY = new SimpleAttributeDefinitionBuilder(CommonAttributes.MAX_CONCURRENCY, ModelType.INT, true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true)).setAllowExpression(true).build();
+
+    SimpleAttributeDefinition AUTO_SIZING = new SimpleAttributeDefinitionBuilder(CommonAttributes.AUTO_SIZING, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .build();
+
     SimpleAttributeDefinition HANDOFF_EXECUTOR = new SimpleAttributeDefinitionBuilder(CommonAttributes.HANDOFF_EXECUTOR, ModelType.STRING, true)
             .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES).build();
 
@@ -82,4 +92,36 @@ public interface PoolAttributeDefinitions {
     AttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(CommonAttributes.QUEUE_SIZE, ModelType.INT)
             .setUndefinedMetricValue(ModelNode.ZERO)
             .build();
+    AttributeDefinition TARGET_THREAD_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.TARGET_THREAD_COUNT, ModelType.INT)
+            .setRequired(false)
+            .build();
+    AttributeDefinition PINNED_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.PINNED_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .build();
+
+    // Fields of the task time metrics, see TaskTimeHistogram
+    AttributeDefinition TASK_TIME_COUNT = new SimpleAttributeDefinitionBuilder(CommonAttributes.COUNT, ModelType.LONG).build();
+    AttributeDefinition TASK_TIME_MEAN = new SimpleAttributeDefinitionBuilder(TaskTimeHistogram.MEAN, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition TASK_TIME_P50 = new SimpleAttributeDefinitionBuilder(TaskTimeHistogram.P50, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition TASK_TIME_P90 = new SimpleAttributeDefinitionBuilder(TaskTimeHistogram.P90, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition TASK_TIME_P99 = new SimpleAttributeDefinitionBuilder(TaskTimeHistogram.P99, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition TASK_TIME_P999 = new SimpleAttributeDefinitionBuilder(TaskTimeHistogram.P999, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+    AttributeDefinition TASK_TIME_MAX = new SimpleAttributeDefinitionBuilder(TaskTimeHistogram.MAX, ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).build();
+
+    ObjectTypeAttributeDefinition QUEUE_WAIT_TIME = ObjectTypeAttributeDefinition.Builder.of(CommonAttributes.QUEUE_WAIT_TIME,
+            TASK_TIME_COUNT, TASK_TIME_MEAN, TASK_TIME_P50, TASK_TIME_P90, TASK_TIME_P99, TASK_TIME_P999, TASK_TIME_MAX)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
+    ObjectTypeAttributeDefinition EXECUTION_TIME = ObjectTypeAttributeDefinition.Builder.of(CommonAttributes.EXECUTION_TIME,
+            TASK_TIME_COUNT, TASK_TIME_MEAN, TASK_TIME_P50, TASK_TIME_P90, TASK_TIME_P99, TASK_TIME_P999, TASK_TIME_MAX)
+            .setRequired(false)
+            .setStorageRuntime()
+            .build();
 }
@@ -22,7 +22,8 @@ import org.jboss.msc.service.ServiceName;
 public class QueuelessThreadPoolMetricsHandler extends ThreadPoolMetricsHandler {
 
     public static final List<AttributeDefinition> METRICS = Arrays.asList(PoolAttributeDefinitions.CURRENT_THREAD_COUNT, PoolAttributeDefinitions.LARGEST_THREAD_COUNT,
-            PoolAttributeDefinitions.REJECTED_COUNT,PoolAttributeDefinitions.QUEUE_SIZE);
+            PoolAttributeDefinitions.REJECTED_COUNT,PoolAttributeDefinitions.QUEUE_SIZE,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME, PoolAttributeDefinitions.EXECUTION_TIME);
 
     public QueuelessThreadPoolMetricsHandler(final RuntimeCapability<Void> capability, final ServiceName serviceBaseName) {
         super(METRICS, capability, serviceBaseName);
@@ -44,6 +45,12 @@ public class QueuelessThreadPoolMetricsHandler extends ThreadPoolMetricsHandler
             case CommonAttributes.QUEUE_SIZE:
                 context.getResult().set(pool.getRejectedCount());
                 break;
+            case CommonAttributes.QUEUE_WAIT_TIME:
+                setTaskTimesResult(context, pool.getQueueWaitTimes());
+                break;
+            case CommonAttributes.EXECUTION_TIME:
+                setTaskTimesResult(context, pool.getExecutionTimes());
+                break;
             default:
                 // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
                 throw ThreadsLogger.ROOT_LOGGER.unsupportedQueuelessThreadPoolMetric(attributeName);
@@ -0,0 +1,133 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Concurrent histogram of task times with log-linear buckets, like an HDR histogram: every power of two range of
+ * nanoseconds is split in {@value #SUB_BUCKET_COUNT} linear sub-buckets, so percentiles are reported within about 6%
+ * of the recorded values over the whole range of {@code long} values, in a fixed amount of memory. The maximum is
+ * tracked exactly.
+ */
+final class TaskTimeHistogram {
+
+    static final String MEAN = "mean";
+    static final String MAX = "max";
+    static final String P50 = "p50";
+    static final String P90 = "p90";
+    static final String P99 = "p99";
+    static final String P999 = "p999";
+
+    private static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a time.
+     *
+     * @param nanos the time in nanoseconds, negative times caused by clock drift are recorded as {@code 0}
+     */
+    void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalTime.add(value);
+        max.accumulate(value);
+    }
+
+    long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Get the time at or below which a given fraction of the recorded times are.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the highest time in nanoseconds of the bucket holding the percentile, or {@code 0} if nothing was recorded
+     */
+    long getValueAtPercentile(final double percentile) {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        return getValueAtPercentile(snapshot, total, percentile);
+    }
+
+    /**
+     * Write the count, mean, maximum and main percentiles of the recorded times to a model node. The times are in
+     * microseconds.
+     *
+     * @param node the node to write to
+     */
+    void toModelNode(final ModelNode node) {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        node.get(CommonAttributes.COUNT).set(total);
+        node.get(MEAN).set(total == 0 ? 0 : toMicros(totalTime.sum() / Math.max(totalCount.sum(), 1)));
+        node.get(P50).set(toMicros(getValueAtPercentile(snapshot, total, 50)));
+        node.get(P90).set(toMicros(getValueAtPercentile(snapshot, total, 90)));
+        node.get(P99).set(toMicros(getValueAtPercentile(snapshot, total, 99)));
+        node.get(P999).set(toMicros(getValueAtPercentile(snapshot, total, 99.9)));
+        node.get(MAX).set(toMicros(max.get()));
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueAt(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        final long highest = lowest + (1L << shift) - 1;
+        // The top bucket ends past Long.MAX_VALUE
+        return highest < lowest ? Long.MAX_VALUE : highest;
+    }
+
+    private static long getValueAtPercentile(final long[] snapshot, final long total, final double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return highestValueAt(i);
+            }
+        }
+        return highestValueAt(snapshot.length - 1);
+    }
+
+    private static long toMicros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import static java.security.AccessController.doPrivileged;
+
+import java.security.PrivilegedAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Hill-climbing policy sizing a thread pool from its observed throughput and queue. While tasks wait in the queue
+ * longer than {@value #QUEUE_WAIT_THRESHOLD_MILLIS} ms, estimated from the queue size and the throughput, threads
+ * are added as long as the throughput keeps up; an increase which lowered the throughput is undone and no thread is
+ * added for a few samples. Threads are removed while some of them stay idle and nothing waits in the queue. The
+ * number of threads always stays within the configured bounds.
+ */
+final class ThreadPoolAutoSizer {
+
+    static final long SAMPLE_INTERVAL_MILLIS = 5000;
+    static final long QUEUE_WAIT_THRESHOLD_MILLIS = 10;
+    /** The relative drop of throughput considered as a regression */
+    private static final double THROUGHPUT_TOLERANCE = 0.1;
+    /** The number of samples without increase after a regression */
+    private static final int COOL_DOWN_SAMPLES = 3;
+
+    private final String poolName;
+    private final int minThreads;
+    private final int maxThreads;
+    private int target;
+    private long lastCompletedTaskCount = -1;
+    private long lastThroughput = -1;
+    private int lastChange;
+    private int coolDown;
+
+    ThreadPoolAutoSizer(final String poolName, final int minThreads, final int maxThreads, final int initialTarget) {
+        this.poolName = poolName;
+        this.minThreads = Math.max(1, Math.min(minThreads, maxThreads));
+        this.maxThreads = Math.max(this.minThreads, maxThreads);
+        this.target = clamp(initialTarget);
+    }
+
+    /**
+     * Create the scheduler sampling a pool, owned by the service of the pool which shuts it down when it stops. Its
+     * single daemon thread does not inherit the context class loader of the caller.
+     *
+     * @param poolName the name of the pool
+     * @return the scheduler
+     */
+    static ScheduledExecutorService createScheduler(final String poolName) {
+        final ThreadFactory threadFactory = doPrivileged((PrivilegedAction<JBossThreadFactory>) () ->
+                new JBossThreadFactory(null, Boolean.TRUE, null, poolName.replace("%", "%%") + " auto-sizer", null, null));
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, task -> {
+            final ClassLoader old = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(ThreadPoolAutoSizer.class);
+            try {
+                return threadFactory.newThread(task);
+            } finally {
+                WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(old);
+            }
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Run a task sampling a pool every {@link #SAMPLE_INTERVAL_MILLIS} ms.
+     *
+     * @param scheduler the scheduler created by {@link #createScheduler(String)}
+     * @param task the task
+     * @return the future to cancel to stop sampling
+     */
+    static ScheduledFuture<?> schedule(final ScheduledExecutorService scheduler, final Runnable task) {
+        return scheduler.scheduleWithFixedDelay(task, SAMPLE_INTERVAL_MILLIS, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized int getTarget() {
+        return target;
+    }
+
+    /**
+     * Update the target number of threads from a sample of the pool.
+     *
+     * @param completedTaskCount the number of tasks the pool completed since it started
+     * @param queueSize the number of tasks waiting in the queue
+     * @param activeCount the number of threads running tasks
+     * @return the new target number of threads
+     */
+    synchronized int sample(final long completedTaskCount, final int queueSize, final int activeCount) {
+        if (lastCompletedTaskCount < 0) {
+            lastCompletedTaskCount = completedTaskCount;
+            return target;
+        }
+        final long throughput = completedTaskCount - lastCompletedTaskCount;
+        lastCompletedTaskCount = completedTaskCount;
+        final long estimatedQueueWait = throughput > 0 ? queueSize * SAMPLE_INTERVAL_MILLIS / throughput : (queueSize > 0 ? Long.MAX_VALUE : 0);
+        final int step = Math.max(1, target / 8);
+
+        int next = target;
+        if (lastChange > 0 && lastThroughput > 0 && throughput < lastThroughput * (1 - THROUGHPUT_TOLERANCE)) {
+            // The last increase made things worse
+            next = target - lastChange;
+            coolDown = COOL_DOWN_SAMPLES;
+        } else if (estimatedQueueWait >= QUEUE_WAIT_THRESHOLD_MILLIS) {
+            if (coolDown > 0) {
+                coolDown--;
+            } else {
+                next = target + step;
+            }
+        } else if (queueSize == 0 && activeCount <= target - step) {
+            next = Math.max(target - step, activeCount);
+        }
+        next = clamp(next);
+
+        if (next != target) {
+            ThreadsLogger.ROOT_LOGGER.threadPoolAutoSized(poolName, target, next, throughput, SAMPLE_INTERVAL_MILLIS, queueSize, activeCount);
+        }
+        lastThroughput = throughput;
+        lastChange = next - target;
+        target = next;
+        return next;
+    }
+
+    private int clamp(final int threads) {
+        return Math.max(minThreads, Math.min(maxThreads, threads));
+    }
+}
@@ -59,6 +59,18 @@ public abstract class ThreadPoolMetricsHandler extends AbstractRuntimeOnlyHandle
 
     protected abstract void setResult(OperationContext context, String attributeName, Service<?> service) throws OperationFailedException;
 
+    /**
+     * Sets the result to the percentiles of a histogram of task times, if task times are recorded.
+     *
+     * @param context the operation context
+     * @param histogram the histogram, or {@code null} if task times are not recorded
+     */
+    static void setTaskTimesResult(OperationContext context, TaskTimeHistogram histogram) {
+        if (histogram != null) {
+            histogram.toModelNode(context.getResult());
+        }
+    }
+
     protected ServiceController<?> getService(final OperationContext context, final ModelNode operation)
             throws OperationFailedException {
         final String name = Util.getNameFromAddress(operation.require(OP_ADDR));
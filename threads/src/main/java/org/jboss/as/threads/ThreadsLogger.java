@@ -141,4 +141,28 @@ interface ThreadsLogger extends BasicLogger {
     IllegalStateException unsupportedEnhancedQueueExecutorMetric(String attributeName);
 
     // id = 35; redundant parameter null check message
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 36, value = "Virtual threads are not supported by the running JVM; executor '%s' runs its tasks in new platform threads")
+    void virtualThreadsNotSupported(String executorName);
+
+    @Message(id = 37, value = "Unsupported attribute '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorAttribute(String attributeName);
+
+    @Message(id = 38, value = "Unsupported metric '%s'")
+    IllegalStateException unsupportedVirtualThreadExecutorMetric(String attributeName);
+
+    @Message(id = 39, value = "Service '%s' not found.")
+    OperationFailedException virtualThreadExecutorServiceNotFound(ServiceName serviceName);
+
+    @Message(id = 40, value = "The virtual thread executor hasn't been initialized.")
+    IllegalStateException virtualThreadExecutorUninitialized();
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 41, value = "Resized thread pool '%s' from %d to %d threads; %d tasks completed in the last %d ms, %d tasks queued and %d threads active")
+    void threadPoolAutoSized(String poolName, int previousThreads, int threads, long completedTasks, long intervalMillis, int queueSize, int activeCount);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 42, value = "Invalid value %s for system property %s; the pinning of virtual threads is not monitored")
+    void invalidPinningThreshold(String value, String propertyName);
 }
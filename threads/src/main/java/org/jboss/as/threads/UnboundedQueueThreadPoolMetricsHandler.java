@@ -23,7 +23,8 @@ public class UnboundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHan
     public static final List<AttributeDefinition> METRICS = Arrays.asList(PoolAttributeDefinitions.ACTIVE_COUNT,
             PoolAttributeDefinitions.COMPLETED_TASK_COUNT, PoolAttributeDefinitions.CURRENT_THREAD_COUNT,
             PoolAttributeDefinitions.LARGEST_THREAD_COUNT, PoolAttributeDefinitions.REJECTED_COUNT,
-            PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE);
+            PoolAttributeDefinitions.TASK_COUNT, PoolAttributeDefinitions.QUEUE_SIZE,
+            PoolAttributeDefinitions.QUEUE_WAIT_TIME, PoolAttributeDefinitions.EXECUTION_TIME);
 
     public UnboundedQueueThreadPoolMetricsHandler(final ServiceName serviceNameBase) {
         this(null, serviceNameBase);
@@ -58,6 +59,12 @@ public class UnboundedQueueThreadPoolMetricsHandler extends ThreadPoolMetricsHan
             case CommonAttributes.QUEUE_SIZE:
                 context.getResult().set(pool.getQueueSize());
                 break;
+            case CommonAttributes.QUEUE_WAIT_TIME:
+                setTaskTimesResult(context, pool.getQueueWaitTimes());
+                break;
+            case CommonAttributes.EXECUTION_TIME:
+                setTaskTimesResult(context, pool.getExecutionTimes());
+                break;
             default:
                 // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
                 throw ThreadsLogger.ROOT_LOGGER.unsupportedUnboundedQueueThreadPoolMetric(attributeName);
@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Adds a {@link org.jboss.as.controller.VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorAdd extends AbstractAddStepHandler {
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[]{PoolAttributeDefinitions.MAX_CONCURRENCY,
+            PoolAttributeDefinitions.THREAD_NAME_PATTERN};
+
+    private final ServiceName serviceNameBase;
+    private final RuntimeCapability<Void> capability;
+
+    VirtualThreadExecutorAdd(ServiceName serviceNameBase, RuntimeCapability<Void> capability) {
+        this.serviceNameBase = serviceNameBase;
+        this.capability = capability;
+    }
+
+    @Override
+    protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+        final String name = context.getCurrentAddressValue();
+        final VirtualThreadExecutorService service = new VirtualThreadExecutorService(name,
+                PoolAttributeDefinitions.MAX_CONCURRENCY.resolveModelAttribute(context, model).asInt(0),
+                getThreadNamePattern(context, model));
+
+        final ServiceName serviceName = capability.getCapabilityServiceName(context.getCurrentAddress());
+        final ServiceBuilder<?> serviceBuilder = context.getCapabilityServiceTarget().addService(serviceName, service);
+        if (serviceNameBase != null) {
+            serviceBuilder.addAliases(serviceNameBase.append(name));
+        }
+        serviceBuilder.install();
+    }
+
+    /**
+     * Resolve the pattern of the names of the threads, by default the name of the executor followed by the sequence
+     * number of the thread.
+     */
+    static String getThreadNamePattern(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final ModelNode pattern = PoolAttributeDefinitions.THREAD_NAME_PATTERN.resolveModelAttribute(context, model);
+        return pattern.isDefined() ? pattern.asString() : context.getCurrentAddressValue().replace("%", "%%") + "-%t";
+    }
+
+    RuntimeCapability<Void> getCapability() {
+        return capability;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import org.jboss.as.controller.VirtualThreadExecutor;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service responsible for creating, starting and stopping a {@link VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorService implements Service<ManagedExecutorService> {
+
+    private final String name;
+    private ManagedVirtualThreadExecutor executor;
+
+    private int maxConcurrency;
+    private String threadNamePattern;
+
+    VirtualThreadExecutorService(String name, int maxConcurrency, String threadNamePattern) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.threadNamePattern = threadNamePattern;
+    }
+
+    public synchronized void start(final StartContext context) {
+        if (!VirtualThreadExecutor.isVirtualThreadSupported()) {
+            ThreadsLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+        }
+        this.executor = new ManagedVirtualThreadExecutor(new VirtualThreadExecutor(maxConcurrency, threadNamePattern));
+        VirtualThreadPinningMonitor.register(executor);
+    }
+
+    public void stop(final StopContext context) {
+        final ManagedVirtualThreadExecutor executor;
+        synchronized (this) {
+            executor = this.executor;
+            this.executor = null;
+        }
+        context.asynchronous();
+        executor.internalShutdown(context);
+    }
+
+    public synchronized ManagedExecutorService getValue() throws IllegalStateException {
+        final ManagedExecutorService value = this.executor;
+        if (value == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorUninitialized();
+        }
+        return value;
+    }
+
+    synchronized void setMaxConcurrency(final int maxConcurrency) {
+        final ManagedVirtualThreadExecutor executor = this.executor;
+        if (executor != null) {
+            executor.getExecutor().setMaxConcurrency(maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    synchronized void setThreadNamePattern(final String threadNamePattern) {
+        final ManagedVirtualThreadExecutor executor = this.executor;
+        if (executor != null) {
+            executor.getExecutor().setThreadNamePattern(threadNamePattern);
+        }
+        this.threadNamePattern = threadNamePattern;
+    }
+
+    synchronized ManagedVirtualThreadExecutor getExecutor() {
+        final ManagedVirtualThreadExecutor executor = this.executor;
+        if (executor == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorUninitialized();
+        }
+        return executor;
+    }
+}
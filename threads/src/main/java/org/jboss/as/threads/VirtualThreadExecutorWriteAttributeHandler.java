@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Handles attribute writes for a {@link org.jboss.as.controller.VirtualThreadExecutor}.
+ */
+class VirtualThreadExecutorWriteAttributeHandler extends ThreadsWriteAttributeOperationHandler {
+
+    private final RuntimeCapability<Void> capability;
+
+    VirtualThreadExecutorWriteAttributeHandler(final RuntimeCapability<Void> capability) {
+        super(VirtualThreadExecutorAdd.ATTRIBUTES);
+        this.capability = capability;
+    }
+
+    @Override
+    protected void applyOperation(final OperationContext context, ModelNode model, String attributeName,
+                                  ServiceController<?> service, boolean forRollback) throws OperationFailedException {
+
+        final VirtualThreadExecutorService executor = (VirtualThreadExecutorService) service.getService();
+
+        if (PoolAttributeDefinitions.MAX_CONCURRENCY.getName().equals(attributeName)) {
+            executor.setMaxConcurrency(PoolAttributeDefinitions.MAX_CONCURRENCY.resolveModelAttribute(context, model).asInt(0));
+        } else if (PoolAttributeDefinitions.THREAD_NAME_PATTERN.getName().equals(attributeName)) {
+            executor.setThreadNamePattern(VirtualThreadExecutorAdd.getThreadNamePattern(context, model));
+        } else if (!forRollback) {
+            // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+            throw ThreadsLogger.ROOT_LOGGER.unsupportedVirtualThreadExecutorAttribute(attributeName);
+        }
+    }
+
+    @Override
+    protected ServiceController<?> getService(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final ServiceName serviceName = capability.getCapabilityServiceName(context.getCurrentAddress());
+        final ServiceController<?> controller = context.getServiceRegistry(true).getService(serviceName);
+        if (controller == null) {
+            throw ThreadsLogger.ROOT_LOGGER.virtualThreadExecutorServiceNotFound(serviceName);
+        }
+        return controller;
+    }
+}
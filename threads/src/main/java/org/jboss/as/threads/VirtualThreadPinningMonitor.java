@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.jboss.as.controller.VirtualThreadExecutor;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Counts the times virtual threads of each {@link ManagedVirtualThreadExecutor} pinned their carrier thread, from the
+ * {@code jdk.VirtualThreadPinned} flight recorder events, attributed to the executors by the id of the pinned thread.
+ * The event stream only runs if a pinning threshold is configured with the {@value #THRESHOLD_PROPERTY} system
+ * property, while there are executors registered and the JVM supports virtual threads.
+ */
+final class VirtualThreadPinningMonitor {
+
+    /** The system property with the time in milliseconds a virtual thread must pin its carrier to be counted */
+    static final String THRESHOLD_PROPERTY = "org.wildfly.threads.virtual-thread-pinning-threshold";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = parseThreshold(WildFlySecurityManager.getPropertyPrivileged(THRESHOLD_PROPERTY, null));
+
+    private static final Set<ManagedVirtualThreadExecutor> executors = ConcurrentHashMap.newKeySet();
+    private static RecordingStream stream;
+
+    private VirtualThreadPinningMonitor() {
+    }
+
+    static synchronized void register(final ManagedVirtualThreadExecutor executor) {
+        if (THRESHOLD == null || !VirtualThreadExecutor.isVirtualThreadSupported()) {
+            return;
+        }
+        executor.getExecutor().setRetainCompletedThreads(true);
+        executors.add(executor);
+        if (stream == null) {
+            try {
+                final RecordingStream recordingStream = new RecordingStream();
+                recordingStream.enable(PINNED_EVENT).withThreshold(THRESHOLD);
+                recordingStream.onEvent(PINNED_EVENT, event -> pinned(event.getThread()));
+                recordingStream.onFlush(VirtualThreadPinningMonitor::flushed);
+                recordingStream.startAsync();
+                stream = recordingStream;
+            } catch (RuntimeException | LinkageError e) {
+                ThreadsLogger.ROOT_LOGGER.debugf(e, "Cannot monitor the pinning of virtual threads");
+            }
+        }
+    }
+
+    static synchronized void unregister(final ManagedVirtualThreadExecutor executor) {
+        if (executors.remove(executor)) {
+            executor.getExecutor().setRetainCompletedThreads(false);
+            if (executors.isEmpty() && stream != null) {
+                stream.close();
+                stream = null;
+            }
+        }
+    }
+
+    private static void pinned(final RecordedThread thread) {
+        if (thread == null) {
+            return;
+        }
+        final long threadId = thread.getJavaThreadId();
+        for (ManagedVirtualThreadExecutor executor : executors) {
+            if (executor.pinned(threadId)) {
+                return;
+            }
+        }
+    }
+
+    private static void flushed() {
+        // The events of the threads which completed before the previous flush have been delivered by now
+        for (ManagedVirtualThreadExecutor executor : executors) {
+            executor.getExecutor().expireCompletedThreads();
+        }
+    }
+
+    static Duration parseThreshold(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            final long millis = Long.parseLong(value.trim());
+            if (millis >= 0) {
+                return Duration.ofMillis(millis);
+            }
+        } catch (NumberFormatException ignored) {
+            // logged below
+        }
+        ThreadsLogger.ROOT_LOGGER.invalidPinningThreshold(value, THRESHOLD_PROPERTY);
+        return null;
+    }
+}
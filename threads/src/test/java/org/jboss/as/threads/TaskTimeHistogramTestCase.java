@@ -0,0 +1,96 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link TaskTimeHistogram}.
+ */
+public class TaskTimeHistogramTestCase {
+
+    @Test
+    public void testBuckets() {
+        int previous = -1;
+        for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 1000, 1_000_000, Long.MAX_VALUE / 3, Long.MAX_VALUE }) {
+            final int index = TaskTimeHistogram.indexOf(value);
+            Assert.assertTrue(index >= previous);
+            Assert.assertTrue(value <= TaskTimeHistogram.highestValueAt(index));
+            // Values are within a sub-bucket of the highest value of their bucket
+            Assert.assertTrue(TaskTimeHistogram.highestValueAt(index) - value <= Math.max(value / TaskTimeHistogram.SUB_BUCKET_COUNT, 0));
+            previous = index;
+        }
+        Assert.assertEquals(Long.MAX_VALUE, TaskTimeHistogram.highestValueAt(TaskTimeHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testPercentiles() {
+        final TaskTimeHistogram histogram = new TaskTimeHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        histogram.record(-5);
+        Assert.assertEquals(1001, histogram.getCount());
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(500), histogram.getValueAtPercentile(50));
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(990), histogram.getValueAtPercentile(99));
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(1000), histogram.getValueAtPercentile(100));
+
+        final ModelNode node = new ModelNode();
+        histogram.toModelNode(node);
+        Assert.assertEquals(1001, node.get(CommonAttributes.COUNT).asLong());
+        assertWithin(500, node.get(TaskTimeHistogram.MEAN).asLong());
+        assertWithin(900, node.get(TaskTimeHistogram.P90).asLong());
+        Assert.assertEquals(1000, node.get(TaskTimeHistogram.MAX).asLong());
+    }
+
+    @Test
+    public void testExecutorRecordsTaskTimes() throws Exception {
+        final EnhancedQueueExecutor enhancedQueueExecutor = new EnhancedQueueExecutor.Builder()
+                .setCorePoolSize(1)
+                .setMaximumPoolSize(1)
+                .build();
+        final ManagedEnhancedQueueExecutor executor = new ManagedEnhancedQueueExecutor(enhancedQueueExecutor, false, true);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        executor.execute(() -> {
+            try {
+                release.await();
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        // Waits in the queue while the first task runs
+        executor.execute(done::countDown);
+        Thread.sleep(20);
+        release.countDown();
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        enhancedQueueExecutor.shutdown();
+        Assert.assertTrue(enhancedQueueExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assert.assertEquals(2, executor.getQueueWaitTimes().getCount());
+        Assert.assertEquals(2, executor.getExecutionTimes().getCount());
+        Assert.assertTrue(executor.getQueueWaitTimes().getValueAtPercentile(100) >= TimeUnit.MILLISECONDS.toNanos(40));
+        Assert.assertTrue(executor.getExecutionTimes().getValueAtPercentile(100) >= TimeUnit.MILLISECONDS.toNanos(20));
+
+        final EnhancedQueueExecutor otherExecutor = new EnhancedQueueExecutor.Builder().build();
+        final ManagedEnhancedQueueExecutor notRecording = new ManagedEnhancedQueueExecutor(otherExecutor, false, false);
+        Assert.assertNull(notRecording.getQueueWaitTimes());
+        Assert.assertNull(notRecording.getExecutionTimes());
+        otherExecutor.shutdown();
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        Assert.assertTrue(expected + " ~ " + actual, Math.abs(expected - actual) <= expected / TaskTimeHistogram.SUB_BUCKET_COUNT + 1);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.threads;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of {@link ThreadPoolAutoSizer}.
+ */
+public class ThreadPoolAutoSizerTestCase {
+
+    @Test
+    public void testGrowsWhileTasksWait() {
+        final ThreadPoolAutoSizer sizer = new ThreadPoolAutoSizer("pool", 2, 20, 8);
+        long completed = 0;
+        Assert.assertEquals(8, sizer.sample(completed, 100, 8));
+        int target = 8;
+        for (int i = 0; i < 20; i++) {
+            // Throughput scales with the threads
+            completed += target * 100L;
+            final int next = sizer.sample(completed, 1000, target);
+            Assert.assertTrue(next >= target);
+            target = next;
+        }
+        Assert.assertEquals(20, target);
+    }
+
+    @Test
+    public void testUndoesIncreaseLoweringThroughput() {
+        final ThreadPoolAutoSizer sizer = new ThreadPoolAutoSizer("pool", 1, 100, 16);
+        long completed = 0;
+        sizer.sample(completed, 0, 16);
+        completed += 1000;
+        Assert.assertEquals(18, sizer.sample(completed, 1000, 16));
+        // More threads, less throughput
+        completed += 500;
+        Assert.assertEquals(16, sizer.sample(completed, 1000, 18));
+        // No increase while cooling down
+        completed += 1000;
+        Assert.assertEquals(16, sizer.sample(completed, 1000, 16));
+        completed += 1000;
+        Assert.assertEquals(16, sizer.sample(completed, 1000, 16));
+        completed += 1000;
+        Assert.assertEquals(16, sizer.sample(completed, 1000, 16));
+        completed += 1000;
+        Assert.assertEquals(18, sizer.sample(completed, 1000, 16));
+    }
+
+    @Test
+    public void testShrinksWhenIdle() {
+        final ThreadPoolAutoSizer sizer = new ThreadPoolAutoSizer("pool", 3, 50, 40);
+        long completed = 0;
+        sizer.sample(completed, 0, 0);
+        int target = 40;
+        for (int i = 0; i < 50; i++) {
+            completed += 10;
+            final int next = sizer.sample(completed, 0, 1);
+            Assert.assertTrue(next <= target);
+            target = next;
+        }
+        Assert.assertEquals(3, target);
+
+        // A short queue drained quickly is no reason to grow
+        completed += 1000;
+        Assert.assertEquals(3, sizer.sample(completed, 1, 3));
+    }
+
+    @Test
+    public void testBounds() {
+        final ThreadPoolAutoSizer sizer = new ThreadPoolAutoSizer("pool", 0, 10, 50);
+        Assert.assertEquals(10, sizer.getTarget());
+        Assert.assertEquals(1, new ThreadPoolAutoSizer("pool", 0, 10, 0).getTarget());
+        Assert.assertEquals(5, new ThreadPoolAutoSizer("pool", 5, 10, 0).getTarget());
+    }
+
+    @Test
+    public void testScheduler() throws Exception {
+        final ClassLoader old = Thread.currentThread().getContextClassLoader();
+        final ScheduledExecutorService scheduler;
+        try (URLClassLoader caller = new URLClassLoader(new URL[0])) {
+            Thread.currentThread().setContextClassLoader(caller);
+            scheduler = ThreadPoolAutoSizer.createScheduler("pool");
+            try {
+                // The thread does not keep the class loader of the caller scheduling the first sample
+                final Thread thread = scheduler.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+                Assert.assertTrue(thread.isDaemon());
+                Assert.assertEquals(ThreadPoolAutoSizer.class.getClassLoader(), thread.getContextClassLoader());
+            } finally {
+                Thread.currentThread().setContextClassLoader(old);
+            }
+        }
+        scheduler.shutdownNow();
+        Assert.assertTrue(scheduler.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.threads;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.as.controller.Extension;
+import org.jboss.as.controller.ExtensionContext;
+import org.jboss.as.controller.ModelOnlyAddStepHandler;
+import org.jboss.as.controller.ModelOnlyRemoveStepHandler;
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.SubsystemRegistration;
+import org.jboss.as.controller.VirtualThreadExecutor;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.parsing.ExtensionParsingContext;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the management of a {@code virtual-thread-executor} resource, registered by a test subsystem as the threads
+ * subsystem does not, and the attribution of pinned virtual threads to their executor.
+ */
+public class VirtualThreadExecutorTestCase extends AbstractSubsystemTest {
+
+    private static final String SUBSYSTEM_NAME = "virtual-thread-test";
+    private static final PathAddress SUBSYSTEM_ADDRESS = PathAddress.pathAddress(PathElement.pathElement("subsystem", SUBSYSTEM_NAME));
+    private static final PathAddress EXECUTOR_ADDRESS = SUBSYSTEM_ADDRESS.append(CommonAttributes.VIRTUAL_THREAD_EXECUTOR, "test");
+    private static final ServiceName SERVICE_NAME = ThreadsServices.EXECUTOR.append("test");
+
+    private KernelServices services;
+
+    public VirtualThreadExecutorTestCase() {
+        super(SUBSYSTEM_NAME, new TestExtension());
+    }
+
+    @Before
+    public void boot() throws Exception {
+        final ModelNode addExecutor = Util.createAddOperation(EXECUTOR_ADDRESS);
+        addExecutor.get(CommonAttributes.MAX_CONCURRENCY).set(1);
+        services = createKernelServicesBuilder(new AdditionalInitialization() {
+            @Override
+            protected ProcessType getProcessType() {
+                return ProcessType.STANDALONE_SERVER;
+            }
+
+            @Override
+            protected RunningMode getRunningMode() {
+                return RunningMode.NORMAL;
+            }
+        }).setBootOperations(Util.createAddOperation(SUBSYSTEM_ADDRESS), addExecutor).build();
+        Assert.assertTrue(services.isSuccessfulBoot());
+    }
+
+    @After
+    public void shutdown() {
+        if (services != null) {
+            services.shutdown();
+        }
+    }
+
+    @Test
+    public void testWriteAttributes() throws Exception {
+        Assert.assertEquals(1, getExecutor().getMaxConcurrency());
+        Assert.assertEquals("test-%t", getExecutor().getThreadNamePattern());
+
+        services.executeForResult(Util.getWriteAttributeOperation(EXECUTOR_ADDRESS, CommonAttributes.MAX_CONCURRENCY, 3));
+        Assert.assertEquals(3, getExecutor().getMaxConcurrency());
+        services.executeForResult(Util.getUndefineAttributeOperation(EXECUTOR_ADDRESS, CommonAttributes.MAX_CONCURRENCY));
+        Assert.assertEquals(0, getExecutor().getMaxConcurrency());
+
+        services.executeForResult(Util.getWriteAttributeOperation(EXECUTOR_ADDRESS, CommonAttributes.THREAD_NAME_PATTERN, "vt-%i"));
+        Assert.assertEquals("vt-%i", getExecutor().getThreadNamePattern());
+        services.executeForResult(Util.getUndefineAttributeOperation(EXECUTOR_ADDRESS, CommonAttributes.THREAD_NAME_PATTERN));
+        Assert.assertEquals("test-%t", getExecutor().getThreadNamePattern());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        final ManagedVirtualThreadExecutor executor = getService().getExecutor();
+        services.executeForResult(Util.createRemoveOperation(EXECUTOR_ADDRESS));
+        services.getContainer().awaitStability();
+        Assert.assertNull(services.getContainer().getService(SERVICE_NAME));
+        Assert.assertTrue(executor.getExecutor().isShutdown());
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        final ManagedVirtualThreadExecutor executor = getService().getExecutor();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicLong threadId = new AtomicLong();
+        executor.execute(() -> {
+            threadId.set(Thread.currentThread().getId());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        Assert.assertEquals(2, readMetric(CommonAttributes.TASK_COUNT));
+        Assert.assertEquals(1, readMetric(CommonAttributes.ACTIVE_COUNT));
+        Assert.assertEquals(2, readMetric(CommonAttributes.CURRENT_THREAD_COUNT));
+        awaitMetric(CommonAttributes.QUEUE_SIZE, 1);
+        Assert.assertEquals(0, readMetric(CommonAttributes.PINNED_COUNT));
+
+        Assert.assertTrue(executor.pinned(threadId.get()));
+        Assert.assertEquals(1, readMetric(CommonAttributes.PINNED_COUNT));
+
+        release.countDown();
+        awaitMetric(CommonAttributes.COMPLETED_TASK_COUNT, 2);
+        awaitMetric(CommonAttributes.CURRENT_THREAD_COUNT, 0);
+        Assert.assertEquals(2, readMetric(CommonAttributes.LARGEST_THREAD_COUNT));
+        Assert.assertEquals(0, readMetric(CommonAttributes.REJECTED_COUNT));
+    }
+
+    @Test
+    public void testPinnedAttributedToOwner() throws Exception {
+        final ManagedVirtualThreadExecutor owner = new ManagedVirtualThreadExecutor(new VirtualThreadExecutor(0, "owner-%t"));
+        final ManagedVirtualThreadExecutor other = new ManagedVirtualThreadExecutor(new VirtualThreadExecutor(0, "other-%t"));
+        owner.getExecutor().setRetainCompletedThreads(true);
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final AtomicLong threadId = new AtomicLong();
+            owner.execute(() -> {
+                threadId.set(Thread.currentThread().getId());
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            Assert.assertFalse(other.pinned(threadId.get()));
+            Assert.assertTrue(owner.pinned(threadId.get()));
+
+            // Events are delivered after the fact, so completed threads are attributed until expired twice
+            release.countDown();
+            owner.getExecutor().shutdown();
+            Assert.assertTrue(owner.getExecutor().awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertTrue(owner.pinned(threadId.get()));
+            owner.getExecutor().expireCompletedThreads();
+            Assert.assertTrue(owner.pinned(threadId.get()));
+            owner.getExecutor().expireCompletedThreads();
+            Assert.assertFalse(owner.pinned(threadId.get()));
+
+            Assert.assertEquals(3, owner.getPinnedCount());
+            Assert.assertEquals(0, other.getPinnedCount());
+        } finally {
+            owner.getExecutor().shutdownNow();
+            other.getExecutor().shutdownNow();
+        }
+    }
+
+    private VirtualThreadExecutorService getService() {
+        final ServiceController<?> controller = services.getContainer().getService(SERVICE_NAME);
+        Assert.assertNotNull(controller);
+        return (VirtualThreadExecutorService) controller.getService();
+    }
+
+    private VirtualThreadExecutor getExecutor() {
+        return getService().getExecutor().getExecutor();
+    }
+
+    private long readMetric(final String name) throws Exception {
+        return services.executeForResult(Util.getReadAttributeOperation(EXECUTOR_ADDRESS, name)).asLong();
+    }
+
+    private void awaitMetric(final String name, final long expected) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (readMetric(name) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(expected, readMetric(name));
+    }
+
+    /**
+     * Registers {@code virtual-thread-executor} resources below a subsystem, like the subsystems using them do.
+     */
+    private static class TestExtension implements Extension {
+
+        @Override
+        public void initialize(final ExtensionContext context) {
+            final SubsystemRegistration subsystem = context.registerSubsystem(SUBSYSTEM_NAME, ModelVersion.create(1));
+            subsystem.registerSubsystemModel(new SimpleResourceDefinition(new SimpleResourceDefinition.Parameters(
+                    SUBSYSTEM_ADDRESS.getLastElement(), NonResolvingResourceDescriptionResolver.INSTANCE)
+                    .setAddHandler(ModelOnlyAddStepHandler.INSTANCE)
+                    .setRemoveHandler(ModelOnlyRemoveStepHandler.INSTANCE)) {
+                @Override
+                public void registerChildren(final ManagementResourceRegistration registration) {
+                    registration.registerSubModel(VirtualThreadExecutorResourceDefinition.create(true));
+                }
+            });
+        }
+
+        @Override
+        public void initializeParsers(final ExtensionParsingContext context) {
+            // Only booted from operations
+        }
+    }
+}